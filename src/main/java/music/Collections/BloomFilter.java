@@ -0,0 +1,67 @@
+package music.Collections;
+
+/**
+ * Фільтр Блума над 64-бітними хешами. Відповідь "немає" завжди точна, а "можливо є" —
+ * з імовірністю хибного спрацювання, заданою при створенні. Видалення не підтримується.
+ */
+public final class BloomFilter {
+    private final long[] bits;
+    private final int bitCount;
+    private final int hashCount;
+    private final int capacity;
+
+    /**
+     * @param expectedInsertions Кількість елементів, для якої розраховано розмір фільтра.
+     * @param falsePositiveRate  Допустима частка хибних спрацювань при цій кількості (0..1).
+     * @throws IllegalArgumentException якщо параметри поза допустимими межами.
+     */
+    public BloomFilter(int expectedInsertions, double falsePositiveRate) {
+        if (expectedInsertions <= 0) {
+            throw new IllegalArgumentException("Кількість елементів має бути додатною");
+        }
+        if (!(falsePositiveRate > 0 && falsePositiveRate < 1)) {
+            throw new IllegalArgumentException("Частка хибних спрацювань має бути між 0 і 1");
+        }
+        double ln2 = Math.log(2);
+        long optimalBits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (ln2 * ln2));
+        this.bitCount = (int) Math.min(Integer.MAX_VALUE - 63, Math.max(64, optimalBits));
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedInsertions * ln2));
+        this.bits = new long[(bitCount + 63) >>> 6];
+        this.capacity = expectedInsertions;
+    }
+
+    /**
+     * @param hash 64-бітний хеш елемента з добре перемішаними бітами.
+     */
+    public void put(long hash) {
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 0; i < hashCount; i++) {
+            int index = ((h1 + i * h2) & Integer.MAX_VALUE) % bitCount;
+            bits[index >>> 6] |= 1L << index;
+        }
+    }
+
+    /**
+     * @param hash 64-бітний хеш елемента.
+     * @return false, якщо елемент точно не додавався.
+     */
+    public boolean mightContain(long hash) {
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 0; i < hashCount; i++) {
+            int index = ((h1 + i * h2) & Integer.MAX_VALUE) % bitCount;
+            if ((bits[index >>> 6] & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return Кількість елементів, для якої розраховано фільтр.
+     */
+    public int capacity() {
+        return capacity;
+    }
+}
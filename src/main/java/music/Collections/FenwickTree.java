@@ -0,0 +1,99 @@
+package music.Collections;
+
+/**
+ * Дерево Фенвіка (бінарне індексоване дерево) над масивом лічильників типу long.
+ * Зміна елемента та сума на префіксі чи діапазоні виконуються за O(log n).
+ * Місткість завжди є степенем двійки, тому дерево можна розширити вдвічі за O(n) без перебудови.
+ */
+public final class FenwickTree {
+    private long[] tree;
+
+    /**
+     * @param capacity Найменша кількість елементів; округлюється вгору до степеня двійки.
+     * @throws IllegalArgumentException якщо місткість не додатна.
+     */
+    public FenwickTree(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Місткість має бути додатною");
+        }
+        tree = new long[roundUp(capacity) + 1];
+    }
+
+    /**
+     * @return Кількість елементів (індекси від 0 до capacity - 1).
+     */
+    public int capacity() {
+        return tree.length - 1;
+    }
+
+    /**
+     * Розширює дерево, щоб воно вміщало щонайменше задану кількість елементів.
+     * Нові елементи дорівнюють нулю.
+     *
+     * @param minCapacity Потрібна кількість елементів.
+     */
+    public void ensureCapacity(int minCapacity) {
+        int capacity = capacity();
+        if (minCapacity <= capacity) {
+            return;
+        }
+        int newCapacity = roundUp(minCapacity);
+        long total = total();
+        long[] grown = new long[newCapacity + 1];
+        System.arraycopy(tree, 1, grown, 1, capacity);
+        // Вузли між старою і новою місткістю покривають лише нові нульові елементи,
+        // крім вузлів-степенів двійки, що покривають увесь префікс від початку.
+        for (int node = capacity * 2; node <= newCapacity; node *= 2) {
+            grown[node] = total;
+        }
+        tree = grown;
+    }
+
+    /**
+     * @param index Індекс елемента.
+     * @param delta Зміна значення, може бути від'ємною.
+     * @throws IndexOutOfBoundsException якщо індекс поза межами дерева.
+     */
+    public void add(int index, long delta) {
+        if (index < 0 || index >= capacity()) {
+            throw new IndexOutOfBoundsException("Індекс " + index + " поза межами 0.." + (capacity() - 1));
+        }
+        for (int node = index + 1; node < tree.length; node += node & -node) {
+            tree[node] += delta;
+        }
+    }
+
+    /**
+     * @param index Останній індекс префікса включно; індекси поза межами обрізаються.
+     * @return Сума елементів від 0 до index.
+     */
+    public long prefixSum(int index) {
+        long sum = 0;
+        for (int node = index >= capacity() ? capacity() : index + 1; node > 0; node -= node & -node) {
+            sum += tree[node];
+        }
+        return sum;
+    }
+
+    /**
+     * @return Сума елементів від from до to включно; 0, якщо from > to.
+     */
+    public long rangeSum(int from, int to) {
+        if (from > to) {
+            return 0;
+        }
+        return prefixSum(to) - prefixSum(from - 1);
+    }
+
+    /**
+     * @return Сума всіх елементів.
+     */
+    public long total() {
+        return tree[capacity()];
+    }
+
+    private static int roundUp(int capacity) {
+        int rounded = Integer.highestOneBit(capacity);
+        return rounded == capacity ? capacity : rounded << 1;
+    }
+}
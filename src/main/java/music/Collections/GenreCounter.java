@@ -0,0 +1,90 @@
+package music.Collections;
+
+import music.Models.MusicGenre;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Лічильник треків за жанрами на основі масиву, індексованого {@link MusicGenre#ordinal()}.
+ * Підрахунок не створює об'єктів; перетворення в {@link Map} виконується лише для відображення.
+ */
+public final class GenreCounter {
+    private static final MusicGenre[] GENRES = MusicGenre.values();
+
+    private final long[] counts = new long[GENRES.length];
+    private long total;
+
+    public void increment(MusicGenre genre) {
+        add(genre, 1);
+    }
+
+    /**
+     * @param genre Жанр.
+     * @param delta Зміна лічильника, може бути від'ємною.
+     */
+    public void add(MusicGenre genre, long delta) {
+        counts[genre.ordinal()] += delta;
+        total += delta;
+    }
+
+    /**
+     * Додає лічильники іншого лічильника до цього (для злиття часткових результатів).
+     *
+     * @param other Лічильник, що додається; не змінюється.
+     */
+    public void addAll(GenreCounter other) {
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] += other.counts[i];
+        }
+        total += other.total;
+    }
+
+    public long get(MusicGenre genre) {
+        return counts[genre.ordinal()];
+    }
+
+    /**
+     * @return Сума лічильників усіх жанрів.
+     */
+    public long total() {
+        return total;
+    }
+
+    public void clear() {
+        Arrays.fill(counts, 0);
+        total = 0;
+    }
+
+    /**
+     * @return Кількість за жанрами; жанри з нульовою кількістю не включаються.
+     */
+    public Map<MusicGenre, Long> toMap() {
+        Map<MusicGenre, Long> map = new EnumMap<>(MusicGenre.class);
+        for (MusicGenre genre : GENRES) {
+            if (counts[genre.ordinal()] != 0) {
+                map.put(genre, counts[genre.ordinal()]);
+            }
+        }
+        return map;
+    }
+
+    /**
+     * @return Пари "жанр — кількість" з ненульовою кількістю, від найбільшої до найменшої.
+     * Жанри з однаковою кількістю йдуть у порядку оголошення.
+     */
+    public List<Map.Entry<MusicGenre, Long>> toSortedEntries() {
+        List<Map.Entry<MusicGenre, Long>> entries = new ArrayList<>(GENRES.length);
+        for (MusicGenre genre : GENRES) {
+            if (counts[genre.ordinal()] != 0) {
+                entries.add(new AbstractMap.SimpleImmutableEntry<>(genre, counts[genre.ordinal()]));
+            }
+        }
+        entries.sort(Map.Entry.<MusicGenre, Long>comparingByValue().reversed());
+        return entries;
+    }
+}
@@ -0,0 +1,107 @@
+package music.Collections;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Список примітивних int без упаковки в {@link Integer}. Розширюється подвоєнням ємності.
+ */
+public final class IntList {
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private int[] elements;
+    private int size;
+
+    public IntList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param initialCapacity Початкова ємність.
+     * @throws IllegalArgumentException якщо ємність від'ємна.
+     */
+    public IntList(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Ємність не може бути від'ємною");
+        }
+        elements = new int[initialCapacity];
+    }
+
+    public void add(int value) {
+        if (size == elements.length) {
+            elements = Arrays.copyOf(elements, Math.max(DEFAULT_CAPACITY, size * 2));
+        }
+        elements[size++] = value;
+    }
+
+    /**
+     * @throws IndexOutOfBoundsException якщо позиція поза межами списку.
+     */
+    public int get(int index) {
+        return elements[Objects.checkIndex(index, size)];
+    }
+
+    /**
+     * @throws IndexOutOfBoundsException якщо позиція поза межами списку.
+     */
+    public void set(int index, int value) {
+        elements[Objects.checkIndex(index, size)] = value;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Очищує список без звільнення ємності, щоб його можна було заповнювати повторно без виділення пам'яті.
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Сортує елементи за зростанням.
+     */
+    public void sort() {
+        Arrays.sort(elements, 0, size);
+    }
+
+    /**
+     * @return Сума елементів як long, щоб уникнути переповнення.
+     */
+    public long sum() {
+        long sum = 0;
+        for (int i = 0; i < size; i++) {
+            sum += elements[i];
+        }
+        return sum;
+    }
+
+    /**
+     * @param defaultValue Значення для порожнього списку.
+     * @return Найбільший елемент.
+     */
+    public int max(int defaultValue) {
+        if (size == 0) {
+            return defaultValue;
+        }
+        int max = elements[0];
+        for (int i = 1; i < size; i++) {
+            max = Math.max(max, elements[i]);
+        }
+        return max;
+    }
+
+    public int[] toArray() {
+        return Arrays.copyOf(elements, size);
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+}
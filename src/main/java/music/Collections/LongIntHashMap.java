@@ -0,0 +1,224 @@
+package music.Collections;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * Хеш-таблиця з ключами long і значеннями int без упаковки.
+ * Відкрита адресація з лінійним зондуванням; видалення зсуває наступні записи назад,
+ * тому таблиця не накопичує "надгробків" і пошук лишається O(1) після будь-якої кількості видалень.
+ */
+public final class LongIntHashMap {
+    private static final int MIN_CAPACITY = 8;
+    private static final float LOAD_FACTOR = 0.5f;
+
+    private long[] keys;
+    private int[] values;
+    private boolean[] used;
+    private int size;
+    private int mask;
+
+    /**
+     * Дія над парою ключ-значення.
+     */
+    @FunctionalInterface
+    public interface LongIntConsumer {
+        void accept(long key, int value);
+    }
+
+    public LongIntHashMap() {
+        this(MIN_CAPACITY);
+    }
+
+    /**
+     * @param expectedSize Очікувана кількість ключів.
+     * @throws IllegalArgumentException якщо кількість від'ємна.
+     */
+    public LongIntHashMap(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("Кількість ключів не може бути від'ємною");
+        }
+        allocate(tableSizeFor(expectedSize));
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public boolean containsKey(long key) {
+        return used[find(key)];
+    }
+
+    /**
+     * @param key          Ключ.
+     * @param defaultValue Значення, якщо ключа немає.
+     * @return Значення для ключа або defaultValue.
+     */
+    public int get(long key, int defaultValue) {
+        int slot = find(key);
+        return used[slot] ? values[slot] : defaultValue;
+    }
+
+    /**
+     * @return Попереднє значення або 0, якщо ключа не було.
+     */
+    public int put(long key, int value) {
+        int slot = find(key);
+        if (used[slot]) {
+            int previous = values[slot];
+            values[slot] = value;
+            return previous;
+        }
+        insertAt(slot, key, value);
+        return 0;
+    }
+
+    /**
+     * Додає delta до значення ключа (відсутній ключ вважається рівним 0).
+     *
+     * @return Нове значення.
+     */
+    public int addTo(long key, int delta) {
+        int slot = find(key);
+        if (used[slot]) {
+            return values[slot] += delta;
+        }
+        insertAt(slot, key, delta);
+        return delta;
+    }
+
+    /**
+     * @return true, якщо ключ був у таблиці.
+     */
+    public boolean remove(long key) {
+        int slot = find(key);
+        if (!used[slot]) {
+            return false;
+        }
+        used[slot] = false;
+        size--;
+        // Зсув назад: записи, що стоять за видаленим у тому ж ланцюжку, переносяться на звільнене місце.
+        int gap = slot;
+        int next = (slot + 1) & mask;
+        while (used[next]) {
+            int home = hash(keys[next]) & mask;
+            if (((next - home) & mask) >= ((next - gap) & mask)) {
+                keys[gap] = keys[next];
+                values[gap] = values[next];
+                used[gap] = true;
+                used[next] = false;
+                gap = next;
+            }
+            next = (next + 1) & mask;
+        }
+        return true;
+    }
+
+    public void clear() {
+        Arrays.fill(used, false);
+        size = 0;
+    }
+
+    /**
+     * @return Найменший ключ таблиці. Працює за O(ємність) без виділення пам'яті.
+     * @throws NoSuchElementException якщо таблиця порожня.
+     */
+    public long minKey() {
+        requireNotEmpty();
+        long min = Long.MAX_VALUE;
+        for (int i = 0; i < keys.length; i++) {
+            if (used[i] && keys[i] < min) {
+                min = keys[i];
+            }
+        }
+        return min;
+    }
+
+    /**
+     * @return Найбільший ключ таблиці. Працює за O(ємність) без виділення пам'яті.
+     * @throws NoSuchElementException якщо таблиця порожня.
+     */
+    public long maxKey() {
+        requireNotEmpty();
+        long max = Long.MIN_VALUE;
+        for (int i = 0; i < keys.length; i++) {
+            if (used[i] && keys[i] > max) {
+                max = keys[i];
+            }
+        }
+        return max;
+    }
+
+    /**
+     * Виконує дію для кожної пари у довільному порядку.
+     */
+    public void forEach(LongIntConsumer action) {
+        for (int i = 0; i < keys.length; i++) {
+            if (used[i]) {
+                action.accept(keys[i], values[i]);
+            }
+        }
+    }
+
+    private void requireNotEmpty() {
+        if (size == 0) {
+            throw new NoSuchElementException("Таблиця порожня");
+        }
+    }
+
+    private int find(long key) {
+        int slot = hash(key) & mask;
+        while (used[slot] && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void insertAt(int slot, long key, int value) {
+        keys[slot] = key;
+        values[slot] = value;
+        used[slot] = true;
+        if (++size > keys.length * LOAD_FACTOR) {
+            rehash(keys.length * 2);
+        }
+    }
+
+    private void rehash(int capacity) {
+        long[] oldKeys = keys;
+        int[] oldValues = values;
+        boolean[] oldUsed = used;
+        allocate(capacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldUsed[i]) {
+                int slot = find(oldKeys[i]);
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+                used[slot] = true;
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new int[capacity];
+        used = new boolean[capacity];
+        mask = capacity - 1;
+    }
+
+    private static int tableSizeFor(int expectedSize) {
+        int capacity = MIN_CAPACITY;
+        while (capacity * LOAD_FACTOR < expectedSize) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    private static int hash(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+}
@@ -0,0 +1,107 @@
+package music.Collections;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Список примітивних long без упаковки в {@link Long}. Розширюється подвоєнням ємності.
+ */
+public final class LongList {
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private long[] elements;
+    private int size;
+
+    public LongList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param initialCapacity Початкова ємність.
+     * @throws IllegalArgumentException якщо ємність від'ємна.
+     */
+    public LongList(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Ємність не може бути від'ємною");
+        }
+        elements = new long[initialCapacity];
+    }
+
+    public void add(long value) {
+        if (size == elements.length) {
+            elements = Arrays.copyOf(elements, Math.max(DEFAULT_CAPACITY, size * 2));
+        }
+        elements[size++] = value;
+    }
+
+    /**
+     * @throws IndexOutOfBoundsException якщо позиція поза межами списку.
+     */
+    public long get(int index) {
+        return elements[Objects.checkIndex(index, size)];
+    }
+
+    /**
+     * @throws IndexOutOfBoundsException якщо позиція поза межами списку.
+     */
+    public void set(int index, long value) {
+        elements[Objects.checkIndex(index, size)] = value;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Очищує список без звільнення ємності, щоб його можна було заповнювати повторно без виділення пам'яті.
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Сортує елементи за зростанням.
+     */
+    public void sort() {
+        Arrays.sort(elements, 0, size);
+    }
+
+    /**
+     * @return Сума елементів.
+     */
+    public long sum() {
+        long sum = 0;
+        for (int i = 0; i < size; i++) {
+            sum += elements[i];
+        }
+        return sum;
+    }
+
+    /**
+     * @param defaultValue Значення для порожнього списку.
+     * @return Найбільший елемент.
+     */
+    public long max(long defaultValue) {
+        if (size == 0) {
+            return defaultValue;
+        }
+        long max = elements[0];
+        for (int i = 1; i < size; i++) {
+            max = Math.max(max, elements[i]);
+        }
+        return max;
+    }
+
+    public long[] toArray() {
+        return Arrays.copyOf(elements, size);
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+}
@@ -0,0 +1,246 @@
+package music.Collections;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * Незмінний список зі спільною структурою (збалансоване AVL-дерево з неявними індексами).
+ * Кожна зміна повертає новий список і копіює лише шлях від кореня до зміненого вузла,
+ * тому нова версія займає O(log n) додаткової пам'яті, а решта вузлів спільна з попередньою.
+ *
+ * @param <E> Тип елементів
+ */
+public final class PersistentList<E> implements Iterable<E> {
+    private static final PersistentList<?> EMPTY = new PersistentList<>(null);
+
+    private final Node<E> root;
+
+    private record Node<E>(E value, Node<E> left, Node<E> right, int size, int height) {
+    }
+
+    private PersistentList(Node<E> root) {
+        this.root = root;
+    }
+
+    /**
+     * @return Порожній список.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentList<E> empty() {
+        return (PersistentList<E>) EMPTY;
+    }
+
+    /**
+     * Будує збалансований список з елементів за O(n).
+     *
+     * @param elements Елементи у потрібному порядку.
+     * @return Новий список.
+     */
+    public static <E> PersistentList<E> of(List<? extends E> elements) {
+        Objects.requireNonNull(elements, "elements");
+        return elements.isEmpty() ? empty() : new PersistentList<>(build(elements, 0, elements.size() - 1));
+    }
+
+    public int size() {
+        return size(root);
+    }
+
+    public boolean isEmpty() {
+        return root == null;
+    }
+
+    /**
+     * @param index Позиція елемента.
+     * @return Елемент у заданій позиції.
+     * @throws IndexOutOfBoundsException якщо позиція поза межами списку.
+     */
+    public E get(int index) {
+        Objects.checkIndex(index, size());
+        Node<E> node = root;
+        while (true) {
+            int leftSize = size(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index > leftSize) {
+                index -= leftSize + 1;
+                node = node.right;
+            } else {
+                return node.value;
+            }
+        }
+    }
+
+    /**
+     * @return Новий список, у якому елемент у заданій позиції замінено.
+     * @throws IndexOutOfBoundsException якщо позиція поза межами списку.
+     */
+    public PersistentList<E> set(int index, E element) {
+        Objects.checkIndex(index, size());
+        return new PersistentList<>(set(root, index, element));
+    }
+
+    /**
+     * @param index Позиція від 0 до розміру списку включно.
+     * @return Новий список із вставленим елементом.
+     * @throws IndexOutOfBoundsException якщо позиція поза межами списку.
+     */
+    public PersistentList<E> insert(int index, E element) {
+        Objects.checkIndex(index, size() + 1);
+        return new PersistentList<>(insert(root, index, element));
+    }
+
+    /**
+     * @return Новий список з елементом, доданим у кінець.
+     */
+    public PersistentList<E> add(E element) {
+        return insert(size(), element);
+    }
+
+    /**
+     * @return Новий список без елемента в заданій позиції.
+     * @throws IndexOutOfBoundsException якщо позиція поза межами списку.
+     */
+    public PersistentList<E> remove(int index) {
+        Objects.checkIndex(index, size());
+        return new PersistentList<>(remove(root, index));
+    }
+
+    /**
+     * @return Звичайний змінюваний список з елементами в тому ж порядку.
+     */
+    public List<E> toList() {
+        List<E> list = new ArrayList<>(size());
+        forEach(list::add);
+        return list;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<>() {
+            private final Deque<Node<E>> stack = new ArrayDeque<>();
+            {
+                pushLeft(root);
+            }
+
+            @Override
+            public boolean hasNext() {
+                return !stack.isEmpty();
+            }
+
+            @Override
+            public E next() {
+                if (stack.isEmpty()) {
+                    throw new NoSuchElementException();
+                }
+                Node<E> node = stack.pop();
+                pushLeft(node.right);
+                return node.value;
+            }
+
+            private void pushLeft(Node<E> node) {
+                for (; node != null; node = node.left) {
+                    stack.push(node);
+                }
+            }
+        };
+    }
+
+    @Override
+    public String toString() {
+        return toList().toString();
+    }
+
+    private static int size(Node<?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static int height(Node<?> node) {
+        return node == null ? 0 : node.height;
+    }
+
+    private static <E> Node<E> node(E value, Node<E> left, Node<E> right) {
+        return new Node<>(value, left, right, size(left) + size(right) + 1, Math.max(height(left), height(right)) + 1);
+    }
+
+    private static <E> Node<E> build(List<? extends E> elements, int from, int to) {
+        if (from > to) {
+            return null;
+        }
+        int middle = (from + to) >>> 1;
+        return node(elements.get(middle), build(elements, from, middle - 1), build(elements, middle + 1, to));
+    }
+
+    private static <E> Node<E> set(Node<E> node, int index, E element) {
+        int leftSize = size(node.left);
+        if (index < leftSize) {
+            return new Node<>(node.value, set(node.left, index, element), node.right, node.size, node.height);
+        }
+        if (index > leftSize) {
+            return new Node<>(node.value, node.left, set(node.right, index - leftSize - 1, element),
+                    node.size, node.height);
+        }
+        return new Node<>(element, node.left, node.right, node.size, node.height);
+    }
+
+    private static <E> Node<E> insert(Node<E> node, int index, E element) {
+        if (node == null) {
+            return node(element, null, null);
+        }
+        int leftSize = size(node.left);
+        if (index <= leftSize) {
+            return balance(node.value, insert(node.left, index, element), node.right);
+        }
+        return balance(node.value, node.left, insert(node.right, index - leftSize - 1, element));
+    }
+
+    private static <E> Node<E> remove(Node<E> node, int index) {
+        int leftSize = size(node.left);
+        if (index < leftSize) {
+            return balance(node.value, remove(node.left, index), node.right);
+        }
+        if (index > leftSize) {
+            return balance(node.value, node.left, remove(node.right, index - leftSize - 1));
+        }
+        if (node.left == null) {
+            return node.right;
+        }
+        if (node.right == null) {
+            return node.left;
+        }
+        Node<E> successor = node.right;
+        while (successor.left != null) {
+            successor = successor.left;
+        }
+        return balance(successor.value, node.left, remove(node.right, 0));
+    }
+
+    private static <E> Node<E> balance(E value, Node<E> left, Node<E> right) {
+        int difference = height(left) - height(right);
+        if (difference > 1) {
+            if (height(left.left) < height(left.right)) {
+                left = rotateLeft(left.value, left.left, left.right);
+            }
+            return node(left.value, left.left, node(value, left.right, right));
+        }
+        if (difference < -1) {
+            if (height(right.right) < height(right.left)) {
+                right = rotateRight(right.value, right.left, right.right);
+            }
+            return node(right.value, node(value, left, right.left), right.right);
+        }
+        return node(value, left, right);
+    }
+
+    private static <E> Node<E> rotateLeft(E value, Node<E> left, Node<E> right) {
+        return node(right.value, node(value, left, right.left), right.right);
+    }
+
+    private static <E> Node<E> rotateRight(E value, Node<E> left, Node<E> right) {
+        return node(left.value, left.left, node(value, left.right, right));
+    }
+}
@@ -0,0 +1,107 @@
+package music.Collections;
+
+import java.util.Arrays;
+
+/**
+ * Скетч квантилів невід'ємних цілих значень з гарантованою відносною похибкою (за схемою DDSketch).
+ *
+ * <p>Значення розкладаються в логарифмічні кошики {@code (γ^(i-1), γ^i]}, де {@code γ = (1 + α) / (1 - α)},
+ * тож будь-який квантиль повертається з відносною похибкою не більше α. Пам'ять залежить лише від
+ * діапазону значень (логарифмічно), а не від їх кількості. Скетчі з однаковою точністю зливаються
+ * додаванням лічильників кошиків, і результат не залежить від того, як значення розподілено між скетчами.
+ */
+public final class QuantileSketch {
+    private final double relativeAccuracy;
+    private final double logGamma;
+    private long[] counts = new long[0];
+    private long zeroCount;
+    private long count;
+
+    /**
+     * @param relativeAccuracy Допустима відносна похибка квантилів (0..1), наприклад 0.01.
+     * @throws IllegalArgumentException якщо похибка поза межами (0, 1).
+     */
+    public QuantileSketch(double relativeAccuracy) {
+        if (!(relativeAccuracy > 0 && relativeAccuracy < 1)) {
+            throw new IllegalArgumentException("Відносна похибка має бути між 0 і 1");
+        }
+        this.relativeAccuracy = relativeAccuracy;
+        this.logGamma = Math.log((1 + relativeAccuracy) / (1 - relativeAccuracy));
+    }
+
+    /**
+     * @param value Невід'ємне значення.
+     * @throws IllegalArgumentException якщо значення від'ємне.
+     */
+    public void add(long value) {
+        if (value < 0) {
+            throw new IllegalArgumentException("Значення не може бути від'ємним");
+        }
+        count++;
+        if (value == 0) {
+            zeroCount++;
+            return;
+        }
+        int index = (int) Math.ceil(Math.log(value) / logGamma);
+        if (index >= counts.length) {
+            counts = Arrays.copyOf(counts, Math.max(index + 1, counts.length * 2));
+        }
+        counts[index]++;
+    }
+
+    /**
+     * Додає до скетча всі значення іншого скетча.
+     *
+     * @param other Скетч з тією ж відносною похибкою; не змінюється.
+     * @throws IllegalArgumentException якщо скетч null або має іншу похибку.
+     */
+    public void merge(QuantileSketch other) {
+        if (other == null || other.relativeAccuracy != relativeAccuracy) {
+            throw new IllegalArgumentException("Зливати можна лише скетчі з однаковою похибкою");
+        }
+        if (other.counts.length > counts.length) {
+            counts = Arrays.copyOf(counts, other.counts.length);
+        }
+        for (int i = 0; i < other.counts.length; i++) {
+            counts[i] += other.counts[i];
+        }
+        zeroCount += other.zeroCount;
+        count += other.count;
+    }
+
+    public long count() {
+        return count;
+    }
+
+    public double relativeAccuracy() {
+        return relativeAccuracy;
+    }
+
+    /**
+     * Повертає квантиль методом найближчого рангу.
+     *
+     * @param quantile Квантиль від 0 до 1.
+     * @return Оцінка значення з відносною похибкою не більше {@link #relativeAccuracy()}; 0 для порожнього скетча.
+     * @throws IllegalArgumentException якщо квантиль поза межами 0..1.
+     */
+    public double quantile(double quantile) {
+        if (!(quantile >= 0 && quantile <= 1)) {
+            throw new IllegalArgumentException("Квантиль має бути в межах від 0 до 1");
+        }
+        if (count == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(quantile * count));
+        long seen = zeroCount;
+        if (seen >= rank) {
+            return 0;
+        }
+        int index = 0;
+        while (seen + counts[index] < rank) {
+            seen += counts[index++];
+        }
+        // Середина кошика за відносною похибкою: 2γ^i / (γ + 1).
+        double gamma = Math.exp(logGamma);
+        return 2 * Math.exp(index * logGamma) / (gamma + 1);
+    }
+}
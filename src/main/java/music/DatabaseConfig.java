@@ -15,7 +15,7 @@ public class DatabaseConfig {
     private static final Logger logger = LogManager.getLogger(DatabaseConfig.class);
 
     // Конфігураційні параметри бази даних
-    private static final String URL = "jdbc:mysql://localhost:3306/music_collection?useSSL=false&serverTimezone=UTC";
+    private static final String URL = "jdbc:mysql://localhost:3306/music_collection?useSSL=false&serverTimezone=UTC&rewriteBatchedStatements=true";
     private static final String USER = "root";
     private static final String PASSWORD = "Kinolog123456";
 
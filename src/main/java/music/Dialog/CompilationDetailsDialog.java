@@ -1,6 +1,8 @@
 package music.Dialog;
 
+import music.Manager.CompilationHistory;
 import music.Manager.DiscManager;
+import music.Manager.TrackDatabaseManager;
 import music.Models.MusicCompilation;
 import music.Panel.ButtonPanel;
 import music.Panel.HeaderPanel;
@@ -11,6 +13,9 @@ import org.apache.logging.log4j.Logger;
 import javax.swing.*;
 import javax.swing.border.EmptyBorder;
 import java.awt.*;
+import java.awt.event.ActionEvent;
+import java.awt.event.InputEvent;
+import java.awt.event.KeyEvent;
 
 /**
  * Діалогове вікно для відображення деталей музичної збірки.
@@ -22,6 +27,7 @@ public class CompilationDetailsDialog extends JDialog {
     public MusicCompilation compilation;
     private final DiscManager discManager;
     TrackListPanel trackListPanel; // Зберігаємо посилання на TrackListPanel
+    private final CompilationHistory history;
 
     /**
      * Конструктор діалогового вікна.
@@ -33,6 +39,7 @@ public class CompilationDetailsDialog extends JDialog {
         super(parent, "Деталі збірки: " + compilation.getTitle(), true);
         this.compilation = compilation;
         this.discManager = new DiscManager();
+        this.history = new CompilationHistory(compilation);
         logger.info("Створення діалогу для збірки: {}", compilation.getTitle());
         initializeUI();
     }
@@ -52,6 +59,7 @@ public class CompilationDetailsDialog extends JDialog {
             addHeaderPanel(mainPanel);
             addTrackListPanel(mainPanel);
             addButtonPanel(mainPanel);
+            installHistoryKeys();
             logger.debug("Інтерфейс для збірки {} успішно ініціалізовано", compilation.getTitle());
 
     }
@@ -111,4 +119,59 @@ public class CompilationDetailsDialog extends JDialog {
         ButtonPanel buttonPanel = new ButtonPanel(this, compilation, trackListPanel);
         mainPanel.add(buttonPanel.getPanel(), BorderLayout.SOUTH);
     }
-}
\ No newline at end of file
+
+    /**
+     * Прив'язує Ctrl+Z та Ctrl+Y до скасування та повторення змін треків збірки.
+     */
+    void installHistoryKeys() {
+        InputMap inputMap = getRootPane().getInputMap(JComponent.WHEN_IN_FOCUSED_WINDOW);
+        ActionMap actionMap = getRootPane().getActionMap();
+        inputMap.put(KeyStroke.getKeyStroke(KeyEvent.VK_Z, InputEvent.CTRL_DOWN_MASK), "undo");
+        inputMap.put(KeyStroke.getKeyStroke(KeyEvent.VK_Y, InputEvent.CTRL_DOWN_MASK), "redo");
+        actionMap.put("undo", new AbstractAction() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                undo();
+            }
+        });
+        actionMap.put("redo", new AbstractAction() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                redo();
+            }
+        });
+    }
+
+    /**
+     * Скасовує останню зміну треків збірки, якщо вона є.
+     */
+    void undo() {
+        if (history.canUndo()) {
+            applyHistoryChange(history.undo());
+        }
+    }
+
+    /**
+     * Повторює останню скасовану зміну треків збірки, якщо вона є.
+     */
+    void redo() {
+        if (history.canRedo()) {
+            applyHistoryChange(history.redo());
+        }
+    }
+
+    private void applyHistoryChange(CompilationHistory.Change change) {
+        try {
+            TrackDatabaseManager.applyHistoryChange(this, trackListPanel, change);
+        } catch (Exception e) {
+            logger.error("Помилка при застосуванні кроку історії для збірки {}: {}", compilation.getTitle(),
+                    e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void dispose() {
+        history.close();
+        super.dispose();
+    }
+}
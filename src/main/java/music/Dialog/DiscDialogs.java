@@ -0,0 +1,59 @@
+package music.Dialog;
+
+import music.Service.DiscSplitOptions;
+
+import javax.swing.*;
+import java.awt.*;
+import java.time.Duration;
+
+/**
+ * Клас для створення діалогу параметрів розбиття збірки на диски.
+ */
+public class DiscDialogs {
+    private static final String CD_74_OPTION = "CD 74 хв";
+    private static final String CD_80_OPTION = "CD 80 хв";
+    private static final String CUSTOM_OPTION = "Інша місткість";
+
+    /**
+     * Запитує місткість диска та спосіб розподілу треків.
+     *
+     * @param parent батьківське вікно
+     * @param title  назва збірки, що розбивається
+     * @return вибрані параметри; null, якщо користувач скасував розбиття
+     */
+    public static DiscSplitOptions showSplitDialog(Component parent, String title) {
+        JComboBox<String> capacityCombo = new JComboBox<>(new String[]{CD_80_OPTION, CD_74_OPTION, CUSTOM_OPTION});
+        JSpinner minutesSpinner = new JSpinner(new SpinnerNumberModel(60, 1, 24 * 60, 1));
+        minutesSpinner.setEnabled(false);
+        capacityCombo.addActionListener(e -> minutesSpinner.setEnabled(CUSTOM_OPTION.equals(capacityCombo.getSelectedItem())));
+        JComboBox<DiscSplitOptions.Mode> modeCombo = new JComboBox<>(DiscSplitOptions.Mode.values());
+
+        JPanel panel = new JPanel(new GridLayout(3, 2, 10, 10));
+        addRow(panel, "Місткість диска:", capacityCombo);
+        addRow(panel, "Місткість (хв):", minutesSpinner);
+        addRow(panel, "Розподіл треків:", modeCombo);
+
+        int option = JOptionPane.showConfirmDialog(parent, panel, "Розбиття на диски: " + title,
+                JOptionPane.OK_CANCEL_OPTION, JOptionPane.QUESTION_MESSAGE);
+        if (option != JOptionPane.OK_OPTION) {
+            return null;
+        }
+        Duration capacity;
+        if (CD_74_OPTION.equals(capacityCombo.getSelectedItem())) {
+            capacity = DiscSplitOptions.CD_74;
+        } else if (CD_80_OPTION.equals(capacityCombo.getSelectedItem())) {
+            capacity = DiscSplitOptions.CD_80;
+        } else {
+            capacity = Duration.ofMinutes((Integer) minutesSpinner.getValue());
+        }
+        return DiscSplitOptions.of(capacity, (DiscSplitOptions.Mode) modeCombo.getSelectedItem());
+    }
+
+    private static void addRow(JPanel panel, String label, JComponent field) {
+        JLabel jLabel = new JLabel(label);
+        jLabel.setFont(TrackDialogs.LABEL_FONT);
+        field.setFont(TrackDialogs.LABEL_FONT);
+        panel.add(jLabel);
+        panel.add(field);
+    }
+}
@@ -0,0 +1,74 @@
+package music.Dialog;
+
+import music.Service.DuplicateCluster;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import javax.swing.*;
+import java.awt.*;
+import java.util.List;
+
+/**
+ * Клас для створення діалогу перегляду знайдених дублікатів треків і вибору груп для об'єднання.
+ */
+public class DuplicateDialogs {
+    private static final Logger logger = LogManager.getLogger(DuplicateDialogs.class);
+
+    /**
+     * Показує знайдені групи дублікатів; спочатку вибрані всі групи.
+     *
+     * @param parent   батьківське вікно
+     * @param clusters знайдені групи
+     * @return групи, які користувач вирішив об'єднати; порожній список, якщо об'єднання скасовано
+     */
+    public static List<DuplicateCluster> chooseClustersToMerge(Component parent, List<DuplicateCluster> clusters) {
+        if (clusters.isEmpty()) {
+            JOptionPane.showMessageDialog(parent, "Дублікатів не знайдено", "Пошук дублікатів",
+                    JOptionPane.INFORMATION_MESSAGE);
+            return List.of();
+        }
+        JList<DuplicateCluster> list = new JList<>(clusters.toArray(new DuplicateCluster[0]));
+        list.setFont(TrackDialogs.LABEL_FONT);
+        list.setCellRenderer((component, cluster, index, selected, focused) -> {
+            JLabel label = new JLabel(formatCluster(cluster));
+            label.setOpaque(true);
+            label.setBorder(BorderFactory.createEmptyBorder(4, 6, 4, 6));
+            label.setBackground(selected ? component.getSelectionBackground() : component.getBackground());
+            label.setForeground(selected ? component.getSelectionForeground() : component.getForeground());
+            return label;
+        });
+        list.setSelectionInterval(0, clusters.size() - 1);
+        JScrollPane scrollPane = new JScrollPane(list);
+        scrollPane.setPreferredSize(new Dimension(700, 400));
+
+        JPanel panel = new JPanel(new BorderLayout(5, 5));
+        panel.add(new JLabel("Знайдено груп: " + clusters.size()
+                + ". У вибраних групах залишиться перший трек, решта буде видалена."), BorderLayout.NORTH);
+        panel.add(scrollPane, BorderLayout.CENTER);
+
+        int option = JOptionPane.showConfirmDialog(parent, panel, "Об'єднання дублікатів",
+                JOptionPane.OK_CANCEL_OPTION, JOptionPane.PLAIN_MESSAGE);
+        if (option != JOptionPane.OK_OPTION) {
+            logger.info("Об'єднання дублікатів скасовано");
+            return List.of();
+        }
+        return list.getSelectedValuesList();
+    }
+
+    static String formatCluster(DuplicateCluster cluster) {
+        StringBuilder text = new StringBuilder("<html>");
+        text.append(String.format("Схожість %.0f%%", cluster.similarity() * 100));
+        for (DuplicateCluster.Occurrence occurrence : cluster.occurrences()) {
+            text.append("<br>")
+                    .append(occurrence == cluster.keeper() ? "✔ " : "✖ ")
+                    .append(escape(occurrence.track().toString()))
+                    .append(" — ")
+                    .append(escape(occurrence.compilation().getTitle()));
+        }
+        return text.append("</html>").toString();
+    }
+
+    private static String escape(String text) {
+        return text.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;");
+    }
+}
@@ -0,0 +1,117 @@
+package music.Dialog;
+
+import music.IO.ImportResult;
+import music.Manager.DiscManager;
+import music.Models.MusicCompilation;
+import music.Models.MusicGenre;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import javax.swing.*;
+import java.awt.*;
+
+/**
+ * Клас для створення діалогових вікон масового імпорту треків:
+ * вибору цільової збірки та перегляду результатів імпорту.
+ */
+public class ImportDialogs {
+    private static final Logger logger = LogManager.getLogger(ImportDialogs.class);
+    private static final String NEW_COMPILATION_OPTION = "➕ Нова збірка...";
+    private static final int MAX_SHOWN_ERRORS = 200;
+
+    /**
+     * Пропонує вибрати існуючу збірку або створити нову для імпортованих треків.
+     *
+     * @param parent      батьківське вікно
+     * @param discManager менеджер збірок, до якого додається нова збірка
+     * @return вибрана або створена збірка; null, якщо користувач скасував вибір
+     */
+    public static MusicCompilation chooseTargetCompilation(Component parent, DiscManager discManager) {
+        return chooseTargetCompilation(parent, discManager, "");
+    }
+
+    /**
+     * Пропонує вибрати існуючу збірку або створити нову з запропонованою назвою.
+     *
+     * @param parent         батьківське вікно
+     * @param discManager    менеджер збірок, до якого додається нова збірка
+     * @param suggestedTitle початкова назва нової збірки
+     * @return вибрана або створена збірка; null, якщо користувач скасував вибір
+     */
+    public static MusicCompilation chooseTargetCompilation(Component parent, DiscManager discManager,
+                                                           String suggestedTitle) {
+        JComboBox<Object> combo = new JComboBox<>();
+        combo.addItem(NEW_COMPILATION_OPTION);
+        discManager.forEachCompilation(combo::addItem);
+        combo.setFont(TrackDialogs.LABEL_FONT);
+
+        int option = JOptionPane.showConfirmDialog(parent, combo, "Імпорт у збірку",
+                JOptionPane.OK_CANCEL_OPTION, JOptionPane.QUESTION_MESSAGE);
+        if (option != JOptionPane.OK_OPTION) {
+            return null;
+        }
+        if (combo.getSelectedItem() instanceof MusicCompilation compilation) {
+            return compilation;
+        }
+
+        Object input = JOptionPane.showInputDialog(parent, "Назва нової збірки:", "Нова збірка",
+                JOptionPane.QUESTION_MESSAGE, null, null, suggestedTitle);
+        String title = input != null ? input.toString() : null;
+        if (title == null || title.trim().isEmpty()) {
+            return null;
+        }
+        MusicCompilation compilation = new MusicCompilation(title.trim());
+        discManager.addCompilation(compilation);
+        logger.info("Створено збірку '{}' для імпорту", compilation.getTitle());
+        return compilation;
+    }
+
+    /**
+     * Пропонує вибрати жанр для імпортованих треків, жанр яких не вказаний у файлі.
+     *
+     * @param parent батьківське вікно
+     * @return вибраний жанр; null, якщо користувач скасував вибір
+     */
+    public static MusicGenre chooseDefaultGenre(Component parent) {
+        JComboBox<MusicGenre> combo = new JComboBox<>(MusicGenre.values());
+        combo.setFont(TrackDialogs.LABEL_FONT);
+        int option = JOptionPane.showConfirmDialog(parent, combo, "Жанр за замовчуванням",
+                JOptionPane.OK_CANCEL_OPTION, JOptionPane.QUESTION_MESSAGE);
+        return option == JOptionPane.OK_OPTION ? (MusicGenre) combo.getSelectedItem() : null;
+    }
+
+    /**
+     * Відображає підсумок імпорту зі списком помилок окремих рядків.
+     *
+     * @param parent батьківське вікно
+     * @param title  заголовок вікна
+     * @param result результат імпорту
+     */
+    public static void showImportResult(Component parent, String title, ImportResult result) {
+        String summary = String.format("Імпортовано треків: %d%nПропущено записів: %d",
+                result.getImportedCount(), result.getFailedCount());
+        if (result.getDuplicateCount() > 0) {
+            summary += String.format("%nПропущено дублікатів: %d", result.getDuplicateCount());
+        }
+        if (!result.hasErrors()) {
+            JOptionPane.showMessageDialog(parent, summary, title, JOptionPane.INFORMATION_MESSAGE);
+            return;
+        }
+
+        StringBuilder errors = new StringBuilder();
+        result.getErrors().stream().limit(MAX_SHOWN_ERRORS)
+                .forEach(error -> errors.append(error).append('\n'));
+        if (result.getErrors().size() > MAX_SHOWN_ERRORS) {
+            errors.append("...");
+        }
+
+        JTextArea errorArea = new JTextArea(errors.toString(), 12, 50);
+        errorArea.setEditable(false);
+        errorArea.setFont(TrackDialogs.LABEL_FONT);
+
+        JPanel panel = new JPanel(new BorderLayout(0, 10));
+        panel.add(new JLabel("<html>" + summary.replace(System.lineSeparator(), "<br>") + "</html>"), BorderLayout.NORTH);
+        panel.add(new JScrollPane(errorArea), BorderLayout.CENTER);
+        JOptionPane.showMessageDialog(parent, panel, title, JOptionPane.WARNING_MESSAGE);
+    }
+}
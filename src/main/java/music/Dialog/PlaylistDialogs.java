@@ -0,0 +1,95 @@
+package music.Dialog;
+
+import music.Models.MusicGenre;
+import music.Service.PlaylistCriteria;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import javax.swing.*;
+import java.awt.*;
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Клас для створення діалогу параметрів генератора плейлиста заданої тривалості.
+ */
+public class PlaylistDialogs {
+    private static final Logger logger = LogManager.getLogger(PlaylistDialogs.class);
+    private static final String ANY_GENRE_OPTION = "Усі жанри";
+
+    /**
+     * Параметри, введені користувачем.
+     *
+     * @param title    назва нової збірки
+     * @param criteria умови підбору треків
+     */
+    public record Request(String title, PlaylistCriteria criteria) {
+    }
+
+    /**
+     * Запитує назву, тривалість, допуск і необов'язкові обмеження за жанром та виконавцями
+     * (через кому).
+     *
+     * @param parent батьківське вікно
+     * @return введені параметри; null, якщо користувач скасував генерацію або ввів некоректні дані
+     */
+    public static Request showGeneratorDialog(Component parent) {
+        JTextField titleField = new JTextField("Плейлист", 20);
+        JSpinner minutesSpinner = new JSpinner(new SpinnerNumberModel(60, 1,
+                (int) PlaylistCriteria.MAX_TARGET.toMinutes(), 1));
+        JSpinner toleranceSpinner = new JSpinner(new SpinnerNumberModel(30, 0, 600, 5));
+        JComboBox<Object> genreCombo = new JComboBox<>();
+        genreCombo.addItem(ANY_GENRE_OPTION);
+        for (MusicGenre genre : MusicGenre.values()) {
+            genreCombo.addItem(genre);
+        }
+        JTextField artistsField = new JTextField(20);
+
+        JPanel panel = new JPanel(new GridLayout(5, 2, 10, 10));
+        addRow(panel, "Назва збірки:", titleField);
+        addRow(panel, "Тривалість (хв):", minutesSpinner);
+        addRow(panel, "Допуск (сек):", toleranceSpinner);
+        addRow(panel, "Жанр:", genreCombo);
+        addRow(panel, "Виконавці (через кому):", artistsField);
+
+        int option = JOptionPane.showConfirmDialog(parent, panel, "Генератор плейлиста",
+                JOptionPane.OK_CANCEL_OPTION, JOptionPane.QUESTION_MESSAGE);
+        if (option != JOptionPane.OK_OPTION) {
+            return null;
+        }
+        String title = titleField.getText().trim();
+        if (title.isEmpty()) {
+            JOptionPane.showMessageDialog(parent, "Назва збірки не може бути порожньою", "Помилка",
+                    JOptionPane.ERROR_MESSAGE);
+            return null;
+        }
+        Set<String> artists = new LinkedHashSet<>();
+        for (String artist : artistsField.getText().split(",")) {
+            if (!artist.trim().isEmpty()) {
+                artists.add(artist.trim());
+            }
+        }
+        try {
+            PlaylistCriteria criteria = PlaylistCriteria.of(
+                    Duration.ofMinutes((Integer) minutesSpinner.getValue()),
+                    Duration.ofSeconds((Integer) toleranceSpinner.getValue())).withArtists(artists);
+            if (genreCombo.getSelectedItem() instanceof MusicGenre genre) {
+                criteria = criteria.withGenres(Set.of(genre));
+            }
+            return new Request(title, criteria);
+        } catch (IllegalArgumentException ex) {
+            logger.warn("Некоректні параметри генератора плейлиста: {}", ex.getMessage());
+            JOptionPane.showMessageDialog(parent, ex.getMessage(), "Помилка", JOptionPane.ERROR_MESSAGE);
+            return null;
+        }
+    }
+
+    private static void addRow(JPanel panel, String label, JComponent field) {
+        JLabel jLabel = new JLabel(label);
+        jLabel.setFont(TrackDialogs.LABEL_FONT);
+        field.setFont(TrackDialogs.LABEL_FONT);
+        panel.add(jLabel);
+        panel.add(field);
+    }
+}
@@ -0,0 +1,50 @@
+package music.Dialog;
+
+import music.Service.CompilationMatch;
+
+import javax.swing.*;
+import java.awt.*;
+import java.util.List;
+
+/**
+ * Клас для створення діалогу перегляду схожих збірок.
+ */
+public class SimilarityDialogs {
+
+    /**
+     * Показує знайдені пари схожих збірок.
+     *
+     * @param parent    батьківське вікно
+     * @param title     заголовок вікна
+     * @param matches   знайдені пари
+     * @param showFirst true, якщо в кожному рядку потрібно показати обидві збірки пари
+     */
+    public static void showMatches(Component parent, String title, List<CompilationMatch> matches, boolean showFirst) {
+        if (matches.isEmpty()) {
+            JOptionPane.showMessageDialog(parent, "Схожих збірок не знайдено", title, JOptionPane.INFORMATION_MESSAGE);
+            return;
+        }
+        DefaultListModel<String> model = new DefaultListModel<>();
+        for (CompilationMatch match : matches) {
+            model.addElement(formatMatch(match, showFirst));
+        }
+        JList<String> list = new JList<>(model);
+        list.setFont(TrackDialogs.LABEL_FONT);
+        JScrollPane scrollPane = new JScrollPane(list);
+        scrollPane.setPreferredSize(new Dimension(600, 350));
+
+        JPanel panel = new JPanel(new BorderLayout(5, 5));
+        panel.add(new JLabel("Знайдено: " + matches.size()
+                + ". Схожість — оцінена частка спільних треків двох збірок."), BorderLayout.NORTH);
+        panel.add(scrollPane, BorderLayout.CENTER);
+        JOptionPane.showMessageDialog(parent, panel, title, JOptionPane.PLAIN_MESSAGE);
+    }
+
+    static String formatMatch(CompilationMatch match, boolean showFirst) {
+        String similarity = String.format("%.0f%%", match.similarity() * 100);
+        if (showFirst) {
+            return similarity + "  " + match.compilation().getTitle() + " ↔ " + match.other().getTitle();
+        }
+        return similarity + "  " + match.other().getTitle();
+    }
+}
@@ -1,9 +1,11 @@
 package music.Dialog;
 
+import music.Models.ArtistRegistry;
 import music.Models.MusicCompilation;
-import music.Service.MusicCompilationService;
 import music.Models.MusicGenre;
 import music.Models.MusicTrack;
+import music.Service.DurationStatistics;
+import music.Service.MusicCompilationService;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -11,9 +13,11 @@ import javax.swing.*;
 import javax.swing.border.EmptyBorder;
 import java.awt.*;
 import java.time.Duration;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 /**
  * Діалогове вікно для відображення статистики музичної збірки.
@@ -22,7 +26,6 @@ import java.util.stream.Collectors;
 public class StatisticsDialog extends JDialog {
     private static final Logger logger = LogManager.getLogger(StatisticsDialog.class);
     private final MusicCompilation compilation;
-    private final MusicCompilationService compilationService=new MusicCompilationService();
     JTabbedPane tabbedPane;
 
     /**
@@ -134,9 +137,9 @@ public class StatisticsDialog extends JDialog {
     JLabel createInfoLabel() {
         JLabel label = new JLabel(String.format(
                 "%d треків • %d хв %d сек",
-                compilation.getTracks().size(),
-                compilationService.calculateTotalDuration(compilation.getTracks()).toMinutes(),
-                compilationService.calculateTotalDuration(compilation.getTracks()).getSeconds() % 60
+                compilation.getTrackCount(),
+                compilation.getTotalDuration().toMinutes(),
+                compilation.getTotalSeconds() % 60
         ));
         label.setFont(new Font("Segoe UI", Font.PLAIN, 14));
         label.setForeground(new Color(100, 100, 100));
@@ -180,20 +183,18 @@ public class StatisticsDialog extends JDialog {
         panel.setOpaque(false);
         panel.setBorder(new EmptyBorder(10, 10, 10, 10));
 
-        List<MusicTrack> tracks = compilation.getTracks();
-        Duration totalDuration = compilationService.calculateTotalDuration(compilation.getTracks());
-        Duration avgDuration = tracks.isEmpty() ? Duration.ZERO :
-                Duration.ofSeconds(totalDuration.getSeconds() / tracks.size());
-        Duration shortest = tracks.stream().map(MusicTrack::getDuration)
-                .min(Duration::compareTo).orElse(Duration.ZERO);
-        Duration longest = tracks.stream().map(MusicTrack::getDuration)
-                .max(Duration::compareTo).orElse(Duration.ZERO);
+        List<MusicTrack> tracks = compilation.getTrackView();
+        DurationStatistics statistics = new MusicCompilationService().collectDurationStatistics(tracks);
 
-        JPanel statsPanel = createDurationStatsPanel(totalDuration, avgDuration, shortest, longest);
+        JPanel statsPanel = new JPanel(new BorderLayout());
+        statsPanel.setOpaque(false);
+        statsPanel.add(createDurationStatsPanel(statistics.getTotal(), statistics.getMean(),
+                statistics.getMin(), statistics.getMax()), BorderLayout.NORTH);
+        statsPanel.add(createDurationSpreadPanel(statistics), BorderLayout.CENTER);
         panel.add(statsPanel, BorderLayout.NORTH);
 
         try {
-            JPanel histogramPanel = createDurationHistogram(tracks);
+            JPanel histogramPanel = createDurationHistogram(statistics);
             panel.add(new JScrollPane(histogramPanel), BorderLayout.CENTER);
         } catch (Exception e) {
             logger.error("Помилка при створенні гістограми тривалості: {}", e.getMessage(), e);
@@ -219,17 +220,32 @@ public class StatisticsDialog extends JDialog {
         return panel;
     }
 
+    /**
+     * Панель розкиду тривалості: стандартне відхилення та перцентилі.
+     */
+    JPanel createDurationSpreadPanel(DurationStatistics statistics) {
+        JPanel panel = new JPanel(new GridLayout(4, 2, 10, 10));
+        panel.setOpaque(false);
+        panel.setBorder(BorderFactory.createEmptyBorder(0, 0, 20, 0));
+
+        panel.add(createStatLabel("Стандартне відхилення:"));
+        panel.add(createStatValue(formatDuration(statistics.getStandardDeviation())));
+        panel.add(createStatLabel("Медіана (p50):"));
+        panel.add(createStatValue(formatDuration(statistics.getMedian())));
+        panel.add(createStatLabel("90-й перцентиль:"));
+        panel.add(createStatValue(formatDuration(statistics.getPercentile(90))));
+        panel.add(createStatLabel("99-й перцентиль:"));
+        panel.add(createStatValue(formatDuration(statistics.getPercentile(99))));
+
+        return panel;
+    }
+
     void addGenreTab() {
         JPanel panel = new JPanel(new BorderLayout());
         panel.setOpaque(false);
         panel.setBorder(new EmptyBorder(10, 10, 10, 10));
 
-        Map<MusicGenre, Long> genreCounts = compilation.getTracks().stream()
-                .collect(Collectors.groupingBy(MusicTrack::getGenre, Collectors.counting()));
-
-        List<Map.Entry<MusicGenre, Long>> sortedGenres = genreCounts.entrySet().stream()
-                .sorted(Map.Entry.<MusicGenre, Long>comparingByValue().reversed())
-                .collect(Collectors.toList());
+        List<Map.Entry<MusicGenre, Long>> sortedGenres = compilation.getSortedGenreCounts();
 
         JPanel statsPanel = createGenreStatsPanel(sortedGenres);
         panel.add(statsPanel, BorderLayout.NORTH);
@@ -265,12 +281,8 @@ public class StatisticsDialog extends JDialog {
         panel.setOpaque(false);
         panel.setBorder(new EmptyBorder(10, 10, 10, 10));
 
-        Map<String, Long> artistCounts = compilation.getTracks().stream()
-                .collect(Collectors.groupingBy(MusicTrack::getArtist, Collectors.counting()));
-
-        List<Map.Entry<String, Long>> sortedArtists = artistCounts.entrySet().stream()
-                .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
-                .collect(Collectors.toList());
+        List<Map.Entry<String, Long>> sortedArtists = countTracksByArtist(compilation.getTrackView());
+        sortedArtists.sort(Map.Entry.<String, Long>comparingByValue().reversed());
 
         int maxArtists = Math.min(10, sortedArtists.size());
         sortedArtists = sortedArtists.subList(0, maxArtists);
@@ -288,6 +300,33 @@ public class StatisticsDialog extends JDialog {
         tabbedPane.addTab("Виконавці", panel);
     }
 
+    /**
+     * Підраховує треки кожного виконавця за ID з {@link ArtistRegistry}: ID сортуються
+     * та рахуються серіями, тож рядки імен не хешуються і не порівнюються.
+     *
+     * @param tracks Треки збірки
+     * @return Пари "виконавець — кількість треків" у порядку ID виконавців
+     */
+    static List<Map.Entry<String, Long>> countTracksByArtist(List<MusicTrack> tracks) {
+        int[] artistIds = new int[tracks.size()];
+        for (int i = 0; i < artistIds.length; i++) {
+            artistIds[i] = tracks.get(i).getArtistId();
+        }
+        Arrays.sort(artistIds);
+
+        List<Map.Entry<String, Long>> counts = new ArrayList<>();
+        int start = 0;
+        while (start < artistIds.length) {
+            int end = start + 1;
+            while (end < artistIds.length && artistIds[end] == artistIds[start]) {
+                end++;
+            }
+            counts.add(new AbstractMap.SimpleImmutableEntry<>(ArtistRegistry.name(artistIds[start]), (long) (end - start)));
+            start = end;
+        }
+        return counts;
+    }
+
     JPanel createArtistStatsPanel(List<Map.Entry<String, Long>> artists) {
         JPanel panel = new JPanel(new GridLayout(artists.size() + 1, 2, 10, 5));
         panel.setOpaque(false);
@@ -308,64 +347,65 @@ public class StatisticsDialog extends JDialog {
     // Методи для створення діаграм
     // ---------------------------------------------------------------------------------------------
 
-    JPanel createDurationHistogram(List<MusicTrack> tracks) {
-        return new HistogramPanel(tracks) {
+    /**
+     * Гістограма розподілу тривалості: стовпець на кожен кошик {@link DurationStatistics#HISTOGRAM_BUCKET_SECONDS}
+     * секунд. Кошики заповнюються тим самим проходом, що й решта статистики.
+     */
+    JPanel createDurationHistogram(DurationStatistics statistics) {
+        int bucketCount = statistics.getHistogramBucketCount();
+        long[] counts = new long[bucketCount];
+        long maxCount = 1;
+        for (int i = 0; i < bucketCount; i++) {
+            counts[i] = statistics.getHistogramCount(i);
+            maxCount = Math.max(maxCount, counts[i]);
+        }
+        long maxValue = maxCount;
+
+        return new HistogramPanel() {
             @Override
             protected void drawData(Graphics2D g2d, int width, int height, int padding, int chartWidth, int chartHeight) {
-                // Знаходимо максимальну тривалість для масштабування
-                Duration maxDuration = tracks.stream()
-                        .map(MusicTrack::getDuration)
-                        .max(Duration::compareTo)
-                        .orElse(Duration.ofMinutes(5));
-                long maxSeconds = maxDuration.getSeconds();
-
                 // Малюємо стовпці
-                int barWidth = Math.max(10, chartWidth / (tracks.size() * 2));
+                int barWidth = Math.max(10, chartWidth / Math.max(1, counts.length * 2));
                 int x = padding + barWidth / 2;
                 Color barColor = new Color(70, 130, 180, 200);
 
-                for (MusicTrack track : tracks) {
-                    drawBar(g2d, track, x, height, padding, chartHeight, maxSeconds, barWidth, barColor);
+                for (int i = 0; i < counts.length; i++) {
+                    drawBar(g2d, i, x, height, padding, chartHeight, barWidth, barColor);
                     x += barWidth * 2;
                 }
             }
 
-            private void drawBar(Graphics2D g2d, MusicTrack track, int x, int height, int padding,
-                                 int chartHeight, long maxSeconds, int barWidth, Color barColor) {
-                long seconds = track.getDuration().getSeconds();
-                int barHeight = (int) (chartHeight * seconds / maxSeconds);
+            private void drawBar(Graphics2D g2d, int index, int x, int height, int padding,
+                                 int chartHeight, int barWidth, Color barColor) {
+                int barHeight = (int) (chartHeight * counts[index] / maxValue);
 
                 g2d.setColor(barColor);
                 g2d.fillRect(x, height - padding - barHeight, barWidth, barHeight);
                 g2d.setColor(barColor.darker());
                 g2d.drawRect(x, height - padding - barHeight, barWidth, barHeight);
 
-                if (tracks.size() < 15 || tracks.indexOf(track) % 5 == 0) {
-                    drawTrackLabel(g2d, track, x, height, padding, barWidth);
+                if (counts.length < 15 || index % 5 == 0) {
+                    drawBucketLabel(g2d, index, x, height, padding, barWidth);
                 }
             }
 
-            private void drawTrackLabel(Graphics2D g2d, MusicTrack track, int x, int height, int padding, int barWidth) {
-                String title = track.getTitle().length() > 8 ?
-                        track.getTitle().substring(0, 7) + "..." : track.getTitle();
+            private void drawBucketLabel(Graphics2D g2d, int index, int x, int height, int padding, int barWidth) {
+                long from = (long) index * DurationStatistics.HISTOGRAM_BUCKET_SECONDS;
+                String label = String.format("%d:%02d", from / 60, from % 60);
                 g2d.setColor(new Color(70, 70, 70));
                 g2d.rotate(-Math.PI / 4, x + barWidth / 2, height - padding + 15);
-                g2d.drawString(title, x - 10, height - padding + 15);
+                g2d.drawString(label, x - 10, height - padding + 15);
                 g2d.rotate(Math.PI / 4, x + barWidth / 2, height - padding + 15);
             }
 
             @Override
             protected String getYAxisLabel(long maxValue, int i) {
-                return String.format("%d:%02d", (maxValue * i / 5) / 60, (maxValue * i / 5) % 60);
+                return String.valueOf(maxValue * i / 5);
             }
 
             @Override
             protected long getMaxValue() {
-                return tracks.stream()
-                        .map(MusicTrack::getDuration)
-                        .mapToLong(Duration::getSeconds)
-                        .max()
-                        .orElse(300); // 5 хвилин за замовчуванням
+                return maxValue;
             }
 
             @Override
@@ -547,12 +587,6 @@ public class StatisticsDialog extends JDialog {
     // ---------------------------------------------------------------------------------------------
 
     abstract class HistogramPanel extends JPanel {
-        protected final List<MusicTrack> tracks;
-
-        public HistogramPanel(List<MusicTrack> tracks) {
-            this.tracks = tracks;
-        }
-
         @Override
         protected void paintComponent(Graphics g) {
             super.paintComponent(g);
@@ -640,10 +674,14 @@ public class StatisticsDialog extends JDialog {
                                          int chartHeight, long maxCount);
 
         protected long getMaxCount() {
-            return entries.stream()
-                    .mapToLong(Map.Entry::getValue)
-                    .max()
-                    .orElse(1);
+            if (entries.isEmpty()) {
+                return 1;
+            }
+            long max = Long.MIN_VALUE;
+            for (Map.Entry<?, Long> entry : entries) {
+                max = Math.max(max, entry.getValue());
+            }
+            return max;
         }
     }
 }
\ No newline at end of file
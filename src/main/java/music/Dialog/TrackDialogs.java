@@ -6,6 +6,7 @@ import music.Models.MusicGenre;
 import music.Models.MusicTrack;
 import music.Panel.HeaderPanel;
 import music.Panel.TrackListPanel;
+import music.Service.TrackSortKey;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -13,6 +14,8 @@ import javax.swing.*;
 import javax.swing.border.EmptyBorder;
 import java.awt.*;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Клас для створення діалогових вікон управління музичними треками.
@@ -24,6 +27,7 @@ public class TrackDialogs {
     static final Font LABEL_FONT = new Font("Segoe UI", Font.PLAIN, 14);
     private static final Font TITLE_FONT = new Font("Segoe UI", Font.BOLD, 18);
     private static final Font BUTTON_FONT = new Font("Segoe UI", Font.BOLD, 14);
+    private static final int SORT_LEVELS = 3;
 
     /**
      * Відображає діалогове вікно для додавання нового треку до компіляції.
@@ -80,6 +84,10 @@ public class TrackDialogs {
                 }
 
                 MusicTrack newTrack = new MusicTrack(title, artist, genre, duration);
+                if (compilation.containsDuplicateOf(newTrack) && !confirmDuplicate(dialog, newTrack)) {
+                    logger.info("Додавання дубліката '{}' скасовано", newTrack.getTitle());
+                    return;
+                }
                 TrackDatabaseManager.addTrackToCompilation(parent, compilation, trackListPanel, newTrack);
                 logger.info("Трек додано: {}", newTrack.getTitle());
                 dialog.dispose();
@@ -93,6 +101,22 @@ public class TrackDialogs {
         dialog.setVisible(true);
     }
 
+    /**
+     * Запитує підтвердження на додавання треку, який уже є у збірці.
+     *
+     * @param dialog батьківське діалогове вікно
+     * @param track  трек-дублікат
+     * @return true, якщо користувач підтвердив додавання
+     */
+    static boolean confirmDuplicate(Component dialog, MusicTrack track) {
+        int choice = JOptionPane.showConfirmDialog(dialog,
+                "Трек '" + track.getTitle() + "' виконавця " + track.getArtist() + " уже є у збірці. Додати ще раз?",
+                "Можливий дублікат",
+                JOptionPane.YES_NO_OPTION,
+                JOptionPane.WARNING_MESSAGE);
+        return choice == JOptionPane.YES_OPTION;
+    }
+
     /**
      * Відображає діалогове вікно для редагування вибраного треку.
      *
@@ -155,10 +179,13 @@ public class TrackDialogs {
                     return;
                 }
 
+                MusicGenre previousGenre = selectedTrack.getGenre();
+                Duration previousDuration = selectedTrack.getDuration();
                 selectedTrack.setTitle(title);
                 selectedTrack.setArtist(artist);
                 selectedTrack.setGenre((MusicGenre) genreCombo.getSelectedItem());
                 selectedTrack.setDuration(duration);
+                trackListPanel.compilation.trackUpdated(selectedTrack, previousGenre, previousDuration);
 
                 TrackDatabaseManager.updateTrack(parent, trackListPanel, selectedTrack);
                 logger.info("Трек оновлено: {}", selectedTrack.getTitle());
@@ -183,7 +210,7 @@ public class TrackDialogs {
         logger.info("Розпочато фільтрування треків за тривалістю");
 
         JPanel panel = createDialogPanel("Фільтрувати треки за тривалістю");
-        JPanel fieldsPanel = new JPanel(new GridLayout(4, 2, 10, 10));
+        JPanel fieldsPanel = new JPanel(new GridLayout(5, 2, 10, 10));
         fieldsPanel.setBorder(new EmptyBorder(10, 20, 10, 20));
         fieldsPanel.setBackground(PANEL_BACKGROUND);
 
@@ -201,6 +228,18 @@ public class TrackDialogs {
         fieldsPanel.add(createFormLabel("Макс. секунд:"));
         fieldsPanel.add(maxSecondsSpinner);
 
+        // Кількість треків у діапазоні оновлюється під час зміни меж; підрахунок за індексом збірки — O(log n).
+        JLabel matchCountLabel = createFormLabel("");
+        Runnable updateMatchCount = () -> matchCountLabel.setText(formatMatchCount(trackListPanel,
+                spinnerDuration(minMinutesSpinner, minSecondsSpinner),
+                spinnerDuration(maxMinutesSpinner, maxSecondsSpinner)));
+        for (JSpinner spinner : new JSpinner[]{minMinutesSpinner, minSecondsSpinner, maxMinutesSpinner, maxSecondsSpinner}) {
+            spinner.addChangeListener(evt -> updateMatchCount.run());
+        }
+        updateMatchCount.run();
+        fieldsPanel.add(createFormLabel("Знайдено:"));
+        fieldsPanel.add(matchCountLabel);
+
         panel.add(fieldsPanel, BorderLayout.CENTER);
 
         JPanel buttonPanel = createButtonPanel();
@@ -210,18 +249,12 @@ public class TrackDialogs {
         buttonPanel.add(cancelButton);
         panel.add(buttonPanel, BorderLayout.SOUTH);
 
-        JDialog dialog = createDialog(parent, "Фільтр за тривалістю", panel, 350, 350);
+        JDialog dialog = createDialog(parent, "Фільтр за тривалістю", panel, 350, 400);
 
         okButton.addActionListener(evt -> {
             try {
-                Duration minDuration = Duration.ofSeconds(
-                        ((Number) minMinutesSpinner.getValue()).intValue() * 60 +
-                                ((Number) minSecondsSpinner.getValue()).intValue()
-                );
-                Duration maxDuration = Duration.ofSeconds(
-                        ((Number) maxMinutesSpinner.getValue()).intValue() * 60 +
-                                ((Number) maxSecondsSpinner.getValue()).intValue()
-                );
+                Duration minDuration = spinnerDuration(minMinutesSpinner, minSecondsSpinner);
+                Duration maxDuration = spinnerDuration(maxMinutesSpinner, maxSecondsSpinner);
 
                 if (maxDuration.compareTo(minDuration) < 0) {
                     logger.warn("Неправильний діапазон: min={}, max={}", minDuration, maxDuration);
@@ -242,6 +275,101 @@ public class TrackDialogs {
         dialog.setVisible(true);
     }
 
+    /**
+     * Відображає діалогове вікно сортування треків за кількома ключами.
+     * Другий і третій рівні необов'язкові й упорядковують треки, однакові за попередніми рівнями.
+     *
+     * @param parent         батьківське діалогове вікно
+     * @param compilation    компіляція, треки якої сортуються
+     * @param trackListPanel панель зі списком треків
+     */
+    public static void showSortDialog(CompilationDetailsDialog parent, MusicCompilation compilation,
+                                      TrackListPanel trackListPanel) {
+        logger.info("Розпочато сортування треків компіляції: {}", compilation.getTitle());
+
+        JPanel panel = createDialogPanel("Сортувати треки");
+        JPanel fieldsPanel = new JPanel(new GridLayout(SORT_LEVELS, 3, 10, 10));
+        fieldsPanel.setBorder(new EmptyBorder(10, 20, 10, 20));
+        fieldsPanel.setBackground(PANEL_BACKGROUND);
+
+        List<JComboBox<TrackSortKey.Field>> fieldCombos = new ArrayList<>();
+        List<JCheckBox> descendingBoxes = new ArrayList<>();
+        for (int level = 0; level < SORT_LEVELS; level++) {
+            JComboBox<TrackSortKey.Field> fieldCombo = createStyledComboBox(sortFieldChoices(level == 0));
+            fieldCombo.setRenderer(new DefaultListCellRenderer() {
+                @Override
+                public Component getListCellRendererComponent(JList<?> list, Object value, int index,
+                                                              boolean isSelected, boolean cellHasFocus) {
+                    super.getListCellRendererComponent(list, value == null ? "—" : value, index,
+                            isSelected, cellHasFocus);
+                    setBorder(new EmptyBorder(3, 5, 3, 5));
+                    return this;
+                }
+            });
+            JCheckBox descendingBox = new JCheckBox("за спаданням");
+            descendingBox.setFont(LABEL_FONT);
+            descendingBox.setOpaque(false);
+            fieldsPanel.add(createFormLabel(level == 0 ? "Спочатку за:" : "Потім за:"));
+            fieldsPanel.add(fieldCombo);
+            fieldsPanel.add(descendingBox);
+            fieldCombos.add(fieldCombo);
+            descendingBoxes.add(descendingBox);
+        }
+        panel.add(fieldsPanel, BorderLayout.CENTER);
+
+        JPanel buttonPanel = createButtonPanel();
+        JButton okButton = createDialogButton("Сортувати", new Color(156, 39, 176));
+        JButton cancelButton = createDialogButton("Скасувати", new Color(120, 120, 120));
+        buttonPanel.add(okButton);
+        buttonPanel.add(cancelButton);
+        panel.add(buttonPanel, BorderLayout.SOUTH);
+
+        JDialog dialog = createDialog(parent, "Сортування треків", panel, 520, 300);
+
+        okButton.addActionListener(evt -> {
+            try {
+                List<TrackSortKey> keys = new ArrayList<>();
+                for (int level = 0; level < SORT_LEVELS; level++) {
+                    TrackSortKey.Field field = (TrackSortKey.Field) fieldCombos.get(level).getSelectedItem();
+                    if (field != null) {
+                        keys.add(new TrackSortKey(field, descendingBoxes.get(level).isSelected()));
+                    }
+                }
+                TrackDatabaseManager.sortTracks(trackListPanel, compilation, keys);
+                logger.info("Сортування виконано: {}", keys);
+                dialog.dispose();
+            } catch (Exception e) {
+                logger.error("Помилка сортування: {}", e.getMessage(), e);
+                showErrorMessage(dialog, "Помилка при сортуванні");
+            }
+        });
+
+        cancelButton.addActionListener(evt -> dialog.dispose());
+        dialog.setVisible(true);
+    }
+
+    static TrackSortKey.Field[] sortFieldChoices(boolean required) {
+        TrackSortKey.Field[] fields = TrackSortKey.Field.values();
+        if (required) {
+            return fields;
+        }
+        TrackSortKey.Field[] choices = new TrackSortKey.Field[fields.length + 1];
+        System.arraycopy(fields, 0, choices, 1, fields.length);
+        return choices;
+    }
+
+    static Duration spinnerDuration(JSpinner minutesSpinner, JSpinner secondsSpinner) {
+        return Duration.ofSeconds(((Number) minutesSpinner.getValue()).intValue() * 60L
+                + ((Number) secondsSpinner.getValue()).intValue());
+    }
+
+    static String formatMatchCount(TrackListPanel trackListPanel, Duration minDuration, Duration maxDuration) {
+        if (maxDuration.compareTo(minDuration) < 0) {
+            return "неправильний діапазон";
+        }
+        return trackListPanel.countTracksByDuration(minDuration, maxDuration) + " треків";
+    }
+
     static JPanel createDialogPanel(String title) {
         JPanel panel = new JPanel(new BorderLayout(10, 10));
         panel.setBorder(new EmptyBorder(15, 15, 15, 15));
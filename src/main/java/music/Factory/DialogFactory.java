@@ -196,7 +196,7 @@ public class DialogFactory {
                         "Кількість треків: economia <i>%d</i><br><br>" +
                         "Ця дія незворотня!" +
                         "</div></html>",
-                selected.getTitle(), selected.getTracks().size());
+                selected.getTitle(), selected.getTrackCount());
     }
 
     static void showDialog(JFrame parent, JPanel panel, Dimension size) {
@@ -265,7 +265,7 @@ public class DialogFactory {
                             DiscManager discManager, JLabel statusBar, String message) {
         try {
             listModel.clear();
-            discManager.getCompilations().forEach(listModel::addElement);
+            discManager.getCompilationsSortedByTitle().forEach(listModel::addElement);
             statusBar.setText(message);
         } catch (Exception ex) {
             LOGGER.error("Помилка при оновленні списку збірок: {}", ex.getMessage(), ex);
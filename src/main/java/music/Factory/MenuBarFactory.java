@@ -0,0 +1,66 @@
+package music.Factory;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import javax.swing.*;
+import java.awt.*;
+
+/**
+ * Фабричний клас для створення рядка меню головного вікна.
+ * Меню містить операції, що не поміщаються на панель інструментів: імпорт, експорт та аналітику.
+ */
+public class MenuBarFactory {
+    private static final Logger LOGGER = LogManager.getLogger(MenuBarFactory.class);
+    private static final Color PANEL_COLOR = new Color(255, 255, 255);
+    private static final Font MAIN_FONT = new Font("Segoe UI", Font.PLAIN, 14);
+
+    /**
+     * Створює порожній стилізований рядок меню.
+     *
+     * @return рядок меню
+     */
+    public static JMenuBar createMenuBar() {
+        JMenuBar menuBar = new JMenuBar();
+        menuBar.setBackground(PANEL_COLOR);
+        menuBar.setBorder(BorderFactory.createMatteBorder(0, 0, 1, 0, new Color(200, 200, 200)));
+        return menuBar;
+    }
+
+    /**
+     * Створює меню та додає його до рядка меню.
+     *
+     * @param menuBar рядок меню
+     * @param title   назва меню
+     * @return створене меню
+     */
+    public static JMenu addMenu(JMenuBar menuBar, String title) {
+        JMenu menu = new JMenu(title);
+        menu.setFont(MAIN_FONT);
+        menuBar.add(menu);
+        return menu;
+    }
+
+    /**
+     * Додає пункт меню з іконкою та дією.
+     *
+     * @param menu   меню
+     * @param text   текст пункту
+     * @param icon   іконка пункту (Unicode emoji)
+     * @param action дія, що виконується при виборі пункту
+     * @return створений пункт меню
+     */
+    public static JMenuItem addMenuItem(JMenu menu, String text, String icon, Runnable action) {
+        JMenuItem item = new JMenuItem(String.format("%s %s", icon, text));
+        item.setFont(MAIN_FONT);
+        item.addActionListener(e -> {
+            try {
+                action.run();
+            } catch (Exception ex) {
+                LOGGER.error("Помилка при виконанні дії меню '{}': {}", text, ex.getMessage(), ex);
+            }
+        });
+        menu.add(item);
+        return item;
+    }
+}
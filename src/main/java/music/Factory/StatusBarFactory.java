@@ -35,6 +35,24 @@ public class StatusBarFactory {
         }
     }
 
+    /**
+     * Відображає у статусному рядку прогрес тривалої операції.
+     *
+     * @param statusBar Статусний рядок.
+     * @param task      Назва операції.
+     * @param processed Кількість оброблених одиниць (наприклад, байтів).
+     * @param total     Загальна кількість одиниць або від'ємне значення, якщо вона невідома.
+     * @param items     Кількість оброблених записів.
+     */
+    public static void showProgress(JLabel statusBar, String task, long processed, long total, int items) {
+        if (total > 0) {
+            int percent = (int) Math.min(100, processed * 100 / total);
+            statusBar.setText(String.format(" %s: %d%% (%d записів)", task, percent, items));
+        } else {
+            statusBar.setText(String.format(" %s: %d записів", task, items));
+        }
+    }
+
     /**
      * Налаштовує зовнішній вигляд і властивості статусного рядка.
      *
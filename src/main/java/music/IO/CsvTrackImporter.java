@@ -0,0 +1,319 @@
+package music.IO;
+
+import music.Models.MusicGenre;
+import music.Models.MusicTrack;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Потоковий імпорт треків із CSV-файлу.
+ * Файл читається послідовно без завантаження в пам'ять, кожен рядок перевіряється окремо,
+ * а валідні треки передаються споживачу пакетами (наприклад, для запису однією транзакцією).
+ * Некоректні рядки не переривають імпорт, а потрапляють до {@link ImportResult}.
+ *
+ * <p>Підтримувані формати: роздільник {@code ,} або {@code ;} (визначається за першим роздільником поза лапками),
+ * поля в лапках з екрануванням {@code ""}, необов'язковий рядок заголовка
+ * (title/назва, artist/виконавець, genre/жанр, duration/тривалість). Без заголовка
+ * колонки очікуються у порядку: назва, виконавець, жанр, тривалість.
+ * Тривалість задається як {@code хв:сс}, {@code год:хв:сс} або кількість секунд.
+ */
+public class CsvTrackImporter {
+    private static final Logger logger = LogManager.getLogger(CsvTrackImporter.class);
+    public static final int DEFAULT_BATCH_SIZE = 1000;
+    private static final int PROGRESS_INTERVAL_BYTES = 256 * 1024;
+
+    private static final int TITLE = 0;
+    private static final int ARTIST = 1;
+    private static final int GENRE = 2;
+    private static final int DURATION = 3;
+
+    private final int batchSize;
+
+    /**
+     * Створює імпортер із розміром пакета за замовчуванням.
+     */
+    public CsvTrackImporter() {
+        this(DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * Створює імпортер.
+     *
+     * @param batchSize Кількість треків у пакеті, що передається споживачу.
+     */
+    public CsvTrackImporter(int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Розмір пакета має бути додатнім");
+        }
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Імпортує треки з файлу у кодуванні UTF-8.
+     *
+     * @param file     CSV-файл.
+     * @param sink     Споживач пакетів треків.
+     * @param progress Слухач прогресу, може бути null.
+     * @return Результат імпорту.
+     * @throws IOException Якщо файл неможливо прочитати.
+     */
+    public ImportResult importFile(Path file, TrackBatchSink sink, ImportProgressListener progress) throws IOException {
+        long totalBytes = Files.size(file);
+        try (InputStream in = Files.newInputStream(file)) {
+            return importFrom(in, totalBytes, sink, progress);
+        }
+    }
+
+    /**
+     * Імпортує треки з потоку байтів у кодуванні UTF-8.
+     *
+     * @param in         Вхідний потік (не закривається).
+     * @param totalBytes Загальний розмір даних для відображення прогресу або -1, якщо невідомий.
+     * @param sink       Споживач пакетів треків.
+     * @param progress   Слухач прогресу, може бути null.
+     * @return Результат імпорту.
+     * @throws IOException У разі помилки читання.
+     */
+    public ImportResult importFrom(InputStream in, long totalBytes, TrackBatchSink sink, ImportProgressListener progress)
+            throws IOException {
+        CountingInputStream counter = new CountingInputStream(in);
+        Reader reader = new BufferedReader(new InputStreamReader(counter, StandardCharsets.UTF_8));
+        return run(new CsvReader(reader), counter, totalBytes, sink, progress);
+    }
+
+    private ImportResult run(CsvReader csv, CountingInputStream counter, long totalBytes,
+                             TrackBatchSink sink, ImportProgressListener progress) throws IOException {
+        ImportResult result = new ImportResult();
+        TrackBatcher batcher = new TrackBatcher(batchSize, sink, result);
+        long lastReported = 0;
+        int[] columns = {TITLE, ARTIST, GENRE, DURATION};
+        boolean first = true;
+
+        List<String> fields;
+        while ((fields = csv.next()) != null) {
+            long line = csv.getRecordLine();
+            if (first) {
+                first = false;
+                int[] header = parseHeader(fields);
+                if (header != null) {
+                    columns = header;
+                    continue;
+                }
+            }
+            if (fields.size() == 1 && fields.get(0).isBlank()) {
+                continue;
+            }
+
+            try {
+                batcher.add(parseTrack(fields, columns), line);
+            } catch (IllegalArgumentException e) {
+                result.addError(line, e.getMessage());
+            }
+
+            if (progress != null && counter.getCount() - lastReported >= PROGRESS_INTERVAL_BYTES) {
+                lastReported = counter.getCount();
+                progress.onProgress(lastReported, totalBytes, result.getImportedCount());
+            }
+        }
+        batcher.flush();
+        if (progress != null) {
+            progress.onProgress(counter.getCount(), totalBytes, result.getImportedCount());
+        }
+        logger.info("Імпорт CSV завершено: імпортовано {}, пропущено {}",
+                result.getImportedCount(), result.getFailedCount());
+        return result;
+    }
+
+    /**
+     * Розпізнає рядок заголовка та повертає індекси колонок або null, якщо рядок не є заголовком.
+     */
+    static int[] parseHeader(List<String> fields) {
+        int[] columns = {-1, -1, -1, -1};
+        for (int i = 0; i < fields.size(); i++) {
+            String name = fields.get(i).trim().toLowerCase(Locale.ROOT);
+            switch (name) {
+                case "title", "назва" -> columns[TITLE] = i;
+                case "artist", "виконавець" -> columns[ARTIST] = i;
+                case "genre", "жанр" -> columns[GENRE] = i;
+                case "duration", "тривалість" -> columns[DURATION] = i;
+                default -> {
+                }
+            }
+        }
+        for (int column : columns) {
+            if (column < 0) {
+                return null;
+            }
+        }
+        return columns;
+    }
+
+    private static MusicTrack parseTrack(List<String> fields, int[] columns) {
+        String title = field(fields, columns[TITLE]);
+        String artist = field(fields, columns[ARTIST]);
+        String genreName = field(fields, columns[GENRE]);
+        String durationText = field(fields, columns[DURATION]);
+
+        MusicGenre genre = MusicGenre.parse(genreName);
+        if (genre == null) {
+            throw new IllegalArgumentException("Невідомий жанр: " + genreName);
+        }
+        return new MusicTrack(title, artist, genre, parseDuration(durationText));
+    }
+
+    private static String field(List<String> fields, int index) {
+        if (index >= fields.size()) {
+            throw new IllegalArgumentException("Недостатньо колонок: " + fields.size());
+        }
+        return fields.get(index).trim();
+    }
+
+    /**
+     * Розбирає тривалість у форматі {@code хв:сс}, {@code год:хв:сс} або кількості секунд.
+     *
+     * @param text Текст тривалості.
+     * @return Тривалість.
+     * @throws IllegalArgumentException Якщо формат невірний.
+     */
+    static Duration parseDuration(String text) {
+        if (text == null || text.isEmpty()) {
+            throw new IllegalArgumentException("Тривалість не вказана");
+        }
+        String[] parts = text.split(":", -1);
+        if (parts.length > 3) {
+            throw new IllegalArgumentException("Невірний формат тривалості: " + text);
+        }
+        long seconds = 0;
+        try {
+            for (int i = 0; i < parts.length; i++) {
+                long value = Long.parseLong(parts[i].trim());
+                if (value < 0 || (i > 0 && value >= 60)) {
+                    throw new IllegalArgumentException("Невірний формат тривалості: " + text);
+                }
+                seconds = seconds * 60 + value;
+            }
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Невірний формат тривалості: " + text);
+        }
+        return Duration.ofSeconds(seconds);
+    }
+
+    /**
+     * Мінімальний потоковий парсер CSV (RFC 4180) з підтримкою полів у лапках,
+     * що містять роздільники та переноси рядків.
+     */
+    static final class CsvReader {
+        private static final char BYTE_ORDER_MARK = '\uFEFF';
+        private final Reader reader;
+        private char delimiter;
+        private int pushback = -1;
+        private long line = 1;
+        private long recordLine;
+
+        CsvReader(Reader reader) {
+            this.reader = reader;
+        }
+
+        /**
+         * @return Номер рядка, з якого почався останній прочитаний запис.
+         */
+        long getRecordLine() {
+            return recordLine;
+        }
+
+        /**
+         * Читає наступний запис.
+         *
+         * @return Поля запису або null наприкінці потоку.
+         */
+        List<String> next() throws IOException {
+            int c = read();
+            if (recordLine == 0 && c == BYTE_ORDER_MARK) {
+                c = read();
+            }
+            if (c == -1) {
+                return null;
+            }
+            recordLine = line;
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean quoted = false;
+            boolean fieldStart = true;
+
+            while (true) {
+                if (c == -1) {
+                    fields.add(field.toString());
+                    return fields;
+                }
+                char ch = (char) c;
+                if (quoted) {
+                    if (ch == '"') {
+                        int following = read();
+                        if (following == '"') {
+                            field.append('"');
+                        } else {
+                            quoted = false;
+                            c = following;
+                            continue;
+                        }
+                    } else {
+                        if (ch == '\n') {
+                            line++;
+                        }
+                        field.append(ch);
+                    }
+                } else if (ch == '"' && fieldStart) {
+                    quoted = true;
+                    fieldStart = false;
+                } else if (isDelimiter(ch)) {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                    fieldStart = true;
+                } else if (ch == '\r' || ch == '\n') {
+                    if (ch == '\r') {
+                        int following = read();
+                        if (following != '\n' && following != -1) {
+                            pushback = following;
+                        }
+                    }
+                    line++;
+                    fields.add(field.toString());
+                    return fields;
+                } else {
+                    field.append(ch);
+                    fieldStart = false;
+                }
+                c = read();
+            }
+        }
+
+        private boolean isDelimiter(char ch) {
+            if (delimiter == 0 && (ch == ',' || ch == ';')) {
+                delimiter = ch;
+            }
+            return ch == delimiter;
+        }
+
+        private int read() throws IOException {
+            if (pushback != -1) {
+                int c = pushback;
+                pushback = -1;
+                return c;
+            }
+            return reader.read();
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package music.IO;
+
+/**
+ * Слухач прогресу імпорту. Викликається з потоку імпорту.
+ */
+@FunctionalInterface
+public interface ImportProgressListener {
+    /**
+     * @param bytesRead     Кількість прочитаних байтів.
+     * @param totalBytes    Загальний розмір даних або -1, якщо він невідомий.
+     * @param importedCount Кількість уже збережених треків.
+     */
+    void onProgress(long bytesRead, long totalBytes, int importedCount);
+}
@@ -0,0 +1,98 @@
+package music.IO;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Результат пакетного імпорту треків: кількість імпортованих і пропущених записів
+ * та перелік помилок з номерами рядків. Імпорт не переривається через окремі помилки.
+ */
+public class ImportResult {
+    static final int MAX_REPORTED_ERRORS = 1000;
+
+    private int importedCount;
+    private int failedCount;
+    private int duplicateCount;
+    private final List<ImportError> errors = new ArrayList<>();
+
+    /**
+     * Помилка окремого запису імпорту.
+     *
+     * @param lineNumber Номер рядка у вхідному файлі (з 1).
+     * @param message    Опис помилки.
+     */
+    public record ImportError(long lineNumber, String message) {
+        @Override
+        public String toString() {
+            return "Рядок " + lineNumber + ": " + message;
+        }
+    }
+
+    void addImported(int count) {
+        importedCount += count;
+    }
+
+    void addError(long lineNumber, String message) {
+        failedCount++;
+        if (errors.size() < MAX_REPORTED_ERRORS) {
+            errors.add(new ImportError(lineNumber, message));
+        }
+    }
+
+    void addBatchError(long firstLine, long lastLine, int count, String message) {
+        failedCount += count;
+        if (errors.size() < MAX_REPORTED_ERRORS) {
+            errors.add(new ImportError(firstLine, "рядки " + firstLine + "–" + lastLine + ": " + message));
+        }
+    }
+
+    /**
+     * Враховує треки, які споживач пакетів відкинув як дублікати: вони не вважаються імпортованими.
+     *
+     * @param count Кількість пропущених дублікатів.
+     * @throws IllegalArgumentException якщо кількість від'ємна або більша за кількість імпортованих.
+     */
+    public void recordDuplicates(int count) {
+        if (count < 0 || count > importedCount) {
+            throw new IllegalArgumentException("Некоректна кількість дублікатів: " + count);
+        }
+        importedCount -= count;
+        duplicateCount += count;
+    }
+
+    /**
+     * @return Кількість успішно імпортованих треків.
+     */
+    public int getImportedCount() {
+        return importedCount;
+    }
+
+    /**
+     * @return Кількість треків, пропущених як дублікати.
+     */
+    public int getDuplicateCount() {
+        return duplicateCount;
+    }
+
+    /**
+     * @return Загальна кількість записів, які не вдалося імпортувати.
+     */
+    public int getFailedCount() {
+        return failedCount;
+    }
+
+    /**
+     * @return Перші {@value #MAX_REPORTED_ERRORS} помилок імпорту.
+     */
+    public List<ImportError> getErrors() {
+        return Collections.unmodifiableList(errors);
+    }
+
+    /**
+     * @return true, якщо під час імпорту виникли помилки.
+     */
+    public boolean hasErrors() {
+        return failedCount > 0;
+    }
+}
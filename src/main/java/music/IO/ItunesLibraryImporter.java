@@ -0,0 +1,453 @@
+package music.IO;
+
+import music.Models.MusicGenre;
+import music.Models.MusicTrack;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Потоковий імпорт бібліотеки iTunes/Music ({@code Library.xml}) на основі StAX.
+ * Документ plist читається подія за подією без побудови DOM: у пам'яті зберігаються
+ * лише скалярні поля поточного треку чи плейлиста та поточний пакет треків.
+ *
+ * <p>Треки бібліотеки передаються пакетами у {@code librarySink}. Якщо потрібен імпорт плейлистів,
+ * імпортер додатково тримає індекс «ID треку iTunes → трек», оскільки плейлисти посилаються
+ * на треки за ID; без {@code playlistSink} індекс не створюється і пам'ять не залежить від розміру файлу.
+ * Кожен плейлист отримує власні копії треків.
+ */
+public class ItunesLibraryImporter {
+    private static final Logger logger = LogManager.getLogger(ItunesLibraryImporter.class);
+    private static final int PROGRESS_INTERVAL_BYTES = 1024 * 1024;
+    private static final Map<String, MusicGenre> GENRE_ALIASES = new HashMap<>();
+
+    static {
+        GENRE_ALIASES.put("hiphoprap", MusicGenre.HIP_HOP);
+        GENRE_ALIASES.put("rbsoul", MusicGenre.RNB);
+        GENRE_ALIASES.put("randb", MusicGenre.RNB);
+        GENRE_ALIASES.put("dance", MusicGenre.ELECTRONIC);
+        GENRE_ALIASES.put("electronica", MusicGenre.ELECTRONIC);
+        GENRE_ALIASES.put("soundtrack", MusicGenre.ORCHESTRAL);
+        GENRE_ALIASES.put("singersongwriter", MusicGenre.FOLK);
+        GENRE_ALIASES.put("christiangospel", MusicGenre.GOSPEL);
+        GENRE_ALIASES.put("easylistening", MusicGenre.CHILL);
+        GENRE_ALIASES.put("lounge", MusicGenre.CHILL);
+        GENRE_ALIASES.put("worldwide", MusicGenre.WORLD);
+        GENRE_ALIASES.put("latino", MusicGenre.LATIN);
+        GENRE_ALIASES.put("hardrock", MusicGenre.ROCK);
+        GENRE_ALIASES.put("heavymetal", MusicGenre.METAL);
+        GENRE_ALIASES.put("dnb", MusicGenre.DRUM_AND_BASS);
+    }
+
+    /**
+     * Споживач плейлистів: для кожного плейлиста повертає споживача його треків.
+     */
+    @FunctionalInterface
+    public interface PlaylistSink {
+        /**
+         * @param name Назва плейлиста.
+         * @return Споживач пакетів треків плейлиста або null, щоб пропустити плейлист.
+         * @throws Exception Якщо плейлист неможливо створити.
+         */
+        TrackBatchSink openPlaylist(String name) throws Exception;
+    }
+
+    private final int batchSize;
+    private final MusicGenre defaultGenre;
+
+    /**
+     * Створює імпортер із розміром пакета за замовчуванням.
+     *
+     * @param defaultGenre Жанр для треків, жанр яких не вказаний або не розпізнаний.
+     */
+    public ItunesLibraryImporter(MusicGenre defaultGenre) {
+        this(CsvTrackImporter.DEFAULT_BATCH_SIZE, defaultGenre);
+    }
+
+    /**
+     * Створює імпортер.
+     *
+     * @param batchSize    Кількість треків у пакеті, що передається споживачу.
+     * @param defaultGenre Жанр для треків, жанр яких не вказаний або не розпізнаний.
+     */
+    public ItunesLibraryImporter(int batchSize, MusicGenre defaultGenre) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Розмір пакета має бути додатнім");
+        }
+        if (defaultGenre == null) {
+            throw new IllegalArgumentException("Жанр за замовчуванням не може бути null");
+        }
+        this.batchSize = batchSize;
+        this.defaultGenre = defaultGenre;
+    }
+
+    /**
+     * Імпортує бібліотеку з файлу.
+     *
+     * @param file         Файл Library.xml.
+     * @param librarySink  Споживач усіх треків бібліотеки, може бути null.
+     * @param playlistSink Споживач плейлистів, може бути null.
+     * @param progress     Слухач прогресу, може бути null.
+     * @return Результат імпорту.
+     * @throws IOException Якщо файл неможливо прочитати або він не є коректним plist.
+     */
+    public ImportResult importFile(Path file, TrackBatchSink librarySink, PlaylistSink playlistSink,
+                                   ImportProgressListener progress) throws IOException {
+        long totalBytes = Files.size(file);
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(file))) {
+            return importFrom(in, totalBytes, librarySink, playlistSink, progress);
+        }
+    }
+
+    /**
+     * Імпортує бібліотеку з потоку.
+     *
+     * @param in           Вхідний потік (не закривається).
+     * @param totalBytes   Загальний розмір даних для відображення прогресу або -1, якщо невідомий.
+     * @param librarySink  Споживач усіх треків бібліотеки, може бути null.
+     * @param playlistSink Споживач плейлистів, може бути null.
+     * @param progress     Слухач прогресу, може бути null.
+     * @return Результат імпорту.
+     * @throws IOException Якщо дані неможливо прочитати або вони не є коректним plist.
+     */
+    public ImportResult importFrom(InputStream in, long totalBytes, TrackBatchSink librarySink,
+                                   PlaylistSink playlistSink, ImportProgressListener progress) throws IOException {
+        CountingInputStream counter = new CountingInputStream(in);
+        ImportResult result = new ImportResult();
+        Session session = new Session(counter, totalBytes, result, progress,
+                librarySink != null ? new TrackBatcher(batchSize, librarySink, result) : null,
+                playlistSink);
+
+        XMLStreamReader reader = null;
+        try {
+            reader = createInputFactory().createXMLStreamReader(counter);
+            session.reader = reader;
+            readLibrary(session);
+        } catch (XMLStreamException e) {
+            throw new IOException("Невірний формат бібліотеки iTunes: " + e.getMessage(), e);
+        } finally {
+            if (reader != null) {
+                try {
+                    reader.close();
+                } catch (XMLStreamException e) {
+                    logger.debug("Помилка закриття StAX-читача: {}", e.getMessage());
+                }
+            }
+        }
+
+        if (session.libraryBatcher != null) {
+            session.libraryBatcher.flush();
+        }
+        if (progress != null) {
+            progress.onProgress(counter.getCount(), totalBytes, result.getImportedCount());
+        }
+        logger.info("Імпорт бібліотеки iTunes завершено: імпортовано {}, пропущено {}",
+                result.getImportedCount(), result.getFailedCount());
+        return result;
+    }
+
+    private static XMLInputFactory createInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newFactory();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+        return factory;
+    }
+
+    private void readLibrary(Session session) throws XMLStreamException {
+        XMLStreamReader reader = session.reader;
+        int event = reader.getEventType();
+        while (event != XMLStreamConstants.START_ELEMENT && reader.hasNext()) {
+            event = reader.next();
+        }
+        if (event != XMLStreamConstants.START_ELEMENT || !"plist".equals(reader.getLocalName())) {
+            throw new XMLStreamException("Очікувався елемент plist", reader.getLocation());
+        }
+        if (reader.nextTag() != XMLStreamConstants.START_ELEMENT || !"dict".equals(reader.getLocalName())) {
+            throw new XMLStreamException("Очікувався кореневий dict", reader.getLocation());
+        }
+
+        while (nextKey(reader)) {
+            String key = reader.getElementText();
+            reader.nextTag();
+            if ("Tracks".equals(key) && "dict".equals(reader.getLocalName())) {
+                readTracks(session);
+            } else if ("Playlists".equals(key) && "array".equals(reader.getLocalName())) {
+                readPlaylists(session);
+            } else {
+                skipElement(reader);
+            }
+        }
+    }
+
+    private void readTracks(Session session) throws XMLStreamException {
+        XMLStreamReader reader = session.reader;
+        Map<String, String> fields = new HashMap<>();
+        while (nextKey(reader)) {
+            reader.getElementText();
+            reader.nextTag();
+            long line = reader.getLocation().getLineNumber();
+            if (!"dict".equals(reader.getLocalName())) {
+                skipElement(reader);
+                continue;
+            }
+            fields.clear();
+            readScalarDict(reader, fields);
+            if (isNonMusic(fields)) {
+                continue;
+            }
+            try {
+                MusicTrack track = createTrack(fields);
+                if (session.libraryBatcher != null) {
+                    session.libraryBatcher.add(track, line);
+                }
+                if (session.playlistSink != null) {
+                    String trackId = fields.get("Track ID");
+                    if (trackId != null) {
+                        session.tracksById.put(trackId, track);
+                    }
+                }
+            } catch (IllegalArgumentException e) {
+                session.result.addError(line, e.getMessage());
+            }
+            session.reportProgress();
+        }
+    }
+
+    private void readPlaylists(Session session) throws XMLStreamException {
+        XMLStreamReader reader = session.reader;
+        Map<String, String> fields = new HashMap<>();
+        while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+            if (!"dict".equals(reader.getLocalName()) || session.playlistSink == null) {
+                skipElement(reader);
+                continue;
+            }
+            fields.clear();
+            while (nextKey(reader)) {
+                String key = reader.getElementText();
+                reader.nextTag();
+                if ("Playlist Items".equals(key) && "array".equals(reader.getLocalName())) {
+                    readPlaylistItems(session, fields);
+                } else {
+                    String value = readScalar(reader);
+                    if (value != null) {
+                        fields.put(key, value);
+                    }
+                }
+            }
+        }
+    }
+
+    private void readPlaylistItems(Session session, Map<String, String> playlist) throws XMLStreamException {
+        XMLStreamReader reader = session.reader;
+        long line = reader.getLocation().getLineNumber();
+        String name = playlist.getOrDefault("Name", "Плейлист");
+        TrackBatcher batcher = null;
+        if (!isSystemPlaylist(playlist)) {
+            try {
+                TrackBatchSink sink = session.playlistSink.openPlaylist(name);
+                if (sink != null) {
+                    batcher = new TrackBatcher(batchSize, sink, session.result);
+                }
+            } catch (Exception e) {
+                logger.error("Не вдалося створити збірку для плейлиста '{}': {}", name, e.getMessage(), e);
+                session.result.addError(line, "плейлист '" + name + "': " + e.getMessage());
+            }
+        }
+        if (batcher == null) {
+            skipElement(reader);
+            return;
+        }
+
+        Map<String, String> item = new HashMap<>();
+        while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+            long itemLine = reader.getLocation().getLineNumber();
+            if (!"dict".equals(reader.getLocalName())) {
+                skipElement(reader);
+                continue;
+            }
+            item.clear();
+            readScalarDict(reader, item);
+            MusicTrack track = session.tracksById.get(item.get("Track ID"));
+            if (track != null) {
+                batcher.add(track.copy(), itemLine);
+            }
+            session.reportProgress();
+        }
+        batcher.flush();
+        logger.info("Імпортовано плейлист '{}'", name);
+    }
+
+    private MusicTrack createTrack(Map<String, String> fields) {
+        String title = fields.get("Name");
+        if (title == null || title.isBlank()) {
+            throw new IllegalArgumentException("Трек без назви");
+        }
+        String artist = fields.get("Artist");
+        if (artist == null || artist.isBlank()) {
+            artist = fields.getOrDefault("Album Artist", PlaylistImporter.UNKNOWN_ARTIST);
+        }
+        String totalTime = fields.get("Total Time");
+        if (totalTime == null) {
+            throw new IllegalArgumentException("Невідома тривалість треку '" + title + "'");
+        }
+        long seconds;
+        try {
+            seconds = (Long.parseLong(totalTime.trim()) + 500) / 1000;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Невірна тривалість треку '" + title + "': " + totalTime);
+        }
+        return new MusicTrack(title.trim(), artist.trim(), mapGenre(fields.get("Genre"), defaultGenre),
+                Duration.ofSeconds(seconds));
+    }
+
+    /**
+     * Зіставляє жанр iTunes із {@link MusicGenre}: точна назва, відомі синоніми iTunes
+     * або перша розпізнана частина складеної назви (наприклад, "Alternative &amp; Punk").
+     *
+     * @param name         Назва жанру з бібліотеки.
+     * @param defaultGenre Жанр, якщо назва відсутня або не розпізнана.
+     * @return Відповідний жанр.
+     */
+    static MusicGenre mapGenre(String name, MusicGenre defaultGenre) {
+        if (name == null || name.isBlank()) {
+            return defaultGenre;
+        }
+        MusicGenre genre = MusicGenre.parse(name);
+        if (genre != null) {
+            return genre;
+        }
+        genre = GENRE_ALIASES.get(name.toLowerCase(Locale.ROOT).replaceAll("[^\\p{L}\\p{N}]", ""));
+        if (genre != null) {
+            return genre;
+        }
+        for (String part : name.split("[/&,]")) {
+            genre = MusicGenre.parse(part);
+            if (genre != null) {
+                return genre;
+            }
+        }
+        return defaultGenre;
+    }
+
+    private static boolean isNonMusic(Map<String, String> fields) {
+        return "true".equals(fields.get("Podcast")) || "true".equals(fields.get("Movie"))
+                || "true".equals(fields.get("TV Show")) || "true".equals(fields.get("Music Video"));
+    }
+
+    private static boolean isSystemPlaylist(Map<String, String> playlist) {
+        return "true".equals(playlist.get("Master")) || "true".equals(playlist.get("Folder"))
+                || playlist.containsKey("Distinguished Kind");
+    }
+
+    /**
+     * Переходить до наступного ключа словника.
+     *
+     * @return true, якщо читач стоїть на елементі key; false наприкінці словника.
+     */
+    private static boolean nextKey(XMLStreamReader reader) throws XMLStreamException {
+        while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+            if ("key".equals(reader.getLocalName())) {
+                return true;
+            }
+            skipElement(reader);
+        }
+        return false;
+    }
+
+    /**
+     * Читає словник, зберігаючи лише скалярні значення; вкладені структури пропускаються.
+     */
+    private static void readScalarDict(XMLStreamReader reader, Map<String, String> target) throws XMLStreamException {
+        while (nextKey(reader)) {
+            String key = reader.getElementText();
+            reader.nextTag();
+            String value = readScalar(reader);
+            if (value != null) {
+                target.put(key, value);
+            }
+        }
+    }
+
+    /**
+     * Читає скалярне значення plist або пропускає складене.
+     *
+     * @return Текст значення, "true"/"false" для булевих або null для dict/array.
+     */
+    private static String readScalar(XMLStreamReader reader) throws XMLStreamException {
+        String name = reader.getLocalName();
+        switch (name) {
+            case "true", "false" -> {
+                skipElement(reader);
+                return name;
+            }
+            case "dict", "array" -> {
+                skipElement(reader);
+                return null;
+            }
+            default -> {
+                return reader.getElementText();
+            }
+        }
+    }
+
+    /**
+     * Пропускає поточний елемент разом із вмістом; читач зупиняється на його END_ELEMENT.
+     */
+    private static void skipElement(XMLStreamReader reader) throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+    }
+
+    /**
+     * Стан одного імпорту.
+     */
+    private static final class Session {
+        final CountingInputStream counter;
+        final long totalBytes;
+        final ImportResult result;
+        final ImportProgressListener progress;
+        final TrackBatcher libraryBatcher;
+        final PlaylistSink playlistSink;
+        final Map<String, MusicTrack> tracksById = new HashMap<>();
+        XMLStreamReader reader;
+        long lastReported;
+
+        Session(CountingInputStream counter, long totalBytes, ImportResult result, ImportProgressListener progress,
+                TrackBatcher libraryBatcher, PlaylistSink playlistSink) {
+            this.counter = counter;
+            this.totalBytes = totalBytes;
+            this.result = result;
+            this.progress = progress;
+            this.libraryBatcher = libraryBatcher;
+            this.playlistSink = playlistSink;
+        }
+
+        void reportProgress() {
+            if (progress != null && counter.getCount() - lastReported >= PROGRESS_INTERVAL_BYTES) {
+                lastReported = counter.getCount();
+                progress.onProgress(lastReported, totalBytes, result.getImportedCount());
+            }
+        }
+    }
+}
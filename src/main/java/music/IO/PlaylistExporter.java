@@ -0,0 +1,115 @@
+package music.IO;
+
+import music.Models.MusicCompilation;
+import music.Models.MusicTrack;
+import music.Storage.AtomicFileWriter;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+/**
+ * Потоковий експорт збірки у плейлист EXTM3U або PLS.
+ * Кожен трек записується безпосередньо у буферизований потік, тож вихідний текст
+ * ніколи не збирається у пам'яті цілком.
+ *
+ * <p>Збірки не зберігають шляхи до аудіофайлів, тому як розташування записується
+ * відносна назва файлу у вигляді {@code Виконавець - Назва.mp3}.
+ */
+public class PlaylistExporter {
+    private static final Logger logger = LogManager.getLogger(PlaylistExporter.class);
+    private static final String DEFAULT_EXTENSION = ".mp3";
+
+    private PlaylistExporter() {
+    }
+
+    /**
+     * Атомарно записує збірку у файл; формат визначається за розширенням.
+     *
+     * @param compilation Збірка для експорту (бажано знімок, оскільки запис може виконуватися у фоні).
+     * @param file        Цільовий файл.
+     * @throws IOException У разі помилки запису.
+     */
+    public static void exportFile(MusicCompilation compilation, Path file) throws IOException {
+        PlaylistImporter.Format format = PlaylistImporter.Format.of(file);
+        AtomicFileWriter.write(file, out -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            write(compilation, format, writer);
+            writer.flush();
+        });
+        logger.info("Збірку '{}' експортовано у плейлист {}: {}", compilation.getTitle(), format, file);
+    }
+
+    /**
+     * Записує збірку у вказаному форматі.
+     *
+     * @param compilation Збірка для експорту.
+     * @param format      Формат плейлиста.
+     * @param writer      Приймач тексту (не закривається).
+     * @throws IOException У разі помилки запису.
+     */
+    public static void write(MusicCompilation compilation, PlaylistImporter.Format format, Writer writer)
+            throws IOException {
+        if (format == PlaylistImporter.Format.PLS) {
+            writePls(compilation, writer);
+        } else {
+            writeM3u(compilation, writer);
+        }
+    }
+
+    private static void writeM3u(MusicCompilation compilation, Writer writer) throws IOException {
+        writer.write("#EXTM3U\n");
+        writer.write("#PLAYLIST:");
+        writer.write(singleLine(compilation.getTitle()));
+        writer.write('\n');
+        for (MusicTrack track : compilation.getTrackView()) {
+            writer.write("#EXTINF:");
+            writer.write(Long.toString(track.getDuration().getSeconds()));
+            writer.write(',');
+            writeDisplayName(track, writer);
+            writer.write('\n');
+            writer.write("#EXTGENRE:");
+            writer.write(track.getGenre().toString());
+            writer.write('\n');
+            writer.write(location(track));
+            writer.write('\n');
+        }
+    }
+
+    private static void writePls(MusicCompilation compilation, Writer writer) throws IOException {
+        writer.write("[playlist]\n");
+        int index = 0;
+        for (MusicTrack track : compilation.getTrackView()) {
+            index++;
+            writer.write("File" + index + "=");
+            writer.write(location(track));
+            writer.write("\nTitle" + index + "=");
+            writeDisplayName(track, writer);
+            writer.write("\nLength" + index + "=");
+            writer.write(Long.toString(track.getDuration().getSeconds()));
+            writer.write('\n');
+        }
+        writer.write("NumberOfEntries=" + index + "\n");
+        writer.write("Version=2\n");
+    }
+
+    private static void writeDisplayName(MusicTrack track, Writer writer) throws IOException {
+        writer.write(singleLine(track.getArtist()));
+        writer.write(" - ");
+        writer.write(singleLine(track.getTitle()));
+    }
+
+    private static String location(MusicTrack track) {
+        String name = singleLine(track.getArtist()) + " - " + singleLine(track.getTitle());
+        return name.replaceAll("[\\\\/:*?\"<>|]", "_") + DEFAULT_EXTENSION;
+    }
+
+    private static String singleLine(String value) {
+        return value.replace('\r', ' ').replace('\n', ' ');
+    }
+}
@@ -0,0 +1,358 @@
+package music.IO;
+
+import music.Models.MusicGenre;
+import music.Models.MusicTrack;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Потоковий імпорт плейлистів M3U, EXTM3U та PLS у треки збірки.
+ * Файл читається порядково, тож пам'ять не залежить від розміру плейлиста:
+ * для M3U зберігається лише поточний запис {@code #EXTINF}, для PLS — лише записи,
+ * для яких ще не прочитані всі поля.
+ *
+ * <p>Плейлисти не містять жанру (крім розширення {@code #EXTGENRE}), тому для решти
+ * треків використовується жанр за замовчуванням. Записи без відомої тривалості
+ * ({@code #EXTINF:-1} або звичайний M3U) пропускаються з помилкою, оскільки трек
+ * повинен мати додатну тривалість.
+ */
+public class PlaylistImporter {
+    private static final Logger logger = LogManager.getLogger(PlaylistImporter.class);
+    public static final String UNKNOWN_ARTIST = "Невідомий виконавець";
+    private static final int PROGRESS_INTERVAL_BYTES = 256 * 1024;
+    private static final String ARTIST_TITLE_SEPARATOR = " - ";
+
+    /**
+     * Формат плейлиста.
+     */
+    public enum Format {
+        M3U, PLS;
+
+        /**
+         * Визначає формат за розширенням файлу; все, крім .pls, вважається M3U.
+         */
+        public static Format of(Path file) {
+            String name = file.getFileName().toString().toLowerCase(Locale.ROOT);
+            return name.endsWith(".pls") ? PLS : M3U;
+        }
+    }
+
+    private final int batchSize;
+    private final MusicGenre defaultGenre;
+
+    /**
+     * Створює імпортер із розміром пакета за замовчуванням.
+     *
+     * @param defaultGenre Жанр для треків, жанр яких не вказаний у плейлисті.
+     */
+    public PlaylistImporter(MusicGenre defaultGenre) {
+        this(CsvTrackImporter.DEFAULT_BATCH_SIZE, defaultGenre);
+    }
+
+    /**
+     * Створює імпортер.
+     *
+     * @param batchSize    Кількість треків у пакеті, що передається споживачу.
+     * @param defaultGenre Жанр для треків, жанр яких не вказаний у плейлисті.
+     */
+    public PlaylistImporter(int batchSize, MusicGenre defaultGenre) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Розмір пакета має бути додатнім");
+        }
+        if (defaultGenre == null) {
+            throw new IllegalArgumentException("Жанр за замовчуванням не може бути null");
+        }
+        this.batchSize = batchSize;
+        this.defaultGenre = defaultGenre;
+    }
+
+    /**
+     * Імпортує плейлист із файлу, визначаючи формат за розширенням.
+     *
+     * @param file     Файл плейлиста.
+     * @param sink     Споживач пакетів треків.
+     * @param progress Слухач прогресу, може бути null.
+     * @return Результат імпорту.
+     * @throws IOException Якщо файл неможливо прочитати.
+     */
+    public ImportResult importFile(Path file, TrackBatchSink sink, ImportProgressListener progress) throws IOException {
+        long totalBytes = Files.size(file);
+        try (InputStream in = Files.newInputStream(file)) {
+            return importFrom(in, Format.of(file), totalBytes, sink, progress);
+        }
+    }
+
+    /**
+     * Імпортує плейлист із потоку байтів у кодуванні UTF-8.
+     *
+     * @param in         Вхідний потік (не закривається).
+     * @param format     Формат плейлиста.
+     * @param totalBytes Загальний розмір даних для відображення прогресу або -1, якщо невідомий.
+     * @param sink       Споживач пакетів треків.
+     * @param progress   Слухач прогресу, може бути null.
+     * @return Результат імпорту.
+     * @throws IOException У разі помилки читання.
+     */
+    public ImportResult importFrom(InputStream in, Format format, long totalBytes, TrackBatchSink sink,
+                                   ImportProgressListener progress) throws IOException {
+        CountingInputStream counter = new CountingInputStream(in);
+        BufferedReader reader = new BufferedReader(new InputStreamReader(counter, StandardCharsets.UTF_8));
+        ImportResult result = new ImportResult();
+        TrackBatcher batcher = new TrackBatcher(batchSize, sink, result);
+        LineSource lines = new LineSource(reader, counter, totalBytes, result, progress);
+
+        if (format == Format.PLS) {
+            readPls(lines, batcher, result);
+        } else {
+            readM3u(lines, batcher, result);
+        }
+        batcher.flush();
+        if (progress != null) {
+            progress.onProgress(counter.getCount(), totalBytes, result.getImportedCount());
+        }
+        logger.info("Імпорт плейлиста {} завершено: імпортовано {}, пропущено {}",
+                format, result.getImportedCount(), result.getFailedCount());
+        return result;
+    }
+
+    private void readM3u(LineSource lines, TrackBatcher batcher, ImportResult result) throws IOException {
+        String info = null;
+        String genre = null;
+        long infoLine = 0;
+
+        String line;
+        while ((line = lines.next()) != null) {
+            if (line.isEmpty()) {
+                continue;
+            }
+            if (line.startsWith("#EXTINF:")) {
+                info = line.substring("#EXTINF:".length());
+                infoLine = lines.getLineNumber();
+                genre = null;
+            } else if (line.startsWith("#EXTGENRE:")) {
+                genre = line.substring("#EXTGENRE:".length()).trim();
+            } else if (!line.startsWith("#")) {
+                long entryLine = info != null ? infoLine : lines.getLineNumber();
+                try {
+                    batcher.add(parseM3uEntry(info, genre, line), entryLine);
+                } catch (IllegalArgumentException e) {
+                    result.addError(entryLine, e.getMessage());
+                }
+                info = null;
+                genre = null;
+            }
+        }
+    }
+
+    private MusicTrack parseM3uEntry(String info, String genreName, String location) {
+        if (info == null) {
+            throw new IllegalArgumentException("Невідома тривалість для " + location);
+        }
+        int comma = info.indexOf(',');
+        String durationPart = comma >= 0 ? info.substring(0, comma) : info;
+        int attributes = durationPart.indexOf(' ');
+        if (attributes >= 0) {
+            durationPart = durationPart.substring(0, attributes);
+        }
+        String display = comma >= 0 ? info.substring(comma + 1).trim() : "";
+        return createTrack(display, location, durationPart.trim(), genreName);
+    }
+
+    private void readPls(LineSource lines, TrackBatcher batcher, ImportResult result) throws IOException {
+        // Записи виводяться в порядку номерів; у згрупованому PLS буферизується не більше одного запису.
+        TreeMap<Integer, PlsEntry> pending = new TreeMap<>();
+
+        String line;
+        while ((line = lines.next()) != null) {
+            int equals = line.indexOf('=');
+            if (line.isEmpty() || line.startsWith("[") || line.startsWith(";") || equals < 0) {
+                continue;
+            }
+            String key = line.substring(0, equals).trim().toLowerCase(Locale.ROOT);
+            String value = line.substring(equals + 1).trim();
+            int digits = key.length();
+            while (digits > 0 && Character.isDigit(key.charAt(digits - 1))) {
+                digits--;
+            }
+            if (digits == key.length() || digits == 0) {
+                continue;
+            }
+            int index;
+            try {
+                index = Integer.parseInt(key.substring(digits));
+            } catch (NumberFormatException e) {
+                continue;
+            }
+
+            PlsEntry entry = pending.computeIfAbsent(index, i -> new PlsEntry(lines.getLineNumber()));
+            switch (key.substring(0, digits)) {
+                case "file" -> entry.file = value;
+                case "title" -> entry.title = value;
+                case "length" -> entry.length = value;
+                default -> {
+                }
+            }
+            flushReadyPlsEntries(pending, index, batcher, result);
+        }
+
+        Iterator<PlsEntry> remaining = pending.values().iterator();
+        while (remaining.hasNext()) {
+            addPlsEntry(remaining.next(), batcher, result);
+            remaining.remove();
+        }
+    }
+
+    /**
+     * Виводить записи з початку черги, поки вони готові: запис повний або вже прийшов ключ запису з більшим
+     * номером, а шлях і тривалість відомі (Title у PLS необов'язковий). Запис без шляху чи тривалості
+     * лишається в черзі до кінця файлу, щоб не порушити порядок.
+     */
+    private void flushReadyPlsEntries(TreeMap<Integer, PlsEntry> pending, int currentIndex,
+                                      TrackBatcher batcher, ImportResult result) {
+        while (!pending.isEmpty()) {
+            Map.Entry<Integer, PlsEntry> first = pending.firstEntry();
+            PlsEntry entry = first.getValue();
+            boolean superseded = first.getKey() < currentIndex && entry.file != null && entry.length != null;
+            if (!entry.isComplete() && !superseded) {
+                return;
+            }
+            pending.pollFirstEntry();
+            addPlsEntry(entry, batcher, result);
+        }
+    }
+
+    private void addPlsEntry(PlsEntry entry, TrackBatcher batcher, ImportResult result) {
+        try {
+            if (entry.file == null) {
+                throw new IllegalArgumentException("Запис не містить шляху до файлу");
+            }
+            if (entry.length == null) {
+                throw new IllegalArgumentException("Невідома тривалість для " + entry.file);
+            }
+            batcher.add(createTrack(entry.title != null ? entry.title : "", entry.file, entry.length, null),
+                    entry.line);
+        } catch (IllegalArgumentException e) {
+            result.addError(entry.line, e.getMessage());
+        }
+    }
+
+    private MusicTrack createTrack(String display, String location, String seconds, String genreName) {
+        long duration;
+        try {
+            duration = seconds.indexOf('.') >= 0 ? Math.round(Double.parseDouble(seconds)) : Long.parseLong(seconds);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Невірний формат тривалості: " + seconds);
+        }
+        if (duration <= 0) {
+            throw new IllegalArgumentException("Невідома тривалість для " + location);
+        }
+
+        String artist = UNKNOWN_ARTIST;
+        String title = display;
+        int separator = display.indexOf(ARTIST_TITLE_SEPARATOR);
+        if (separator > 0) {
+            artist = display.substring(0, separator).trim();
+            title = display.substring(separator + ARTIST_TITLE_SEPARATOR.length()).trim();
+        }
+        if (title.isEmpty()) {
+            title = titleFromLocation(location);
+        }
+
+        MusicGenre genre = defaultGenre;
+        if (genreName != null && !genreName.isEmpty()) {
+            MusicGenre parsed = MusicGenre.parse(genreName);
+            if (parsed != null) {
+                genre = parsed;
+            }
+        }
+        return new MusicTrack(title, artist, genre, Duration.ofSeconds(duration));
+    }
+
+    /**
+     * Повертає назву файлу без шляху та розширення.
+     */
+    public static String titleFromLocation(String location) {
+        String name = location;
+        int slash = Math.max(name.lastIndexOf('/'), name.lastIndexOf('\\'));
+        if (slash >= 0) {
+            name = name.substring(slash + 1);
+        }
+        int dot = name.lastIndexOf('.');
+        if (dot > 0) {
+            name = name.substring(0, dot);
+        }
+        return name.trim();
+    }
+
+    /**
+     * Запис PLS, поля якого ще збираються.
+     */
+    private static final class PlsEntry {
+        final long line;
+        String file;
+        String title;
+        String length;
+
+        PlsEntry(long line) {
+            this.line = line;
+        }
+
+        boolean isComplete() {
+            return file != null && title != null && length != null;
+        }
+    }
+
+    /**
+     * Джерело рядків з підрахунком номерів рядків та періодичним звітом про прогрес.
+     */
+    private static final class LineSource {
+        private final BufferedReader reader;
+        private final CountingInputStream counter;
+        private final long totalBytes;
+        private final ImportResult result;
+        private final ImportProgressListener progress;
+        private long lineNumber;
+        private long lastReported;
+
+        LineSource(BufferedReader reader, CountingInputStream counter, long totalBytes,
+                   ImportResult result, ImportProgressListener progress) {
+            this.reader = reader;
+            this.counter = counter;
+            this.totalBytes = totalBytes;
+            this.result = result;
+            this.progress = progress;
+        }
+
+        String next() throws IOException {
+            String line = reader.readLine();
+            if (line == null) {
+                return null;
+            }
+            if (lineNumber++ == 0 && !line.isEmpty() && line.charAt(0) == '\uFEFF') {
+                line = line.substring(1);
+            }
+            if (progress != null && counter.getCount() - lastReported >= PROGRESS_INTERVAL_BYTES) {
+                lastReported = counter.getCount();
+                progress.onProgress(lastReported, totalBytes, result.getImportedCount());
+            }
+            return line.trim();
+        }
+
+        long getLineNumber() {
+            return lineNumber;
+        }
+    }
+}
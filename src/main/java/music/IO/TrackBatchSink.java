@@ -0,0 +1,14 @@
+package music.IO;
+
+import music.Models.MusicTrack;
+
+import java.util.List;
+
+/**
+ * Споживач пакетів імпортованих треків, наприклад запис пакета в базу даних однією транзакцією.
+ * Виняток означає, що весь пакет не збережено; імпорт продовжується з наступного пакета.
+ */
+@FunctionalInterface
+public interface TrackBatchSink {
+    void accept(List<MusicTrack> batch) throws Exception;
+}
@@ -0,0 +1,70 @@
+package music.IO;
+
+import music.Models.MusicTrack;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Накопичує імпортовані треки та передає їх споживачу пакетами фіксованого розміру.
+ * Помилка збереження пакета записується до {@link ImportResult} з діапазоном рядків.
+ */
+final class TrackBatcher {
+    private static final Logger logger = LogManager.getLogger(TrackBatcher.class);
+
+    private final int batchSize;
+    private final TrackBatchSink sink;
+    private final ImportResult result;
+    private final List<MusicTrack> batch;
+    private long firstLine;
+    private long lastLine;
+
+    TrackBatcher(int batchSize, TrackBatchSink sink, ImportResult result) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Розмір пакета має бути додатнім");
+        }
+        if (sink == null) {
+            throw new IllegalArgumentException("Споживач пакетів не може бути null");
+        }
+        this.batchSize = batchSize;
+        this.sink = sink;
+        this.result = result;
+        this.batch = new ArrayList<>(batchSize);
+    }
+
+    /**
+     * Додає трек до поточного пакета та передає пакет споживачу, якщо він заповнений.
+     *
+     * @param track Трек.
+     * @param line  Номер рядка вхідного файлу, з якого прочитано трек.
+     */
+    void add(MusicTrack track, long line) {
+        if (batch.isEmpty()) {
+            firstLine = line;
+        }
+        lastLine = line;
+        batch.add(track);
+        if (batch.size() >= batchSize) {
+            flush();
+        }
+    }
+
+    /**
+     * Передає споживачу неповний пакет, що залишився.
+     */
+    void flush() {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            sink.accept(new ArrayList<>(batch));
+            result.addImported(batch.size());
+        } catch (Exception e) {
+            logger.error("Помилка збереження пакета треків (рядки {}–{}): {}", firstLine, lastLine, e.getMessage(), e);
+            result.addBatchError(firstLine, lastLine, batch.size(), e.getMessage());
+        }
+        batch.clear();
+    }
+}
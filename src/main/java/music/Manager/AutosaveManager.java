@@ -0,0 +1,216 @@
+package music.Manager;
+
+import music.Models.MusicCompilation;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import javax.swing.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Менеджер автозбереження бібліотеки збірок.
+ * Періодично (на EDT) перевіряє мітку модифікації {@link DiscManager}, чекає, поки серія змін
+ * завершиться (debounce), знімає знімок моделі та серіалізує його у фоновому потоці
+ * з атомарною заміною файлу. На EDT глибоко копіюються лише збірки, змінені після попереднього
+ * знімка ({@link DiscManager#snapshot(Map)}), тому пауза інтерфейсу залежить від обсягу змін,
+ * а не від розміру бібліотеки.
+ */
+public class AutosaveManager {
+    private static final Logger logger = LogManager.getLogger(AutosaveManager.class);
+    static final int POLL_INTERVAL_MS = 500;
+    static final long DEFAULT_DEBOUNCE_MS = 2_000;
+    static final long MAX_DELAY_MS = 30_000;
+    private static final String DEFAULT_FILE_NAME = "autosave.dat";
+    private static final String DEFAULT_DIRECTORY = ".music-compilations";
+
+    private final DiscManager discManager;
+    private final long debounceMillis;
+    private final ExecutorService writer;
+    private final Timer timer;
+    private volatile Path target;
+    private Consumer<String> statusListener = status -> { };
+
+    private long lastSeenStamp;
+    private long lastChangeAt;
+    private long pendingSince;
+    private CompletableFuture<Path> currentWrite = CompletableFuture.completedFuture(null);
+    // Копії збірок з попереднього знімка: незмінені збірки беруться звідси, а не копіюються заново на EDT.
+    private final Map<MusicCompilation, MusicCompilation> snapshotCopies = new IdentityHashMap<>();
+
+    /**
+     * Створює менеджер автозбереження з файлом за замовчуванням у домашній директорії користувача.
+     *
+     * @param discManager Менеджер збірок, стан якого зберігається.
+     */
+    public AutosaveManager(DiscManager discManager) {
+        this(discManager, defaultTarget(), DEFAULT_DEBOUNCE_MS);
+    }
+
+    /**
+     * Створює менеджер автозбереження.
+     *
+     * @param discManager    Менеджер збірок, стан якого зберігається.
+     * @param target         Файл для автозбереження.
+     * @param debounceMillis Час без змін, після якого виконується збереження.
+     */
+    public AutosaveManager(DiscManager discManager, Path target, long debounceMillis) {
+        if (discManager == null) {
+            throw new IllegalArgumentException("DiscManager не може бути null");
+        }
+        if (target == null) {
+            throw new IllegalArgumentException("Файл автозбереження не може бути null");
+        }
+        this.discManager = discManager;
+        this.target = target;
+        this.debounceMillis = debounceMillis;
+        this.lastSeenStamp = discManager.getModificationStamp();
+        this.writer = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "autosave-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.timer = new Timer(POLL_INTERVAL_MS, e -> tick());
+        this.timer.setRepeats(true);
+    }
+
+    /**
+     * Запускає періодичну перевірку змін.
+     */
+    public void start() {
+        timer.start();
+        logger.info("Автозбереження запущено, файл: {}", target);
+    }
+
+    /**
+     * Зупиняє перевірку змін, зберігає незбережені зміни та чекає завершення запису.
+     */
+    public void stop() {
+        timer.stop();
+        try {
+            if (discManager.isDirty()) {
+                saveNow();
+            }
+            currentWrite.get(MAX_DELAY_MS, TimeUnit.MILLISECONDS);
+        } catch (Exception e) {
+            logger.error("Помилка завершення автозбереження: {}", e.getMessage(), e);
+        } finally {
+            writer.shutdown();
+        }
+        logger.info("Автозбереження зупинено");
+    }
+
+    /**
+     * Змінює файл, у який виконується автозбереження.
+     *
+     * @param target Новий файл для автозбереження.
+     */
+    public void setTarget(Path target) {
+        if (target == null) {
+            throw new IllegalArgumentException("Файл автозбереження не може бути null");
+        }
+        this.target = target;
+        logger.info("Файл автозбереження змінено на: {}", target);
+    }
+
+    /**
+     * Повертає поточний файл автозбереження.
+     *
+     * @return Шлях до файлу.
+     */
+    public Path getTarget() {
+        return target;
+    }
+
+    /**
+     * Встановлює слухача, що отримує текстові повідомлення про стан збереження (на EDT).
+     *
+     * @param statusListener Слухач статусу, наприклад метод setText статусного рядка.
+     */
+    public void setStatusListener(Consumer<String> statusListener) {
+        this.statusListener = statusListener != null ? statusListener : status -> { };
+    }
+
+    /**
+     * Перевіряє зміни та за потреби запускає збереження. Викликається таймером на EDT.
+     */
+    void tick() {
+        long now = System.currentTimeMillis();
+        long stamp = discManager.getModificationStamp();
+        if (stamp != lastSeenStamp) {
+            lastSeenStamp = stamp;
+            lastChangeAt = now;
+            if (pendingSince == 0) {
+                pendingSince = now;
+            }
+        }
+
+        if (!currentWrite.isDone() || !discManager.isDirty()) {
+            return;
+        }
+
+        boolean quiet = now - lastChangeAt >= debounceMillis;
+        boolean overdue = pendingSince != 0 && now - pendingSince >= MAX_DELAY_MS;
+        if (quiet || overdue) {
+            saveNow();
+        }
+    }
+
+    /**
+     * Негайно знімає знімок моделі та записує його у фоновому потоці.
+     * Має викликатися на EDT, щоб знімок був узгодженим зі змінами інтерфейсу.
+     *
+     * @return Майбутній результат із шляхом до збереженого файлу.
+     */
+    public CompletableFuture<Path> saveNow() {
+        Path path = target;
+        long stamp = discManager.getModificationStamp();
+        List<MusicCompilation> snapshot = discManager.snapshot(snapshotCopies);
+        pendingSince = 0;
+
+        CompletableFuture<Path> write = CompletableFuture.supplyAsync(() -> {
+            try {
+                DiscManager.writeSnapshot(snapshot, path);
+                return path;
+            } catch (Exception e) {
+                throw new IllegalStateException("Не вдалося зберегти файл " + path + ": " + e.getMessage(), e);
+            }
+        }, writer);
+
+        currentWrite = write.whenComplete((savedPath, error) -> SwingUtilities.invokeLater(() -> {
+            if (error == null) {
+                discManager.markSaved(stamp);
+                statusListener.accept(" Автозбережено: " + savedPath.getFileName());
+                logger.info("Автозбереження завершено: {} збірок у {}", snapshot.size(), savedPath);
+            } else {
+                statusListener.accept(" Помилка автозбереження: " + error.getMessage());
+                logger.error("Помилка автозбереження у {}: {}", path, error.getMessage(), error);
+            }
+        }));
+        return currentWrite;
+    }
+
+    /**
+     * Повертає файл автозбереження за замовчуванням у домашній директорії користувача.
+     *
+     * @return Шлях до файлу автозбереження.
+     */
+    static Path defaultTarget() {
+        Path directory = Paths.get(System.getProperty("user.home"), DEFAULT_DIRECTORY);
+        try {
+            Files.createDirectories(directory);
+        } catch (Exception e) {
+            logger.error("Не вдалося створити директорію автозбереження {}: {}", directory, e.getMessage());
+        }
+        return directory.resolve(DEFAULT_FILE_NAME);
+    }
+}
@@ -0,0 +1,261 @@
+package music.Manager;
+
+import music.Collections.PersistentList;
+import music.Models.MusicCompilation;
+import music.Models.MusicGenre;
+import music.Models.MusicTrack;
+import music.Models.TrackListEvent;
+import music.Models.TrackListListener;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Історія змін збірки для скасування та повторення дій.
+ * Кожен крок зберігається як версія {@link PersistentList} зі станами треків, що має спільну структуру
+ * з сусідніми версіями, тому крок займає O(log n) пам'яті на змінений трек, а не копію всього списку.
+ *
+ * <p>Історія слухає події збірки: зміни, опубліковані однією операцією (з однаковою версією збірки),
+ * об'єднуються в один крок. Зміни без впливу на порядок і атрибути треків (наприклад, призначення ID)
+ * кроків не створюють.
+ */
+public class CompilationHistory implements AutoCloseable {
+    private static final Logger logger = LogManager.getLogger(CompilationHistory.class);
+    public static final int DEFAULT_MAX_STEPS = 100;
+
+    private final MusicCompilation compilation;
+    private final int maxSteps;
+    private final Deque<PersistentList<TrackState>> undoStack = new ArrayDeque<>();
+    private final Deque<PersistentList<TrackState>> redoStack = new ArrayDeque<>();
+    private final TrackListListener listener = this::tracksChanged;
+    private PersistentList<TrackState> current;
+    private long recordedVersion;
+    private boolean applying;
+
+    /**
+     * Стан треку, зафіксований у певному кроці історії.
+     */
+    private record TrackState(MusicTrack track, String title, String artist, MusicGenre genre, Duration duration) {
+
+        static TrackState of(MusicTrack track) {
+            return new TrackState(track, track.getTitle(), track.getArtist(), track.getGenre(), track.getDuration());
+        }
+
+        boolean matches(MusicTrack other) {
+            return track == other && title.equals(other.getTitle()) && artist.equals(other.getArtist())
+                    && genre == other.getGenre() && duration.equals(other.getDuration());
+        }
+
+        boolean sameAs(TrackState other) {
+            return matches(other.track) && other.matches(track);
+        }
+    }
+
+    /**
+     * Результат скасування або повторення: що саме змінилося у збірці і має бути збережено.
+     *
+     * @param structureChanged Чи додано треки або змінено порядок треків, що лишилися
+     * @param removedTracks    Треки, прибрані зі збірки
+     * @param editedTracks     Треки, атрибути яких було відновлено
+     */
+    public record Change(boolean structureChanged, List<MusicTrack> removedTracks, List<MusicTrack> editedTracks) {
+
+        public Change {
+            removedTracks = List.copyOf(removedTracks);
+            editedTracks = List.copyOf(editedTracks);
+        }
+
+        /**
+         * @return true, якщо крок нічого не змінив.
+         */
+        public boolean isEmpty() {
+            return !structureChanged && removedTracks.isEmpty() && editedTracks.isEmpty();
+        }
+    }
+
+    /**
+     * Створює історію з поточного стану збірки та починає відстежувати її зміни.
+     *
+     * @param compilation Збірка.
+     */
+    public CompilationHistory(MusicCompilation compilation) {
+        this(compilation, DEFAULT_MAX_STEPS);
+    }
+
+    /**
+     * @param compilation Збірка.
+     * @param maxSteps    Найбільша кількість кроків скасування; найстаріші кроки відкидаються.
+     * @throws IllegalArgumentException якщо збірка null або кількість кроків не додатна.
+     */
+    public CompilationHistory(MusicCompilation compilation, int maxSteps) {
+        if (compilation == null) {
+            throw new IllegalArgumentException("Збірка не може бути null");
+        }
+        if (maxSteps <= 0) {
+            throw new IllegalArgumentException("Кількість кроків історії має бути додатною");
+        }
+        this.compilation = compilation;
+        this.maxSteps = maxSteps;
+        List<TrackState> states = new ArrayList<>(compilation.getTrackCount());
+        compilation.forEachTrack(track -> states.add(TrackState.of(track)));
+        this.current = PersistentList.of(states);
+        this.recordedVersion = compilation.getVersion();
+        compilation.addTrackListListener(listener);
+    }
+
+    public boolean canUndo() {
+        return !undoStack.isEmpty();
+    }
+
+    public boolean canRedo() {
+        return !redoStack.isEmpty();
+    }
+
+    /**
+     * Повертає збірку до стану перед останнім кроком.
+     *
+     * @return Опис застосованих змін.
+     * @throws IllegalStateException якщо скасовувати нічого.
+     */
+    public Change undo() {
+        if (undoStack.isEmpty()) {
+            throw new IllegalStateException("Немає дій для скасування");
+        }
+        redoStack.push(current);
+        Change change = restore(undoStack.pop());
+        logger.info("Скасовано дію у збірці {}", compilation.getTitle());
+        return change;
+    }
+
+    /**
+     * Повторює останній скасований крок.
+     *
+     * @return Опис застосованих змін.
+     * @throws IllegalStateException якщо повторювати нічого.
+     */
+    public Change redo() {
+        if (redoStack.isEmpty()) {
+            throw new IllegalStateException("Немає дій для повторення");
+        }
+        undoStack.push(current);
+        Change change = restore(redoStack.pop());
+        logger.info("Повторено дію у збірці {}", compilation.getTitle());
+        return change;
+    }
+
+    /**
+     * Припиняє відстеження змін збірки.
+     */
+    @Override
+    public void close() {
+        compilation.removeTrackListListener(listener);
+    }
+
+    private void tracksChanged(TrackListEvent event) {
+        if (applying) {
+            return;
+        }
+        PersistentList<TrackState> previous = current;
+        PersistentList<TrackState> next = apply(previous, event);
+        if (next == previous) {
+            return;
+        }
+        current = next;
+        long version = compilation.getVersion();
+        if (version != recordedVersion) {
+            recordedVersion = version;
+            undoStack.push(previous);
+            if (undoStack.size() > maxSteps) {
+                undoStack.removeLast();
+            }
+            redoStack.clear();
+        }
+    }
+
+    private PersistentList<TrackState> apply(PersistentList<TrackState> states, TrackListEvent event) {
+        switch (event.type()) {
+            case INSERTED -> {
+                for (int i = event.fromIndex(); i <= event.toIndex(); i++) {
+                    states = states.insert(i, TrackState.of(compilation.getTrack(i)));
+                }
+            }
+            case REMOVED -> {
+                for (int i = event.toIndex(); i >= event.fromIndex(); i--) {
+                    states = states.remove(i);
+                }
+            }
+            case REPLACED -> {
+                for (int i = event.fromIndex(); i <= event.toIndex(); i++) {
+                    TrackState state = TrackState.of(compilation.getTrack(i));
+                    if (!states.get(i).sameAs(state)) {
+                        states = states.set(i, state);
+                    }
+                }
+            }
+            case MOVED -> {
+                TrackState moved = states.get(event.fromIndex());
+                states = states.remove(event.fromIndex()).insert(event.toIndex(), moved);
+            }
+        }
+        return states;
+    }
+
+    /**
+     * Застосовує збережений стан до збірки: спочатку склад і порядок треків
+     * (збірка сама обмежує зміну відмінним діапазоном), потім атрибути змінених треків.
+     * Видалені треки повідомляються окремо, щоб крок, який лише видаляє, не потребував перезапису збірки.
+     */
+    private Change restore(PersistentList<TrackState> target) {
+        applying = true;
+        try {
+            List<MusicTrack> tracks = new ArrayList<>(target.size());
+            target.forEach(state -> tracks.add(state.track()));
+            Set<MusicTrack> kept = Collections.newSetFromMap(new IdentityHashMap<>());
+            kept.addAll(tracks);
+            // Крок лише видаляє треки, якщо решта поточного списку збігається з цільовим у тому самому порядку.
+            List<MusicTrack> removed = new ArrayList<>();
+            int matched = 0;
+            boolean structureChanged = false;
+            for (TrackState state : current) {
+                MusicTrack track = state.track();
+                if (!kept.contains(track)) {
+                    removed.add(track);
+                } else if (matched < tracks.size() && tracks.get(matched) == track) {
+                    matched++;
+                } else {
+                    structureChanged = true;
+                }
+            }
+            structureChanged |= matched != tracks.size();
+            compilation.replaceAll(tracks);
+
+            List<MusicTrack> edited = new ArrayList<>();
+            for (TrackState state : target) {
+                MusicTrack track = state.track();
+                if (!state.matches(track)) {
+                    MusicGenre previousGenre = track.getGenre();
+                    Duration previousDuration = track.getDuration();
+                    track.setTitle(state.title());
+                    track.setArtist(state.artist());
+                    track.setGenre(state.genre());
+                    track.setDuration(state.duration());
+                    compilation.trackUpdated(track, previousGenre, previousDuration);
+                    edited.add(track);
+                }
+            }
+            current = target;
+            recordedVersion = compilation.getVersion();
+            return new Change(structureChanged, removed, edited);
+        } finally {
+            applying = false;
+        }
+    }
+}
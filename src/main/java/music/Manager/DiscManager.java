@@ -4,14 +4,26 @@ import music.DatabaseConfig;
 import music.Models.MusicCompilation;
 import music.Models.MusicGenre;
 import music.Models.MusicTrack;
+import music.Models.TrackListEvent;
+import music.Models.TrackListListener;
+import music.Storage.AtomicFileWriter;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import java.io.*;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.sql.*;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
 
 /**
  * Клас DiscManager відповідає за управління музичними збірками, включаючи їх створення, видалення, оновлення,
@@ -19,16 +31,27 @@ import java.util.List;
  */
 public class DiscManager {
     private static final Logger logger = LogManager.getLogger(DiscManager.class);
-    private final List<MusicCompilation> compilations;
+    // Збірки в порядку додавання. MusicCompilation не перевизначає equals, тож видалення йде за посиланням за O(1).
+    private final Set<MusicCompilation> compilations;
+    // Індекси за ID бази даних. Записи перевіряються при читанні, бо ID може змінитися поза менеджером.
+    private final Map<Long, MusicCompilation> compilationsById = new HashMap<>();
+    private final Map<Long, MusicTrack> tracksById = new HashMap<>();
+    private final TrackListListener trackIndexUpdater = this::updateTrackIndex;
+    private volatile long structureVersion;
+    private volatile long savedVersion;
+    // Незмінний знімок списку збірок разом з версією структури, з якої він побудований.
+    private List<MusicCompilation> compilationView = List.of();
+    private long compilationViewVersion = -1;
 
 
     /**
      * Конструктор ініціалізує список збірок та завантажує дані з бази даних.
      */
     public DiscManager() {
-        this.compilations = new ArrayList<>();
+        this.compilations = new LinkedHashSet<>();
         logger.info("Ініціалізація DiscManager");
         loadFromDatabaseSilently();
+        markSaved(getModificationStamp());
     }
 
     /**
@@ -38,8 +61,10 @@ public class DiscManager {
      */
     public void addCompilation(MusicCompilation compilation) {
         try {
-            compilations.add(compilation);
+            attach(compilation);
+            structureVersion = MusicCompilation.nextVersion();
             saveCompilationToDatabase(compilation);
+            indexCompilation(compilation);
             logger.info("Додано нову збірку: {}", compilation.getTitle());
         } catch (Exception e) {
             logger.error("Помилка при додаванні збірки {}: {}", compilation.getTitle(), e.getMessage());
@@ -54,7 +79,10 @@ public class DiscManager {
      */
     public boolean removeCompilation(MusicCompilation compilation) {
         try {
-            boolean removed = compilations.remove(compilation);
+            boolean removed = detach(compilation);
+            if (removed) {
+                structureVersion = MusicCompilation.nextVersion();
+            }
             if (removed && compilation.getId() > 0) {
                 deleteCompilationFromDatabase(compilation.getId());
                 logger.info("Видалено збірку: {}", compilation.getTitle());
@@ -66,6 +94,17 @@ public class DiscManager {
         }
     }
 
+    /**
+     * Видаляє музичну збірку за ID бази даних.
+     *
+     * @param id ID збірки.
+     * @return true, якщо збірку знайдено та видалено.
+     */
+    public boolean removeCompilationById(long id) {
+        MusicCompilation compilation = getCompilationById(id);
+        return compilation != null && removeCompilation(compilation);
+    }
+
     /**
      * Оновлює назву музичної збірки в списку та базі даних.
      *
@@ -86,16 +125,35 @@ public class DiscManager {
 
     /**
      * Зберігає список збірок у файл через серіалізацію.
+     * Запис виконується атомарно, тому збій посеред запису не пошкоджує попередній файл.
      *
      * @param filePath Шлях до файлу для збереження.
      * @throws IOException У разі помилки вводу-виводу.
      */
     public void saveToFile(String filePath) throws IOException {
-        try (ObjectOutputStream oos = new ObjectOutputStream(new FileOutputStream(filePath))) {
-            oos.writeObject(compilations);
-            logger.info("Дані збережено у файл: {}", filePath);
+        long stamp = getModificationStamp();
+        writeSnapshot(snapshot(), Paths.get(filePath));
+        markSaved(stamp);
+    }
+
+    /**
+     * Серіалізує знімок збірок у файл з атомарною заміною.
+     * Метод не звертається до стану менеджера, тому його можна викликати з фонового потоку.
+     *
+     * @param snapshot Знімок збірок, отриманий через {@link #snapshot()}.
+     * @param target   Шлях до файлу для збереження.
+     * @throws IOException У разі помилки вводу-виводу.
+     */
+    public static void writeSnapshot(List<MusicCompilation> snapshot, Path target) throws IOException {
+        try {
+            AtomicFileWriter.write(target, out -> {
+                ObjectOutputStream oos = new ObjectOutputStream(out);
+                oos.writeObject(new ArrayList<>(snapshot));
+                oos.flush();
+            });
+            logger.info("Дані збережено у файл: {}", target);
         } catch (IOException e) {
-            logger.error("Помилка збереження у файл {}: {}", filePath, e.getMessage());
+            logger.error("Помилка збереження у файл {}: {}", target, e.getMessage());
             throw e;
         }
     }
@@ -110,8 +168,11 @@ public class DiscManager {
     @SuppressWarnings("unchecked")
     public void loadFromFile(String filePath) throws IOException, ClassNotFoundException {
         try (ObjectInputStream ois = new ObjectInputStream(new FileInputStream(filePath))) {
-            compilations.clear();
-            compilations.addAll((List<MusicCompilation>) ois.readObject());
+            List<MusicCompilation> loaded = (List<MusicCompilation>) ois.readObject();
+            clearCompilations();
+            loaded.forEach(this::attach);
+            structureVersion = MusicCompilation.nextVersion();
+            markSaved(getModificationStamp());
             logger.info("Дані завантажено з файлу: {}", filePath);
         } catch (IOException | ClassNotFoundException e) {
             logger.error("Помилка завантаження з файлу {}: {}", filePath, e.getMessage());
@@ -138,7 +199,7 @@ public class DiscManager {
      */
     public void loadFromDatabase() throws SQLException {
         try (Connection connection = DatabaseConfig.getConnection()) {
-            compilations.clear();
+            clearCompilations();
             String selectCompilationsSQL = "SELECT * FROM compilations";
             try (Statement compilationStatement = connection.createStatement();
                  ResultSet compilationResult = compilationStatement.executeQuery(selectCompilationsSQL)) {
@@ -163,11 +224,15 @@ public class DiscManager {
                             }
                         }
                     }
-                    compilations.add(compilation);
+                    attach(compilation);
                 }
             }
+            structureVersion = MusicCompilation.nextVersion();
+            markSaved(getModificationStamp());
             logger.info("Завантажено {} збірок з бази даних", compilations.size());
         } catch (SQLException e) {
+            // Список міг бути частково заповнений, тому знімки та мітка модифікації мають оновитися.
+            structureVersion = MusicCompilation.nextVersion();
             logger.error("Помилка завантаження даних з бази даних: {}", e.getMessage());
             throw e;
         }
@@ -192,7 +257,7 @@ public class DiscManager {
 
                         String insertTrackSQL = "INSERT INTO tracks (title, artist, genre, duration, compilation_id) VALUES (?, ?, ?, ?, ?)";
                         try (PreparedStatement trackStatement = connection.prepareStatement(insertTrackSQL)) {
-                            for (MusicTrack track : compilation.getTracks()) {
+                            for (MusicTrack track : compilation.getTrackView()) {
                                 trackStatement.setString(1, track.getTitle());
                                 trackStatement.setString(2, track.getArtist());
                                 trackStatement.setString(3, track.getGenre().name());
@@ -255,11 +320,225 @@ public class DiscManager {
 
     /**
      * Повертає копію списку всіх музичних збірок.
+     * Для читання без копіювання використовуйте {@link #getCompilationView()}.
      *
-     * @return Список музичних збірок.
+     * @return Список музичних збірок, який можна змінювати.
      */
     public List<MusicCompilation> getCompilations() {
         logger.debug("Отримано список збірок, кількість: {}", compilations.size());
         return new ArrayList<>(compilations);
     }
-}
\ No newline at end of file
+
+    /**
+     * Повертає незмінний знімок списку збірок. Знімок перебудовується лише після зміни
+     * складу бібліотеки (версії структури), тож повторні виклики не виділяють пам'ять.
+     *
+     * @return Незмінний список збірок.
+     */
+    public List<MusicCompilation> getCompilationView() {
+        if (compilationViewVersion != structureVersion) {
+            compilationView = List.copyOf(compilations);
+            compilationViewVersion = structureVersion;
+        }
+        return compilationView;
+    }
+
+    /**
+     * Повертає збірки в алфавітному порядку назв ({@link MusicCompilation#BY_TITLE}).
+     * Порядок не кешується, оскільки перейменування не змінює версію структури, проте ключі сортування
+     * назв кешуються у самих збірках, тож сортування лише порівнює масиви байтів.
+     *
+     * @return Новий список збірок, відсортований за назвою.
+     */
+    public List<MusicCompilation> getCompilationsSortedByTitle() {
+        List<MusicCompilation> sorted = new ArrayList<>(getCompilationView());
+        sorted.sort(MusicCompilation.BY_TITLE);
+        return sorted;
+    }
+
+    /**
+     * Виконує дію для кожної збірки без створення копії списку.
+     * Дія не повинна додавати чи видаляти збірки.
+     *
+     * @param action Дія для кожної збірки.
+     */
+    public void forEachCompilation(Consumer<? super MusicCompilation> action) {
+        for (MusicCompilation compilation : compilations) {
+            action.accept(compilation);
+        }
+    }
+
+    /**
+     * Шукає збірку за ID бази даних за O(1).
+     *
+     * @param id ID збірки.
+     * @return Збірка або null, якщо її немає в бібліотеці.
+     */
+    public MusicCompilation getCompilationById(long id) {
+        MusicCompilation compilation = compilationsById.get(id);
+        if (compilation != null && !Objects.equals(compilation.getId(), id)) {
+            compilationsById.remove(id);
+            if (compilations.contains(compilation)) {
+                indexCompilation(compilation);
+            }
+            return null;
+        }
+        return compilation;
+    }
+
+    /**
+     * Шукає трек за ID бази даних серед усіх збірок бібліотеки за O(1).
+     *
+     * @param id ID треку.
+     * @return Трек або null, якщо його немає в бібліотеці.
+     */
+    public MusicTrack findTrackById(long id) {
+        MusicTrack track = tracksById.get(id);
+        if (track != null && !Objects.equals(track.getId(), id)) {
+            tracksById.remove(id);
+            return null;
+        }
+        return track;
+    }
+
+    /**
+     * @return Кількість збірок у бібліотеці.
+     */
+    public int getCompilationCount() {
+        return compilations.size();
+    }
+
+    /**
+     * Повертає мітку модифікації всієї бібліотеки: найбільшу з версій менеджера та збірок.
+     * Версії беруться зі спільного монотонного лічильника, тому будь-яка зміна збільшує мітку.
+     *
+     * @return Поточна мітка модифікації.
+     */
+    public long getModificationStamp() {
+        long stamp = structureVersion;
+        for (MusicCompilation compilation : compilations) {
+            stamp = Math.max(stamp, compilation.getVersion());
+        }
+        return stamp;
+    }
+
+    /**
+     * Перевіряє, чи є зміни, не збережені у файл.
+     *
+     * @return true, якщо бібліотека змінилася після останнього збереження.
+     */
+    public boolean isDirty() {
+        return getModificationStamp() > savedVersion;
+    }
+
+    /**
+     * Позначає стан з заданою міткою як збережений.
+     *
+     * @param stamp Мітка модифікації, зафіксована перед створенням знімка.
+     */
+    public void markSaved(long stamp) {
+        if (stamp > savedVersion) {
+            savedVersion = stamp;
+        }
+    }
+
+    private void attach(MusicCompilation compilation) {
+        if (!compilations.add(compilation)) {
+            return;
+        }
+        indexCompilation(compilation);
+        compilation.forEachTrack(this::indexTrack);
+        compilation.addTrackListListener(trackIndexUpdater);
+    }
+
+    private boolean detach(MusicCompilation compilation) {
+        if (!compilations.remove(compilation)) {
+            return false;
+        }
+        compilation.removeTrackListListener(trackIndexUpdater);
+        Long id = compilation.getId();
+        if (id != null && compilationsById.get(id) == compilation) {
+            compilationsById.remove(id);
+        }
+        compilation.forEachTrack(this::unindexTrack);
+        return true;
+    }
+
+    private void clearCompilations() {
+        for (MusicCompilation compilation : compilations) {
+            compilation.removeTrackListListener(trackIndexUpdater);
+        }
+        compilations.clear();
+        compilationsById.clear();
+        tracksById.clear();
+    }
+
+    private void indexCompilation(MusicCompilation compilation) {
+        if (compilation.getId() != null) {
+            compilationsById.put(compilation.getId(), compilation);
+        }
+    }
+
+    private void indexTrack(MusicTrack track) {
+        if (track.getId() != null) {
+            tracksById.put(track.getId(), track);
+        }
+    }
+
+    private void unindexTrack(MusicTrack track) {
+        Long id = track.getId();
+        if (id != null && tracksById.get(id) == track) {
+            tracksById.remove(id);
+        }
+    }
+
+    /**
+     * Підтримує індекс треків у відповідності до змін у збірках: обробляються лише треки з діапазону події.
+     */
+    private void updateTrackIndex(TrackListEvent event) {
+        event.removedTracks().forEach(this::unindexTrack);
+        if (event.type() == TrackListEvent.Type.INSERTED || event.type() == TrackListEvent.Type.REPLACED) {
+            for (int i = event.fromIndex(); i <= event.toIndex(); i++) {
+                indexTrack(event.source().getTrack(i));
+            }
+        }
+    }
+
+    /**
+     * Створює знімок бібліотеки: глибокі копії всіх збірок і треків.
+     * Знімок створюється в потоці, що змінює модель (EDT), а серіалізується у фоновому потоці.
+     *
+     * @return Незалежний від подальших змін список копій збірок.
+     */
+    public List<MusicCompilation> snapshot() {
+        return snapshot(new IdentityHashMap<>());
+    }
+
+    /**
+     * Створює знімок бібліотеки, повторно використовуючи копії з попереднього знімка для збірок, що не
+     * змінилися. Копія береться з карти за самою збіркою (за ідентичністю) і використовується, лише поки
+     * версія збірки збігається з версією копії; глибоко копіюються тільки змінені та нові збірки, тому час
+     * знімка на EDT залежить від обсягу змін, а не від розміру бібліотеки.
+     * Копії не повинні змінюватися або читатися кількома потоками одночасно: знімок призначений для
+     * одного споживача, що лише серіалізує його (автозбереження).
+     *
+     * @param copies Карта "збірка — її копія з попереднього знімка" того самого споживача, створена через
+     *               {@link IdentityHashMap}; після виклику містить копії поточного знімка.
+     * @return Незалежний від подальших змін список копій збірок.
+     */
+    public List<MusicCompilation> snapshot(Map<MusicCompilation, MusicCompilation> copies) {
+        Map<MusicCompilation, MusicCompilation> current = new IdentityHashMap<>(compilations.size() * 2);
+        List<MusicCompilation> snapshot = new ArrayList<>(compilations.size());
+        for (MusicCompilation compilation : compilations) {
+            MusicCompilation copy = copies.get(compilation);
+            if (copy == null || copy.getVersion() != compilation.getVersion()) {
+                copy = compilation.copy();
+            }
+            current.put(compilation, copy);
+            snapshot.add(copy);
+        }
+        copies.clear();
+        copies.putAll(current);
+        return snapshot;
+    }
+}
@@ -3,18 +3,20 @@ package music.Manager;
 import music.DatabaseConfig;
 import music.Dialog.CompilationDetailsDialog;
 import music.Models.MusicCompilation;
-import music.Service.MusicCompilationService;
 import music.Models.MusicTrack;
 import music.Panel.HeaderPanel;
 import music.Panel.TrackListPanel;
+import music.Service.DuplicateCluster;
+import music.Service.MusicCompilationService;
+import music.Service.TrackSortKey;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import javax.swing.*;
 import java.sql.*;
 import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.List;
+import java.util.Objects;
 
 /**
  * Клас для управління операціями з базою даних для треків музичних компіляцій.
@@ -23,7 +25,7 @@ import java.util.List;
  */
 public class TrackDatabaseManager {
     private static final Logger logger = LogManager.getLogger(TrackDatabaseManager.class);
-    private static final MusicCompilationService compilationService=new MusicCompilationService();
+    private static final MusicCompilationService COMPILATION_SERVICE = new MusicCompilationService();
 
 
     /**
@@ -40,8 +42,10 @@ public class TrackDatabaseManager {
         logger.info("Додавання треку '{}' до компіляції '{}'", track.getTitle(), compilation.getId());
         try {
             trackListPanel.getTrackListModel().addElement(track);
-            updateCompilationTracks(compilation, trackListPanel);
+            compilation.addTrack(track);
+            int index = compilation.getTrackCount() - 1;
             saveTrackToDatabase(parent, track, compilation);
+            compilation.tracksUpdated(index, index);
             updateHeaderInfo(parent, compilation, trackListPanel);
             logger.info("Трек '{}' успішно додано до компіляції '{}'", track.getTitle(), compilation.getId());
         } catch (Exception ex) {
@@ -103,7 +107,7 @@ public class TrackDatabaseManager {
             try {
                 deleteTrackFromDatabase(parent, selectedTrack);
                 trackListPanel.getTrackListModel().removeElement(selectedTrack);
-                updateCompilationTracks(compilation, trackListPanel);
+                compilation.removeTrack(selectedTrack);
                 JOptionPane.showMessageDialog(parent,
                         "Трек '" + selectedTrack.getTitle() + "' успішно видалено",
                         "Видалення треку",
@@ -130,27 +134,44 @@ public class TrackDatabaseManager {
      * @throws RuntimeException Якщо сталася помилка при сортуванні
      */
     public static void sortTracksByGenre(TrackListPanel trackListPanel, MusicCompilation compilation) {
-        logger.info("Сортування треків за жанром для компіляції '{}'", compilation.getId());
+        sortTracks(trackListPanel, compilation, List.of(TrackSortKey.ascending(TrackSortKey.Field.GENRE)),
+                "Треки успішно відсортовані за жанром");
+    }
+
+    /**
+     * Сортує треки компіляції за кількома ключами та оновлює базу даних.
+     *
+     * @param trackListPanel Панель зі списком треків
+     * @param compilation   Компіляція, треки якої потрібно відсортувати
+     * @param keys          Ключі сортування від головного до другорядного
+     * @throws RuntimeException Якщо сталася помилка при сортуванні
+     */
+    public static void sortTracks(TrackListPanel trackListPanel, MusicCompilation compilation, List<TrackSortKey> keys) {
+        sortTracks(trackListPanel, compilation, keys, "Треки успішно відсортовані");
+    }
+
+    private static void sortTracks(TrackListPanel trackListPanel, MusicCompilation compilation, List<TrackSortKey> keys,
+                                   String successMessage) {
+        logger.info("Сортування треків за ключами {} для компіляції '{}'", keys, compilation.getId());
         try {
             List<MusicTrack> tracks = new ArrayList<>();
             for (int i = 0; i < trackListPanel.getTrackListModel().getSize(); i++) {
                 tracks.add(trackListPanel.getTrackListModel().get(i));
             }
 
-
-            tracks.sort(Comparator.comparing(track -> track.getGenre().toString()));
+            COMPILATION_SERVICE.sort(tracks, keys);
 
             trackListPanel.getTrackListModel().clear();
             tracks.forEach(trackListPanel.getTrackListModel()::addElement);
 
-            updateCompilationTracks(compilation, trackListPanel);
+            compilation.replaceAll(tracks);
             updateTracksInDatabase((CompilationDetailsDialog) trackListPanel.getParent(), compilation, trackListPanel);
 
             JOptionPane.showMessageDialog(trackListPanel.getParent(),
-                    "Треки успішно відсортовані за жанром",
+                    successMessage,
                     "Сортування",
                     JOptionPane.INFORMATION_MESSAGE);
-            logger.info("Треки успішно відсортовані за жанром для компіляції '{}'", compilation.getId());
+            logger.info("Треки успішно відсортовані за ключами {} для компіляції '{}'", keys, compilation.getId());
         } catch (Exception ex) {
             logger.error("Помилка при сортуванні треків: {}", ex.getMessage(), ex);
             throw new RuntimeException("Не вдалося відсортувати треки: " + ex.getMessage(), ex);
@@ -158,30 +179,6 @@ public class TrackDatabaseManager {
     }
 
 
-    /**
-     * Оновлює внутрішній список треків компіляції, використовуючи дані з UI.
-     *
-     * @param compilation   Компіляція, список треків якої оновлюється
-     * @param trackListPanel Панель зі списком треків
-     */
-    private static void updateCompilationTracks(MusicCompilation compilation, TrackListPanel trackListPanel) {
-        List<MusicTrack> updatedTracks = new ArrayList<>();
-        for (int i = 0; i < trackListPanel.getTrackListModel().getSize(); i++) {
-            updatedTracks.add(trackListPanel.getTrackListModel().get(i));
-        }
-
-        try {
-            java.lang.reflect.Field tracksField = MusicCompilation.class.getDeclaredField("tracks");
-            tracksField.setAccessible(true);
-            List<MusicTrack> internalList = (List<MusicTrack>) tracksField.get(compilation);
-            internalList.clear();
-            internalList.addAll(updatedTracks);
-        } catch (Exception ex) {
-            logger.error("Помилка при оновленні внутрішнього списку треків: {}", ex.getMessage(), ex);
-            throw new RuntimeException("Не вдалося оновити список треків: " + ex.getMessage(), ex);
-        }
-    }
-
     /**
      * Зберігає трек у базі даних та встановлює його згенерований ID.
      *
@@ -304,6 +301,9 @@ public class TrackDatabaseManager {
                 }
 
                 connection.commit();
+                if (compilation.getTrackCount() > 0) {
+                    compilation.tracksUpdated(0, compilation.getTrackCount() - 1);
+                }
             } catch (SQLException ex) {
                 connection.rollback();
                 logger.error("Помилка при оновленні треків для компіляції '{}': {}", compilation.getId(), ex.getMessage(), ex);
@@ -321,6 +321,174 @@ public class TrackDatabaseManager {
         }
     }
 
+    /**
+     * Вставляє пакет треків компіляції в базу даних однією транзакцією з пакетним виконанням запитів
+     * та встановлює згенеровані ID. У разі помилки транзакція відкочується повністю.
+     *
+     * @param compilation Компіляція, до якої належать треки
+     * @param tracks      Треки для вставки
+     * @throws SQLException Якщо пакет не вдалося зберегти
+     */
+    public static void insertTracks(MusicCompilation compilation, List<MusicTrack> tracks) throws SQLException {
+        if (compilation.getId() == null) {
+            throw new IllegalArgumentException("Збірка не збережена в базі даних");
+        }
+        try (Connection connection = DatabaseConfig.getConnection()) {
+            connection.setAutoCommit(false);
+            try (PreparedStatement insertStatement = connection.prepareStatement(
+                    "INSERT INTO tracks (title, artist, genre, duration, compilation_id) VALUES (?, ?, ?, ?, ?)",
+                    Statement.RETURN_GENERATED_KEYS)) {
+                for (MusicTrack track : tracks) {
+                    insertStatement.setString(1, track.getTitle());
+                    insertStatement.setString(2, track.getArtist());
+                    insertStatement.setString(3, track.getGenre().name());
+                    insertStatement.setLong(4, track.getDuration().getSeconds());
+                    insertStatement.setLong(5, compilation.getId());
+                    insertStatement.addBatch();
+                }
+                insertStatement.executeBatch();
+
+                try (ResultSet generatedKeys = insertStatement.getGeneratedKeys()) {
+                    for (int i = 0; i < tracks.size() && generatedKeys.next(); i++) {
+                        tracks.get(i).setId(generatedKeys.getLong(1));
+                    }
+                }
+                connection.commit();
+                logger.info("Пакет із {} треків збережено для компіляції '{}'", tracks.size(), compilation.getId());
+            } catch (SQLException ex) {
+                connection.rollback();
+                logger.error("Помилка при пакетній вставці треків для компіляції '{}': {}",
+                        compilation.getId(), ex.getMessage(), ex);
+                throw ex;
+            } finally {
+                connection.setAutoCommit(true);
+            }
+        }
+    }
+
+    /**
+     * Об'єднує групи дублікатів: у кожній групі залишається перше входження, а решта треків видаляється
+     * з бази даних однією транзакцією і зі своїх збірок. Групи шукаються на знімку бібліотеки, тому кожне
+     * входження зіставляється з поточною збіркою за позиціями і пропускається, якщо трек на цій позиції
+     * з того часу змінився або зник.
+     *
+     * @param clusters     Групи дублікатів
+     * @param compilations Поточні збірки в тому ж порядку, що й знімок, на якому виконувався пошук
+     * @return Кількість видалених треків
+     * @throws SQLException Якщо треки не вдалося видалити з бази даних; збірки тоді не змінюються
+     */
+    public static int mergeDuplicates(List<DuplicateCluster> clusters, List<MusicCompilation> compilations)
+            throws SQLException {
+        List<MusicCompilation> owners = new ArrayList<>();
+        List<MusicTrack> removed = new ArrayList<>();
+        for (DuplicateCluster cluster : clusters) {
+            for (DuplicateCluster.Occurrence occurrence : cluster.duplicates()) {
+                MusicTrack current = currentTrack(occurrence, compilations);
+                if (current == null) {
+                    logger.warn("Трек '{}' змінився після пошуку дублікатів і не буде видалений",
+                            occurrence.track().getTitle());
+                    continue;
+                }
+                owners.add(compilations.get(occurrence.compilationIndex()));
+                removed.add(current);
+            }
+        }
+        deleteTracksFromDatabase(removed);
+        for (int i = 0; i < removed.size(); i++) {
+            owners.get(i).removeTrack(removed.get(i));
+        }
+        logger.info("Об'єднано {} груп дублікатів, видалено треків: {}", clusters.size(), removed.size());
+        return removed.size();
+    }
+
+    private static MusicTrack currentTrack(DuplicateCluster.Occurrence occurrence, List<MusicCompilation> compilations) {
+        if (occurrence.compilationIndex() >= compilations.size()) {
+            return null;
+        }
+        MusicCompilation compilation = compilations.get(occurrence.compilationIndex());
+        if (occurrence.trackIndex() >= compilation.getTrackCount()) {
+            return null;
+        }
+        MusicTrack current = compilation.getTrack(occurrence.trackIndex());
+        MusicTrack found = occurrence.track();
+        boolean same = Objects.equals(current.getId(), found.getId()) && current.getTitle().equals(found.getTitle())
+                && current.getArtist().equals(found.getArtist()) && current.getDuration().equals(found.getDuration());
+        return same ? current : null;
+    }
+
+    private static void deleteTracksFromDatabase(List<MusicTrack> tracks) throws SQLException {
+        List<Long> ids = new ArrayList<>();
+        for (MusicTrack track : tracks) {
+            if (track.getId() != null) {
+                ids.add(track.getId());
+            }
+        }
+        if (ids.isEmpty()) {
+            return;
+        }
+        try (Connection connection = DatabaseConfig.getConnection()) {
+            connection.setAutoCommit(false);
+            try (PreparedStatement statement = connection.prepareStatement("DELETE FROM tracks WHERE id = ?")) {
+                for (long id : ids) {
+                    statement.setLong(1, id);
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+                connection.commit();
+            } catch (SQLException ex) {
+                connection.rollback();
+                logger.error("Помилка при видаленні дублікатів: {}", ex.getMessage(), ex);
+                throw ex;
+            } finally {
+                connection.setAutoCommit(true);
+            }
+        }
+    }
+
+    /**
+     * Синхронізує UI та базу даних після скасування або повторення дії.
+     * Якщо змінився лише вміст окремих треків, оновлюються тільки їхні рядки, а прибрані треки
+     * видаляються за ID; повний перезапис треків компіляції виконується лише при додаванні треків
+     * чи зміні порядку, бо порядок у схемі задається ID.
+     *
+     * @param parent         Діалогове вікно, що містить UI компіляції
+     * @param trackListPanel Панель зі списком треків
+     * @param change         Результат кроку історії
+     */
+    public static void applyHistoryChange(CompilationDetailsDialog parent, TrackListPanel trackListPanel,
+                                          CompilationHistory.Change change) {
+        if (change.isEmpty()) {
+            return;
+        }
+        MusicCompilation compilation = trackListPanel.compilation;
+        trackListPanel.loadTracksFromCompilation();
+        if (compilation.getId() != null) {
+            if (change.structureChanged()) {
+                updateTracksInDatabase(parent, compilation, trackListPanel);
+            } else {
+                deleteRemovedTracks(parent, change.removedTracks());
+                for (MusicTrack track : change.editedTracks()) {
+                    updateTrackInDatabase(parent, track);
+                }
+            }
+        }
+        updateHeaderInfo(parent, compilation, trackListPanel);
+        logger.info("Застосовано крок історії для компіляції '{}'", compilation.getId());
+    }
+
+    private static void deleteRemovedTracks(CompilationDetailsDialog parent, List<MusicTrack> tracks) {
+        try {
+            deleteTracksFromDatabase(tracks);
+        } catch (SQLException ex) {
+            logger.error("Помилка при видаленні треків: {}", ex.getMessage(), ex);
+            JOptionPane.showMessageDialog(parent,
+                    "Помилка при видаленні треків: " + ex.getMessage(),
+                    "Помилка бази даних",
+                    JOptionPane.ERROR_MESSAGE);
+            throw new RuntimeException("Не вдалося видалити треки: " + ex.getMessage(), ex);
+        }
+    }
+
     /**
      * Оновлює інформацію в заголовку UI компіляції (кількість треків, загальна тривалість).
      *
@@ -335,8 +503,8 @@ public class TrackDatabaseManager {
             HeaderPanel headerPanel = new HeaderPanel(compilation);
             headerPanel.updateInfo(
                     trackListPanel.getTrackListModel().getSize(),
-                    compilationService.calculateTotalDuration(compilation.getTracks()).toMinutes(),
-                    compilationService.calculateTotalDuration(compilation.getTracks()).getSeconds()
+                    compilation.getTotalDuration().toMinutes(),
+                    compilation.getTotalSeconds()
             );
         } catch (Exception ex) {
             logger.error("Помилка при оновленні інформації заголовка: {}", ex.getMessage(), ex);
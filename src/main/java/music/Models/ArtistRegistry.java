@@ -0,0 +1,128 @@
+package music.Models;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Глобальний словник виконавців, що зіставляє канонічні імена зі щільними цілочисельними ID.
+ * Треки, завантажені з бази даних, файлів чи імпорту, а також відредаговані вручну,
+ * отримують один спільний екземпляр рядка для кожного виконавця, а групування, пошук
+ * і статистика можуть працювати з int замість хешування рядків.
+ *
+ * <p>ID діють лише в межах процесу і не зберігаються у файлах чи базі даних.
+ * Виконавці не видаляються зі словника, оскільки їх кількість значно менша за кількість треків.
+ */
+public final class ArtistRegistry {
+    private static final int INITIAL_CAPACITY = 256;
+    private static final ConcurrentMap<String, Integer> IDS = new ConcurrentHashMap<>();
+    private static final Object LOCK = new Object();
+    private static volatile String[] names = new String[INITIAL_CAPACITY];
+    private static volatile String[] lowerCaseNames = new String[INITIAL_CAPACITY];
+    private static volatile byte[][] sortKeys = new byte[INITIAL_CAPACITY][];
+    private static volatile int size;
+
+    private ArtistRegistry() {
+    }
+
+    /**
+     * Повертає ID виконавця, реєструючи його за потреби.
+     *
+     * @param name Ім'я виконавця.
+     * @return Щільний ID виконавця (від 0).
+     * @throws IllegalArgumentException якщо ім'я null
+     */
+    public static int idOf(String name) {
+        if (name == null) {
+            throw new IllegalArgumentException("Виконавець не може бути null");
+        }
+        Integer id = IDS.get(name);
+        if (id != null) {
+            return id;
+        }
+        synchronized (LOCK) {
+            id = IDS.get(name);
+            if (id != null) {
+                return id;
+            }
+            int newId = size;
+            if (newId == names.length) {
+                names = Arrays.copyOf(names, newId * 2);
+                lowerCaseNames = Arrays.copyOf(lowerCaseNames, newId * 2);
+                sortKeys = Arrays.copyOf(sortKeys, newId * 2);
+            }
+            names[newId] = name;
+            lowerCaseNames[newId] = name.toLowerCase();
+            sortKeys[newId] = TextCollation.sortKey(name);
+            size = newId + 1;
+            IDS.put(name, newId);
+            return newId;
+        }
+    }
+
+    /**
+     * Повертає канонічний екземпляр імені виконавця.
+     *
+     * @param name Ім'я виконавця.
+     * @return Рівний рядок, спільний для всіх треків цього виконавця.
+     */
+    public static String canonical(String name) {
+        return name(idOf(name));
+    }
+
+    /**
+     * Повертає ім'я виконавця за ID.
+     *
+     * @param id ID виконавця.
+     * @return Канонічне ім'я.
+     * @throws IndexOutOfBoundsException якщо ID не зареєстрований
+     */
+    public static String name(int id) {
+        if (id < 0 || id >= size) {
+            throw new IndexOutOfBoundsException("Невідомий ID виконавця: " + id);
+        }
+        return names[id];
+    }
+
+    /**
+     * Повертає ключ сортування імені виконавця, обчислений один раз при реєстрації.
+     *
+     * @param id ID виконавця.
+     * @return Ключ {@link TextCollation#sortKey(String)}; масив не можна змінювати.
+     * @throws IndexOutOfBoundsException якщо ID не зареєстрований
+     */
+    public static byte[] sortKey(int id) {
+        if (id < 0 || id >= size) {
+            throw new IndexOutOfBoundsException("Невідомий ID виконавця: " + id);
+        }
+        return sortKeys[id];
+    }
+
+    /**
+     * @return Кількість зареєстрованих виконавців; усі ID менші за це значення.
+     */
+    public static int size() {
+        return size;
+    }
+
+    /**
+     * Знаходить виконавців, ім'я яких у нижньому регістрі містить запит.
+     * Кожне ім'я перевіряється один раз, незалежно від кількості треків виконавця.
+     *
+     * @param lowerCaseQuery Запит у нижньому регістрі.
+     * @return Множина ID виконавців, що відповідають запиту.
+     */
+    public static BitSet findMatching(String lowerCaseQuery) {
+        String[] lowerCase = lowerCaseNames;
+        int count = Math.min(size, lowerCase.length);
+        BitSet matches = new BitSet(count);
+        for (int id = 0; id < count; id++) {
+            String name = lowerCase[id];
+            if (name != null && name.contains(lowerCaseQuery)) {
+                matches.set(id);
+            }
+        }
+        return matches;
+    }
+}
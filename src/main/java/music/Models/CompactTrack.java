@@ -0,0 +1,282 @@
+package music.Models;
+
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+import java.time.Duration;
+
+/**
+ * Компактне незмінне представлення музичного треку для великих бібліотек у пам'яті.
+ * Замість об'єктів {@link Long}, {@link Duration} та посилання на enum зберігає примітиви
+ * (ID, тривалість у секундах, порядковий номер жанру), а виконавця — як ID з {@link ArtistRegistry}.
+ * Об'єкт займає близько 32 байтів без урахування назви проти понад 100 байтів у {@link MusicTrack}. Зміни виконуються через методи {@code with...}, що повертають копію.
+ */
+public final class CompactTrack implements Track, Serializable {
+    private static final long serialVersionUID = 1L;
+    private static final MusicGenre[] GENRES = MusicGenre.values();
+
+    /**
+     * Значення ID для треків, ще не збережених у базі даних. ID 0 є звичайним ідентифікатором.
+     */
+    public static final long NO_ID = -1;
+
+    private final long id;
+    private final String title;
+    private final int artistId;
+    private final int durationSeconds;
+    private final byte genreOrdinal;
+
+    private CompactTrack(long id, String title, int artistId, int durationSeconds, byte genreOrdinal) {
+        this.id = id;
+        this.title = title;
+        this.artistId = artistId;
+        this.durationSeconds = durationSeconds;
+        this.genreOrdinal = genreOrdinal;
+    }
+
+    /**
+     * Створює компактний трек без ID.
+     *
+     * @param title           Назва треку
+     * @param artist          Виконавець треку
+     * @param genre           Жанр треку
+     * @param durationSeconds Тривалість у секундах
+     * @return Новий трек
+     * @throws IllegalArgumentException якщо передані некоректні параметри
+     */
+    public static CompactTrack of(String title, String artist, MusicGenre genre, long durationSeconds) {
+        return of(NO_ID, title, artist, genre, durationSeconds);
+    }
+
+    /**
+     * Створює компактний трек із заданим ID, наприклад при читанні з бази даних чи знімка.
+     *
+     * @param id              ID треку або {@link #NO_ID}
+     * @param title           Назва треку
+     * @param artist          Виконавець треку
+     * @param genre           Жанр треку
+     * @param durationSeconds Тривалість у секундах
+     * @return Новий трек
+     * @throws IllegalArgumentException якщо передані некоректні параметри
+     */
+    public static CompactTrack of(long id, String title, String artist, MusicGenre genre, long durationSeconds) {
+        if (id < 0 && id != NO_ID) {
+            throw new IllegalArgumentException("ID не може бути від'ємним");
+        }
+        return new CompactTrack(id, validateTitle(title), validateArtist(artist),
+                validateDuration(durationSeconds), validateGenre(genre));
+    }
+
+    /**
+     * Створює компактну копію звичайного треку.
+     *
+     * @param track Трек для перетворення
+     * @return Компактний трек з тими самими атрибутами та ID
+     */
+    public static CompactTrack from(Track track) {
+        if (track instanceof CompactTrack compact) {
+            return compact;
+        }
+        Long trackId = track.getId();
+        return new CompactTrack(trackId != null ? trackId : NO_ID, validateTitle(track.getTitle()),
+                validateArtist(track.getArtist()), validateDuration(track.getDuration().getSeconds()),
+                validateGenre(track.getGenre()));
+    }
+
+    /**
+     * Перетворює трек на змінюваний {@link MusicTrack}, наприклад для редагування в діалогах.
+     *
+     * @return Новий змінюваний трек
+     */
+    public MusicTrack toMusicTrack() {
+        MusicTrack track = new MusicTrack(title, getArtist(), getGenre(), getDuration());
+        if (hasId()) {
+            track.setId(id);
+        }
+        return track;
+    }
+
+    /**
+     * @return Копія треку з новим ID.
+     */
+    public CompactTrack withId(long newId) {
+        if (newId < 0) {
+            throw new IllegalArgumentException("ID не може бути від'ємним");
+        }
+        return new CompactTrack(newId, title, artistId, durationSeconds, genreOrdinal);
+    }
+
+    /**
+     * @return Копія треку з новою назвою.
+     */
+    public CompactTrack withTitle(String newTitle) {
+        return new CompactTrack(id, validateTitle(newTitle), artistId, durationSeconds, genreOrdinal);
+    }
+
+    /**
+     * @return Копія треку з новим виконавцем.
+     */
+    public CompactTrack withArtist(String newArtist) {
+        return new CompactTrack(id, title, validateArtist(newArtist), durationSeconds, genreOrdinal);
+    }
+
+    /**
+     * @return Копія треку з новим жанром.
+     */
+    public CompactTrack withGenre(MusicGenre newGenre) {
+        return new CompactTrack(id, title, artistId, durationSeconds, validateGenre(newGenre));
+    }
+
+    /**
+     * @return Копія треку з новою тривалістю в секундах.
+     */
+    public CompactTrack withDurationSeconds(long newDurationSeconds) {
+        return new CompactTrack(id, title, artistId, validateDuration(newDurationSeconds), genreOrdinal);
+    }
+
+    /**
+     * @return true, якщо трек збережений у базі даних.
+     */
+    public boolean hasId() {
+        return id != NO_ID;
+    }
+
+    /**
+     * @return ID треку як примітив або {@link #NO_ID}.
+     */
+    public long getIdValue() {
+        return id;
+    }
+
+    @Override
+    public Long getId() {
+        return hasId() ? id : null;
+    }
+
+    @Override
+    public String getTitle() {
+        return title;
+    }
+
+    /**
+     * Ключ не кешується, щоб не збільшувати розмір об'єкта; сортування обчислює його
+     * лише для різних назв.
+     */
+    @Override
+    public byte[] getTitleSortKey() {
+        return TextCollation.sortKey(title);
+    }
+
+    @Override
+    public String getArtist() {
+        return ArtistRegistry.name(artistId);
+    }
+
+    @Override
+    public int getArtistId() {
+        return artistId;
+    }
+
+    @Override
+    public MusicGenre getGenre() {
+        return GENRES[genreOrdinal];
+    }
+
+    /**
+     * @return Порядковий номер жанру в {@link MusicGenre}.
+     */
+    public int getGenreOrdinal() {
+        return genreOrdinal;
+    }
+
+    @Override
+    public Duration getDuration() {
+        return Duration.ofSeconds(durationSeconds);
+    }
+
+    /**
+     * @return Тривалість у секундах без створення об'єкта {@link Duration}.
+     */
+    public long getDurationSeconds() {
+        return durationSeconds;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof CompactTrack other)) {
+            return false;
+        }
+        return id == other.id && durationSeconds == other.durationSeconds && genreOrdinal == other.genreOrdinal
+                && artistId == other.artistId && title.equals(other.title);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Long.hashCode(id);
+        result = 31 * result + title.hashCode();
+        result = 31 * result + artistId;
+        result = 31 * result + durationSeconds;
+        return 31 * result + genreOrdinal;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s - %s (%s, %d min)", title, getArtist(), getGenre(), durationSeconds / 60);
+    }
+
+    /**
+     * ID виконавця не переноситься між процесами, тому трек серіалізується через {@link SerializedForm}
+     * з ім'ям виконавця.
+     */
+    private Object writeReplace() {
+        return new SerializedForm(id, title, getArtist(), durationSeconds, genreOrdinal);
+    }
+
+    private void readObject(ObjectInputStream in) throws InvalidObjectException {
+        throw new InvalidObjectException("CompactTrack десеріалізується лише через SerializedForm");
+    }
+
+    private record SerializedForm(long id, String title, String artist, int durationSeconds, byte genreOrdinal)
+            implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        private Object readResolve() throws InvalidObjectException {
+            try {
+                return of(id, title, artist, GENRES[genreOrdinal], durationSeconds);
+            } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+                throw new InvalidObjectException("Некоректні дані треку: " + e.getMessage());
+            }
+        }
+    }
+
+    private static String validateTitle(String title) {
+        if (title == null || title.trim().isEmpty()) {
+            throw new IllegalArgumentException("Назва треку не може бути порожньою");
+        }
+        return title;
+    }
+
+    private static int validateArtist(String artist) {
+        if (artist == null || artist.trim().isEmpty()) {
+            throw new IllegalArgumentException("Виконавець не може бути порожнім");
+        }
+        return ArtistRegistry.idOf(artist);
+    }
+
+    private static byte validateGenre(MusicGenre genre) {
+        if (genre == null) {
+            throw new IllegalArgumentException("Жанр не може бути null");
+        }
+        return (byte) genre.ordinal();
+    }
+
+    private static int validateDuration(long seconds) {
+        if (seconds <= 0 || seconds > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Тривалість має бути додатнім значенням");
+        }
+        return (int) seconds;
+    }
+}
@@ -0,0 +1,138 @@
+package music.Models;
+
+import music.Collections.LongIntHashMap;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * MinHash-підпис множини треків збірки для оцінки схожості збірок за коефіцієнтом Жаккара.
+ *
+ * <p>Елемент множини — відбиток треку {@link TrackDuplicateIndex#fingerprint(Track)}, тож однаковими
+ * вважаються треки з тими самими нормалізованими назвою, виконавцем і тривалістю. Для кожної з
+ * {@link #LENGTH} хеш-функцій підпис зберігає мінімальний хеш елементів; частка збіжних позицій двох
+ * підписів оцінює коефіцієнт Жаккара їхніх множин.
+ *
+ * <p>Підпис підтримується інкрементно: додавання треку оновлює мінімуми за O({@link #LENGTH}), а видалення
+ * лише зменшує лічильник елемента. Якщо зникає елемент, що давав один із мінімумів, підпис перераховується
+ * з лічильників при наступному зверненні, без проходу по треках збірки.
+ */
+final class CompilationSignature {
+    static final int LENGTH = 128;
+    private static final long[] SEEDS = new long[LENGTH];
+
+    static {
+        long seed = 0x5DEECE66DL;
+        for (int i = 0; i < LENGTH; i++) {
+            seed += 0x9E3779B97F4A7C15L;
+            SEEDS[i] = mix(seed);
+        }
+    }
+
+    // Кількість треків збірки з кожним відбитком.
+    private final LongIntHashMap elementCounts = new LongIntHashMap();
+    // Відбиток кожного треку-об'єкта, щоб після редагування треку прибрати старий елемент.
+    private final Map<Track, long[]> entries = new IdentityHashMap<>();
+    private final long[] minimums = new long[LENGTH];
+    private boolean minimumsValid = true;
+
+    CompilationSignature(List<? extends Track> tracks) {
+        Arrays.fill(minimums, Long.MAX_VALUE);
+        for (Track track : tracks) {
+            add(track);
+        }
+    }
+
+    void add(Track track) {
+        long[] entry = entries.computeIfAbsent(track, key -> new long[]{TrackDuplicateIndex.fingerprint(key), 0});
+        entry[1]++;
+        addElement(entry[0], 1);
+    }
+
+    void remove(Track track) {
+        long[] entry = entries.get(track);
+        if (entry == null) {
+            return;
+        }
+        if (--entry[1] == 0) {
+            entries.remove(track);
+        }
+        removeElement(entry[0], 1);
+    }
+
+    /**
+     * Оновлює елемент треку після зміни його атрибутів.
+     */
+    void update(Track track) {
+        long[] entry = entries.get(track);
+        if (entry == null) {
+            return;
+        }
+        long element = TrackDuplicateIndex.fingerprint(track);
+        if (element == entry[0]) {
+            return;
+        }
+        removeElement(entry[0], (int) entry[1]);
+        entry[0] = element;
+        addElement(element, (int) entry[1]);
+    }
+
+    /**
+     * @return Копія підпису; для збірки без треків усі позиції дорівнюють {@link Long#MAX_VALUE}.
+     */
+    long[] values() {
+        if (!minimumsValid) {
+            Arrays.fill(minimums, Long.MAX_VALUE);
+            elementCounts.forEach((element, count) -> lowerMinimums(element));
+            minimumsValid = true;
+        }
+        return minimums.clone();
+    }
+
+    private void addElement(long element, int count) {
+        if (elementCounts.addTo(element, count) == count && minimumsValid) {
+            lowerMinimums(element);
+        }
+    }
+
+    private void removeElement(long element, int count) {
+        if (elementCounts.addTo(element, -count) > 0) {
+            return;
+        }
+        elementCounts.remove(element);
+        if (!minimumsValid) {
+            return;
+        }
+        for (int i = 0; i < LENGTH; i++) {
+            if (minimums[i] == hash(element, i)) {
+                minimumsValid = false;
+                return;
+            }
+        }
+    }
+
+    private void lowerMinimums(long element) {
+        for (int i = 0; i < LENGTH; i++) {
+            long hash = hash(element, i);
+            if (hash < minimums[i]) {
+                minimums[i] = hash;
+            }
+        }
+    }
+
+    private static long hash(long element, int function) {
+        return mix(element ^ SEEDS[function]);
+    }
+
+    // Фіналізатор MurmurHash3: кожен біт входу впливає на всі біти результату.
+    private static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xff51afd7ed558ccdL;
+        value ^= value >>> 33;
+        value *= 0xc4ceb9fe1a85ec53L;
+        value ^= value >>> 33;
+        return value;
+    }
+}
@@ -1,12 +1,22 @@
 package music.Models;
 
-import music.Service.MusicCompilationService;
+import music.Collections.GenreCounter;
+import music.Collections.LongIntHashMap;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
 
 
 /**
@@ -16,11 +26,41 @@ import java.util.List;
  * Реалізує інтерфейс Serializable для можливості серіалізації.
  */
 public class MusicCompilation implements Serializable {
+    // Зафіксовано значення попередніх версій класу, щоб раніше збережені файли залишалися сумісними.
+    private static final long serialVersionUID = -4198729795145930199L;
     private static final Logger logger = LogManager.getLogger(MusicCompilation.class);
+
+    /**
+     * Алфавітний порядок збірок за назвою ({@link TextCollation}); порівнюються кешовані ключі сортування.
+     */
+    public static final Comparator<MusicCompilation> BY_TITLE =
+            (first, second) -> TextCollation.compare(first.getTitleSortKey(), second.getTitleSortKey());
     private Long id;
     private String title;
     private final List<MusicTrack> tracks;
-    private static final MusicCompilationService compilationService=new MusicCompilationService();
+    private static final AtomicLong VERSION_SEQUENCE = new AtomicLong();
+    private transient long version;
+    // Агрегати треків підтримуються інкрементно; після десеріалізації чи зовнішніх змін
+    // (markModified) вони обчислюються заново при першому зверненні.
+    private transient boolean aggregatesValid;
+    private transient long totalSeconds;
+    private transient GenreCounter genreCounts;
+    // Кількість треків для кожної тривалості в секундах; крайні значення кешуються та
+    // перераховуються лише тоді, коли зникає останній трек з найменшою чи найбільшою тривалістю.
+    private transient LongIntHashMap durationCounts;
+    private transient long shortestSeconds;
+    private transient long longestSeconds;
+    private transient boolean extremesValid;
+    // Ліниві індекси, див. ensureDuplicateIndex().
+    private transient TrackDuplicateIndex duplicateIndex;
+    private transient TrackDurationIndex durationIndex;
+    private transient CompilationSignature signature;
+    private transient List<TrackListListener> listeners;
+    // Незмінний знімок треків, спільний для всіх читачів до наступної зміни списку.
+    private transient List<MusicTrack> trackView;
+    // Ключ сортування назви обчислюється при першому сортуванні та скидається при зміні назви.
+    private transient byte[] titleSortKey;
+
     /**
      * Конструктор для створення нової збірки з назвою.
      *
@@ -33,9 +73,44 @@ public class MusicCompilation implements Serializable {
         }
         this.title = title;
         this.tracks = new ArrayList<>();
+        this.version = nextVersion();
         logger.info("Створено нову компіляцію: {}", title);
     }
 
+    /**
+     * Конструктор копіювання без валідації та логування, використовується для знімків.
+     *
+     * @param other Збірка, яку потрібно скопіювати.
+     */
+    private MusicCompilation(MusicCompilation other) {
+        this.id = other.id;
+        this.title = other.title;
+        this.tracks = new ArrayList<>(other.tracks.size());
+        for (MusicTrack track : other.tracks) {
+            this.tracks.add(track.copy());
+        }
+        this.version = other.version;
+    }
+
+    /**
+     * Після десеріалізації збірка отримує нову версію: поле версії не серіалізується, а нульова версія
+     * збігалася б у всіх завантажених збірок.
+     */
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        version = nextVersion();
+    }
+
+    /**
+     * Повертає наступне значення глобального монотонного лічильника версій моделі.
+     * Спільний лічильник дозволяє порівнювати версії різних збірок і менеджера між собою.
+     *
+     * @return Нове значення версії.
+     */
+    public static long nextVersion() {
+        return VERSION_SEQUENCE.incrementAndGet();
+    }
+
     /**
      * Отримує ідентифікатор збірки.
      *
@@ -56,6 +131,7 @@ public class MusicCompilation implements Serializable {
             throw new IllegalArgumentException("ID не може бути від'ємним");
         }
         this.id = id;
+        touch();
         logger.debug("Встановлено ID компіляції: {}", id);
     }
 
@@ -81,27 +157,704 @@ public class MusicCompilation implements Serializable {
         }
         logger.debug("Змінено назву компіляції з {} на {}", this.title, title);
         this.title = title;
+        this.titleSortKey = null;
+        touch();
     }
 
+    /**
+     * @return Ключ сортування назви ({@link TextCollation#sortKey(String)}); масив не можна змінювати.
+     */
+    public byte[] getTitleSortKey() {
+        byte[] key = titleSortKey;
+        if (key == null) {
+            key = TextCollation.sortKey(title);
+            titleSortKey = key;
+        }
+        return key;
+    }
+
+    /**
+     * Додає трек у кінець збірки.
+     *
+     * @param track Трек для додавання.
+     * @throws IllegalArgumentException якщо трек null.
+     */
     public void addTrack(MusicTrack track) {
+        insertTrack(tracks.size(), track);
+    }
+
+    /**
+     * Вставляє трек у задану позицію.
+     *
+     * @param index Позиція від 0 до кількості треків включно.
+     * @param track Трек для вставки.
+     * @throws IllegalArgumentException якщо трек null.
+     * @throws IndexOutOfBoundsException якщо позиція поза межами списку.
+     */
+    public void insertTrack(int index, MusicTrack track) {
         if (track == null) {
             throw new IllegalArgumentException("Трек не може бути null");
         }
-        tracks.add(track);
+        tracks.add(index, track);
+        trackView = null;
+        if (aggregatesValid) {
+            addToAggregates(track.getGenre(), track.getDuration().getSeconds());
+        }
+        if (duplicateIndex != null) {
+            duplicateIndex.add(track);
+        }
+        if (durationIndex != null) {
+            durationIndex.add(track);
+        }
+        if (signature != null) {
+            signature.add(track);
+        }
+        touch();
         logger.info("Додано трек {} до компіляції {}", track, this.title);
+        fireTracksChanged(TrackListEvent.Type.INSERTED, index, index, List.of());
+    }
+
+    /**
+     * Вставляє кілька треків у задану позицію однією зміною.
+     *
+     * @param index     Позиція від 0 до кількості треків включно.
+     * @param newTracks Треки для вставки.
+     * @throws IllegalArgumentException якщо список або один із треків null.
+     * @throws IndexOutOfBoundsException якщо позиція поза межами списку.
+     */
+    public void insertTracks(int index, List<MusicTrack> newTracks) {
+        requireTracks(newTracks);
+        if (newTracks.isEmpty()) {
+            return;
+        }
+        tracks.addAll(index, newTracks);
+        trackView = null;
+        if (aggregatesValid) {
+            for (MusicTrack track : newTracks) {
+                addToAggregates(track.getGenre(), track.getDuration().getSeconds());
+            }
+        }
+        if (duplicateIndex != null) {
+            newTracks.forEach(duplicateIndex::add);
+        }
+        if (durationIndex != null) {
+            newTracks.forEach(durationIndex::add);
+        }
+        if (signature != null) {
+            newTracks.forEach(signature::add);
+        }
+        touch();
+        logger.info("Додано {} треків до компіляції {}", newTracks.size(), this.title);
+        fireTracksChanged(TrackListEvent.Type.INSERTED, index, index + newTracks.size() - 1, List.of());
+    }
+
+    /**
+     * Видаляє трек у заданій позиції.
+     *
+     * @param index Позиція треку.
+     * @return Видалений трек.
+     * @throws IndexOutOfBoundsException якщо позиція поза межами списку.
+     */
+    public MusicTrack removeTrack(int index) {
+        MusicTrack removed = tracks.remove(index);
+        trackView = null;
+        if (aggregatesValid) {
+            removeFromAggregates(removed.getGenre(), removed.getDuration().getSeconds());
+        }
+        if (duplicateIndex != null) {
+            duplicateIndex.remove(removed);
+        }
+        if (durationIndex != null) {
+            durationIndex.remove(removed);
+        }
+        if (signature != null) {
+            signature.remove(removed);
+        }
+        touch();
+        logger.info("Видалено трек {} зі збірки {}", removed, this.title);
+        fireTracksChanged(TrackListEvent.Type.REMOVED, index, index, List.of(removed));
+        return removed;
+    }
+
+    /**
+     * Видаляє трек зі збірки. Трек шукається за посиланням, а не за рівністю атрибутів.
+     *
+     * @param track Трек для видалення.
+     * @return true, якщо трек був у збірці.
+     */
+    public boolean removeTrack(MusicTrack track) {
+        int index = indexOfTrack(track);
+        if (index < 0) {
+            return false;
+        }
+        removeTrack(index);
+        return true;
+    }
+
+    /**
+     * Переміщує трек на нову позицію, зсуваючи треки між старою та новою позиціями.
+     *
+     * @param fromIndex Поточна позиція треку.
+     * @param toIndex   Нова позиція треку.
+     * @throws IndexOutOfBoundsException якщо одна з позицій поза межами списку.
+     */
+    public void moveTrack(int fromIndex, int toIndex) {
+        Objects.checkIndex(fromIndex, tracks.size());
+        Objects.checkIndex(toIndex, tracks.size());
+        if (fromIndex == toIndex) {
+            return;
+        }
+        tracks.add(toIndex, tracks.remove(fromIndex));
+        trackView = null;
+        if (durationIndex != null) {
+            durationIndex.reordered();
+        }
+        touch();
+        logger.debug("Трек збірки {} переміщено з позиції {} на {}", this.title, fromIndex, toIndex);
+        fireTracksChanged(TrackListEvent.Type.MOVED, fromIndex, toIndex, List.of());
+    }
+
+    /**
+     * Замінює трек у заданій позиції.
+     *
+     * @param index Позиція треку.
+     * @param track Новий трек.
+     * @return Замінений трек.
+     * @throws IllegalArgumentException якщо трек null.
+     * @throws IndexOutOfBoundsException якщо позиція поза межами списку.
+     */
+    public MusicTrack replaceTrack(int index, MusicTrack track) {
+        if (track == null) {
+            throw new IllegalArgumentException("Трек не може бути null");
+        }
+        MusicTrack previous = tracks.set(index, track);
+        trackView = null;
+        if (aggregatesValid) {
+            removeFromAggregates(previous.getGenre(), previous.getDuration().getSeconds());
+            addToAggregates(track.getGenre(), track.getDuration().getSeconds());
+        }
+        if (duplicateIndex != null) {
+            duplicateIndex.remove(previous);
+            duplicateIndex.add(track);
+        }
+        if (durationIndex != null) {
+            durationIndex.remove(previous);
+            durationIndex.add(track);
+        }
+        if (signature != null) {
+            signature.remove(previous);
+            signature.add(track);
+        }
+        touch();
+        fireTracksChanged(TrackListEvent.Type.REPLACED, index, index, List.of(previous));
+        return previous;
+    }
+
+    /**
+     * Замінює весь список треків. Спільні початок і кінець старого та нового списків
+     * (за посиланнями на треки) не змінюються, тому агрегати оновлюються та події
+     * публікуються лише для зміненої середини.
+     *
+     * @param newTracks Новий список треків.
+     * @throws IllegalArgumentException якщо список або один із треків null.
+     */
+    public void replaceAll(List<MusicTrack> newTracks) {
+        requireTracks(newTracks);
+        int oldSize = tracks.size();
+        int newSize = newTracks.size();
+        int prefix = 0;
+        while (prefix < oldSize && prefix < newSize && tracks.get(prefix) == newTracks.get(prefix)) {
+            prefix++;
+        }
+        int suffix = 0;
+        while (suffix < oldSize - prefix && suffix < newSize - prefix
+                && tracks.get(oldSize - 1 - suffix) == newTracks.get(newSize - 1 - suffix)) {
+            suffix++;
+        }
+        int oldChanged = oldSize - prefix - suffix;
+        int newChanged = newSize - prefix - suffix;
+        if (oldChanged == 0 && newChanged == 0) {
+            return;
+        }
+
+        List<MusicTrack> middle = tracks.subList(prefix, prefix + oldChanged);
+        List<MusicTrack> previous = hasListeners() ? List.copyOf(middle) : List.of();
+        if (aggregatesValid) {
+            for (MusicTrack track : middle) {
+                removeFromAggregates(track.getGenre(), track.getDuration().getSeconds());
+            }
+            for (MusicTrack track : newTracks.subList(prefix, prefix + newChanged)) {
+                addToAggregates(track.getGenre(), track.getDuration().getSeconds());
+            }
+        }
+        if (duplicateIndex != null) {
+            middle.forEach(duplicateIndex::remove);
+            newTracks.subList(prefix, prefix + newChanged).forEach(duplicateIndex::add);
+        }
+        if (durationIndex != null) {
+            middle.forEach(durationIndex::remove);
+            newTracks.subList(prefix, prefix + newChanged).forEach(durationIndex::add);
+        }
+        if (signature != null) {
+            middle.forEach(signature::remove);
+            newTracks.subList(prefix, prefix + newChanged).forEach(signature::add);
+        }
+        middle.clear();
+        middle.addAll(newTracks.subList(prefix, prefix + newChanged));
+        trackView = null;
+        touch();
+        logger.debug("Оновлено треки збірки {} у діапазоні {}..{}", this.title, prefix, prefix + newChanged - 1);
+
+        if (!hasListeners()) {
+            return;
+        }
+        int replaced = Math.min(oldChanged, newChanged);
+        if (replaced > 0) {
+            fireTracksChanged(TrackListEvent.Type.REPLACED, prefix, prefix + replaced - 1,
+                    previous.subList(0, replaced));
+        }
+        if (newChanged > replaced) {
+            fireTracksChanged(TrackListEvent.Type.INSERTED, prefix + replaced, prefix + newChanged - 1, List.of());
+        } else if (oldChanged > replaced) {
+            fireTracksChanged(TrackListEvent.Type.REMOVED, prefix + replaced, prefix + oldChanged - 1,
+                    previous.subList(replaced, oldChanged));
+        }
+    }
+
+    /**
+     * Повертає позицію треку в збірці, порівнюючи за посиланням.
+     *
+     * @param track Трек для пошуку.
+     * @return Позиція треку або -1, якщо його немає у збірці.
+     */
+    public int indexOfTrack(MusicTrack track) {
+        for (int i = 0; i < tracks.size(); i++) {
+            if (tracks.get(i) == track) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Реєструє слухача змін списку треків. Слухачі не серіалізуються і не копіюються в {@link #copy()}.
+     *
+     * @param listener Слухач для додавання.
+     */
+    public void addTrackListListener(TrackListListener listener) {
+        if (listener == null) {
+            throw new IllegalArgumentException("Слухач не може бути null");
+        }
+        if (listeners == null) {
+            listeners = new CopyOnWriteArrayList<>();
+        }
+        listeners.add(listener);
+    }
+
+    /**
+     * Видаляє слухача змін списку треків.
+     *
+     * @param listener Слухач для видалення.
+     */
+    public void removeTrackListListener(TrackListListener listener) {
+        if (listeners != null) {
+            listeners.remove(listener);
+        }
     }
 
     /**
      * Отримує копію списку треків збірки.
+     * Для читання без копіювання використовуйте {@link #getTrackView()} або {@link #forEachTrack(Consumer)}.
      *
-     * @return Новий список треків.
+     * @return Новий список треків, який можна змінювати.
      */
     public List<MusicTrack> getTracks() {
         return new ArrayList<>(tracks);
     }
 
+    /**
+     * Повертає незмінний знімок списку треків. Знімок створюється при першому зверненні після зміни
+     * і повторно використовується всіма читачами, доки список не зміниться знову; раніше отримані
+     * знімки не змінюються.
+     *
+     * @return Незмінний список треків.
+     */
+    public List<MusicTrack> getTrackView() {
+        List<MusicTrack> view = trackView;
+        if (view == null) {
+            view = List.copyOf(tracks);
+            trackView = view;
+        }
+        return view;
+    }
+
+    /**
+     * Повертає трек у заданій позиції.
+     *
+     * @param index Позиція треку.
+     * @return Трек.
+     * @throws IndexOutOfBoundsException якщо позиція поза межами списку.
+     */
+    public MusicTrack getTrack(int index) {
+        return tracks.get(index);
+    }
+
+    /**
+     * Виконує дію для кожного треку без створення копії списку чи ітератора.
+     * Дія не повинна змінювати список треків збірки.
+     *
+     * @param action Дія для кожного треку.
+     */
+    public void forEachTrack(Consumer<? super MusicTrack> action) {
+        for (int i = 0, size = tracks.size(); i < size; i++) {
+            action.accept(tracks.get(i));
+        }
+    }
+
 
 
+    /**
+     * Повертає версію збірки. Версія зростає після кожної зміни назви, ID або списку треків.
+     *
+     * @return Поточна версія збірки.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Позначає збірку як змінену. Викликається після змін, які не проходять через методи цього класу.
+     * Агрегати треків буде перераховано при наступному зверненні.
+     */
+    public void markModified() {
+        aggregatesValid = false;
+        duplicateIndex = null;
+        durationIndex = null;
+        signature = null;
+        trackView = null;
+        touch();
+    }
+
+    /**
+     * Оновлює агрегати після редагування треку, що належить збірці. Подія {@link TrackListEvent.Type#REPLACED}
+     * містить сам змінений трек у новому стані.
+     *
+     * @param track            Змінений трек.
+     * @param previousGenre    Жанр треку до редагування.
+     * @param previousDuration Тривалість треку до редагування.
+     */
+    public void trackUpdated(MusicTrack track, MusicGenre previousGenre, Duration previousDuration) {
+        if (aggregatesValid) {
+            removeFromAggregates(previousGenre, previousDuration.getSeconds());
+            addToAggregates(track.getGenre(), track.getDuration().getSeconds());
+        }
+        if (duplicateIndex != null) {
+            duplicateIndex.update(track);
+        }
+        if (durationIndex != null) {
+            durationIndex.update(previousDuration, track);
+        }
+        if (signature != null) {
+            signature.update(track);
+        }
+        touch();
+        int index = indexOfTrack(track);
+        if (index >= 0) {
+            fireTracksChanged(TrackListEvent.Type.REPLACED, index, index, List.of(track));
+        }
+    }
+
+    /**
+     * Повідомляє слухачів, що треки в діапазоні змінилися на місці без зміни жанру та тривалості
+     * (наприклад, після призначення ID базою даних). Агрегати не перераховуються.
+     *
+     * @param fromIndex Перший індекс діапазону (включно).
+     * @param toIndex   Останній індекс діапазону (включно).
+     * @throws IndexOutOfBoundsException якщо діапазон поза межами списку.
+     */
+    public void tracksUpdated(int fromIndex, int toIndex) {
+        Objects.checkFromToIndex(fromIndex, toIndex + 1, tracks.size());
+        if (fromIndex > toIndex) {
+            return;
+        }
+        touch();
+        fireTracksChanged(TrackListEvent.Type.REPLACED, fromIndex, toIndex,
+                hasListeners() ? List.copyOf(tracks.subList(fromIndex, toIndex + 1)) : List.of());
+    }
+
+    /**
+     * Перевіряє, чи є у збірці трек з тими самими назвою, виконавцем і тривалістю
+     * (без урахування регістру та зайвих пробілів). Перевірка виконується за O(1).
+     *
+     * @param track Трек-кандидат.
+     * @return true, якщо такий трек уже є у збірці.
+     * @throws IllegalArgumentException якщо трек null.
+     */
+    public boolean containsDuplicateOf(Track track) {
+        if (track == null) {
+            throw new IllegalArgumentException("Трек не може бути null");
+        }
+        return ensureDuplicateIndex().contains(track);
+    }
+
+    /**
+     * Відбирає треки, яких ще немає у збірці; повтори всередині списку також відкидаються.
+     *
+     * @param candidates Треки-кандидати.
+     * @return Нові треки у вихідному порядку.
+     * @throws IllegalArgumentException якщо список або один із треків null.
+     */
+    public List<MusicTrack> withoutDuplicates(List<MusicTrack> candidates) {
+        requireTracks(candidates);
+        return ensureDuplicateIndex().filterNew(candidates);
+    }
+
+    /**
+     * Підраховує треки з тривалістю від min до max включно (з точністю до секунди) за O(log n)
+     * без перебору треків, тому підходить для оновлення лічильника під час зміни меж.
+     *
+     * @param min Мінімальна тривалість.
+     * @param max Максимальна тривалість.
+     * @return Кількість треків у діапазоні; 0, якщо min більша за max.
+     * @throws IllegalArgumentException якщо одна з меж null.
+     */
+    public int countTracksInDurationRange(Duration min, Duration max) {
+        requireDurationRange(min, max);
+        return ensureDurationIndex().count(min, max);
+    }
+
+    /**
+     * @param min Мінімальна тривалість.
+     * @param max Максимальна тривалість.
+     * @return Загальна тривалість треків з тривалістю від min до max включно.
+     * @throws IllegalArgumentException якщо одна з меж null.
+     */
+    public Duration getTotalDurationInRange(Duration min, Duration max) {
+        requireDurationRange(min, max);
+        return Duration.ofSeconds(ensureDurationIndex().totalSeconds(min, max));
+    }
+
+    /**
+     * Повертає треки з тривалістю від min до max включно (з точністю до секунди) за O(log n + k),
+     * де k — кількість знайдених треків. Перший запит після зміни списку сортує треки заново.
+     *
+     * @param min Мінімальна тривалість.
+     * @param max Максимальна тривалість.
+     * @return Незмінний список треків від найкоротшого; треки з однаковою тривалістю йдуть у порядку збірки.
+     * @throws IllegalArgumentException якщо одна з меж null.
+     */
+    public List<MusicTrack> getTracksInDurationRange(Duration min, Duration max) {
+        requireDurationRange(min, max);
+        return ensureDurationIndex().tracksInRange(min, max);
+    }
+
+    /**
+     * Повертає треки з тривалістю від min до max включно в порядку збірки за O(log n + k log k):
+     * знайдені індексом треки впорядковуються за позиціями.
+     *
+     * @param min Мінімальна тривалість.
+     * @param max Максимальна тривалість.
+     * @return Незмінний список треків у порядку збірки.
+     * @throws IllegalArgumentException якщо одна з меж null.
+     */
+    public List<MusicTrack> getTracksInDurationRangeInOrder(Duration min, Duration max) {
+        requireDurationRange(min, max);
+        return ensureDurationIndex().tracksInRangeInOrder(min, max);
+    }
+
+    /**
+     * @return Кількість треків у збірці.
+     */
+    public int getTrackCount() {
+        return tracks.size();
+    }
+
+    /**
+     * @return Загальна тривалість треків у секундах.
+     */
+    public long getTotalSeconds() {
+        ensureAggregates();
+        return totalSeconds;
+    }
+
+    /**
+     * @return Загальна тривалість треків.
+     */
+    public Duration getTotalDuration() {
+        return Duration.ofSeconds(getTotalSeconds());
+    }
+
+    /**
+     * @return Тривалість найкоротшого треку або {@link Duration#ZERO} для порожньої збірки.
+     */
+    public Duration getShortestDuration() {
+        ensureExtremes();
+        return Duration.ofSeconds(shortestSeconds);
+    }
+
+    /**
+     * @return Тривалість найдовшого треку або {@link Duration#ZERO} для порожньої збірки.
+     */
+    public Duration getLongestDuration() {
+        ensureExtremes();
+        return Duration.ofSeconds(longestSeconds);
+    }
+
+    /**
+     * @param genre Жанр.
+     * @return Кількість треків цього жанру.
+     */
+    public int getGenreCount(MusicGenre genre) {
+        ensureAggregates();
+        return (int) genreCounts.get(genre);
+    }
+
+    /**
+     * @return Кількість треків за жанрами; жанри без треків не включаються.
+     */
+    public Map<MusicGenre, Long> getGenreCounts() {
+        ensureAggregates();
+        return genreCounts.toMap();
+    }
+
+    /**
+     * @return Пари "жанр — кількість" для жанрів з треками, від найпоширенішого.
+     */
+    public List<Map.Entry<MusicGenre, Long>> getSortedGenreCounts() {
+        ensureAggregates();
+        return genreCounts.toSortedEntries();
+    }
+
+    /**
+     * Повертає MinHash-підпис множини треків збірки. Частка однакових позицій підписів двох збірок
+     * оцінює коефіцієнт Жаккара їхніх множин треків (треки порівнюються так само, як у
+     * {@link #containsDuplicateOf(Track)}). Підпис обчислюється при першому виклику, а далі
+     * оновлюється разом зі списком треків, тому повторні виклики не проходять по треках.
+     *
+     * @return Копія підпису довжиною 128; для порожньої збірки всі позиції дорівнюють {@link Long#MAX_VALUE}.
+     */
+    public long[] getMinHashSignature() {
+        return ensureSignature().values();
+    }
+
+    private void touch() {
+        version = nextVersion();
+    }
+
+    private static void requireTracks(List<MusicTrack> newTracks) {
+        if (newTracks == null) {
+            throw new IllegalArgumentException("Список треків не може бути null");
+        }
+        for (MusicTrack track : newTracks) {
+            if (track == null) {
+                throw new IllegalArgumentException("Трек не може бути null");
+            }
+        }
+    }
+
+    private static void requireDurationRange(Duration min, Duration max) {
+        if (min == null || max == null) {
+            throw new IllegalArgumentException("Мінімальна або максимальна тривалість не може бути null");
+        }
+    }
+
+    private boolean hasListeners() {
+        return listeners != null && !listeners.isEmpty();
+    }
+
+    private void fireTracksChanged(TrackListEvent.Type type, int fromIndex, int toIndex,
+                                   List<MusicTrack> removedTracks) {
+        if (!hasListeners()) {
+            return;
+        }
+        TrackListEvent event = new TrackListEvent(this, type, fromIndex, toIndex, removedTracks);
+        for (TrackListListener listener : listeners) {
+            listener.tracksChanged(event);
+        }
+    }
+
+    private void ensureAggregates() {
+        if (aggregatesValid) {
+            return;
+        }
+        totalSeconds = 0;
+        genreCounts = new GenreCounter();
+        durationCounts = new LongIntHashMap(tracks.size());
+        extremesValid = false;
+        for (MusicTrack track : tracks) {
+            addToAggregates(track.getGenre(), track.getDuration().getSeconds());
+        }
+        aggregatesValid = true;
+    }
+
+    // Індекси будуються при першому запиті, надалі мутатори оновлюють їх разом зі списком треків,
+    // а markModified() скидає, щоб наступний запит побудував їх заново.
+    private TrackDuplicateIndex ensureDuplicateIndex() {
+        if (duplicateIndex == null) {
+            duplicateIndex = new TrackDuplicateIndex(tracks);
+        }
+        return duplicateIndex;
+    }
+
+    private TrackDurationIndex ensureDurationIndex() {
+        if (durationIndex == null) {
+            durationIndex = new TrackDurationIndex(tracks);
+        }
+        return durationIndex;
+    }
+
+    private CompilationSignature ensureSignature() {
+        if (signature == null) {
+            signature = new CompilationSignature(tracks);
+        }
+        return signature;
+    }
+
+    private void ensureExtremes() {
+        ensureAggregates();
+        if (extremesValid) {
+            return;
+        }
+        shortestSeconds = durationCounts.isEmpty() ? 0 : durationCounts.minKey();
+        longestSeconds = durationCounts.isEmpty() ? 0 : durationCounts.maxKey();
+        extremesValid = true;
+    }
+
+    private void addToAggregates(MusicGenre genre, long seconds) {
+        totalSeconds += seconds;
+        genreCounts.increment(genre);
+        if (durationCounts.addTo(seconds, 1) == 1 && extremesValid) {
+            if (durationCounts.size() == 1) {
+                shortestSeconds = seconds;
+                longestSeconds = seconds;
+            } else {
+                shortestSeconds = Math.min(shortestSeconds, seconds);
+                longestSeconds = Math.max(longestSeconds, seconds);
+            }
+        }
+    }
+
+    private void removeFromAggregates(MusicGenre genre, long seconds) {
+        totalSeconds -= seconds;
+        genreCounts.add(genre, -1);
+        if (durationCounts.addTo(seconds, -1) == 0) {
+            durationCounts.remove(seconds);
+            if (seconds == shortestSeconds || seconds == longestSeconds) {
+                extremesValid = false;
+            }
+        }
+    }
+
+    /**
+     * Створює глибоку копію збірки разом з копіями треків.
+     * Копія не залежить від подальших змін оригіналу і може безпечно серіалізуватися в іншому потоці.
+     *
+     * @return Незалежна копія збірки.
+     */
+    public MusicCompilation copy() {
+        return new MusicCompilation(this);
+    }
+
     /**
      * Повертає текстове представлення компіляції для відображення в інтерфейсі.
      *
@@ -109,8 +862,7 @@ public class MusicCompilation implements Serializable {
      */
     @Override
     public String toString() {
-        return title + " (" + tracks.size() + " треків, " +
-                compilationService.calculateTotalDuration(tracks).toMinutes() + " хв)";
+        return title + " (" + tracks.size() + " треків, " + getTotalDuration().toMinutes() + " хв)";
     }
 
 
@@ -4,6 +4,9 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import java.io.Serializable;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
 
 /**
  * Перерахування, що представляє різні жанри музики.
@@ -54,6 +57,14 @@ public enum MusicGenre implements Serializable {
 
     private final String name;
     private static final Logger logger = LogManager.getLogger(MusicGenre.class);
+    private static final Map<String, MusicGenre> LOOKUP = new HashMap<>();
+
+    static {
+        for (MusicGenre genre : values()) {
+            LOOKUP.put(normalize(genre.name()), genre);
+            LOOKUP.put(normalize(genre.name), genre);
+        }
+    }
 
     /**
      * Конструктор для ініціалізації жанру музики з назвою.
@@ -84,4 +95,29 @@ public enum MusicGenre implements Serializable {
             return "Невідомий жанр";
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Знаходить жанр за назвою константи або назвою для відображення без урахування регістру,
+     * пробілів та розділювачів (наприклад, "HIP_HOP", "Hip Hop" та "hip-hop").
+     *
+     * @param value Текстова назва жанру.
+     * @return Жанр або null, якщо назва не розпізнана.
+     */
+    public static MusicGenre parse(String value) {
+        if (value == null) {
+            return null;
+        }
+        return LOOKUP.get(normalize(value));
+    }
+
+    private static String normalize(String value) {
+        StringBuilder normalized = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                normalized.append(c);
+            }
+        }
+        return normalized.toString().toLowerCase(Locale.ROOT);
+    }
+}
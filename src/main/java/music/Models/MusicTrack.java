@@ -3,6 +3,8 @@ package music.Models;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
 import java.time.Duration;
 
@@ -10,7 +12,9 @@ import java.time.Duration;
  * Клас, що представляє музичний трек із основними атрибутами, такими як назва, виконавець, жанр та тривалість.
  * Реалізує інтерфейс Serializable для підтримки серіалізації.
  */
-public class MusicTrack implements Serializable {
+public class MusicTrack implements Track, Serializable {
+    // Зафіксовано значення попередніх версій класу, щоб раніше збережені файли залишалися сумісними.
+    private static final long serialVersionUID = -1179013455276801120L;
     private static final Logger logger = LogManager.getLogger(MusicTrack.class);
 
     private Long id;
@@ -18,6 +22,10 @@ public class MusicTrack implements Serializable {
     private String artist;
     private MusicGenre genre;
     private Duration duration;
+    // ID виконавця в ArtistRegistry діє лише в межах процесу, тому не серіалізується.
+    private transient int artistId;
+    // Ключ сортування назви обчислюється при першому сортуванні та скидається при зміні назви.
+    private transient byte[] titleSortKey;
 
     /**
      * Конструктор для створення нового музичного треку.
@@ -45,10 +53,11 @@ public class MusicTrack implements Serializable {
             }
 
             this.title = title;
-            this.artist = artist;
+            this.artistId = ArtistRegistry.idOf(artist);
+            this.artist = ArtistRegistry.name(artistId);
             this.genre = genre;
             this.duration = duration;
-            logger.info("Створено новий трек: {} - {} (жанр: {}, тривалість: {} хв)",
+            logger.debug("Створено новий трек: {} - {} (жанр: {}, тривалість: {} хв)",
                     title, artist, genre, duration.toMinutes());
         } catch (IllegalArgumentException e) {
             logger.error("Невірні параметри для створення треку: {}", e.getMessage(), e);
@@ -56,6 +65,29 @@ public class MusicTrack implements Serializable {
         }
     }
 
+    /**
+     * Конструктор копіювання без валідації та логування, використовується для знімків.
+     *
+     * @param other Трек, який потрібно скопіювати
+     */
+    private MusicTrack(MusicTrack other) {
+        this.id = other.id;
+        this.title = other.title;
+        this.artist = other.artist;
+        this.artistId = other.artistId;
+        this.genre = other.genre;
+        this.duration = other.duration;
+    }
+
+    /**
+     * Створює незалежну копію треку.
+     *
+     * @return Копія треку з тими самими атрибутами та ID
+     */
+    public MusicTrack copy() {
+        return new MusicTrack(this);
+    }
+
     /**
      * Встановлює ідентифікатор треку.
      *
@@ -90,6 +122,7 @@ public class MusicTrack implements Serializable {
             }
             logger.debug("Змінено назву треку з {} на {}", this.title, title);
             this.title = title;
+            this.titleSortKey = null;
         } catch (IllegalArgumentException e) {
             logger.error("Невірна назва треку: {}", e.getMessage(), e);
             throw e;
@@ -109,7 +142,8 @@ public class MusicTrack implements Serializable {
                 throw new IllegalArgumentException("Виконавець не може бути порожнім");
             }
             logger.debug("Змінено виконавця треку з {} на {}", this.artist, artist);
-            this.artist = artist;
+            this.artistId = ArtistRegistry.idOf(artist);
+            this.artist = ArtistRegistry.name(artistId);
         } catch (IllegalArgumentException e) {
             logger.error("Невірний виконавець треку: {}", e.getMessage(), e);
             throw e;
@@ -157,22 +191,42 @@ public class MusicTrack implements Serializable {
     }
 
 
+    @Override
     public Long getId() {
         return id;
     }
 
+    @Override
     public String getTitle() {
         return title;
     }
 
+    @Override
+    public byte[] getTitleSortKey() {
+        byte[] key = titleSortKey;
+        if (key == null) {
+            key = TextCollation.sortKey(title);
+            titleSortKey = key;
+        }
+        return key;
+    }
+
+    @Override
     public String getArtist() {
         return artist;
     }
 
+    @Override
+    public int getArtistId() {
+        return artistId;
+    }
+
+    @Override
     public MusicGenre getGenre() {
         return genre;
     }
 
+    @Override
     public Duration getDuration() {
         return duration;
     }
@@ -184,4 +238,15 @@ public class MusicTrack implements Serializable {
             logger.debug("Отримано рядкове представлення треку: {}", result);
             return result;
         }
+
+    /**
+     * Відновлює спільний екземпляр виконавця та його ID після десеріалізації.
+     */
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        if (artist != null) {
+            artistId = ArtistRegistry.idOf(artist);
+            artist = ArtistRegistry.name(artistId);
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,75 @@
+package music.Models;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.text.Collator;
+import java.text.ParseException;
+import java.text.RuleBasedCollator;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Locale;
+
+/**
+ * Алфавітне впорядкування назв і імен з урахуванням української мови.
+ * Змішані кирилиця та латиниця впорядковуються за правилами {@link Collator} для локалі uk-UA:
+ * спочатку без урахування регістру та діакритики, потім з їх урахуванням.
+ *
+ * <p>Порівняння через {@link Collator} повторно розбирає обидва рядки, тому для сортування рядок
+ * один раз перетворюється на ключ сортування — масив байтів, порівняння якого беззнаково дає той самий
+ * порядок. Ключі кешуються у власниках рядків (треках, збірках, {@link ArtistRegistry}) і скидаються при зміні рядка.
+ */
+public final class TextCollation {
+    private static final Logger logger = LogManager.getLogger(TextCollation.class);
+    private static final String UKRAINIAN_RULES = "& г , Г < ґ , Ґ";
+    private static final Collator COLLATOR = createCollator();
+
+    /**
+     * Порівняння рядків за ключами сортування; кожне порівняння обчислює два ключі,
+     * тому для сортування великих списків краще порівнювати кешовані ключі через {@link #compare(byte[], byte[])}.
+     */
+    public static final Comparator<String> ORDER = (first, second) -> compare(sortKey(first), sortKey(second));
+
+    private TextCollation() {
+    }
+
+    /**
+     * Обчислює ключ сортування рядка.
+     *
+     * @param text Рядок.
+     * @return Ключ сортування; масив не можна змінювати.
+     * @throws IllegalArgumentException якщо рядок null.
+     */
+    public static byte[] sortKey(String text) {
+        if (text == null) {
+            throw new IllegalArgumentException("Рядок не може бути null");
+        }
+        // Collator не є потокобезпечним, а ключі можуть обчислюватися з фонових потоків.
+        synchronized (COLLATOR) {
+            return COLLATOR.getCollationKey(text).toByteArray();
+        }
+    }
+
+    /**
+     * Порівнює ключі сортування побайтово без знаку.
+     *
+     * @return Від'ємне число, нуль або додатне число, як у {@link Comparator#compare}.
+     */
+    public static int compare(byte[] first, byte[] second) {
+        return Arrays.compareUnsigned(first, second);
+    }
+
+    private static Collator createCollator() {
+        Collator collator = Collator.getInstance(Locale.forLanguageTag("uk-UA"));
+        if (collator instanceof RuleBasedCollator ruleBased) {
+            try {
+                // Стандартні правила вважають ґ варіантом г; в українській абетці це окрема літера після г.
+                collator = new RuleBasedCollator(ruleBased.getRules() + UKRAINIAN_RULES);
+            } catch (ParseException e) {
+                logger.warn("Не вдалося застосувати українські правила впорядкування: {}", e.getMessage());
+            }
+        }
+        collator.setStrength(Collator.TERTIARY);
+        return collator;
+    }
+}
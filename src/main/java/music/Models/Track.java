@@ -0,0 +1,31 @@
+package music.Models;
+
+import java.time.Duration;
+
+/**
+ * Інтерфейс для читання атрибутів музичного треку незалежно від його представлення
+ * (змінюваний {@link MusicTrack} або компактний незмінний {@link CompactTrack}).
+ * Сервіси та рендерери працюють через цей інтерфейс.
+ */
+public interface Track {
+
+    Long getId();
+
+    String getTitle();
+
+    String getArtist();
+
+    /**
+     * @return ID виконавця в {@link ArtistRegistry} для групування без порівняння рядків.
+     */
+    int getArtistId();
+
+    MusicGenre getGenre();
+
+    /**
+     * @return Ключ сортування назви ({@link TextCollation#sortKey(String)}); масив не можна змінювати.
+     */
+    byte[] getTitleSortKey();
+
+    Duration getDuration();
+}
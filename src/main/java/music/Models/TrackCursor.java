@@ -0,0 +1,46 @@
+package music.Models;
+
+/**
+ * Курсор для послідовного читання треків із колонкового сховища без створення об'єкта на кожен трек.
+ * Після успішного {@link #next()} методи читання повертають атрибути поточного треку.
+ */
+public interface TrackCursor {
+
+    /**
+     * Переходить до наступного треку.
+     *
+     * @return false, якщо треків більше немає.
+     */
+    boolean next();
+
+    /**
+     * @return ID треку в базі даних або {@link CompactTrack#NO_ID}.
+     */
+    long getIdValue();
+
+    int getDurationSeconds();
+
+    MusicGenre getGenre();
+
+    /**
+     * @return ID виконавця в {@link ArtistRegistry}.
+     */
+    int getArtistId();
+
+    /**
+     * Декодує назву поточного треку. На відміну від інших методів, створює новий рядок.
+     *
+     * @return Назва треку.
+     */
+    String getTitle();
+
+    /**
+     * Створює компактний об'єкт для поточного треку.
+     *
+     * @return Незмінний трек.
+     */
+    default CompactTrack toTrack() {
+        return CompactTrack.of(getIdValue(), getTitle(), ArtistRegistry.name(getArtistId()), getGenre(),
+                getDurationSeconds());
+    }
+}
@@ -0,0 +1,195 @@
+package music.Models;
+
+import music.Collections.BloomFilter;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Індекс для виявлення дублікатів треків у збірці за нормалізованими назвою, виконавцем і тривалістю.
+ * Фільтр Блума відповідає на більшість перевірок нового треку без обчислення ключа-рядка;
+ * точна відповідь дає хеш-таблиця ключів. Обидві перевірки — O(1) незалежно від розміру збірки.
+ *
+ * <p>Нормалізація: регістр не враховується, пробіли на краях відкидаються, послідовності пробілів
+ * всередині вважаються одним пробілом; тривалість порівнюється з точністю до секунди.
+ */
+final class TrackDuplicateIndex {
+    private static final int MIN_BLOOM_CAPACITY = 1024;
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final Map<String, Integer> keyCounts = new HashMap<>();
+    // Ключ кожного треку-об'єкта та кількість його входжень у збірку, щоб після редагування треку
+    // прибрати старий ключ, не знаючи попередніх назви та виконавця.
+    private final Map<Track, Entry> entries = new IdentityHashMap<>();
+    private BloomFilter bloom;
+    private int removedSinceRebuild;
+
+    private static final class Entry {
+        String key;
+        int references;
+
+        Entry(String key) {
+            this.key = key;
+        }
+    }
+
+    TrackDuplicateIndex(List<? extends Track> tracks) {
+        bloom = new BloomFilter(Math.max(MIN_BLOOM_CAPACITY, tracks.size() * 2), FALSE_POSITIVE_RATE);
+        for (Track track : tracks) {
+            add(track);
+        }
+    }
+
+    void add(Track track) {
+        Entry entry = entries.get(track);
+        if (entry == null) {
+            entry = new Entry(key(track));
+            entries.put(track, entry);
+        }
+        entry.references++;
+        keyCounts.merge(entry.key, 1, Integer::sum);
+        bloom.put(fingerprint(track));
+        if (keyCounts.size() > bloom.capacity()) {
+            rebuildBloom();
+        }
+    }
+
+    void remove(Track track) {
+        Entry entry = entries.get(track);
+        if (entry == null) {
+            return;
+        }
+        if (--entry.references == 0) {
+            entries.remove(track);
+        }
+        decrement(entry.key, 1);
+        // Фільтр Блума не підтримує видалення: застарілі біти лише збільшують частку хибних спрацювань,
+        // тож фільтр перебудовується, коли їх стає забагато.
+        if (++removedSinceRebuild > bloom.capacity() / 2) {
+            rebuildBloom();
+        }
+    }
+
+    /**
+     * Оновлює ключ треку після зміни його атрибутів.
+     */
+    void update(Track track) {
+        Entry entry = entries.get(track);
+        if (entry == null) {
+            return;
+        }
+        String key = key(track);
+        if (key.equals(entry.key)) {
+            return;
+        }
+        decrement(entry.key, entry.references);
+        entry.key = key;
+        keyCounts.merge(key, entry.references, Integer::sum);
+        bloom.put(fingerprint(track));
+        removedSinceRebuild++;
+    }
+
+    boolean contains(Track candidate) {
+        return bloom.mightContain(fingerprint(candidate)) && keyCounts.containsKey(key(candidate));
+    }
+
+    /**
+     * @return Кандидати, яких немає в індексі і які не повторюються серед попередніх кандидатів.
+     */
+    <T extends Track> List<T> filterNew(List<T> candidates) {
+        List<T> result = new ArrayList<>(candidates.size());
+        Set<String> seen = new HashSet<>();
+        for (T candidate : candidates) {
+            if (!contains(candidate) && seen.add(key(candidate))) {
+                result.add(candidate);
+            }
+        }
+        return result;
+    }
+
+    private void decrement(String key, int count) {
+        keyCounts.compute(key, (k, current) -> current == null || current <= count ? null : current - count);
+    }
+
+    private void rebuildBloom() {
+        bloom = new BloomFilter(Math.max(MIN_BLOOM_CAPACITY, keyCounts.size() * 2), FALSE_POSITIVE_RATE);
+        for (Map.Entry<Track, Entry> entry : entries.entrySet()) {
+            bloom.put(fingerprint(entry.getKey()));
+        }
+        removedSinceRebuild = 0;
+    }
+
+    /**
+     * @return Нормалізований ключ треку.
+     */
+    static String key(Track track) {
+        StringBuilder key = new StringBuilder(track.getTitle().length() + track.getArtist().length() + 12);
+        appendNormalized(track.getTitle(), key);
+        key.append('\u0000');
+        appendNormalized(track.getArtist(), key);
+        key.append('\u0000').append(track.getDuration().getSeconds());
+        return key.toString();
+    }
+
+    /**
+     * Обчислює 64-бітний хеш того ж нормалізованого ключа, що й {@link #key(Track)}, без створення рядків.
+     */
+    static long fingerprint(Track track) {
+        long hash = FNV_OFFSET;
+        hash = hashNormalized(track.getTitle(), hash);
+        hash *= FNV_PRIME; // роздільник полів
+        hash = hashNormalized(track.getArtist(), hash);
+        hash = (hash ^ track.getDuration().getSeconds()) * FNV_PRIME;
+        // Перемішування бітів (фіналізатор MurmurHash3), щоб обидві половини хешу були незалежними для фільтра.
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+    private static void appendNormalized(String value, StringBuilder out) {
+        boolean started = false;
+        boolean pendingSpace = false;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (Character.isWhitespace(c)) {
+                pendingSpace = started;
+                continue;
+            }
+            if (pendingSpace) {
+                out.append(' ');
+                pendingSpace = false;
+            }
+            out.append(Character.toLowerCase(c));
+            started = true;
+        }
+    }
+
+    private static long hashNormalized(String value, long hash) {
+        boolean started = false;
+        boolean pendingSpace = false;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (Character.isWhitespace(c)) {
+                pendingSpace = started;
+                continue;
+            }
+            if (pendingSpace) {
+                hash = (hash ^ ' ') * FNV_PRIME;
+                pendingSpace = false;
+            }
+            hash = (hash ^ Character.toLowerCase(c)) * FNV_PRIME;
+            started = true;
+        }
+        return hash;
+    }
+}
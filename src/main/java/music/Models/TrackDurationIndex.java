@@ -0,0 +1,214 @@
+package music.Models;
+
+import music.Collections.FenwickTree;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Індекс треків збірки за тривалістю (з точністю до секунди).
+ * Дерева Фенвіка за секундами дають кількість і сумарну тривалість треків у діапазоні за O(log n)
+ * і оновлюються разом зі збіркою, тому підрахунок ніколи не потребує перебудови.
+ * Масив треків, відсортований за тривалістю, перебудовується ліниво після змін і дає самі треки
+ * діапазону двома бінарними пошуками за O(log n + k). Разом з масивом зберігаються позиції треків у збірці,
+ * тож треки діапазону можна повернути й у порядку збірки за O(log n + k log k).
+ *
+ * <p>Дерева покривають тривалості до {@link #MAX_INDEXED_SECONDS}; якщо у збірці з'являється довший трек,
+ * лічильники вимикаються до наступної перебудови індексу і підрахунок виконується за відсортованим масивом.
+ */
+final class TrackDurationIndex {
+    static final int MAX_INDEXED_SECONDS = 1 << 18;
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final List<MusicTrack> tracks;
+    private FenwickTree counts;
+    private FenwickTree sums;
+    private MusicTrack[] sortedTracks;
+    private long[] sortedSeconds;
+    private int[] sortedPositions;
+
+    /**
+     * @param tracks Список треків збірки; індекс читає його при перебудові відсортованого масиву.
+     */
+    TrackDurationIndex(List<MusicTrack> tracks) {
+        this.tracks = tracks;
+        counts = new FenwickTree(INITIAL_CAPACITY);
+        sums = new FenwickTree(INITIAL_CAPACITY);
+        for (MusicTrack track : tracks) {
+            addSeconds(track.getDuration().getSeconds(), 1);
+        }
+    }
+
+    void add(MusicTrack track) {
+        addSeconds(track.getDuration().getSeconds(), 1);
+        sortedTracks = null;
+    }
+
+    void remove(MusicTrack track) {
+        addSeconds(track.getDuration().getSeconds(), -1);
+        sortedTracks = null;
+    }
+
+    void update(Duration previousDuration, MusicTrack track) {
+        addSeconds(previousDuration.getSeconds(), -1);
+        addSeconds(track.getDuration().getSeconds(), 1);
+        sortedTracks = null;
+    }
+
+    /**
+     * Порядок треків змінився без зміни складу: лічильники лишаються чинними,
+     * а відсортований масив перебудовується, щоб треки з однаковою тривалістю йшли в новому порядку.
+     */
+    void reordered() {
+        sortedTracks = null;
+    }
+
+    /**
+     * @return Кількість треків з тривалістю від min до max включно.
+     */
+    int count(Duration min, Duration max) {
+        long from = lowerSeconds(min);
+        long to = max.getSeconds();
+        if (from > to) {
+            return 0;
+        }
+        if (counts != null) {
+            return (int) counts.rangeSum(bucket(from), bucket(to));
+        }
+        ensureSorted();
+        return upperBound(to) - lowerBound(from);
+    }
+
+    /**
+     * @return Загальна тривалість треків з тривалістю від min до max включно, у секундах.
+     */
+    long totalSeconds(Duration min, Duration max) {
+        long from = lowerSeconds(min);
+        long to = max.getSeconds();
+        if (from > to) {
+            return 0;
+        }
+        if (counts != null) {
+            return sums.rangeSum(bucket(from), bucket(to));
+        }
+        ensureSorted();
+        long total = 0;
+        for (int i = lowerBound(from), end = upperBound(to); i < end; i++) {
+            total += sortedSeconds[i];
+        }
+        return total;
+    }
+
+    /**
+     * @return Треки з тривалістю від min до max включно, від найкоротшого; треки з однаковою тривалістю
+     * йдуть у порядку збірки.
+     */
+    List<MusicTrack> tracksInRange(Duration min, Duration max) {
+        long from = lowerSeconds(min);
+        long to = max.getSeconds();
+        if (from > to) {
+            return List.of();
+        }
+        ensureSorted();
+        int start = lowerBound(from);
+        int end = upperBound(to);
+        return start >= end ? List.of() : List.of(Arrays.copyOfRange(sortedTracks, start, end));
+    }
+
+    /**
+     * @return Треки з тривалістю від min до max включно в порядку збірки.
+     */
+    List<MusicTrack> tracksInRangeInOrder(Duration min, Duration max) {
+        long from = lowerSeconds(min);
+        long to = max.getSeconds();
+        if (from > to) {
+            return List.of();
+        }
+        ensureSorted();
+        int start = lowerBound(from);
+        int end = upperBound(to);
+        if (start >= end) {
+            return List.of();
+        }
+        int[] positions = Arrays.copyOfRange(sortedPositions, start, end);
+        Arrays.sort(positions);
+        MusicTrack[] result = new MusicTrack[positions.length];
+        for (int i = 0; i < positions.length; i++) {
+            result[i] = tracks.get(positions[i]);
+        }
+        return List.of(result);
+    }
+
+    private void addSeconds(long seconds, int delta) {
+        if (counts == null) {
+            return;
+        }
+        if (seconds >= MAX_INDEXED_SECONDS) {
+            counts = null;
+            sums = null;
+            return;
+        }
+        int index = (int) seconds;
+        if (index >= counts.capacity()) {
+            counts.ensureCapacity(index + 1);
+            sums.ensureCapacity(index + 1);
+        }
+        counts.add(index, delta);
+        sums.add(index, delta * seconds);
+    }
+
+    private void ensureSorted() {
+        if (sortedTracks != null) {
+            return;
+        }
+        Integer[] order = new Integer[tracks.size()];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        // Сортування стабільне, тому треки з однаковою тривалістю зберігають порядок збірки.
+        Arrays.sort(order, Comparator.comparingLong(position -> tracks.get(position).getDuration().getSeconds()));
+        MusicTrack[] sorted = new MusicTrack[order.length];
+        long[] seconds = new long[order.length];
+        int[] positions = new int[order.length];
+        for (int i = 0; i < order.length; i++) {
+            positions[i] = order[i];
+            sorted[i] = tracks.get(positions[i]);
+            seconds[i] = sorted[i].getDuration().getSeconds();
+        }
+        sortedSeconds = seconds;
+        sortedPositions = positions;
+        sortedTracks = sorted;
+    }
+
+    // Перша позиція з тривалістю не меншою за seconds.
+    private int lowerBound(long seconds) {
+        int low = 0;
+        int high = sortedSeconds.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (sortedSeconds[middle] < seconds) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    // Перша позиція з тривалістю більшою за seconds.
+    private int upperBound(long seconds) {
+        return seconds == Long.MAX_VALUE ? sortedSeconds.length : lowerBound(seconds + 1);
+    }
+
+    // Межі запиту за межами дерев обрізаються: довших треків у деревах немає.
+    private static int bucket(long seconds) {
+        return (int) Math.min(seconds, MAX_INDEXED_SECONDS);
+    }
+
+    // Тривалість треку береться з точністю до секунди, тому дробова нижня межа округлюється вгору.
+    private static long lowerSeconds(Duration min) {
+        return min.getNano() > 0 ? min.getSeconds() + 1 : min.getSeconds();
+    }
+}
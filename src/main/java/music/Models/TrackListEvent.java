@@ -0,0 +1,54 @@
+package music.Models;
+
+import java.util.List;
+
+/**
+ * Подія зміни списку треків збірки. Описує діапазон індексів, якого стосується зміна,
+ * щоб представлення та збереження могли обробити лише змінену частину списку.
+ *
+ * <p>Для {@link Type#INSERTED} і {@link Type#REPLACED} індекси вказують на позиції в списку після зміни,
+ * для {@link Type#REMOVED} — на позиції до видалення. Для {@link Type#MOVED} {@code fromIndex} — стара позиція
+ * треку, а {@code toIndex} — нова.
+ *
+ * <p>Для {@link Type#REMOVED} і {@link Type#REPLACED} подія містить треки, що були в діапазоні до зміни,
+ * щоб слухачі могли оновити власні індекси без повторного проходу по збірці. Виняток — редагування
+ * треків на місці ({@link MusicCompilation#trackUpdated} і {@link MusicCompilation#tracksUpdated}): тоді
+ * подія містить ті самі об'єкти вже в новому стані, а попередні значення атрибутів подією не передаються.
+ *
+ * @param source        Збірка, у якій відбулася зміна
+ * @param type          Тип зміни
+ * @param fromIndex     Перший індекс діапазону (включно)
+ * @param toIndex       Останній індекс діапазону (включно)
+ * @param removedTracks Треки, видалені або замінені зміною; порожній список для інших типів
+ */
+public record TrackListEvent(MusicCompilation source, Type type, int fromIndex, int toIndex,
+                             List<MusicTrack> removedTracks) {
+
+    public TrackListEvent {
+        removedTracks = List.copyOf(removedTracks);
+    }
+
+    /**
+     * Створює подію без видалених треків ({@link Type#INSERTED} або {@link Type#MOVED}).
+     */
+    public TrackListEvent(MusicCompilation source, Type type, int fromIndex, int toIndex) {
+        this(source, type, fromIndex, toIndex, List.of());
+    }
+
+    /**
+     * Тип зміни списку треків.
+     */
+    public enum Type {
+        INSERTED,
+        REMOVED,
+        REPLACED,
+        MOVED
+    }
+
+    /**
+     * @return Кількість треків, яких стосується зміна (для {@link Type#MOVED} — 1).
+     */
+    public int size() {
+        return type == Type.MOVED ? 1 : toIndex - fromIndex + 1;
+    }
+}
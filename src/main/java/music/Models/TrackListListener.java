@@ -0,0 +1,10 @@
+package music.Models;
+
+/**
+ * Слухач змін списку треків збірки. Викликається в потоці, що виконав зміну, після її застосування.
+ */
+@FunctionalInterface
+public interface TrackListListener {
+
+    void tracksChanged(TrackListEvent event);
+}
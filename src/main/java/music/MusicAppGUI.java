@@ -1,19 +1,53 @@
 package music;
 
 import music.Dialog.CompilationDetailsDialog;
+import music.Dialog.DiscDialogs;
+import music.Dialog.DuplicateDialogs;
+import music.Dialog.ImportDialogs;
+import music.Dialog.PlaylistDialogs;
+import music.Dialog.SimilarityDialogs;
 import music.Factory.DialogFactory;
+import music.Factory.MenuBarFactory;
 import music.Factory.StatusBarFactory;
 import music.Factory.ToolBarFactory;
+import music.Manager.AutosaveManager;
+import music.IO.CsvTrackImporter;
+import music.IO.ImportProgressListener;
+import music.IO.ImportResult;
+import music.IO.ItunesLibraryImporter;
+import music.IO.PlaylistExporter;
+import music.IO.PlaylistImporter;
+import music.IO.TrackBatchSink;
 import music.Manager.DiscManager;
+import music.Manager.TrackDatabaseManager;
 import music.Models.MusicCompilation;
+import music.Models.MusicGenre;
+import music.Models.MusicTrack;
 import music.Panel.CompilationListPanel;
 import music.Panel.CompilationSearchPanel;
+import music.Service.CompilationMatch;
+import music.Service.CompilationSimilarityIndex;
+import music.Service.DiscSplitOptions;
+import music.Service.DuplicateCluster;
+import music.Service.LibraryStatistics;
+import music.Service.MusicCompilationService;
+import music.Storage.ColumnarSnapshotWriter;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import javax.swing.*;
 import java.awt.*;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
 import java.io.IOException;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Клас MusicAppGUI реалізує графічний інтерфейс користувача для управління музичними збірками.
@@ -25,21 +59,42 @@ public class MusicAppGUI extends JFrame {
     private static final Color BACKGROUND_COLOR = new Color(245, 248, 250);
     private static final int WINDOW_WIDTH = 900;
     private static final int WINDOW_HEIGHT = 650;
+    private static final double SIMILAR_COMPILATION_THRESHOLD = 0.3;
+    private static final int SIMILAR_COMPILATION_LIMIT = 20;
+    private static final double NEAR_DUPLICATE_COMPILATION_THRESHOLD = 0.8;
 
     DiscManager discManager;
     DefaultListModel<MusicCompilation> listModel;
     JList<MusicCompilation> compilationList;
     JLabel statusBar;
     CompilationSearchPanel searchPanel;
+    AutosaveManager autosaveManager;
+    private final CompilationSimilarityIndex similarityIndex = new CompilationSimilarityIndex();
 
     /**
-     * Конструктор ініціалізує графічний інтерфейс та налаштовує список збірок.
+     * Конструктор ініціалізує графічний інтерфейс, налаштовує список збірок та запускає автозбереження.
      */
     public MusicAppGUI() {
         discManager = new DiscManager();
         listModel = new DefaultListModel<>();
         initializeUI();
         refreshCompilationList();
+        setupAutosave();
+    }
+
+    /**
+     * Запускає автозбереження та зберігає незбережені зміни при закритті вікна.
+     */
+    void setupAutosave() {
+        autosaveManager = new AutosaveManager(discManager);
+        autosaveManager.setStatusListener(status -> statusBar.setText(status));
+        autosaveManager.start();
+        addWindowListener(new WindowAdapter() {
+            @Override
+            public void windowClosing(WindowEvent e) {
+                autosaveManager.stop();
+            }
+        });
     }
 
     /**
@@ -49,9 +104,31 @@ public class MusicAppGUI extends JFrame {
         configureWindow();
         JPanel mainPanel = createMainPanel();
         add(mainPanel);
+        setJMenuBar(createMenuBar());
         setupLookAndFeel();
     }
 
+    /**
+     * Створює рядок меню з операціями імпорту, експорту та аналітики.
+     *
+     * @return налаштований рядок меню
+     */
+    JMenuBar createMenuBar() {
+        JMenuBar menuBar = MenuBarFactory.createMenuBar();
+        JMenu fileMenu = MenuBarFactory.addMenu(menuBar, "Файл");
+        MenuBarFactory.addMenuItem(fileMenu, "Імпорт CSV", "📥", this::importCsv);
+        MenuBarFactory.addMenuItem(fileMenu, "Імпорт плейлиста (M3U/PLS)", "🎵", this::importPlaylist);
+        MenuBarFactory.addMenuItem(fileMenu, "Імпорт бібліотеки iTunes", "🍎", this::importItunesLibrary);
+        MenuBarFactory.addMenuItem(fileMenu, "Експорт збірки у плейлист", "💾", this::exportPlaylist);
+        MenuBarFactory.addMenuItem(fileMenu, "Експорт для аналітики", "📊", this::exportColumnarSnapshot);
+        MenuBarFactory.addMenuItem(fileMenu, "Статистика бібліотеки", "📈", this::showLibraryStatistics);
+        MenuBarFactory.addMenuItem(fileMenu, "Пошук дублікатів", "👯", this::findDuplicates);
+        MenuBarFactory.addMenuItem(fileMenu, "Генератор плейлиста", "🎯", this::generatePlaylist);
+        MenuBarFactory.addMenuItem(fileMenu, "Розбити на диски", "💿", this::splitIntoDiscs);
+        MenuBarFactory.addMenuItem(fileMenu, "Схожі збірки", "🔗", this::findSimilarCompilations);
+        return menuBar;
+    }
+
     /**
      * Налаштовує параметри вікна програми.
      */
@@ -128,6 +205,9 @@ public class MusicAppGUI extends JFrame {
             try {
                 String filePath = fileChooser.getSelectedFile().getPath();
                 discManager.loadFromFile(filePath);
+                if (autosaveManager != null) {
+                    autosaveManager.setTarget(Path.of(filePath));
+                }
                 refreshCompilationList();
                 statusBar.setText(" Успішно завантажено з файлу");
             } catch (IOException | ClassNotFoundException ex) {
@@ -138,18 +218,407 @@ public class MusicAppGUI extends JFrame {
 
     /**
      * Зберігає дані у файл і відображає статус.
+     * Серіалізація та запис виконуються у фоновому потоці, файл стає новою ціллю автозбереження.
      */
     void saveToFile() {
         JFileChooser fileChooser = new JFileChooser();
         if (fileChooser.showSaveDialog(this) == JFileChooser.APPROVE_OPTION) {
+            String filePath = fileChooser.getSelectedFile().getPath();
+            if (autosaveManager == null) {
+                try {
+                    discManager.saveToFile(filePath);
+                    statusBar.setText(" Успішно збережено у файл");
+                } catch (IOException ex) {
+                    showError("Помилка збереження у файл", ex.getMessage());
+                }
+                return;
+            }
+            autosaveManager.setTarget(Path.of(filePath));
+            statusBar.setText(" Збереження у файл...");
+            autosaveManager.saveNow().whenComplete((path, error) -> SwingUtilities.invokeLater(() -> {
+                if (error == null) {
+                    statusBar.setText(" Успішно збережено у файл");
+                } else {
+                    showError("Помилка збереження у файл", error.getMessage());
+                }
+            }));
+        }
+    }
+
+    /**
+     * Експортує бібліотеку у колонковий формат для офлайн-аналітики.
+     * Знімок моделі створюється на EDT, а запис файлу виконується у фоновому потоці.
+     */
+    void exportColumnarSnapshot() {
+        JFileChooser fileChooser = new JFileChooser();
+        if (fileChooser.showSaveDialog(this) == JFileChooser.APPROVE_OPTION) {
+            Path target = fileChooser.getSelectedFile().toPath();
+            List<MusicCompilation> snapshot = discManager.snapshot();
+            statusBar.setText(" Експорт для аналітики...");
+            CompletableFuture.runAsync(() -> {
+                try {
+                    ColumnarSnapshotWriter.write(snapshot, target);
+                } catch (IOException e) {
+                    throw new IllegalStateException(e.getMessage(), e);
+                }
+            }).whenComplete((result, error) -> SwingUtilities.invokeLater(() -> {
+                if (error == null) {
+                    statusBar.setText(" Експортовано для аналітики: " + target.getFileName());
+                } else {
+                    showError("Помилка експорту", error.getMessage());
+                }
+            }));
+        }
+    }
+
+    /**
+     * Обчислює статистику всієї бібліотеки у фоновому пулі fork-join і показує підсумок.
+     * Обчислення виконується над знімком, тому користувач може працювати з моделлю під час підрахунку.
+     */
+    void showLibraryStatistics() {
+        List<MusicCompilation> snapshot = discManager.snapshot();
+        statusBar.setText(" Обчислення статистики бібліотеки...");
+        CompletableFuture.supplyAsync(() -> new MusicCompilationService().calculateLibraryStatistics(snapshot, 5))
+                .whenComplete((statistics, error) -> SwingUtilities.invokeLater(() -> {
+                    if (error == null) {
+                        statusBar.setText(" Статистику бібліотеки обчислено");
+                        JOptionPane.showMessageDialog(this, formatLibraryStatistics(statistics),
+                                "Статистика бібліотеки", JOptionPane.INFORMATION_MESSAGE);
+                    } else {
+                        showError("Помилка обчислення статистики", error.getMessage());
+                    }
+                }));
+    }
+
+    /**
+     * Шукає дублікати треків по всій бібліотеці у фоновому потоці та пропонує об'єднати знайдені групи.
+     * Пошук виконується на знімку, а об'єднання — на збірках, що були в бібліотеці на момент знімка.
+     */
+    void findDuplicates() {
+        List<MusicCompilation> compilations = discManager.getCompilationView();
+        List<MusicCompilation> snapshot = discManager.snapshot();
+        statusBar.setText(" Пошук дублікатів...");
+        CompletableFuture.supplyAsync(() -> new MusicCompilationService().findDuplicateClusters(snapshot))
+                .whenComplete((clusters, error) -> SwingUtilities.invokeLater(() -> {
+                    if (error != null) {
+                        showError("Помилка пошуку дублікатів", error.getMessage());
+                        return;
+                    }
+                    statusBar.setText(" Знайдено груп дублікатів: " + clusters.size());
+                    List<DuplicateCluster> selected = DuplicateDialogs.chooseClustersToMerge(this, clusters);
+                    if (selected.isEmpty()) {
+                        return;
+                    }
+                    try {
+                        int removed = TrackDatabaseManager.mergeDuplicates(selected, compilations);
+                        refreshCompilationList();
+                        statusBar.setText(" Дублікати об'єднано, видалено треків: " + removed);
+                    } catch (SQLException ex) {
+                        showError("Помилка об'єднання дублікатів", ex.getMessage());
+                    }
+                }));
+    }
+
+    /**
+     * Створює нову збірку заданої тривалості з треків усієї бібліотеки.
+     * Підбір виконується у фоновому потоці на знімку, а готова збірка додається до бібліотеки в EDT.
+     */
+    void generatePlaylist() {
+        PlaylistDialogs.Request request = PlaylistDialogs.showGeneratorDialog(this);
+        if (request == null) {
+            return;
+        }
+        List<MusicCompilation> snapshot = discManager.snapshot();
+        statusBar.setText(" Підбір треків для плейлиста...");
+        CompletableFuture.supplyAsync(() -> {
+            List<MusicTrack> library = new ArrayList<>();
+            snapshot.forEach(compilation -> library.addAll(compilation.getTrackView()));
+            return new MusicCompilationService().generatePlaylist(request.title(), library, request.criteria(),
+                    new Random());
+        }).whenComplete((playlist, error) -> SwingUtilities.invokeLater(() -> {
+            if (error != null) {
+                showError("Помилка генерації плейлиста", error.getMessage());
+            } else if (playlist == null) {
+                statusBar.setText(" Не вдалося підібрати треки потрібної тривалості");
+                JOptionPane.showMessageDialog(this, "У бібліотеці немає треків, що разом дають потрібну тривалість",
+                        "Генератор плейлиста", JOptionPane.INFORMATION_MESSAGE);
+            } else {
+                discManager.addCompilation(playlist);
+                refreshCompilationList();
+                statusBar.setText(String.format(" Створено збірку '%s': %d треків, %s", playlist.getTitle(),
+                        playlist.getTrackCount(), formatDuration(playlist.getTotalDuration())));
+            }
+        }));
+    }
+
+    /**
+     * Розбиває обрану збірку на диски; кожен диск додається до бібліотеки як нова збірка.
+     * Пошук розкладки виконується у фоновому потоці на копії збірки.
+     */
+    void splitIntoDiscs() {
+        MusicCompilation selected = compilationList.getSelectedValue();
+        if (selected == null) {
+            showError("Помилка", "Спочатку виберіть збірку для розбиття на диски");
+            return;
+        }
+        DiscSplitOptions options = DiscDialogs.showSplitDialog(this, selected.getTitle());
+        if (options == null) {
+            return;
+        }
+        MusicCompilation snapshot = selected.copy();
+        statusBar.setText(" Розбиття на диски...");
+        CompletableFuture.supplyAsync(() -> new MusicCompilationService().splitIntoDiscs(snapshot, options))
+                .whenComplete((discs, error) -> SwingUtilities.invokeLater(() -> {
+                    if (error != null) {
+                        Throwable cause = error.getCause() != null ? error.getCause() : error;
+                        showError("Помилка розбиття на диски", cause.getMessage());
+                        return;
+                    }
+                    discs.forEach(discManager::addCompilation);
+                    refreshCompilationList();
+                    statusBar.setText(String.format(" Збірку '%s' розбито на %d дисків", snapshot.getTitle(),
+                            discs.size()));
+                }));
+    }
+
+    /**
+     * Показує збірки, схожі на обрану, або, якщо збірку не обрано, пари майже однакових збірок бібліотеки.
+     * Індекс схожості живе разом із вікном і переіндексовує лише збірки, змінені після попереднього пошуку.
+     */
+    void findSimilarCompilations() {
+        similarityIndex.refresh(discManager.getCompilationView());
+        MusicCompilation selected = compilationList.getSelectedValue();
+        if (selected != null) {
+            List<CompilationMatch> matches = similarityIndex.findSimilar(selected, SIMILAR_COMPILATION_THRESHOLD,
+                    SIMILAR_COMPILATION_LIMIT);
+            statusBar.setText(" Знайдено схожих збірок: " + matches.size());
+            SimilarityDialogs.showMatches(this, "Збірки, схожі на '" + selected.getTitle() + "'", matches, false);
+        } else {
+            List<CompilationMatch> matches = similarityIndex.findNearDuplicates(NEAR_DUPLICATE_COMPILATION_THRESHOLD);
+            statusBar.setText(" Знайдено пар майже однакових збірок: " + matches.size());
+            SimilarityDialogs.showMatches(this, "Майже однакові збірки", matches, true);
+        }
+    }
+
+    String formatLibraryStatistics(LibraryStatistics statistics) {
+        StringBuilder text = new StringBuilder();
+        text.append("Збірок: ").append(statistics.getCompilationSummaries().size())
+                .append(", треків: ").append(statistics.getTrackCount()).append('\n');
+        text.append("Загальна тривалість: ").append(formatDuration(statistics.getTotalDuration())).append('\n');
+        text.append("Медіана тривалості: ").append(formatDuration(statistics.getMedianDuration()))
+                .append(", 90-й перцентиль: ").append(formatDuration(statistics.getDurationPercentile(90)))
+                .append('\n');
+        text.append("\nЖанри:\n");
+        statistics.getGenreCounts().forEach((genre, count) ->
+                text.append("  ").append(genre).append(": ").append(count).append('\n'));
+        text.append("\nНайпопулярніші виконавці:\n");
+        statistics.getTopArtists().forEach(entry ->
+                text.append("  ").append(entry.getKey()).append(": ").append(entry.getValue()).append('\n'));
+        return text.toString();
+    }
+
+    private static String formatDuration(Duration duration) {
+        return String.format("%d год %02d хв %02d сек", duration.toHours(), duration.toMinutesPart(),
+                duration.toSecondsPart());
+    }
+
+    /**
+     * Імпортує треки з CSV-файлу у вибрану або нову збірку.
+     */
+    void importCsv() {
+        JFileChooser fileChooser = new JFileChooser();
+        if (fileChooser.showOpenDialog(this) != JFileChooser.APPROVE_OPTION) {
+            return;
+        }
+        Path file = fileChooser.getSelectedFile().toPath();
+        MusicCompilation target = ImportDialogs.chooseTargetCompilation(this, discManager);
+        if (target == null) {
+            return;
+        }
+        AtomicInteger duplicates = new AtomicInteger();
+        runImport("Імпорт CSV", duplicates, progress -> new CsvTrackImporter()
+                .importFile(file, importSink(target, duplicates), progress));
+    }
+
+    /**
+     * Імпортує плейлист M3U/EXTM3U/PLS у вибрану або нову збірку.
+     */
+    void importPlaylist() {
+        JFileChooser fileChooser = new JFileChooser();
+        if (fileChooser.showOpenDialog(this) != JFileChooser.APPROVE_OPTION) {
+            return;
+        }
+        Path file = fileChooser.getSelectedFile().toPath();
+        MusicGenre genre = ImportDialogs.chooseDefaultGenre(this);
+        if (genre == null) {
+            return;
+        }
+        MusicCompilation target = ImportDialogs.chooseTargetCompilation(this, discManager,
+                PlaylistImporter.titleFromLocation(file.getFileName().toString()));
+        if (target == null) {
+            return;
+        }
+        AtomicInteger duplicates = new AtomicInteger();
+        runImport("Імпорт плейлиста", duplicates, progress -> new PlaylistImporter(genre)
+                .importFile(file, importSink(target, duplicates), progress));
+    }
+
+    /**
+     * Імпортує бібліотеку iTunes/Music (Library.xml): кожен плейлист стає окремою збіркою
+     * або вся бібліотека додається до однієї збірки.
+     */
+    void importItunesLibrary() {
+        JFileChooser fileChooser = new JFileChooser();
+        if (fileChooser.showOpenDialog(this) != JFileChooser.APPROVE_OPTION) {
+            return;
+        }
+        Path file = fileChooser.getSelectedFile().toPath();
+        Object[] modes = {"Плейлисти як збірки", "Уся бібліотека в одну збірку"};
+        int mode = JOptionPane.showOptionDialog(this, "Як імпортувати бібліотеку?", "Імпорт бібліотеки iTunes",
+                JOptionPane.DEFAULT_OPTION, JOptionPane.QUESTION_MESSAGE, null, modes, modes[0]);
+        if (mode < 0) {
+            return;
+        }
+        MusicGenre genre = ImportDialogs.chooseDefaultGenre(this);
+        if (genre == null) {
+            return;
+        }
+
+        ItunesLibraryImporter importer = new ItunesLibraryImporter(genre);
+        AtomicInteger duplicates = new AtomicInteger();
+        if (mode == 0) {
+            runImport("Імпорт бібліотеки iTunes", duplicates, progress -> importer.importFile(file, null,
+                    name -> openImportedCompilation(name, duplicates), progress));
+            return;
+        }
+        MusicCompilation target = ImportDialogs.chooseTargetCompilation(this, discManager, "iTunes");
+        if (target == null) {
+            return;
+        }
+        runImport("Імпорт бібліотеки iTunes", duplicates, progress -> importer.importFile(file,
+                importSink(target, duplicates), null, progress));
+    }
+
+    /**
+     * Створює нову збірку для імпортованого плейлиста (на EDT) та повертає споживача її треків.
+     * Викликається з потоку імпорту.
+     *
+     * @param title      Назва збірки.
+     * @param duplicates Лічильник пропущених дублікатів імпорту.
+     * @return Споживач пакетів треків нової збірки.
+     * @throws Exception Якщо збірку не вдалося створити.
+     */
+    TrackBatchSink openImportedCompilation(String title, AtomicInteger duplicates) throws Exception {
+        MusicCompilation compilation = new MusicCompilation(title);
+        SwingUtilities.invokeAndWait(() -> discManager.addCompilation(compilation));
+        return importSink(compilation, duplicates);
+    }
+
+    /**
+     * @param compilation Збірка, до якої додаються треки.
+     * @param duplicates  Лічильник пропущених дублікатів імпорту.
+     * @return Споживач пакетів, що додає треки до збірки та рахує пропущені дублікати.
+     */
+    TrackBatchSink importSink(MusicCompilation compilation, AtomicInteger duplicates) {
+        return batch -> duplicates.addAndGet(addImportedTracks(compilation, batch));
+    }
+
+    /**
+     * Експортує обрану збірку у плейлист EXTM3U або PLS (за розширенням файлу).
+     * Знімок збірки створюється на EDT, а запис файлу виконується у фоновому потоці.
+     */
+    void exportPlaylist() {
+        MusicCompilation selected = compilationList.getSelectedValue();
+        if (selected == null) {
+            showError("Помилка", "Спочатку виберіть збірку для експорту");
+            return;
+        }
+        JFileChooser fileChooser = new JFileChooser();
+        if (fileChooser.showSaveDialog(this) != JFileChooser.APPROVE_OPTION) {
+            return;
+        }
+        Path target = fileChooser.getSelectedFile().toPath();
+        MusicCompilation snapshot = selected.copy();
+        statusBar.setText(" Експорт плейлиста...");
+        CompletableFuture.runAsync(() -> {
             try {
-                String filePath = fileChooser.getSelectedFile().getPath();
-                discManager.saveToFile(filePath);
-                statusBar.setText(" Успішно збережено у файл");
-            } catch (IOException ex) {
-                showError("Помилка збереження у файл", ex.getMessage());
+                PlaylistExporter.exportFile(snapshot, target);
+            } catch (IOException e) {
+                throw new IllegalStateException(e.getMessage(), e);
             }
+        }).whenComplete((result, error) -> SwingUtilities.invokeLater(() -> {
+            if (error == null) {
+                statusBar.setText(" Плейлист експортовано: " + target.getFileName());
+            } else {
+                showError("Помилка експорту", error.getMessage());
+            }
+        }));
+    }
+
+    /**
+     * Виконує імпорт у фоновому потоці: треки зберігаються в базі даних пакетами в окремих транзакціях,
+     * прогрес відображається у статусному рядку, а по завершенні показується підсумок.
+     *
+     * @param task       Назва операції для статусного рядка.
+     * @param duplicates Лічильник дублікатів, які споживачі пакетів пропустили під час імпорту.
+     * @param importer   Імпорт, що виконується; отримує слухача прогресу.
+     */
+    void runImport(String task, AtomicInteger duplicates, ImportTask importer) {
+        refreshCompilationList();
+        statusBar.setText(" " + task + "...");
+
+        CompletableFuture.supplyAsync(() -> {
+            try {
+                return importer.run((bytesRead, totalBytes, imported) -> SwingUtilities.invokeLater(() ->
+                        StatusBarFactory.showProgress(statusBar, task, bytesRead, totalBytes, imported)));
+            } catch (IOException e) {
+                throw new IllegalStateException(e.getMessage(), e);
+            }
+        }).whenComplete((result, error) -> SwingUtilities.invokeLater(() -> {
+            refreshCompilationList();
+            if (error == null) {
+                result.recordDuplicates(duplicates.get());
+                statusBar.setText(String.format(" %s: імпортовано %d треків", task, result.getImportedCount()));
+                ImportDialogs.showImportResult(this, task, result);
+            } else {
+                showError("Помилка імпорту", error.getMessage());
+            }
+        }));
+    }
+
+    /**
+     * Операція імпорту, що передає треки пакетами та повідомляє про прогрес.
+     */
+    @FunctionalInterface
+    interface ImportTask {
+        ImportResult run(ImportProgressListener progress) throws IOException;
+    }
+
+    /**
+     * Відкидає треки, що вже є у збірці або повторюються в пакеті, зберігає решту в базі даних
+     * (якщо збірка має ID) та додає їх до моделі на EDT. Перевірка дублікатів теж виконується на EDT,
+     * бо індекс дублікатів збірки змінюється разом з її треками.
+     *
+     * @param compilation Збірка, до якої додаються треки.
+     * @param batch       Пакет треків.
+     * @return Кількість пропущених дублікатів.
+     * @throws Exception Якщо пакет не вдалося зберегти.
+     */
+    int addImportedTracks(MusicCompilation compilation, List<MusicTrack> batch) throws Exception {
+        List<List<MusicTrack>> unique = new ArrayList<>(1);
+        SwingUtilities.invokeAndWait(() -> unique.add(compilation.withoutDuplicates(batch)));
+        List<MusicTrack> tracks = unique.get(0);
+        if (!tracks.isEmpty()) {
+            if (compilation.getId() != null) {
+                TrackDatabaseManager.insertTracks(compilation, tracks);
+            }
+            SwingUtilities.invokeAndWait(() -> compilation.insertTracks(compilation.getTrackCount(), tracks));
+        }
+        int skipped = batch.size() - tracks.size();
+        if (skipped > 0) {
+            logger.info("Пропущено {} дублікатів під час імпорту до збірки '{}'", skipped, compilation.getTitle());
         }
+        return skipped;
     }
 
     /**
@@ -187,10 +656,11 @@ public class MusicAppGUI extends JFrame {
      * Оновлює список збірок у моделі та пошуковій панелі.
      */
     void refreshCompilationList() {
+        List<MusicCompilation> compilations = discManager.getCompilationsSortedByTitle();
         listModel.clear();
-        discManager.getCompilations().forEach(listModel::addElement);
+        compilations.forEach(listModel::addElement);
         if (searchPanel != null) {
-            searchPanel.updateCompilationList(discManager.getCompilations());
+            searchPanel.updateCompilationList(compilations);
         }
     }
 
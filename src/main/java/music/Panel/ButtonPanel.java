@@ -49,6 +49,7 @@ public class ButtonPanel {
                 createButton("Редагувати", new Color(33, 150, 243), e -> TrackDialogs.showEditTrackDialog(parent, trackListPanel)),
                 createButton("Видалити", new Color(244, 67, 54), e -> TrackDatabaseManager.deleteSelectedTrack(parent, trackListPanel, compilation)),
                 createButton("Сортувати за жанром", new Color(156, 39, 176), e -> TrackDatabaseManager.sortTracksByGenre(trackListPanel, compilation)),
+                createButton("Сортування...", new Color(123, 31, 162), e -> TrackDialogs.showSortDialog(parent, compilation, trackListPanel)),
                 createButton("Фільтр за тривалістю", new Color(255, 152, 0), e -> TrackDialogs.showFilterByDurationDialog(parent, trackListPanel)),
                 createButton("Скинути фільтр", new Color(96, 125, 139), e -> trackListPanel.resetFilter(getHeaderPanel())),
                 createButton("Статистика", new Color(121, 85, 72), e -> showStatistics()),
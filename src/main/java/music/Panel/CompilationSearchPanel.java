@@ -1,6 +1,7 @@
 package music.Panel;
 
 import music.Models.MusicCompilation;
+import music.Service.CompilationQuery;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -13,7 +14,8 @@ import java.util.List;
 
 /**
  * Панель пошуку музичних збірок із текстовим полем для фільтрації та відображенням результатів у списку.
- * Підтримує пошук у реальному часі, стилізоване поле введення з іконкою та кнопкою очищення.
+ * Підтримує пошук у реальному часі за мовою запитів {@link CompilationQuery}, стилізоване поле введення
+ * з іконкою та кнопкою очищення.
  */
 public class CompilationSearchPanel extends JPanel {
     private static final Logger logger = LogManager.getLogger(CompilationSearchPanel.class);
@@ -209,20 +211,23 @@ public class CompilationSearchPanel extends JPanel {
     }
 
     /**
-     * Фільтрує список збірок на основі тексту пошуку.
+     * Фільтрує список збірок на основі тексту пошуку, скомпільованого в {@link CompilationQuery}.
      */
     private void filterCompilations() {
         try {
-            String searchText = searchField.getText().toLowerCase();
+            String searchText = searchField.getText();
             filteredModel.clear();
 
-            if (searchText.isEmpty()) {
+            CompilationQuery query = parseQuery(searchText);
+            if (query != null && query.isEmpty()) {
                 compilationList.setModel(originalModel);
                 logger.info("Показано всі збірки (порожній пошук)");
             } else {
-                for (MusicCompilation compilation : allCompilations) {
-                    if (matchesSearch(compilation, searchText)) {
-                        filteredModel.addElement(compilation);
+                if (query != null) {
+                    for (MusicCompilation compilation : allCompilations) {
+                        if (matchesSearch(compilation, query)) {
+                            filteredModel.addElement(compilation);
+                        }
                     }
                 }
                 compilationList.setModel(filteredModel);
@@ -233,17 +238,33 @@ public class CompilationSearchPanel extends JPanel {
         }
     }
 
+    /**
+     * Компілює запит; помилка синтаксису показується підказкою поля пошуку.
+     *
+     * @return Скомпільований запит або null, якщо запит некоректний.
+     */
+    private CompilationQuery parseQuery(String searchText) {
+        try {
+            CompilationQuery query = CompilationQuery.parse(searchText);
+            searchField.setToolTipText(null);
+            return query;
+        } catch (IllegalArgumentException e) {
+            logger.debug("Некоректний запит '{}': {}", searchText, e.getMessage());
+            searchField.setToolTipText(e.getMessage());
+            return null;
+        }
+    }
+
     /**
      * Перевіряє, чи відповідає збірка пошуковому запиту.
      *
      * @param compilation Збірка для перевірки.
-     * @param searchText  Текст пошукового запиту.
+     * @param query       Скомпільований запит.
      * @return true, якщо збірка відповідає запиту.
      */
-    private boolean matchesSearch(MusicCompilation compilation, String searchText) {
+    private boolean matchesSearch(MusicCompilation compilation, CompilationQuery query) {
         try {
-            return compilation.getTitle().toLowerCase().contains(searchText) ||
-                    String.valueOf(compilation.getTracks().size()).contains(searchText);
+            return query.matches(compilation);
         } catch (Exception e) {
             logger.error("Помилка при перевірці відповідності збірки: {}", e.getMessage(), e);
             return false;
@@ -257,7 +278,7 @@ public class CompilationSearchPanel extends JPanel {
      */
     public void updateCompilationList(List<MusicCompilation> compilations) {
         try {
-            allCompilations = new ArrayList<>(compilations);
+            allCompilations = List.copyOf(compilations);
             logger.info("Оновлено список збірок, кількість: {}", allCompilations.size());
             filterCompilations();
         } catch (Exception e) {
@@ -1,7 +1,6 @@
 package music.Panel;
 
 import music.Models.MusicCompilation;
-import music.Service.MusicCompilationService;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -17,7 +16,6 @@ public class HeaderPanel {
     private static final Logger LOGGER = LogManager.getLogger(HeaderPanel.class);
     private final JPanel panel;
     private final JLabel infoLabel;
-    private final MusicCompilationService compilationService=new MusicCompilationService();
 
     /**
      * Конструктор ініціалізує панель заголовка для заданої музичної збірки.
@@ -97,9 +95,9 @@ public class HeaderPanel {
         JLabel infoLabel = new JLabel();
         if (compilation != null) {
             updateInfo(
-                    compilation.getTracks().size(),
-                    compilationService.calculateTotalDuration(compilation.getTracks()).toMinutes(),
-                    compilationService.calculateTotalDuration(compilation.getTracks()).getSeconds()
+                    compilation.getTrackCount(),
+                    compilation.getTotalDuration().toMinutes(),
+                    compilation.getTotalSeconds()
             );
         } else {
             infoLabel.setText("Немає даних компіляції");
@@ -2,7 +2,6 @@ package music.Panel;
 
 import music.Dialog.CompilationDetailsDialog;
 import music.Manager.TrackDatabaseManager;
-import music.Models.MusicCompilation;
 import music.Models.MusicTrack;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -150,7 +149,7 @@ public class TrackListDragAndDropHandler {
                 listModel.add(dropIndex, draggedTrack);
                 trackList.setSelectedIndex(dropIndex);
 
-                updateCompilationTracks();
+                parent.compilation.moveTrack(dragSourceIndex, dropIndex);
                 TrackDatabaseManager.updateTracksInDatabase(parent, parent.compilation, trackListPanel);
 
                 dtde.dropComplete(true);
@@ -164,7 +163,8 @@ public class TrackListDragAndDropHandler {
     }
 
     /**
-     * Оновлення списку треків компіляції після переміщення.
+     * Повна синхронізація списку треків компіляції з моделлю списку.
+     * Компіляція сама визначає змінений діапазон і публікує події лише для нього.
      */
     void updateCompilationTracks() {
         List<MusicTrack> updatedTracks = new ArrayList<>();
@@ -173,11 +173,7 @@ public class TrackListDragAndDropHandler {
         }
 
         try {
-            java.lang.reflect.Field tracksField = MusicCompilation.class.getDeclaredField("tracks");
-            tracksField.setAccessible(true);
-            List<MusicTrack> internalList = (List<MusicTrack>) tracksField.get(parent.compilation);
-            internalList.clear();
-            internalList.addAll(updatedTracks);
+            parent.compilation.replaceAll(updatedTracks);
         } catch (Exception e) {
             logger.error("Помилка при оновленні списку треків: {}", e.getMessage(), e);
             JOptionPane.showMessageDialog(parent,
@@ -3,7 +3,6 @@ package music.Panel;
 import music.Dialog.CompilationDetailsDialog;
 import music.Dialog.TrackDetailsDialog;
 import music.Models.MusicCompilation;
-import music.Service.MusicCompilationService;
 import music.Models.MusicTrack;
 import music.Renderer.ModernTrackListRenderer;
 import org.apache.logging.log4j.LogManager;
@@ -32,7 +31,6 @@ public class TrackListPanel {
     private final TrackSearchPanel searchPanel;
     private final CompilationDetailsDialog parent;
     public MusicCompilation compilation;
-    private final MusicCompilationService compilationService=new MusicCompilationService();
     /**
      * Конструктор панелі списку треків.
      *
@@ -110,7 +108,7 @@ public class TrackListPanel {
      *
      * @throws RuntimeException Якщо завантаження треків завершується з помилкою.
      */
-    void loadTracksFromCompilation() {
+    public void loadTracksFromCompilation() {
         try {
             trackListModel.clear();
             compilation.getTracks().forEach(trackListModel::addElement);
@@ -149,6 +147,7 @@ public class TrackListPanel {
 
     /**
      * Фільтрує треки за тривалістю та оновлює відображення.
+     * Треки відбираються індексом тривалості збірки за O(log n + k log k) і зберігають порядок збірки.
      *
      * @param minDuration  Мінімальна тривалість треку.
      * @param maxDuration  Максимальна тривалість треку.
@@ -163,18 +162,13 @@ public class TrackListPanel {
                 }
             }
 
-            List<MusicTrack> filteredTracks = allTracks.stream()
-                    .filter(track -> {
-                        Duration duration = track.getDuration();
-                        return duration.compareTo(minDuration) >= 0 && duration.compareTo(maxDuration) <= 0;
-                    })
-                    .toList();
+            List<MusicTrack> filteredTracks = compilation.getTracksInDurationRangeInOrder(minDuration, maxDuration);
 
             trackListModel.clear();
-            filteredTracks.forEach(trackListModel::addElement);
+            trackListModel.addAll(filteredTracks);
             searchPanel.updateTrackList(filteredTracks); // Синхронізація з TrackSearchPanel
 
-            Duration totalDuration = calculateFilteredTotalDuration();
+            Duration totalDuration = compilation.getTotalDurationInRange(minDuration, maxDuration);
             headerPanel.updateFilterInfo(
                     trackListModel.getSize(),
                     totalDuration.toMinutes(),
@@ -200,22 +194,14 @@ public class TrackListPanel {
     }
 
     /**
-     * Обчислює загальну тривалість відфільтрованих треків.
+     * Підраховує треки збірки в діапазоні тривалості без фільтрування списку.
      *
-     * @return Загальна тривалість у форматі Duration.
-     * @throws RuntimeException Якщо обчислення завершується з помилкою.
+     * @param minDuration Мінімальна тривалість треку.
+     * @param maxDuration Максимальна тривалість треку.
+     * @return Кількість треків, які залишаться після фільтрування.
      */
-    Duration calculateFilteredTotalDuration() {
-        try {
-            long totalSeconds = 0;
-            for (int i = 0; i < trackListModel.getSize(); i++) {
-                totalSeconds += trackListModel.get(i).getDuration().getSeconds();
-            }
-            return Duration.ofSeconds(totalSeconds);
-        } catch (Exception e) {
-            logger.error("Помилка розрахунку загальної тривалості: {}", e.getMessage(), e);
-            throw new RuntimeException("Не вдалося розрахувати загальну тривалість", e);
-        }
+    public int countTracksByDuration(Duration minDuration, Duration maxDuration) {
+        return compilation.countTracksInDurationRange(minDuration, maxDuration);
     }
 
     /**
@@ -232,8 +218,8 @@ public class TrackListPanel {
 
                 headerPanel.updateInfo(
                         trackListModel.getSize(),
-                        compilationService.calculateTotalDuration(compilation.getTracks()).toMinutes(),
-                        compilationService.calculateTotalDuration(compilation.getTracks()).getSeconds()
+                        compilation.getTotalDuration().toMinutes(),
+                        compilation.getTotalSeconds()
                 );
 
                 logger.info("Фільтр скинуто, відновлено {} треків", trackListModel.getSize());
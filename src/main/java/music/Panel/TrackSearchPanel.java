@@ -1,6 +1,8 @@
 package music.Panel;
 
 import music.Models.MusicTrack;
+import music.Service.TrackQuery;
+import music.Service.TrackSearchIndex;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -13,7 +15,8 @@ import java.util.List;
 
 /**
  * Панель пошуку треків із текстовим полем та іконками для фільтрації списку музичних треків.
- * Підтримує пошук за назвою, виконавцем або жанром у реальному часі.
+ * Підтримує пошук у реальному часі за мовою запитів {@link TrackQuery}: слова шукаються в назві,
+ * виконавці або жанрі, а поля на зразок {@code artist:}, {@code genre:} чи {@code dur:3m..5m} звужують пошук.
  */
 public class TrackSearchPanel extends JPanel {
     private static final Logger logger = LogManager.getLogger(TrackSearchPanel.class);
@@ -22,6 +25,8 @@ public class TrackSearchPanel extends JPanel {
     private final DefaultListModel<MusicTrack> filteredModel;
     private final JList<MusicTrack> trackList;
     List<MusicTrack> allTracks;
+    // Будується при першому пошуку після зміни allTracks.
+    private TrackSearchIndex<MusicTrack> searchIndex;
 
     /**
      * Конструктор панелі пошуку треків.
@@ -49,6 +54,7 @@ public class TrackSearchPanel extends JPanel {
     void initializeTracks() {
         try {
             allTracks.clear();
+            searchIndex = null;
             for (int i = 0; i < originalModel.getSize(); i++) {
                 allTracks.add(originalModel.get(i));
             }
@@ -210,23 +216,24 @@ public class TrackSearchPanel extends JPanel {
 
     /**
      * Фільтрація треків на основі тексту пошуку.
+     * Текст компілюється в {@link TrackQuery}, а умови за виконавцем, жанром і тривалістю обслуговуються
+     * індексом списку, що будується при першому пошуку після оновлення треків.
      */
     void filterTracks() {
         try {
-            String searchText = searchField.getText().trim().toLowerCase();
+            String searchText = searchField.getText().trim();
             filteredModel.clear();
             logger.debug("Фільтрація треків за запитом: '{}', кількість треків у allTracks: {}", searchText, allTracks.size());
 
-            if (searchText.isEmpty()) {
+            TrackQuery query = parseQuery(searchText);
+            if (query != null && query.isEmpty()) {
                 trackList.setModel(originalModel);
                 trackList.repaint();
                 trackList.revalidate();
                 logger.info("Порожній запит, відображено всі треки: {}", originalModel.size());
             } else {
-                for (MusicTrack track : allTracks) {
-                    if (matchesSearch(track, searchText)) {
-                        filteredModel.addElement(track);
-                    }
+                if (query != null) {
+                    searchIndex().search(query).forEach(filteredModel::addElement);
                 }
                 trackList.setModel(filteredModel);
                 trackList.repaint();
@@ -239,11 +246,35 @@ public class TrackSearchPanel extends JPanel {
         }
     }
 
+    /**
+     * Компілює запит; помилка синтаксису показується підказкою поля пошуку.
+     *
+     * @return Скомпільований запит або null, якщо запит некоректний.
+     */
+    private TrackQuery parseQuery(String searchText) {
+        try {
+            TrackQuery query = TrackQuery.parse(searchText);
+            searchField.setToolTipText(null);
+            return query;
+        } catch (IllegalArgumentException e) {
+            logger.debug("Некоректний запит '{}': {}", searchText, e.getMessage());
+            searchField.setToolTipText(e.getMessage());
+            return null;
+        }
+    }
+
+    private TrackSearchIndex<MusicTrack> searchIndex() {
+        if (searchIndex == null) {
+            searchIndex = new TrackSearchIndex<>(allTracks);
+        }
+        return searchIndex;
+    }
+
     /**
      * Перевірка, чи відповідає трек пошуковому запиту.
      *
      * @param track      Трек для перевірки
-     * @param searchText Текст пошукового запиту
+     * @param searchText Текст пошукового запиту (див. {@link TrackQuery})
      * @return true, якщо трек відповідає запиту
      */
     boolean matchesSearch(MusicTrack track, String searchText) {
@@ -252,15 +283,7 @@ public class TrackSearchPanel extends JPanel {
                 logger.warn("Трек є null");
                 return false;
             }
-            String title = track.getTitle() != null ? track.getTitle().toLowerCase() : "";
-            String artist = track.getArtist() != null ? track.getArtist().toLowerCase() : "";
-            String genre = track.getGenre() != null ? track.getGenre().toString().toLowerCase() : "";
-            boolean matches = title.contains(searchText) ||
-                    artist.contains(searchText) ||
-                    genre.contains(searchText);
-            logger.trace("Трек {}: title='{}', artist='{}', genre='{}', збіг={}",
-                    track.getTitle(), title, artist, genre, matches);
-            return matches;
+            return TrackQuery.parse(searchText).matches(track);
         } catch (Exception e) {
             logger.error("Помилка перевірки треку {}: {}", track != null ? track.getTitle() : "null", e.getMessage(), e);
             return false;
@@ -276,6 +299,7 @@ public class TrackSearchPanel extends JPanel {
         try {
             logger.info("Оновлення списку треків: {}", tracks.size());
             allTracks = new ArrayList<>(tracks);
+            searchIndex = null;
             filterTracks();
         } catch (Exception e) {
             logger.error("Помилка оновлення треків: {}", e.getMessage(), e);
@@ -1,7 +1,6 @@
 package music.Renderer;
 
 import music.Models.MusicCompilation;
-import music.Service.MusicCompilationService;
 
 import javax.swing.*;
 import java.awt.*;
@@ -18,7 +17,6 @@ public class CompilationListRenderer extends DefaultListCellRenderer {
     private static final Color ODD_ROW_BACKGROUND = new Color(245, 248, 250);
     private static final int PADDING = 5;
     private static final int BORDER_WIDTH = 15;
-    private final MusicCompilationService compilationService=new MusicCompilationService();
     /**
      * Налаштовує компонент для відображення елемента списку.
      *
@@ -57,8 +55,8 @@ public class CompilationListRenderer extends DefaultListCellRenderer {
                         "</div></html>",
                 PADDING,
                 compilation.getTitle(),
-                compilation.getTracks().size(),
-                compilationService.calculateTotalDuration(compilation.getTracks()).toMinutes()
+                compilation.getTrackCount(),
+                compilation.getTotalDuration().toMinutes()
         ));
     }
 
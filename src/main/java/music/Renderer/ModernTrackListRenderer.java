@@ -1,9 +1,8 @@
 package music.Renderer;
 
-import music.Models.MusicTrack;
+import music.Models.Track;
 import javax.swing.*;
 import java.awt.*;
-import java.time.Duration;
 
 /**
  * Клас ModernTrackListRenderer відповідає за кастомізоване відображення елементів списку музичних треків у JList.
@@ -25,7 +24,7 @@ public class ModernTrackListRenderer extends DefaultListCellRenderer {
      * Налаштовує текст, фон, межі та форматування для кожного треку.
      *
      * @param list         JList, в якому відображається елемент
-     * @param value        Об'єкт, що представляє елемент списку (очікується MusicTrack)
+     * @param value        Об'єкт, що представляє елемент списку (очікується Track)
      * @param index        Індекс елемента в списку
      * @param isSelected   Вказує, чи вибрано елемент
      * @param cellHasFocus Вказує, чи має елемент фокус
@@ -41,8 +40,7 @@ public class ModernTrackListRenderer extends DefaultListCellRenderer {
         setBorder(BorderFactory.createEmptyBorder(PADDING, PADDING * 2, PADDING, PADDING * 2));
 
 
-        if (value instanceof MusicTrack) {
-            MusicTrack track = (MusicTrack) value;
+        if (value instanceof Track track) {
             configureTrackDisplay(track, isSelected, index);
         }
 
@@ -56,7 +54,7 @@ public class ModernTrackListRenderer extends DefaultListCellRenderer {
      * @param isSelected Чи вибрано трек
      * @param index      Індекс треку в списку
      */
-    private void configureTrackDisplay(MusicTrack track, boolean isSelected, int index) {
+    private void configureTrackDisplay(Track track, boolean isSelected, int index) {
 
         setText(formatTrackText(track));
 
@@ -77,10 +75,10 @@ public class ModernTrackListRenderer extends DefaultListCellRenderer {
      * @param track Музичний трек
      * @return HTML-рядок з форматованою інформацією
      */
-    private String formatTrackText(MusicTrack track) {
-        Duration duration = track.getDuration();
-        long minutes = duration.toMinutes();
-        long seconds = duration.getSeconds() % 60;
+    private String formatTrackText(Track track) {
+        long totalSeconds = track.getDuration().getSeconds();
+        long minutes = totalSeconds / 60;
+        long seconds = totalSeconds % 60;
 
         return String.format(
                 "<html><div style='padding:%dpx;'>" +
@@ -0,0 +1,13 @@
+package music.Service;
+
+import music.Models.MusicCompilation;
+
+/**
+ * Пара схожих збірок, знайдена {@link CompilationSimilarityIndex}.
+ *
+ * @param compilation Збірка-запит або перша збірка пари в порядку індексу
+ * @param other       Схожа збірка
+ * @param similarity  Оцінка коефіцієнта Жаккара множин треків за MinHash-підписами (від 0 до 1)
+ */
+public record CompilationMatch(MusicCompilation compilation, MusicCompilation other, double similarity) {
+}
@@ -0,0 +1,130 @@
+package music.Service;
+
+import music.Models.ArtistRegistry;
+import music.Models.MusicCompilation;
+import music.Models.MusicGenre;
+import music.Models.MusicTrack;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Пошуковий запит до збірок, скомпільований у предикати.
+ *
+ * <p>Поля: {@code title:} (підрядок назви), {@code tracks:} (діапазон кількості треків),
+ * {@code dur:} (діапазон загальної тривалості), {@code genre:} (у збірці є трек жанру) та {@code artist:}
+ * (у збірці є трек виконавця). Слово без поля шукається в назві та кількості треків, як і раніше.
+ * Кількість треків, тривалість і жанри беруться з агрегатів збірки за O(1); перебір треків потрібен
+ * лише для умови за виконавцем і виконується останнім, коли решта умов уже відсіяла збірки.
+ */
+public final class CompilationQuery {
+    static final Set<String> FIELDS = Set.of("title", "tracks", "dur", "genre", "artist");
+
+    private final List<Predicate<MusicCompilation>> conditions;
+
+    private CompilationQuery(List<Predicate<MusicCompilation>> conditions) {
+        this.conditions = List.copyOf(conditions);
+    }
+
+    /**
+     * Розбирає та компілює запит, наприклад {@code genre:jazz tracks:10.. -"best of"}.
+     *
+     * @param text Текст запиту.
+     * @return Скомпільований запит; порожній запит відповідає всім збіркам.
+     * @throws IllegalArgumentException якщо текст null або діапазон некоректний.
+     */
+    public static CompilationQuery parse(String text) {
+        List<Predicate<MusicCompilation>> cheap = new ArrayList<>();
+        List<Predicate<MusicCompilation>> scanning = new ArrayList<>();
+        for (SearchQuery.Clause clause : SearchQuery.parse(text, FIELDS).clauses()) {
+            Predicate<MusicCompilation> condition = compile(clause);
+            if (clause.negated()) {
+                condition = condition.negate();
+            }
+            ("artist".equals(clause.field()) ? scanning : cheap).add(condition);
+        }
+        cheap.addAll(scanning);
+        return new CompilationQuery(cheap);
+    }
+
+    public boolean isEmpty() {
+        return conditions.isEmpty();
+    }
+
+    /**
+     * @param compilation Збірка для перевірки.
+     * @return true, якщо збірка задовольняє всі умови запиту.
+     */
+    public boolean matches(MusicCompilation compilation) {
+        for (Predicate<MusicCompilation> condition : conditions) {
+            if (!condition.test(compilation)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Predicate<MusicCompilation> compile(SearchQuery.Clause clause) {
+        if (clause.field() == null) {
+            String text = clause.value();
+            if (clause.phrase()) {
+                return compilation -> compilation.getTitle().toLowerCase().contains(text);
+            }
+            return compilation -> compilation.getTitle().toLowerCase().contains(text)
+                    || String.valueOf(compilation.getTrackCount()).contains(text);
+        }
+        String value = clause.value().trim().toLowerCase();
+        switch (clause.field()) {
+            case "tracks" -> {
+                long[] range = SearchQuery.parseNumberRange(value);
+                return compilation -> compilation.getTrackCount() >= range[0] && compilation.getTrackCount() <= range[1];
+            }
+            case "dur" -> {
+                long[] range = SearchQuery.parseDurationRange(value);
+                return compilation -> compilation.getTotalSeconds() >= range[0] && compilation.getTotalSeconds() <= range[1];
+            }
+            case "genre" -> {
+                EnumSet<MusicGenre> genres = EnumSet.noneOf(MusicGenre.class);
+                for (String alternative : value.split("\\|")) {
+                    if (!alternative.isBlank()) {
+                        genres.addAll(TrackQuery.genresMatching(alternative.trim(), true));
+                    }
+                }
+                return compilation -> {
+                    for (MusicGenre genre : genres) {
+                        if (compilation.getGenreCount(genre) > 0) {
+                            return true;
+                        }
+                    }
+                    return false;
+                };
+            }
+            case "artist" -> {
+                BitSet artistIds = new BitSet();
+                for (String alternative : value.split("\\|")) {
+                    if (!alternative.isBlank()) {
+                        artistIds.or(ArtistRegistry.findMatching(alternative.trim()));
+                    }
+                }
+                return compilation -> {
+                    if (artistIds.isEmpty()) {
+                        return false;
+                    }
+                    for (MusicTrack track : compilation.getTrackView()) {
+                        if (artistIds.get(track.getArtistId())) {
+                            return true;
+                        }
+                    }
+                    return false;
+                };
+            }
+            default -> {
+                return compilation -> compilation.getTitle().toLowerCase().contains(value);
+            }
+        }
+    }
+}
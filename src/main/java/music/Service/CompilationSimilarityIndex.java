@@ -0,0 +1,224 @@
+package music.Service;
+
+import music.Models.MusicCompilation;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Індекс схожості збірок за MinHash-підписами з LSH (locality-sensitive hashing) за смугами.
+ *
+ * <p>Підпис {@link MusicCompilation#getMinHashSignature()} ділиться на {@link #BANDS} смуг по {@link #ROWS}
+ * позицій; збірки з однаковою смугою потрапляють в один кошик. Кандидатами на схожість є лише збірки,
+ * що поділяють з запитом хоча б один кошик, тому запит переглядає кілька кошиків замість усієї бібліотеки.
+ * Пара з коефіцієнтом Жаккара s стає кандидатом з імовірністю {@code 1 - (1 - s^ROWS)^BANDS}:
+ * близько 0.23 при s = 0.3, 0.87 при s = 0.5 і 0.99 при s = 0.6.
+ *
+ * <p>Індекс зберігає версію кожної збірки, тому {@link #refresh(List)} переіндексовує лише змінені збірки.
+ * Збірки без треків не індексуються. Індекс не потокобезпечний і працює з живими збірками в EDT.
+ */
+public final class CompilationSimilarityIndex {
+    public static final int BANDS = 32;
+    public static final int ROWS = 4;
+
+    private final Map<MusicCompilation, Entry> entries = new IdentityHashMap<>();
+    private final List<Map<Long, List<MusicCompilation>>> buckets = new ArrayList<>(BANDS);
+
+    private record Entry(long version, long[] signature, long[] bandKeys) {
+    }
+
+    public CompilationSimilarityIndex() {
+        for (int band = 0; band < BANDS; band++) {
+            buckets.add(new HashMap<>());
+        }
+    }
+
+    /**
+     * Приводить індекс у відповідність до списку збірок: додає нові, переіндексовує змінені після
+     * попереднього оновлення (за {@link MusicCompilation#getVersion()}) і прибирає відсутні.
+     *
+     * @param compilations Збірки бібліотеки.
+     * @throws IllegalArgumentException якщо список null або містить null.
+     */
+    public void refresh(List<MusicCompilation> compilations) {
+        if (compilations == null) {
+            throw new IllegalArgumentException("Список збірок не може бути null");
+        }
+        Set<MusicCompilation> present = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (MusicCompilation compilation : compilations) {
+            put(compilation);
+            present.add(compilation);
+        }
+        for (MusicCompilation compilation : List.copyOf(entries.keySet())) {
+            if (!present.contains(compilation)) {
+                remove(compilation);
+            }
+        }
+    }
+
+    /**
+     * Додає збірку або переіндексовує її, якщо вона змінилася.
+     *
+     * @throws IllegalArgumentException якщо збірка null.
+     */
+    public void put(MusicCompilation compilation) {
+        if (compilation == null) {
+            throw new IllegalArgumentException("Збірка не може бути null");
+        }
+        Entry entry = entries.get(compilation);
+        if (entry != null && entry.version() == compilation.getVersion()) {
+            return;
+        }
+        remove(compilation);
+        if (compilation.getTrackCount() == 0) {
+            return;
+        }
+        long[] signature = compilation.getMinHashSignature();
+        entry = new Entry(compilation.getVersion(), signature, bandKeys(signature));
+        entries.put(compilation, entry);
+        for (int band = 0; band < BANDS; band++) {
+            buckets.get(band).computeIfAbsent(entry.bandKeys()[band], key -> new ArrayList<>(2)).add(compilation);
+        }
+    }
+
+    /**
+     * @return true, якщо збірка була в індексі.
+     */
+    public boolean remove(MusicCompilation compilation) {
+        Entry entry = entries.remove(compilation);
+        if (entry == null) {
+            return false;
+        }
+        for (int band = 0; band < BANDS; band++) {
+            Map<Long, List<MusicCompilation>> bandBuckets = buckets.get(band);
+            List<MusicCompilation> bucket = bandBuckets.get(entry.bandKeys()[band]);
+            bucket.removeIf(candidate -> candidate == compilation);
+            if (bucket.isEmpty()) {
+                bandBuckets.remove(entry.bandKeys()[band]);
+            }
+        }
+        return true;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Шукає збірки, схожі на задану. Збірка-запит може бути відсутньою в індексі.
+     *
+     * @param compilation   Збірка-запит.
+     * @param minSimilarity Найменша оцінка коефіцієнта Жаккара (від 0 до 1).
+     * @param limit         Найбільша кількість результатів.
+     * @return Схожі збірки від найсхожішої; збірка-запит не включається.
+     * @throws IllegalArgumentException якщо збірка null, поріг поза межами 0..1 або ліміт від'ємний.
+     */
+    public List<CompilationMatch> findSimilar(MusicCompilation compilation, double minSimilarity, int limit) {
+        if (compilation == null) {
+            throw new IllegalArgumentException("Збірка не може бути null");
+        }
+        requireSimilarity(minSimilarity);
+        if (limit < 0) {
+            throw new IllegalArgumentException("Кількість результатів не може бути від'ємною");
+        }
+        if (compilation.getTrackCount() == 0) {
+            return List.of();
+        }
+        Entry entry = entries.get(compilation);
+        if (entry == null || entry.version() != compilation.getVersion()) {
+            long[] signature = compilation.getMinHashSignature();
+            entry = new Entry(compilation.getVersion(), signature, bandKeys(signature));
+        }
+        Set<MusicCompilation> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+        seen.add(compilation);
+        List<CompilationMatch> matches = new ArrayList<>();
+        for (int band = 0; band < BANDS; band++) {
+            List<MusicCompilation> bucket = buckets.get(band).get(entry.bandKeys()[band]);
+            if (bucket == null) {
+                continue;
+            }
+            for (MusicCompilation candidate : bucket) {
+                if (seen.add(candidate)) {
+                    double similarity = similarity(entry.signature(), entries.get(candidate).signature());
+                    if (similarity >= minSimilarity) {
+                        matches.add(new CompilationMatch(compilation, candidate, similarity));
+                    }
+                }
+            }
+        }
+        matches.sort(Comparator.comparingDouble(CompilationMatch::similarity).reversed());
+        return matches.size() > limit ? List.copyOf(matches.subList(0, limit)) : matches;
+    }
+
+    /**
+     * Шукає всі пари майже однакових збірок індексу, перевіряючи лише пари зі спільним кошиком.
+     *
+     * @param minSimilarity Найменша оцінка коефіцієнта Жаккара (від 0 до 1).
+     * @return Пари від найсхожішої; кожна пара повертається один раз.
+     * @throws IllegalArgumentException якщо поріг поза межами 0..1.
+     */
+    public List<CompilationMatch> findNearDuplicates(double minSimilarity) {
+        requireSimilarity(minSimilarity);
+        Map<MusicCompilation, Set<MusicCompilation>> compared = new IdentityHashMap<>();
+        List<CompilationMatch> matches = new ArrayList<>();
+        for (Map<Long, List<MusicCompilation>> bandBuckets : buckets) {
+            for (List<MusicCompilation> bucket : bandBuckets.values()) {
+                for (int i = 0; i < bucket.size(); i++) {
+                    MusicCompilation first = bucket.get(i);
+                    for (int j = i + 1; j < bucket.size(); j++) {
+                        MusicCompilation second = bucket.get(j);
+                        if (!compared.computeIfAbsent(first, key -> Collections.newSetFromMap(new IdentityHashMap<>()))
+                                .add(second)) {
+                            continue;
+                        }
+                        compared.computeIfAbsent(second, key -> Collections.newSetFromMap(new IdentityHashMap<>()))
+                                .add(first);
+                        double similarity = similarity(entries.get(first).signature(), entries.get(second).signature());
+                        if (similarity >= minSimilarity) {
+                            matches.add(new CompilationMatch(first, second, similarity));
+                        }
+                    }
+                }
+            }
+        }
+        matches.sort(Comparator.comparingDouble(CompilationMatch::similarity).reversed());
+        return matches;
+    }
+
+    /**
+     * @return Частка однакових позицій двох підписів — оцінка коефіцієнта Жаккара.
+     */
+    static double similarity(long[] first, long[] second) {
+        int equal = 0;
+        for (int i = 0; i < first.length; i++) {
+            if (first[i] == second[i]) {
+                equal++;
+            }
+        }
+        return (double) equal / first.length;
+    }
+
+    private static long[] bandKeys(long[] signature) {
+        long[] keys = new long[BANDS];
+        for (int band = 0; band < BANDS; band++) {
+            long key = 0x9E3779B97F4A7C15L;
+            for (int row = band * ROWS; row < (band + 1) * ROWS; row++) {
+                key = Long.rotateLeft(key ^ signature[row], 27) * 0x100000001b3L;
+            }
+            keys[band] = key;
+        }
+        return keys;
+    }
+
+    private static void requireSimilarity(double minSimilarity) {
+        if (!(minSimilarity >= 0 && minSimilarity <= 1)) {
+            throw new IllegalArgumentException("Поріг схожості має бути в межах від 0 до 1");
+        }
+    }
+}
@@ -0,0 +1,252 @@
+package music.Service;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Розподіл елементів за тривалістю між найменшою кількістю дисків однакової місткості (bin packing).
+ *
+ * <p>Спочатку елементи розкладаються алгоритмом first-fit decreasing. Якщо отримана кількість дисків
+ * більша за нижню межу (загальна тривалість / місткість та кількість елементів, довших за половину диска),
+ * методом гілок і меж шукається розкладка на диск менше, доки пошук не вичерпано, не досягнуто нижньої
+ * межі або не сплив час. Верхні рівні дерева пошуку виконуються паралельними задачами fork-join;
+ * перша знайдена розкладка зупиняє решту задач.
+ */
+final class DiscPacker {
+    private static final Logger logger = LogManager.getLogger(DiscPacker.class);
+    // Гілки перших елементів виконуються окремими задачами; глибше пошук послідовний.
+    private static final int PARALLEL_DEPTH = 4;
+    private static final int NODES_PER_TIME_CHECK = 4096;
+
+    private final long capacity;
+    private final long deadline;
+    private final ForkJoinPool pool;
+
+    /**
+     * @param capacity   Місткість диска.
+     * @param budgetNano Час на покращення розкладки first-fit decreasing.
+     * @param pool       Пул для паралельного пошуку.
+     */
+    DiscPacker(long capacity, long budgetNano, ForkJoinPool pool) {
+        this.capacity = capacity;
+        this.deadline = System.nanoTime() + budgetNano;
+        this.pool = pool;
+    }
+
+    /**
+     * @param weights Тривалості елементів; кожна не більша за місткість.
+     * @return Номер диска (від 0) для кожного елемента.
+     */
+    int[] pack(long[] weights) {
+        int n = weights.length;
+        // Індекси елементів за спаданням тривалості; за однакової — у вихідному порядку.
+        Integer[] boxed = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            boxed[i] = i;
+        }
+        Arrays.sort(boxed, (first, second) -> Long.compare(weights[second], weights[first]));
+        long[] sorted = new long[n];
+        for (int i = 0; i < n; i++) {
+            sorted[i] = weights[boxed[i]];
+        }
+
+        int[] best = firstFitDecreasing(sorted);
+        int bins = binCount(best);
+        int lowerBound = lowerBound(sorted);
+        boolean optimal = bins == lowerBound;
+        while (bins > lowerBound) {
+            Search search = new Search(sorted, bins - 1);
+            int[] improved = search.run();
+            if (improved == null) {
+                optimal = !search.timedOut.get();
+                break;
+            }
+            best = improved;
+            bins--;
+            optimal = bins == lowerBound;
+        }
+        logger.debug("Розкладено {} елементів на {} дисків (нижня межа {}, оптимально: {})",
+                n, bins, lowerBound, optimal);
+
+        int[] result = new int[n];
+        for (int i = 0; i < n; i++) {
+            result[boxed[i]] = best[i];
+        }
+        return result;
+    }
+
+    private int[] firstFitDecreasing(long[] sorted) {
+        int[] assignment = new int[sorted.length];
+        List<long[]> loads = new ArrayList<>();
+        for (int i = 0; i < sorted.length; i++) {
+            int bin = 0;
+            while (bin < loads.size() && loads.get(bin)[0] + sorted[i] > capacity) {
+                bin++;
+            }
+            if (bin == loads.size()) {
+                loads.add(new long[1]);
+            }
+            loads.get(bin)[0] += sorted[i];
+            assignment[i] = bin;
+        }
+        return assignment;
+    }
+
+    private int lowerBound(long[] sorted) {
+        long total = 0;
+        int large = 0;
+        for (long weight : sorted) {
+            total += weight;
+            if (weight * 2 > capacity) {
+                large++;
+            }
+        }
+        return (int) Math.max(large, (total + capacity - 1) / capacity);
+    }
+
+    private static int binCount(int[] assignment) {
+        int max = -1;
+        for (int bin : assignment) {
+            max = Math.max(max, bin);
+        }
+        return max + 1;
+    }
+
+    /**
+     * Пошук розкладки елементів (за спаданням тривалості) рівно на заданій кількості дисків.
+     */
+    private final class Search {
+        private final long[] sorted;
+        private final int bins;
+        private final long total;
+        private final AtomicReference<int[]> found = new AtomicReference<>();
+        private final AtomicBoolean timedOut = new AtomicBoolean();
+
+        Search(long[] sorted, int bins) {
+            this.sorted = sorted;
+            this.bins = bins;
+            this.total = Arrays.stream(sorted).sum();
+        }
+
+        int[] run() {
+            if (total > bins * capacity) {
+                return null;
+            }
+            pool.invoke(new Task(0, new long[bins], new int[sorted.length], 0));
+            return found.get();
+        }
+
+        private boolean stopped() {
+            return found.get() != null || timedOut.get();
+        }
+
+        private final class Task extends RecursiveAction {
+            private final int item;
+            private final long[] loads;
+            private final int[] assignment;
+            private final int usedBins;
+            private int nodes;
+
+            Task(int item, long[] loads, int[] assignment, int usedBins) {
+                this.item = item;
+                this.loads = loads;
+                this.assignment = assignment;
+                this.usedBins = usedBins;
+            }
+
+            @Override
+            protected void compute() {
+                if (item >= PARALLEL_DEPTH || item == sorted.length) {
+                    search(item, usedBins);
+                    return;
+                }
+                List<Task> children = new ArrayList<>();
+                for (int bin : candidateBins(item, usedBins)) {
+                    long[] childLoads = loads.clone();
+                    int[] childAssignment = assignment.clone();
+                    childLoads[bin] += sorted[item];
+                    childAssignment[item] = bin;
+                    children.add(new Task(item + 1, childLoads, childAssignment, Math.max(usedBins, bin + 1)));
+                }
+                invokeAll(children);
+            }
+
+            private boolean search(int index, int used) {
+                if (stopped()) {
+                    return false;
+                }
+                if (++nodes % NODES_PER_TIME_CHECK == 0 && System.nanoTime() > deadline) {
+                    timedOut.set(true);
+                    return false;
+                }
+                if (index == sorted.length) {
+                    found.compareAndSet(null, assignment.clone());
+                    return true;
+                }
+                if (!canFit(index)) {
+                    return false;
+                }
+                for (int bin : candidateBins(index, used)) {
+                    loads[bin] += sorted[index];
+                    assignment[index] = bin;
+                    boolean success = search(index + 1, Math.max(used, bin + 1));
+                    loads[bin] -= sorted[index];
+                    if (success) {
+                        return true;
+                    }
+                    if (stopped()) {
+                        return false;
+                    }
+                }
+                return false;
+            }
+
+            /**
+             * Диски, у які можна покласти елемент: серед дисків з однаковим заповненням пробується лише перший,
+             * а з порожніх — лише один, оскільки інші дають симетричні розкладки.
+             */
+            private int[] candidateBins(int index, int used) {
+                int[] candidates = new int[Math.min(used + 1, bins)];
+                int count = 0;
+                for (int bin = 0; bin < candidates.length; bin++) {
+                    if (loads[bin] + sorted[index] > capacity) {
+                        continue;
+                    }
+                    boolean duplicate = false;
+                    for (int previous = 0; previous < bin && !duplicate; previous++) {
+                        duplicate = loads[previous] == loads[bin];
+                    }
+                    if (!duplicate) {
+                        candidates[count++] = bin;
+                    }
+                }
+                return Arrays.copyOf(candidates, count);
+            }
+
+            /**
+             * Вільне місце дисків, куди не вміщається навіть найкоротший елемент, втрачено; якщо решта
+             * місця менша за тривалість нерозкладених елементів, гілку можна відкинути.
+             */
+            private boolean canFit(int index) {
+                long smallest = sorted[sorted.length - 1];
+                long usable = 0;
+                long placed = 0;
+                for (long load : loads) {
+                    placed += load;
+                    if (capacity - load >= smallest) {
+                        usable += capacity - load;
+                    }
+                }
+                return total - placed <= usable;
+            }
+        }
+    }
+}
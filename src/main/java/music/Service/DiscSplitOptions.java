@@ -0,0 +1,61 @@
+package music.Service;
+
+import java.time.Duration;
+
+/**
+ * Параметри розбиття збірки на диски.
+ *
+ * @param capacity   Місткість одного диска
+ * @param mode       Спосіб розподілу треків
+ * @param timeBudget Найбільший час пошуку розбиття з меншою кількістю дисків, ніж дає жадібний алгоритм
+ */
+public record DiscSplitOptions(Duration capacity, Mode mode, Duration timeBudget) {
+    public static final Duration CD_74 = Duration.ofMinutes(74);
+    public static final Duration CD_80 = Duration.ofMinutes(80);
+    public static final Duration DEFAULT_TIME_BUDGET = Duration.ofSeconds(2);
+
+    /**
+     * Спосіб розподілу треків між дисками.
+     */
+    public enum Mode {
+        /**
+         * Треки розподіляються в будь-якому порядку для найменшої кількості дисків.
+         */
+        ANY_ORDER("Найменше дисків"),
+        /**
+         * Порядок треків зберігається: кожен диск містить наступні треки збірки.
+         */
+        PRESERVE_ORDER("Зберегти порядок"),
+        /**
+         * Треки одного виконавця потрапляють на один диск, якщо вміщаються на нього разом.
+         */
+        GROUP_BY_ARTIST("Групувати за виконавцем");
+
+        private final String displayName;
+
+        Mode(String displayName) {
+            this.displayName = displayName;
+        }
+
+        @Override
+        public String toString() {
+            return displayName;
+        }
+    }
+
+    public DiscSplitOptions {
+        if (capacity == null || capacity.getSeconds() <= 0) {
+            throw new IllegalArgumentException("Місткість диска має бути додатною");
+        }
+        if (mode == null) {
+            throw new IllegalArgumentException("Спосіб розподілу не може бути null");
+        }
+        if (timeBudget == null || timeBudget.isNegative()) {
+            throw new IllegalArgumentException("Час пошуку не може бути null або від'ємним");
+        }
+    }
+
+    public static DiscSplitOptions of(Duration capacity, Mode mode) {
+        return new DiscSplitOptions(capacity, mode, DEFAULT_TIME_BUDGET);
+    }
+}
@@ -0,0 +1,46 @@
+package music.Service;
+
+import music.Models.MusicCompilation;
+import music.Models.MusicTrack;
+
+import java.util.List;
+
+/**
+ * Група треків бібліотеки, що вважаються одним записом: точні або майже однакові назва і виконавець
+ * та близька тривалість. Створюється через
+ * {@link MusicCompilationService#findDuplicateClusters(List, java.time.Duration, double, java.util.concurrent.ForkJoinPool)}.
+ *
+ * @param occurrences Входження треків у порядку бібліотеки; перше пропонується залишити при об'єднанні.
+ * @param similarity  Найменша схожість назв серед пар, що об'єднали групу (від 0 до 1).
+ */
+public record DuplicateCluster(List<Occurrence> occurrences, double similarity) {
+
+    /**
+     * Входження треку в бібліотеку.
+     *
+     * @param compilation      Збірка з вхідного списку
+     * @param compilationIndex Позиція збірки у вхідному списку
+     * @param track            Трек
+     * @param trackIndex       Позиція треку у збірці
+     */
+    public record Occurrence(MusicCompilation compilation, int compilationIndex, MusicTrack track, int trackIndex) {
+    }
+
+    public DuplicateCluster {
+        occurrences = List.copyOf(occurrences);
+    }
+
+    /**
+     * @return Входження, яке залишається при об'єднанні групи.
+     */
+    public Occurrence keeper() {
+        return occurrences.get(0);
+    }
+
+    /**
+     * @return Входження, що видаляються при об'єднанні групи.
+     */
+    public List<Occurrence> duplicates() {
+        return occurrences.subList(1, occurrences.size());
+    }
+}
@@ -0,0 +1,277 @@
+package music.Service;
+
+import music.Models.MusicCompilation;
+import music.Models.MusicTrack;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * Пошук точних і майже однакових треків по всій бібліотеці без порівняння всіх пар.
+ *
+ * <p>Назва і виконавець кожного треку один раз нормалізуються: регістр, пунктуація та зайві пробіли
+ * не враховуються, а "ft.", "feat." і "featuring" зводяться до одного слова. Треки діляться на блоки
+ * за основним виконавцем (частиною імені до "feat"), і всередині блоку порівнюються лише треки,
+ * тривалості яких відрізняються не більше ніж на допуск (ковзне вікно за відсортованими тривалостями).
+ * Кандидати оцінюються коефіцієнтом Дайса за множинами триграм назв, а пари зі схожістю не нижче
+ * порогу об'єднуються в групи через систему неперетинних множин.
+ *
+ * <p>Нормалізація і порівняння в блоках виконуються паралельно в заданому пулі fork-join.
+ */
+final class DuplicateDetector {
+    private static final String FEATURING = "feat";
+
+    private final ForkJoinPool pool;
+    private final long toleranceSeconds;
+    private final double minSimilarity;
+
+    /**
+     * Пара треків (за позиціями у плоскому списку бібліотеки) зі схожістю назв.
+     */
+    private record Match(int first, int second, double similarity) {
+    }
+
+    /**
+     * Нормалізований трек: ключ блоку, тривалість і відсортовані хеші триграм назви.
+     */
+    record Normalized(String primaryArtist, long seconds, int[] trigrams) {
+    }
+
+    DuplicateDetector(long toleranceSeconds, double minSimilarity, ForkJoinPool pool) {
+        this.toleranceSeconds = toleranceSeconds;
+        this.minSimilarity = minSimilarity;
+        this.pool = pool;
+    }
+
+    List<DuplicateCluster> findClusters(List<MusicCompilation> compilations) {
+        List<DuplicateCluster.Occurrence> occurrences = new ArrayList<>();
+        for (int c = 0; c < compilations.size(); c++) {
+            MusicCompilation compilation = compilations.get(c);
+            List<MusicTrack> tracks = compilation.getTrackView();
+            for (int t = 0; t < tracks.size(); t++) {
+                occurrences.add(new DuplicateCluster.Occurrence(compilation, c, tracks.get(t), t));
+            }
+        }
+        if (occurrences.size() < 2) {
+            return List.of();
+        }
+        List<Match> matches = pool.submit(() -> findMatches(occurrences)).join();
+        return cluster(occurrences, matches);
+    }
+
+    private List<Match> findMatches(List<DuplicateCluster.Occurrence> occurrences) {
+        Normalized[] normalized = new Normalized[occurrences.size()];
+        IntStream.range(0, normalized.length).parallel()
+                .forEach(i -> normalized[i] = normalize(occurrences.get(i).track()));
+
+        Map<String, List<Integer>> blocks = new HashMap<>();
+        for (int i = 0; i < normalized.length; i++) {
+            blocks.computeIfAbsent(normalized[i].primaryArtist(), key -> new ArrayList<>()).add(i);
+        }
+        return blocks.values().parallelStream()
+                .filter(block -> block.size() > 1)
+                .flatMap(block -> matchBlock(block, normalized).stream())
+                .toList();
+    }
+
+    private List<Match> matchBlock(List<Integer> block, Normalized[] normalized) {
+        int[] members = new int[block.size()];
+        for (int i = 0; i < members.length; i++) {
+            members[i] = block.get(i);
+        }
+        // Сортування за тривалістю (за однакової — за позицією) обмежує порівняння вікном допуску.
+        long[] packed = new long[members.length];
+        for (int i = 0; i < members.length; i++) {
+            packed[i] = (normalized[members[i]].seconds() << Integer.SIZE) | members[i];
+        }
+        Arrays.sort(packed);
+        List<Match> matches = new ArrayList<>();
+        for (int i = 0; i < packed.length; i++) {
+            int first = (int) packed[i];
+            Normalized left = normalized[first];
+            for (int j = i + 1; j < packed.length; j++) {
+                int second = (int) packed[j];
+                Normalized right = normalized[second];
+                if (right.seconds() - left.seconds() > toleranceSeconds) {
+                    break;
+                }
+                double similarity = similarity(left.trigrams(), right.trigrams(), minSimilarity);
+                if (similarity >= minSimilarity) {
+                    matches.add(new Match(Math.min(first, second), Math.max(first, second), similarity));
+                }
+            }
+        }
+        return matches;
+    }
+
+    private static List<DuplicateCluster> cluster(List<DuplicateCluster.Occurrence> occurrences, List<Match> matches) {
+        int[] parent = new int[occurrences.size()];
+        for (int i = 0; i < parent.length; i++) {
+            parent[i] = i;
+        }
+        for (Match match : matches) {
+            int first = find(parent, match.first());
+            int second = find(parent, match.second());
+            // Коренем групи завжди стає найменша позиція, тобто перше входження в бібліотеці.
+            if (first < second) {
+                parent[second] = first;
+            } else if (second < first) {
+                parent[first] = second;
+            }
+        }
+        double[] similarity = new double[parent.length];
+        Arrays.fill(similarity, 1.0);
+        for (Match match : matches) {
+            int root = find(parent, match.first());
+            similarity[root] = Math.min(similarity[root], match.similarity());
+        }
+        Map<Integer, List<DuplicateCluster.Occurrence>> groups = new HashMap<>();
+        List<Integer> roots = new ArrayList<>();
+        for (int i = 0; i < parent.length; i++) {
+            int root = find(parent, i);
+            if (root == i) {
+                roots.add(i);
+            }
+            groups.computeIfAbsent(root, key -> new ArrayList<>()).add(occurrences.get(i));
+        }
+        List<DuplicateCluster> clusters = new ArrayList<>();
+        for (int root : roots) {
+            List<DuplicateCluster.Occurrence> group = groups.get(root);
+            if (group.size() > 1) {
+                clusters.add(new DuplicateCluster(group, similarity[root]));
+            }
+        }
+        return clusters;
+    }
+
+    private static int find(int[] parent, int element) {
+        while (parent[element] != element) {
+            parent[element] = parent[parent[element]];
+            element = parent[element];
+        }
+        return element;
+    }
+
+    static Normalized normalize(MusicTrack track) {
+        String title = normalizeText(track.getTitle());
+        String artist = normalizeText(track.getArtist());
+        String primaryArtist = artist;
+        int featuring = indexOfWord(artist, FEATURING);
+        if (featuring >= 0) {
+            primaryArtist = artist.substring(0, featuring).trim();
+            // Запрошений виконавець може бути вказаний і в назві, і в імені виконавця,
+            // тому для порівняння він переноситься в назву.
+            if (indexOfWord(title, FEATURING) < 0) {
+                title = title + " " + artist.substring(featuring);
+            }
+        }
+        return new Normalized(primaryArtist, track.getDuration().getSeconds(), trigrams(title));
+    }
+
+    /**
+     * Зводить рядок до слів з малих літер і цифр, розділених одним пробілом.
+     * Апострофи відкидаються, інші символи вважаються роздільниками; "ft" і "featuring" замінюються на "feat".
+     */
+    static String normalizeText(String text) {
+        String lowerCase = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        StringBuilder normalized = new StringBuilder(lowerCase.length());
+        int wordStart = 0;
+        for (int i = 0; i < lowerCase.length(); i++) {
+            char c = lowerCase.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                normalized.append(c);
+            } else if (c != '\'' && c != '’' && c != 'ʼ') {
+                wordStart = endWord(normalized, wordStart);
+            }
+        }
+        endWord(normalized, wordStart);
+        int length = normalized.length();
+        if (length > 0 && normalized.charAt(length - 1) == ' ') {
+            normalized.setLength(length - 1);
+        }
+        return normalized.toString();
+    }
+
+    // Завершує слово, що почалося з wordStart, і повертає початок наступного.
+    private static int endWord(StringBuilder normalized, int wordStart) {
+        if (normalized.length() == wordStart) {
+            return wordStart;
+        }
+        String word = normalized.substring(wordStart);
+        if (word.equals("ft") || word.equals("featuring")) {
+            normalized.setLength(wordStart);
+            normalized.append(FEATURING);
+        }
+        normalized.append(' ');
+        return normalized.length();
+    }
+
+    private static int indexOfWord(String text, String word) {
+        if (text.equals(word) || text.startsWith(word + " ")) {
+            return 0;
+        }
+        int index = text.indexOf(" " + word + " ");
+        if (index < 0 && text.endsWith(" " + word)) {
+            index = text.length() - word.length() - 1;
+        }
+        return index < 0 ? -1 : index + 1;
+    }
+
+    /**
+     * @return Відсортовані різні хеші триграм рядка, доповненого пробілами з обох боків.
+     */
+    static int[] trigrams(String text) {
+        if (text.isEmpty()) {
+            return new int[0];
+        }
+        String padded = " " + text + " ";
+        int[] hashes = new int[padded.length() - 2];
+        for (int i = 0; i < hashes.length; i++) {
+            hashes[i] = (padded.charAt(i) << 16 ^ padded.charAt(i + 1) << 8) * 31 + padded.charAt(i + 2);
+        }
+        Arrays.sort(hashes);
+        int count = 0;
+        for (int i = 0; i < hashes.length; i++) {
+            if (i == 0 || hashes[i] != hashes[count - 1]) {
+                hashes[count++] = hashes[i];
+            }
+        }
+        return Arrays.copyOf(hashes, count);
+    }
+
+    /**
+     * Коефіцієнт Дайса 2|A∩B| / (|A| + |B|) для відсортованих множин триграм.
+     * Якщо навіть повний збіг меншої множини не досягає порогу, перетин не обчислюється.
+     */
+    static double similarity(int[] first, int[] second, double threshold) {
+        int total = first.length + second.length;
+        if (total == 0) {
+            return 1.0;
+        }
+        if (2.0 * Math.min(first.length, second.length) / total < threshold) {
+            return 0.0;
+        }
+        int common = 0;
+        int i = 0;
+        int j = 0;
+        while (i < first.length && j < second.length) {
+            if (first[i] < second[j]) {
+                i++;
+            } else if (first[i] > second[j]) {
+                j++;
+            } else {
+                common++;
+                i++;
+                j++;
+            }
+        }
+        return 2.0 * common / total;
+    }
+}
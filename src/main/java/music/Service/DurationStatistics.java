@@ -0,0 +1,175 @@
+package music.Service;
+
+import music.Collections.QuantileSketch;
+import music.Models.Track;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+/**
+ * Статистика тривалості треків, що накопичується за один прохід.
+ *
+ * <p>Кількість, сума, мінімум і максимум рахуються точно; середнє й дисперсія — алгоритмом Велфорда,
+ * перцентилі — скетчем {@link QuantileSketch} з відносною похибкою {@value #RELATIVE_ACCURACY}, гістограма —
+ * лічильниками кошиків шириною {@value #HISTOGRAM_BUCKET_SECONDS} секунд.
+ * Статистики окремих збірок чи потоків зливаються методом {@link #merge(DurationStatistics)} без
+ * повторного перегляду треків. Об'єкт не потокобезпечний: кожен потік накопичує власний екземпляр.
+ *
+ * @see MusicCompilationService#collectDurationStatistics(java.util.List)
+ */
+public final class DurationStatistics {
+    public static final double RELATIVE_ACCURACY = 0.005;
+    public static final int HISTOGRAM_BUCKET_SECONDS = 30;
+
+    private final QuantileSketch sketch = new QuantileSketch(RELATIVE_ACCURACY);
+    // Кошик i містить треки тривалістю від i * HISTOGRAM_BUCKET_SECONDS включно до (i + 1) * HISTOGRAM_BUCKET_SECONDS.
+    private long[] histogram = new long[0];
+    private long count;
+    private long totalSeconds;
+    private long minSeconds = Long.MAX_VALUE;
+    private long maxSeconds;
+    private double mean;
+    // Сума квадратів відхилень від середнього.
+    private double squaredDeviations;
+
+    /**
+     * Додає тривалість одного треку.
+     *
+     * @param track Трек.
+     * @throws IllegalArgumentException якщо трек null.
+     */
+    public void add(Track track) {
+        if (track == null) {
+            throw new IllegalArgumentException("Трек не може бути null");
+        }
+        add(track.getDuration().getSeconds());
+    }
+
+    void add(long seconds) {
+        count++;
+        totalSeconds += seconds;
+        minSeconds = Math.min(minSeconds, seconds);
+        maxSeconds = Math.max(maxSeconds, seconds);
+        double delta = seconds - mean;
+        mean += delta / count;
+        squaredDeviations += delta * (seconds - mean);
+        sketch.add(seconds);
+        int bucket = (int) (seconds / HISTOGRAM_BUCKET_SECONDS);
+        if (bucket >= histogram.length) {
+            histogram = Arrays.copyOf(histogram, Math.max(bucket + 1, histogram.length * 2));
+        }
+        histogram[bucket]++;
+    }
+
+    /**
+     * Додає до статистики значення іншої статистики (формула Чана для дисперсії).
+     *
+     * @param other Статистика, що зливається; не змінюється.
+     * @return Ця статистика.
+     * @throws IllegalArgumentException якщо статистика null.
+     */
+    public DurationStatistics merge(DurationStatistics other) {
+        if (other == null) {
+            throw new IllegalArgumentException("Статистика не може бути null");
+        }
+        if (other.count == 0) {
+            return this;
+        }
+        long combined = count + other.count;
+        double delta = other.mean - mean;
+        squaredDeviations += other.squaredDeviations + delta * delta * count * other.count / combined;
+        mean += delta * other.count / combined;
+        count = combined;
+        totalSeconds += other.totalSeconds;
+        minSeconds = Math.min(minSeconds, other.minSeconds);
+        maxSeconds = Math.max(maxSeconds, other.maxSeconds);
+        sketch.merge(other.sketch);
+        if (other.histogram.length > histogram.length) {
+            histogram = Arrays.copyOf(histogram, other.histogram.length);
+        }
+        for (int i = 0; i < other.histogram.length; i++) {
+            histogram[i] += other.histogram[i];
+        }
+        return this;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public Duration getTotal() {
+        return Duration.ofSeconds(totalSeconds);
+    }
+
+    /**
+     * @return Найменша тривалість або {@link Duration#ZERO}, якщо треків немає.
+     */
+    public Duration getMin() {
+        return count == 0 ? Duration.ZERO : Duration.ofSeconds(minSeconds);
+    }
+
+    public Duration getMax() {
+        return Duration.ofSeconds(maxSeconds);
+    }
+
+    /**
+     * @return Середня тривалість, округлена до мілісекунд; {@link Duration#ZERO}, якщо треків немає.
+     */
+    public Duration getMean() {
+        return Duration.ofMillis(Math.round(mean * 1000));
+    }
+
+    /**
+     * @return Дисперсія генеральної сукупності в секундах у квадраті; 0, якщо треків немає.
+     */
+    public double getVariance() {
+        return count == 0 ? 0 : squaredDeviations / count;
+    }
+
+    public Duration getStandardDeviation() {
+        return Duration.ofMillis(Math.round(Math.sqrt(getVariance()) * 1000));
+    }
+
+    /**
+     * Повертає перцентиль тривалості методом найближчого рангу.
+     *
+     * @param percent Перцентиль від 0 до 100.
+     * @return Оцінка з відносною похибкою не більше {@value #RELATIVE_ACCURACY}, округлена до секунди
+     * й обмежена мінімумом і максимумом; {@link Duration#ZERO}, якщо треків немає.
+     * @throws IllegalArgumentException якщо перцентиль поза межами 0..100.
+     */
+    public Duration getPercentile(double percent) {
+        if (!(percent >= 0 && percent <= 100)) {
+            throw new IllegalArgumentException("Перцентиль має бути в межах від 0 до 100");
+        }
+        if (count == 0) {
+            return Duration.ZERO;
+        }
+        long estimate = Math.round(sketch.quantile(percent / 100));
+        return Duration.ofSeconds(Math.max(minSeconds, Math.min(maxSeconds, estimate)));
+    }
+
+    public Duration getMedian() {
+        return getPercentile(50);
+    }
+
+    /**
+     * @return Кількість кошиків гістограми до останнього непорожнього включно; 0, якщо треків немає.
+     */
+    public int getHistogramBucketCount() {
+        return count == 0 ? 0 : (int) (maxSeconds / HISTOGRAM_BUCKET_SECONDS) + 1;
+    }
+
+    /**
+     * @param bucket Номер кошика; кошик охоплює тривалості від {@code bucket * HISTOGRAM_BUCKET_SECONDS}
+     *               включно до {@code (bucket + 1) * HISTOGRAM_BUCKET_SECONDS} секунд.
+     * @return Кількість треків у кошику; 0 для кошиків поза гістограмою.
+     * @throws IllegalArgumentException якщо номер кошика від'ємний.
+     */
+    public long getHistogramCount(int bucket) {
+        if (bucket < 0) {
+            throw new IllegalArgumentException("Номер кошика не може бути від'ємним");
+        }
+        return bucket < histogram.length ? histogram[bucket] : 0;
+    }
+}
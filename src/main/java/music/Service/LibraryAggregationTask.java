@@ -0,0 +1,182 @@
+package music.Service;
+
+import music.Collections.GenreCounter;
+import music.Collections.LongIntHashMap;
+import music.Models.ArtistRegistry;
+import music.Models.MusicCompilation;
+import music.Models.MusicGenre;
+import music.Models.MusicTrack;
+
+import java.time.Duration;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Fork-join задача агрегації статистики по діапазону збірок.
+ * Діапазон ділиться навпіл за кількістю треків, доки в ньому не залишиться одна збірка
+ * або не більше {@link #LEAF_TRACKS} треків; часткові результати зливаються при поверненні.
+ */
+class LibraryAggregationTask extends RecursiveTask<LibraryAggregationTask.Partial> {
+    static final int LEAF_TRACKS = 4096;
+    private static final MusicGenre[] GENRES = MusicGenre.values();
+
+    private final List<List<MusicTrack>> trackLists;
+    private final List<MusicCompilation> compilations;
+    // prefixCounts[i] — кількість треків у збірках [0, i).
+    private final long[] prefixCounts;
+    private final int from;
+    private final int to;
+
+    /**
+     * Частковий результат агрегації. Злиття додає лічильники правої частини до лівої.
+     */
+    static final class Partial {
+        private final GenreCounter genres = new GenreCounter();
+        private final LongIntHashMap artistCounts = new LongIntHashMap();
+        private final LongIntHashMap durationCounts = new LongIntHashMap();
+        private final List<LibraryStatistics.CompilationSummary> summaries = new ArrayList<>();
+        private long trackCount;
+        private long totalSeconds;
+
+        void merge(Partial other) {
+            genres.addAll(other.genres);
+            other.artistCounts.forEach(artistCounts::addTo);
+            other.durationCounts.forEach(durationCounts::addTo);
+            summaries.addAll(other.summaries);
+            trackCount += other.trackCount;
+            totalSeconds += other.totalSeconds;
+        }
+
+        LibraryStatistics toStatistics(int topArtists) {
+            long[] seconds = new long[durationCounts.size()];
+            int[] index = {0};
+            durationCounts.forEach((key, count) -> seconds[index[0]++] = key);
+            Arrays.sort(seconds);
+            long[] cumulative = new long[seconds.length];
+            long running = 0;
+            for (int i = 0; i < seconds.length; i++) {
+                running += durationCounts.get(seconds[i], 0);
+                cumulative[i] = running;
+            }
+            return new LibraryStatistics(trackCount, Duration.ofSeconds(totalSeconds), genres.toMap(),
+                    topArtists(topArtists), summaries, seconds, cumulative);
+        }
+
+        /**
+         * Відбирає найпопулярніших виконавців купою розміру n, не сортуючи всіх виконавців.
+         */
+        private List<Map.Entry<String, Long>> topArtists(int n) {
+            if (n == 0) {
+                return List.of();
+            }
+            Comparator<Map.Entry<String, Long>> order = Map.Entry.<String, Long>comparingByValue()
+                    .reversed().thenComparing(Map.Entry.comparingByKey());
+            PriorityQueue<Map.Entry<String, Long>> heap = new PriorityQueue<>(n + 1, order.reversed());
+            artistCounts.forEach((artistId, count) -> {
+                heap.add(new AbstractMap.SimpleImmutableEntry<>(ArtistRegistry.name((int) artistId), (long) count));
+                if (heap.size() > n) {
+                    heap.poll();
+                }
+            });
+            List<Map.Entry<String, Long>> result = new ArrayList<>(heap);
+            result.sort(order);
+            return result;
+        }
+    }
+
+    LibraryAggregationTask(List<MusicCompilation> compilations) {
+        this.compilations = compilations;
+        this.trackLists = new ArrayList<>(compilations.size());
+        this.prefixCounts = new long[compilations.size() + 1];
+        for (int i = 0; i < compilations.size(); i++) {
+            List<MusicTrack> tracks = compilations.get(i).getTrackView();
+            trackLists.add(tracks);
+            prefixCounts[i + 1] = prefixCounts[i] + tracks.size();
+        }
+        this.from = 0;
+        this.to = compilations.size();
+    }
+
+    private LibraryAggregationTask(LibraryAggregationTask parent, int from, int to) {
+        this.compilations = parent.compilations;
+        this.trackLists = parent.trackLists;
+        this.prefixCounts = parent.prefixCounts;
+        this.from = from;
+        this.to = to;
+    }
+
+    @Override
+    protected Partial compute() {
+        if (to - from <= 1 || prefixCounts[to] - prefixCounts[from] <= LEAF_TRACKS) {
+            Partial partial = new Partial();
+            GenreCounter compilationGenres = new GenreCounter();
+            for (int i = from; i < to; i++) {
+                aggregate(i, partial, compilationGenres);
+            }
+            return partial;
+        }
+        int split = splitPoint();
+        LibraryAggregationTask left = new LibraryAggregationTask(this, from, split);
+        LibraryAggregationTask right = new LibraryAggregationTask(this, split, to);
+        right.fork();
+        Partial result = left.compute();
+        result.merge(right.join());
+        return result;
+    }
+
+    /**
+     * Знаходить межу, що ділить треки діапазону приблизно навпіл; кожна половина містить хоча б одну збірку.
+     */
+    private int splitPoint() {
+        long half = (prefixCounts[from] + prefixCounts[to]) / 2;
+        int low = from + 1;
+        int high = to - 1;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (prefixCounts[middle] < half) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private void aggregate(int index, Partial partial, GenreCounter compilationGenres) {
+        MusicCompilation compilation = compilations.get(index);
+        List<MusicTrack> tracks = trackLists.get(index);
+        compilationGenres.clear();
+        long compilationSeconds = 0;
+        for (MusicTrack track : tracks) {
+            long seconds = track.getDuration().getSeconds();
+            compilationSeconds += seconds;
+            compilationGenres.increment(track.getGenre());
+            partial.artistCounts.addTo(track.getArtistId(), 1);
+            partial.durationCounts.addTo(seconds, 1);
+        }
+        partial.genres.addAll(compilationGenres);
+        partial.trackCount += tracks.size();
+        partial.totalSeconds += compilationSeconds;
+        partial.summaries.add(new LibraryStatistics.CompilationSummary(compilation.getTitle(), compilation.getId(),
+                tracks.size(), Duration.ofSeconds(compilationSeconds), dominantGenre(compilationGenres)));
+    }
+
+    private static MusicGenre dominantGenre(GenreCounter counter) {
+        MusicGenre dominant = null;
+        long best = 0;
+        for (MusicGenre genre : GENRES) {
+            long count = counter.get(genre);
+            if (count > best) {
+                best = count;
+                dominant = genre;
+            }
+        }
+        return dominant;
+    }
+}
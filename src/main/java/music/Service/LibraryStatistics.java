@@ -0,0 +1,111 @@
+package music.Service;
+
+import music.Models.MusicGenre;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Незмінний результат аналітики по всій бібліотеці збірок.
+ * Створюється через {@link MusicCompilationService#calculateLibraryStatistics(List, int)}.
+ */
+public final class LibraryStatistics {
+    private final long trackCount;
+    private final Duration totalDuration;
+    private final Map<MusicGenre, Long> genreCounts;
+    private final List<Map.Entry<String, Long>> topArtists;
+    private final List<CompilationSummary> compilationSummaries;
+    // Різні тривалості в секундах за зростанням і накопичена кількість треків до кожної з них включно.
+    private final long[] durationSeconds;
+    private final long[] cumulativeCounts;
+
+    /**
+     * Підсумок однієї збірки.
+     *
+     * @param title         Назва збірки
+     * @param id            ID збірки в базі даних або null
+     * @param trackCount    Кількість треків
+     * @param totalDuration Загальна тривалість
+     * @param dominantGenre Найпоширеніший жанр або null для порожньої збірки
+     */
+    public record CompilationSummary(String title, Long id, int trackCount, Duration totalDuration,
+                                     MusicGenre dominantGenre) {
+    }
+
+    LibraryStatistics(long trackCount, Duration totalDuration, Map<MusicGenre, Long> genreCounts,
+                      List<Map.Entry<String, Long>> topArtists, List<CompilationSummary> compilationSummaries,
+                      long[] durationSeconds, long[] cumulativeCounts) {
+        this.trackCount = trackCount;
+        this.totalDuration = totalDuration;
+        this.genreCounts = Collections.unmodifiableMap(genreCounts);
+        this.topArtists = List.copyOf(topArtists);
+        this.compilationSummaries = List.copyOf(compilationSummaries);
+        this.durationSeconds = durationSeconds;
+        this.cumulativeCounts = cumulativeCounts;
+    }
+
+    public long getTrackCount() {
+        return trackCount;
+    }
+
+    public Duration getTotalDuration() {
+        return totalDuration;
+    }
+
+    /**
+     * @return Кількість треків за жанрами в порядку оголошення жанрів; жанри без треків не включаються.
+     */
+    public Map<MusicGenre, Long> getGenreCounts() {
+        return genreCounts;
+    }
+
+    /**
+     * @return Виконавці з найбільшою кількістю треків, від більшої кількості до меншої
+     * (за однакової кількості — за ім'ям).
+     */
+    public List<Map.Entry<String, Long>> getTopArtists() {
+        return topArtists;
+    }
+
+    /**
+     * @return Підсумки збірок у тому ж порядку, що й вхідний список.
+     */
+    public List<CompilationSummary> getCompilationSummaries() {
+        return compilationSummaries;
+    }
+
+    /**
+     * Повертає перцентиль тривалості треків методом найближчого рангу.
+     *
+     * @param percent Перцентиль від 0 до 100.
+     * @return Найменша тривалість, яку не перевищують щонайменше {@code percent}% треків;
+     * {@link Duration#ZERO} для порожньої бібліотеки.
+     * @throws IllegalArgumentException якщо перцентиль поза межами 0..100.
+     */
+    public Duration getDurationPercentile(double percent) {
+        if (!(percent >= 0 && percent <= 100)) {
+            throw new IllegalArgumentException("Перцентиль має бути в межах від 0 до 100");
+        }
+        if (trackCount == 0) {
+            return Duration.ZERO;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percent / 100 * trackCount));
+        int low = 0;
+        int high = cumulativeCounts.length - 1;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (cumulativeCounts[middle] < rank) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return Duration.ofSeconds(durationSeconds[low]);
+    }
+
+    public Duration getMedianDuration() {
+        return getDurationPercentile(50);
+    }
+}
@@ -1,49 +1,454 @@
 package music.Service;
 
+import music.Collections.GenreCounter;
+import music.Models.CompactTrack;
+import music.Models.MusicCompilation;
+import music.Models.MusicGenre;
 import music.Models.MusicTrack;
+import music.Models.Track;
+import music.Models.TrackCursor;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Comparator;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * Сервісний клас для операцій з музичними компіляціями.
+ *
+ * <p>Методи, що виконуються в пулі потоків, читають треки збірок без синхронізації, тому для моделі,
+ * що змінюється в EDT, передавайте знімок {@link music.Manager.DiscManager#snapshot()} або копію збірки.
  */
 public class MusicCompilationService {
+    public static final long DEFAULT_DUPLICATE_TOLERANCE_SECONDS = 2;
+    public static final double DEFAULT_DUPLICATE_SIMILARITY = 0.8;
 
     public MusicCompilationService() {
 
     }
     /**
-     * Обчислює загальну тривалість треків.
+     * Обчислює загальну тривалість треків (з точністю до секунди).
      */
-    public Duration calculateTotalDuration(List<MusicTrack> tracks) {
+    public Duration calculateTotalDuration(List<? extends Track> tracks) {
         if (tracks == null) {
             throw new IllegalArgumentException("Список треків не може бути null");
         }
-        return tracks.stream()
-                .map(MusicTrack::getDuration)
-                .reduce(Duration.ZERO, Duration::plus);
+        long totalSeconds = 0;
+        for (Track track : tracks) {
+            totalSeconds += track.getDuration().getSeconds();
+        }
+        return Duration.ofSeconds(totalSeconds);
     }
 
     /**
      * Сортує треки за жанром.
      */
-    public void sortByGenre(List<MusicTrack> tracks) {
+    public void sortByGenre(List<? extends Track> tracks) {
+        sort(tracks, List.of(TrackSortKey.ascending(TrackSortKey.Field.GENRE)));
+    }
+
+    /**
+     * Стабільно сортує треки за кількома ключами: кожен наступний ключ впорядковує треки,
+     * однакові за попередніми. Ключі обчислюються один раз на трек, великі списки сортуються паралельно.
+     *
+     * @param tracks Список треків, що сортується на місці.
+     * @param keys   Ключі сортування від головного до другорядного.
+     * @throws IllegalArgumentException якщо список треків чи ключів null або містить null.
+     */
+    public void sort(List<? extends Track> tracks, List<TrackSortKey> keys) {
+        if (tracks == null) {
+            throw new IllegalArgumentException("Список треків не може бути null");
+        }
+        if (keys == null) {
+            throw new IllegalArgumentException("Ключі сортування не можуть бути null");
+        }
+        for (TrackSortKey key : keys) {
+            if (key == null) {
+                throw new IllegalArgumentException("Ключ сортування не може бути null");
+            }
+        }
+        TrackSorter.sort(tracks, keys);
+    }
+
+    /**
+     * Підраховує треки за жанрами без створення проміжних об'єктів на кожен трек.
+     */
+    public GenreCounter countByGenre(List<? extends Track> tracks) {
         if (tracks == null) {
             throw new IllegalArgumentException("Список треків не може бути null");
         }
-        tracks.sort(Comparator.comparing(track -> track.getGenre().toString()));
+        GenreCounter counter = new GenreCounter();
+        for (Track track : tracks) {
+            counter.increment(track.getGenre());
+        }
+        return counter;
+    }
+
+    /**
+     * Фільтрує треки за діапазоном тривалості перебором списку.
+     * Для треків збірки швидше використовувати {@link #filterCompilationByDurationRange}.
+     */
+    public <T extends Track> List<T> filterByDurationRange(List<T> tracks, Duration min, Duration max) {
+        if (tracks == null) {
+            throw new IllegalArgumentException("Список треків не може бути null");
+        }
+        validateDurationRange(min, max);
+        List<T> result = new ArrayList<>();
+        for (T track : tracks) {
+            if (track != null && isInRange(track.getDuration(), min, max)) {
+                result.add(track);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Фільтрує треки збірки за діапазоном тривалості за індексом збірки: O(log n + k log k) замість перебору.
+     *
+     * @return Треки в діапазоні в порядку збірки, як і в {@link #filterByDurationRange}.
+     */
+    public List<MusicTrack> filterCompilationByDurationRange(MusicCompilation compilation, Duration min, Duration max) {
+        if (compilation == null) {
+            throw new IllegalArgumentException("Збірка не може бути null");
+        }
+        validateDurationRange(min, max);
+        return compilation.getTracksInDurationRangeInOrder(min, max);
+    }
+
+    /**
+     * Підраховує треки збірки в діапазоні тривалості за O(log n) без перебору треків.
+     */
+    public int countCompilationByDurationRange(MusicCompilation compilation, Duration min, Duration max) {
+        if (compilation == null) {
+            throw new IllegalArgumentException("Збірка не може бути null");
+        }
+        validateDurationRange(min, max);
+        return compilation.countTracksInDurationRange(min, max);
+    }
+
+    /**
+     * Обчислює загальну тривалість треків, прочитаних курсором.
+     */
+    public Duration calculateCursorTotalDuration(TrackCursor cursor) {
+        if (cursor == null) {
+            throw new IllegalArgumentException("Курсор не може бути null");
+        }
+        long totalSeconds = 0;
+        while (cursor.next()) {
+            totalSeconds += cursor.getDurationSeconds();
+        }
+        return Duration.ofSeconds(totalSeconds);
+    }
+
+    /**
+     * Підраховує треки курсора за жанрами.
+     */
+    public Map<MusicGenre, Long> countCursorByGenre(TrackCursor cursor) {
+        if (cursor == null) {
+            throw new IllegalArgumentException("Курсор не може бути null");
+        }
+        GenreCounter counter = new GenreCounter();
+        while (cursor.next()) {
+            counter.increment(cursor.getGenre());
+        }
+        return counter.toMap();
+    }
+
+    /**
+     * Фільтрує треки курсора за діапазоном тривалості. Об'єкти створюються лише для знайдених треків.
+     */
+    public List<CompactTrack> filterCursorByDurationRange(TrackCursor cursor, Duration min, Duration max) {
+        if (cursor == null) {
+            throw new IllegalArgumentException("Курсор не може бути null");
+        }
+        validateDurationRange(min, max);
+        long minSeconds = min.getSeconds();
+        long maxSeconds = max.getSeconds();
+        List<CompactTrack> result = new ArrayList<>();
+        while (cursor.next()) {
+            int seconds = cursor.getDurationSeconds();
+            if (seconds >= minSeconds && seconds <= maxSeconds) {
+                result.add(cursor.toTrack());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Обчислює статистику по всій бібліотеці у спільному пулі fork-join.
+     *
+     * @see #calculateLibraryStatistics(List, int, ForkJoinPool)
+     */
+    public LibraryStatistics calculateLibraryStatistics(List<MusicCompilation> compilations, int topArtists) {
+        return calculateLibraryStatistics(compilations, topArtists, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Обчислює загальну тривалість, розподіл за жанрами, найпопулярніших виконавців, перцентилі тривалості
+     * та підсумки збірок за один прохід. Збірки діляться між потоками пулу, часткові результати зливаються,
+     * тому час обчислення зменшується з кількістю ядер.
+     *
+     * @param compilations Збірки бібліотеки.
+     * @param topArtists   Кількість виконавців у рейтингу.
+     * @param pool         Пул, у якому виконується обчислення.
+     * @return Статистика бібліотеки.
+     * @throws IllegalArgumentException якщо список або пул null, або кількість виконавців від'ємна.
+     */
+    public LibraryStatistics calculateLibraryStatistics(List<MusicCompilation> compilations, int topArtists,
+                                                        ForkJoinPool pool) {
+        if (compilations == null) {
+            throw new IllegalArgumentException("Список збірок не може бути null");
+        }
+        if (topArtists < 0) {
+            throw new IllegalArgumentException("Кількість виконавців не може бути від'ємною");
+        }
+        if (pool == null) {
+            throw new IllegalArgumentException("Пул потоків не може бути null");
+        }
+        return pool.invoke(new LibraryAggregationTask(List.copyOf(compilations))).toStatistics(topArtists);
     }
 
     /**
-     * Фільтрує треки за діапазоном тривалості.
+     * Збирає статистику тривалості треків за один прохід.
+     *
+     * @param tracks Треки.
+     * @return Кількість, сума, мінімум, максимум, середнє, дисперсія та перцентилі тривалості.
+     * @throws IllegalArgumentException якщо список null.
      */
-    public List<MusicTrack> filterByDurationRange(List<MusicTrack> tracks, Duration min, Duration max) {
+    public DurationStatistics collectDurationStatistics(List<? extends Track> tracks) {
         if (tracks == null) {
             throw new IllegalArgumentException("Список треків не може бути null");
         }
+        DurationStatistics statistics = new DurationStatistics();
+        for (Track track : tracks) {
+            statistics.add(track);
+        }
+        return statistics;
+    }
+
+    /**
+     * Збирає статистику тривалості всіх треків бібліотеки у спільному пулі fork-join.
+     *
+     * @see #collectLibraryDurationStatistics(List, ForkJoinPool)
+     */
+    public DurationStatistics collectLibraryDurationStatistics(List<MusicCompilation> compilations) {
+        return collectLibraryDurationStatistics(compilations, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Збирає статистику тривалості всіх треків бібліотеки: кожна збірка проходиться один раз у потоках пулу,
+     * а статистики збірок зливаються.
+     *
+     * @param compilations Збірки бібліотеки.
+     * @param pool         Пул, у якому виконується обчислення.
+     * @return Статистика тривалості всіх треків.
+     * @throws IllegalArgumentException якщо список або пул null.
+     */
+    public DurationStatistics collectLibraryDurationStatistics(List<MusicCompilation> compilations, ForkJoinPool pool) {
+        if (compilations == null) {
+            throw new IllegalArgumentException("Список збірок не може бути null");
+        }
+        if (pool == null) {
+            throw new IllegalArgumentException("Пул потоків не може бути null");
+        }
+        List<MusicCompilation> copy = List.copyOf(compilations);
+        return pool.submit(() -> copy.parallelStream().collect(DurationStatistics::new,
+                (statistics, compilation) -> statistics.merge(collectDurationStatistics(compilation.getTrackView())),
+                DurationStatistics::merge)).join();
+    }
+
+    /**
+     * Шукає дублікати треків по всій бібліотеці з допуском тривалості
+     * {@value #DEFAULT_DUPLICATE_TOLERANCE_SECONDS} с і порогом схожості назв {@value #DEFAULT_DUPLICATE_SIMILARITY}
+     * у спільному пулі fork-join.
+     *
+     * @see #findDuplicateClusters(List, Duration, double, ForkJoinPool)
+     */
+    public List<DuplicateCluster> findDuplicateClusters(List<MusicCompilation> compilations) {
+        return findDuplicateClusters(compilations, Duration.ofSeconds(DEFAULT_DUPLICATE_TOLERANCE_SECONDS),
+                DEFAULT_DUPLICATE_SIMILARITY, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Шукає групи однакових або майже однакових треків по всій бібліотеці.
+     * Порівнюються лише треки одного основного виконавця з близькою тривалістю, тому час пошуку
+     * залежить від кількості треків майже лінійно, а не квадратично.
+     *
+     * @param compilations  Збірки бібліотеки.
+     * @param tolerance     Найбільша різниця тривалостей треків однієї групи.
+     * @param minSimilarity Найменша схожість нормалізованих назв, від 0 (не включно) до 1.
+     * @param pool          Пул, у якому виконується пошук.
+     * @return Групи з двох і більше треків у порядку першого входження в бібліотеці.
+     * @throws IllegalArgumentException якщо список, допуск або пул null, допуск від'ємний
+     *                                  або поріг поза межами (0, 1].
+     */
+    public List<DuplicateCluster> findDuplicateClusters(List<MusicCompilation> compilations, Duration tolerance,
+                                                        double minSimilarity, ForkJoinPool pool) {
+        if (compilations == null) {
+            throw new IllegalArgumentException("Список збірок не може бути null");
+        }
+        if (tolerance == null || tolerance.isNegative()) {
+            throw new IllegalArgumentException("Допуск тривалості не може бути null або від'ємним");
+        }
+        if (!(minSimilarity > 0 && minSimilarity <= 1)) {
+            throw new IllegalArgumentException("Поріг схожості має бути в межах (0, 1]");
+        }
+        if (pool == null) {
+            throw new IllegalArgumentException("Пул потоків не може бути null");
+        }
+        return new DuplicateDetector(tolerance.getSeconds(), minSimilarity, pool).findClusters(List.copyOf(compilations));
+    }
+
+    /**
+     * Створює нову збірку з треків бібліотеки, загальна тривалість яких якнайближча до заданої
+     * і не виходить за межі допуску. Треки копіюються без ID, тож бібліотека не змінюється.
+     * Бібліотека зі 100 тисяч треків обробляється за десятки мілісекунд.
+     *
+     * @param title    Назва нової збірки.
+     * @param library  Треки, з яких виконується вибір.
+     * @param criteria Тривалість, допуск і обмеження за жанром чи виконавцем.
+     * @param random   Джерело випадковості для вибору серед рівноцінних варіантів.
+     * @return Нова збірка або null, якщо підібрати треки в межах допуску неможливо.
+     * @throws IllegalArgumentException якщо назва порожня, або список, умови чи джерело випадковості null.
+     */
+    public MusicCompilation generatePlaylist(String title, List<? extends Track> library, PlaylistCriteria criteria,
+                                             Random random) {
+        if (title == null || title.trim().isEmpty()) {
+            throw new IllegalArgumentException("Назва компіляції не може бути порожньою");
+        }
+        if (library == null) {
+            throw new IllegalArgumentException("Список треків не може бути null");
+        }
+        if (criteria == null || random == null) {
+            throw new IllegalArgumentException("Умови та джерело випадковості не можуть бути null");
+        }
+        List<? extends Track> selected = new PlaylistGenerator(criteria, random).select(library);
+        if (selected == null) {
+            return null;
+        }
+        List<MusicTrack> tracks = new ArrayList<>(selected.size());
+        for (Track track : selected) {
+            tracks.add(new MusicTrack(track.getTitle(), track.getArtist(), track.getGenre(), track.getDuration()));
+        }
+        MusicCompilation compilation = new MusicCompilation(title);
+        compilation.replaceAll(tracks);
+        return compilation;
+    }
+
+    /**
+     * Розбиває збірку на диски у спільному пулі fork-join.
+     *
+     * @see #splitIntoDiscs(MusicCompilation, DiscSplitOptions, ForkJoinPool)
+     */
+    public List<MusicCompilation> splitIntoDiscs(MusicCompilation compilation, DiscSplitOptions options) {
+        return splitIntoDiscs(compilation, options, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Розбиває збірку на якнайменшу кількість дисків заданої місткості. Кожен диск стає новою збіркою
+     * з назвою "&lt;назва&gt; — Диск N" і копіями треків без ID; вихідна збірка не змінюється.
+     * У режимі збереження порядку диски заповнюються послідовно, що для суцільних частин вже оптимально;
+     * в інших режимах розкладка first-fit decreasing покращується паралельним пошуком у межах часу з параметрів.
+     * Якщо треки одного виконавця разом не вміщаються на диск, вони діляться на послідовні частини.
+     *
+     * @param compilation Збірка для розбиття.
+     * @param options     Місткість диска, спосіб розподілу та час пошуку.
+     * @param pool        Пул, у якому виконується пошук.
+     * @return Диски за порядком першого треку збірки на них; треки кожного диска йдуть у порядку збірки
+     * (у режимі групування — групами виконавців).
+     * @throws IllegalArgumentException якщо збірка, параметри або пул null, або трек довший за диск.
+     */
+    public List<MusicCompilation> splitIntoDiscs(MusicCompilation compilation, DiscSplitOptions options,
+                                                 ForkJoinPool pool) {
+        if (compilation == null || options == null) {
+            throw new IllegalArgumentException("Збірка та параметри розбиття не можуть бути null");
+        }
+        if (pool == null) {
+            throw new IllegalArgumentException("Пул потоків не може бути null");
+        }
+        List<MusicTrack> tracks = compilation.getTrackView();
+        long capacity = options.capacity().getSeconds();
+        for (MusicTrack track : tracks) {
+            if (track.getDuration().getSeconds() > capacity) {
+                throw new IllegalArgumentException("Трек '" + track.getTitle() + "' довший за місткість диска");
+            }
+        }
+
+        // Елемент розкладки — послідовність треків, що має потрапити на один диск.
+        List<List<MusicTrack>> items = new ArrayList<>();
+        switch (options.mode()) {
+            case ANY_ORDER -> tracks.forEach(track -> items.add(List.of(track)));
+            case PRESERVE_ORDER -> items.add(tracks);
+            case GROUP_BY_ARTIST -> {
+                Map<Integer, List<MusicTrack>> groups = new LinkedHashMap<>();
+                tracks.forEach(track -> groups.computeIfAbsent(track.getArtistId(), id -> new ArrayList<>()).add(track));
+                groups.values().forEach(items::add);
+            }
+        }
+        List<List<MusicTrack>> pieces = new ArrayList<>();
+        for (List<MusicTrack> item : items) {
+            pieces.addAll(fillSequentially(item, capacity));
+        }
+
+        List<List<MusicTrack>> discs;
+        if (options.mode() == DiscSplitOptions.Mode.PRESERVE_ORDER) {
+            discs = pieces;
+        } else {
+            long[] weights = new long[pieces.size()];
+            for (int i = 0; i < weights.length; i++) {
+                weights[i] = calculateTotalDuration(pieces.get(i)).getSeconds();
+            }
+            int[] bins = new DiscPacker(capacity, options.timeBudget().toNanos(), pool).pack(weights);
+            // Диски нумеруються за першим елементом, тож порядок дисків відповідає порядку збірки.
+            Map<Integer, List<MusicTrack>> byBin = new LinkedHashMap<>();
+            for (int i = 0; i < bins.length; i++) {
+                byBin.computeIfAbsent(bins[i], bin -> new ArrayList<>()).addAll(pieces.get(i));
+            }
+            discs = new ArrayList<>(byBin.values());
+        }
+
+        List<MusicCompilation> result = new ArrayList<>(discs.size());
+        for (int i = 0; i < discs.size(); i++) {
+            MusicCompilation disc = new MusicCompilation(compilation.getTitle() + " — Диск " + (i + 1));
+            List<MusicTrack> copies = new ArrayList<>(discs.get(i).size());
+            for (MusicTrack track : discs.get(i)) {
+                copies.add(new MusicTrack(track.getTitle(), track.getArtist(), track.getGenre(), track.getDuration()));
+            }
+            disc.replaceAll(copies);
+            result.add(disc);
+        }
+        return result;
+    }
+
+    // Ділить послідовність треків на суцільні частини, кожна з яких вміщається на диск.
+    private static List<List<MusicTrack>> fillSequentially(List<MusicTrack> tracks, long capacity) {
+        List<List<MusicTrack>> parts = new ArrayList<>();
+        List<MusicTrack> current = new ArrayList<>();
+        long load = 0;
+        for (MusicTrack track : tracks) {
+            long seconds = track.getDuration().getSeconds();
+            if (load + seconds > capacity && !current.isEmpty()) {
+                parts.add(current);
+                current = new ArrayList<>();
+                load = 0;
+            }
+            current.add(track);
+            load += seconds;
+        }
+        if (!current.isEmpty()) {
+            parts.add(current);
+        }
+        return parts;
+    }
+
+    private static boolean isInRange(Duration duration, Duration min, Duration max) {
+        return duration.compareTo(min) >= 0 && duration.compareTo(max) <= 0;
+    }
+
+    private static void validateDurationRange(Duration min, Duration max) {
         if (min == null || max == null) {
             throw new IllegalArgumentException("Мінімальна або максимальна тривалість не може бути null");
         }
@@ -53,12 +458,5 @@ public class MusicCompilationService {
         if (min.compareTo(max) > 0) {
             throw new IllegalArgumentException("Мінімальна тривалість не може бути більшою за максимальну");
         }
-
-        return tracks.stream()
-                .filter(track -> track != null)
-                .filter(track -> !track.getDuration().minus(min).isNegative() &&
-                        !max.minus(track.getDuration()).isNegative())
-                .collect(Collectors.toList());
     }
-
-}
\ No newline at end of file
+}
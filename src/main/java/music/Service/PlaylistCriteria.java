@@ -0,0 +1,83 @@
+package music.Service;
+
+import music.Models.MusicGenre;
+
+import java.time.Duration;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Умови генерації плейлиста заданої тривалості.
+ *
+ * @param target    Бажана загальна тривалість (з точністю до секунди)
+ * @param tolerance Допустиме відхилення загальної тривалості в обидва боки
+ * @param genres    Дозволені жанри; порожня множина — будь-який жанр
+ * @param artists   Дозволені виконавці без урахування регістру; порожня множина — будь-який виконавець
+ */
+public record PlaylistCriteria(Duration target, Duration tolerance, Set<MusicGenre> genres, Set<String> artists) {
+    /**
+     * Найбільша тривалість плейлиста: таблиця досяжних сум має по біту на кожну секунду.
+     */
+    public static final Duration MAX_TARGET = Duration.ofHours(24);
+
+    /**
+     * @throws IllegalArgumentException якщо тривалість або допуск null, тривалість не додатна чи більша
+     *                                  за {@link #MAX_TARGET}, допуск від'ємний або не менший за тривалість.
+     */
+    public PlaylistCriteria {
+        if (target == null || tolerance == null) {
+            throw new IllegalArgumentException("Тривалість і допуск не можуть бути null");
+        }
+        if (target.getSeconds() <= 0 || target.compareTo(MAX_TARGET) > 0) {
+            throw new IllegalArgumentException("Тривалість плейлиста має бути від 1 секунди до " + MAX_TARGET.toHours() + " годин");
+        }
+        if (tolerance.isNegative() || tolerance.compareTo(target) >= 0) {
+            throw new IllegalArgumentException("Допуск має бути невід'ємним і меншим за тривалість плейлиста");
+        }
+        EnumSet<MusicGenre> allowedGenres = EnumSet.noneOf(MusicGenre.class);
+        if (genres != null) {
+            for (MusicGenre genre : genres) {
+                if (genre == null) {
+                    throw new IllegalArgumentException("Жанр не може бути null");
+                }
+                allowedGenres.add(genre);
+            }
+        }
+        genres = Set.copyOf(allowedGenres);
+        Set<String> lowerCaseArtists = new HashSet<>();
+        if (artists != null) {
+            for (String artist : artists) {
+                if (artist == null || artist.trim().isEmpty()) {
+                    throw new IllegalArgumentException("Виконавець не може бути порожнім");
+                }
+                lowerCaseArtists.add(artist.trim().toLowerCase(Locale.ROOT));
+            }
+        }
+        artists = Set.copyOf(lowerCaseArtists);
+    }
+
+    /**
+     * Умови без обмежень за жанром і виконавцем.
+     */
+    public static PlaylistCriteria of(Duration target, Duration tolerance) {
+        return new PlaylistCriteria(target, tolerance, Set.of(), Set.of());
+    }
+
+    public PlaylistCriteria withGenres(Set<MusicGenre> newGenres) {
+        return new PlaylistCriteria(target, tolerance, newGenres, artists);
+    }
+
+    public PlaylistCriteria withArtists(Set<String> newArtists) {
+        return new PlaylistCriteria(target, tolerance, genres, newArtists);
+    }
+
+    /**
+     * @return true, якщо трек з таким жанром і виконавцем дозволений умовами.
+     */
+    boolean accepts(MusicGenre genre, String artist) {
+        return (genres.isEmpty() || genres.contains(genre))
+                && (artists.isEmpty() || artists.contains(artist.trim().toLowerCase(Locale.ROOT)));
+    }
+}
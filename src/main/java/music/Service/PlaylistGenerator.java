@@ -0,0 +1,147 @@
+package music.Service;
+
+import music.Models.Track;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Підбір треків, загальна тривалість яких потрапляє в задану тривалість з допуском.
+ *
+ * <p>Задача про суму підмножини розв'язується динамічним програмуванням над секундами: множина досяжних
+ * сум зберігається як бітова маска, і кожен трек тривалістю w додається однією операцією
+ * {@code reachable |= reachable << w} по словах long, тобто за O(S / 64) для суми S.
+ * Для кожної суми запам'ятовується трек, який першим зробив її досяжною; попередня сума тоді
+ * була досяжна ще до цього треку, тож ланцюжок відновлює коректну підмножину.
+ * Порядок треків перемішується, а з двох однаково близьких до цілі сум вибирається випадкова,
+ * тому повторні запуски дають різні плейлисти.
+ */
+final class PlaylistGenerator {
+    private static final int NOT_REACHED = -1;
+
+    private final PlaylistCriteria criteria;
+    private final Random random;
+
+    PlaylistGenerator(PlaylistCriteria criteria, Random random) {
+        this.criteria = criteria;
+        this.random = random;
+    }
+
+    /**
+     * @return Вибрані треки у порядку вхідного списку або null, якщо жодна сума не потрапляє в допуск.
+     */
+    <T extends Track> List<T> select(List<T> library) {
+        int target = (int) criteria.target().getSeconds();
+        int tolerance = (int) criteria.tolerance().getSeconds();
+        int maxSum = target + tolerance;
+
+        int[] candidates = filter(library, maxSum);
+        shuffle(candidates);
+        int[] seconds = new int[candidates.length];
+        for (int i = 0; i < candidates.length; i++) {
+            seconds[i] = (int) library.get(candidates[i]).getDuration().getSeconds();
+        }
+
+        long[] reachable = new long[(maxSum >>> 6) + 1];
+        reachable[0] = 1L;
+        int[] reachedBy = new int[maxSum + 1];
+        Arrays.fill(reachedBy, NOT_REACHED);
+        for (int item = 0; item < candidates.length && !isSet(reachable, target); item++) {
+            addItem(reachable, reachedBy, maxSum, seconds[item], item);
+        }
+
+        int sum = closestReachable(reachable, target, tolerance);
+        if (sum < 0) {
+            return null;
+        }
+        int[] chosen = new int[candidates.length];
+        int count = 0;
+        while (sum > 0) {
+            int item = reachedBy[sum];
+            chosen[count++] = candidates[item];
+            sum -= seconds[item];
+        }
+        chosen = Arrays.copyOf(chosen, count);
+        Arrays.sort(chosen);
+        List<T> result = new ArrayList<>(count);
+        for (int index : chosen) {
+            result.add(library.get(index));
+        }
+        return result;
+    }
+
+    private int[] filter(List<? extends Track> library, int maxSum) {
+        int[] candidates = new int[library.size()];
+        int count = 0;
+        for (int i = 0; i < library.size(); i++) {
+            Track track = library.get(i);
+            long seconds = track.getDuration().getSeconds();
+            if (seconds > 0 && seconds <= maxSum && criteria.accepts(track.getGenre(), track.getArtist())) {
+                candidates[count++] = i;
+            }
+        }
+        return Arrays.copyOf(candidates, count);
+    }
+
+    private void shuffle(int[] values) {
+        for (int i = values.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int value = values[i];
+            values[i] = values[j];
+            values[j] = value;
+        }
+    }
+
+    /**
+     * Виконує reachable |= reachable << weight від старших слів до молодших, щоб кожен трек
+     * використовувався не більше одного разу, і записує трек для сум, що стали досяжними.
+     */
+    private static void addItem(long[] reachable, int[] reachedBy, int maxSum, int weight, int item) {
+        int wordShift = weight >>> 6;
+        int bitShift = weight & 63;
+        for (int word = reachable.length - 1; word >= wordShift; word--) {
+            int source = word - wordShift;
+            long shifted = reachable[source] << bitShift;
+            if (bitShift != 0 && source > 0) {
+                shifted |= reachable[source - 1] >>> (64 - bitShift);
+            }
+            long added = shifted & ~reachable[word];
+            if (added == 0) {
+                continue;
+            }
+            int base = word << 6;
+            if (base + 63 > maxSum) {
+                added &= -1L >>> (63 - (maxSum - base));
+            }
+            reachable[word] |= added;
+            while (added != 0) {
+                reachedBy[base + Long.numberOfTrailingZeros(added)] = item;
+                added &= added - 1;
+            }
+        }
+    }
+
+    // Найближча до цілі досяжна сума в межах допуску; за рівної відстані знизу і зверху вибір випадковий.
+    private int closestReachable(long[] reachable, int target, int tolerance) {
+        for (int distance = 0; distance <= tolerance; distance++) {
+            boolean below = target - distance > 0 && isSet(reachable, target - distance);
+            boolean above = distance > 0 && isSet(reachable, target + distance);
+            if (below && above) {
+                return random.nextBoolean() ? target - distance : target + distance;
+            }
+            if (below) {
+                return target - distance;
+            }
+            if (above) {
+                return target + distance;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean isSet(long[] bits, int index) {
+        return (bits[index >>> 6] & (1L << index)) != 0;
+    }
+}
@@ -0,0 +1,213 @@
+package music.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Розібраний пошуковий запит: послідовність умов, які мають виконуватися всі одночасно.
+ *
+ * <p>Синтаксис: {@code слово}, {@code "точна фраза"}, {@code поле:значення}, {@code поле:"значення з пробілами"};
+ * префікс {@code -} заперечує умову. Значення можна перелічити через {@code |} ({@code genre:rock|pop}).
+ * Діапазони записуються як {@code 3m..5m}, {@code ..4m}, {@code 3m..}, {@code >3m}, {@code <=5m} або одним значенням.
+ * Невідомі поля вважаються звичайним текстом, тому запити на зразок {@code 3:30} працюють як раніше.
+ */
+public final class SearchQuery {
+    private final List<Clause> clauses;
+
+    /**
+     * Одна умова запиту.
+     *
+     * @param field   Поле в нижньому регістрі або null для вільного тексту
+     * @param value   Значення (для вільного тексту і фраз — у нижньому регістрі)
+     * @param phrase  true, якщо значення було в лапках
+     * @param negated true, якщо умова заперечена
+     */
+    public record Clause(String field, String value, boolean phrase, boolean negated) {
+    }
+
+    private SearchQuery(List<Clause> clauses) {
+        this.clauses = List.copyOf(clauses);
+    }
+
+    /**
+     * Розбирає запит.
+     *
+     * @param text   Текст запиту.
+     * @param fields Поля, які розпізнаються у форматі {@code поле:значення} (у нижньому регістрі).
+     * @return Розібраний запит; порожній для порожнього тексту.
+     * @throws IllegalArgumentException якщо текст або множина полів null.
+     */
+    public static SearchQuery parse(String text, Set<String> fields) {
+        if (text == null || fields == null) {
+            throw new IllegalArgumentException("Текст запиту та поля не можуть бути null");
+        }
+        List<Clause> clauses = new ArrayList<>();
+        int length = text.length();
+        int i = 0;
+        while (i < length) {
+            while (i < length && Character.isWhitespace(text.charAt(i))) {
+                i++;
+            }
+            if (i >= length) {
+                break;
+            }
+            boolean negated = false;
+            if (text.charAt(i) == '-' && i + 1 < length && !Character.isWhitespace(text.charAt(i + 1))) {
+                negated = true;
+                i++;
+            }
+            if (text.charAt(i) == '"') {
+                int end = closingQuote(text, i);
+                addClause(clauses, null, text.substring(i + 1, end), true, negated);
+                i = Math.min(end + 1, length);
+                continue;
+            }
+            int start = i;
+            while (i < length && !Character.isWhitespace(text.charAt(i)) && text.charAt(i) != '"') {
+                i++;
+            }
+            String word = text.substring(start, i);
+            int colon = word.indexOf(':');
+            String field = colon > 0 ? word.substring(0, colon).toLowerCase(Locale.ROOT) : null;
+            if (field == null || !fields.contains(field)) {
+                addClause(clauses, null, word, false, negated);
+                continue;
+            }
+            String value = word.substring(colon + 1);
+            boolean quoted = false;
+            if (value.isEmpty() && i < length && text.charAt(i) == '"') {
+                int end = closingQuote(text, i);
+                value = text.substring(i + 1, end);
+                i = Math.min(end + 1, length);
+                quoted = true;
+            }
+            addClause(clauses, field, value, quoted, negated);
+        }
+        return new SearchQuery(clauses);
+    }
+
+    public List<Clause> clauses() {
+        return clauses;
+    }
+
+    public boolean isEmpty() {
+        return clauses.isEmpty();
+    }
+
+    /**
+     * Розбирає діапазон тривалості. Одне значення означає всі тривалості з точністю його найменшої одиниці:
+     * {@code 3m} — від 3:00 до 3:59.
+     *
+     * @param value Діапазон, наприклад {@code 3m..5m30s}, {@code >2:30} або {@code 200}.
+     * @return Межі в секундах включно: {@code {min, max}}.
+     * @throws IllegalArgumentException якщо значення не є тривалістю.
+     */
+    public static long[] parseDurationRange(String value) {
+        return parseRange(value, SearchQuery::parseDuration);
+    }
+
+    /**
+     * Розбирає діапазон цілих чисел, наприклад {@code 5..10}, {@code >3} або {@code 7}.
+     *
+     * @return Межі включно: {@code {min, max}}.
+     * @throws IllegalArgumentException якщо значення не є числом.
+     */
+    public static long[] parseNumberRange(String value) {
+        return parseRange(value, bound -> new long[]{parseNumber(bound, bound), 1});
+    }
+
+    private static void addClause(List<Clause> clauses, String field, String value, boolean phrase, boolean negated) {
+        if (value.isEmpty()) {
+            return;
+        }
+        clauses.add(new Clause(field, field == null ? value.toLowerCase() : value, phrase, negated));
+    }
+
+    private static int closingQuote(String text, int openingQuote) {
+        int end = text.indexOf('"', openingQuote + 1);
+        return end < 0 ? text.length() : end;
+    }
+
+    // Межа діапазону: {значення, крок найменшої одиниці}.
+    private interface BoundParser {
+        long[] parse(String bound);
+    }
+
+    private static long[] parseRange(String value, BoundParser parser) {
+        String range = value.trim();
+        int dots = range.indexOf("..");
+        if (dots >= 0) {
+            String from = range.substring(0, dots).trim();
+            String to = range.substring(dots + 2).trim();
+            long min = from.isEmpty() ? 0 : parser.parse(from)[0];
+            long max = to.isEmpty() ? Long.MAX_VALUE : parser.parse(to)[0];
+            return new long[]{min, max};
+        }
+        if (range.startsWith(">=")) {
+            return new long[]{parser.parse(range.substring(2).trim())[0], Long.MAX_VALUE};
+        }
+        if (range.startsWith("<=")) {
+            return new long[]{0, parser.parse(range.substring(2).trim())[0]};
+        }
+        if (range.startsWith(">")) {
+            return new long[]{parser.parse(range.substring(1).trim())[0] + 1, Long.MAX_VALUE};
+        }
+        if (range.startsWith("<")) {
+            return new long[]{0, parser.parse(range.substring(1).trim())[0] - 1};
+        }
+        long[] exact = parser.parse(range);
+        return new long[]{exact[0], exact[0] + exact[1] - 1};
+    }
+
+    /**
+     * Тривалість у форматах {@code 210}, {@code 210s}, {@code 3m30s}, {@code 1h5m} або {@code 3:30}.
+     */
+    private static long[] parseDuration(String text) {
+        String value = text.toLowerCase(Locale.ROOT);
+        if (value.contains(":")) {
+            long seconds = 0;
+            for (String part : value.split(":", -1)) {
+                seconds = seconds * 60 + parseNumber(part, text);
+            }
+            return new long[]{seconds, 1};
+        }
+        long seconds = 0;
+        long unit = 1;
+        int start = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (Character.isDigit(c)) {
+                continue;
+            }
+            unit = switch (c) {
+                case 'h' -> 3600;
+                case 'm' -> 60;
+                case 's' -> 1;
+                default -> throw new IllegalArgumentException("Некоректна тривалість: " + text);
+            };
+            seconds += parseNumber(value.substring(start, i), text) * unit;
+            start = i + 1;
+        }
+        if (start < value.length()) {
+            seconds += parseNumber(value.substring(start), text);
+            unit = 1;
+        } else if (start == 0) {
+            throw new IllegalArgumentException("Некоректна тривалість: " + text);
+        }
+        return new long[]{seconds, unit};
+    }
+
+    private static long parseNumber(String digits, String original) {
+        if (digits.isEmpty() || digits.length() > 9) {
+            throw new IllegalArgumentException("Некоректне значення: " + original);
+        }
+        for (int i = 0; i < digits.length(); i++) {
+            if (!Character.isDigit(digits.charAt(i))) {
+                throw new IllegalArgumentException("Некоректне значення: " + original);
+            }
+        }
+        return Long.parseLong(digits);
+    }
+}
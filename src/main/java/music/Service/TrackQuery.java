@@ -0,0 +1,224 @@
+package music.Service;
+
+import music.Models.ArtistRegistry;
+import music.Models.MusicGenre;
+import music.Models.Track;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Пошуковий запит до треків, скомпільований у дерево предикатів.
+ *
+ * <p>Поля: {@code artist:}, {@code title:}, {@code genre:} (підрядок без урахування регістру) та
+ * {@code dur:} (діапазон тривалості, див. {@link SearchQuery#parseDurationRange(String)}). Слово без поля
+ * шукається в назві, виконавці та жанрі, фраза в лапках — у назві та виконавці.
+ * Запит компілюється один раз: імена виконавців перевіряються один раз на кожного зареєстрованого
+ * виконавця ({@link ArtistRegistry#findMatching(String)}), жанри — один раз на жанр, тож перевірка треку
+ * зводиться до звернень до бітових множин і порівнянь рядків назви.
+ * Умови за виконавцем, жанром і тривалістю можуть обслуговуватися індексом {@link TrackSearchIndex}.
+ *
+ * @see #parse(String)
+ */
+public final class TrackQuery {
+    static final Set<String> FIELDS = Set.of("artist", "title", "genre", "dur");
+    private static final MusicGenre[] GENRES = MusicGenre.values();
+
+    private final List<Node> conditions;
+
+    /**
+     * Вузол дерева предикатів.
+     */
+    sealed interface Node permits AnyOf, Not, ArtistIn, GenreIn, DurationIn, TitleContains, TextContains {
+        boolean test(Track track);
+    }
+
+    record AnyOf(List<Node> children) implements Node {
+        @Override
+        public boolean test(Track track) {
+            for (Node child : children) {
+                if (child.test(track)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    record Not(Node child) implements Node {
+        @Override
+        public boolean test(Track track) {
+            return !child.test(track);
+        }
+    }
+
+    /**
+     * Трек одного з виконавців (ID з {@link ArtistRegistry}).
+     */
+    record ArtistIn(BitSet artistIds) implements Node {
+        @Override
+        public boolean test(Track track) {
+            return artistIds.get(track.getArtistId());
+        }
+    }
+
+    record GenreIn(EnumSet<MusicGenre> genres) implements Node {
+        @Override
+        public boolean test(Track track) {
+            return genres.contains(track.getGenre());
+        }
+    }
+
+    /**
+     * Тривалість від min до max секунд включно.
+     */
+    record DurationIn(long min, long max) implements Node {
+        @Override
+        public boolean test(Track track) {
+            long seconds = track.getDuration().getSeconds();
+            return seconds >= min && seconds <= max;
+        }
+    }
+
+    record TitleContains(String lowerCaseText) implements Node {
+        @Override
+        public boolean test(Track track) {
+            return track.getTitle().toLowerCase().contains(lowerCaseText);
+        }
+    }
+
+    /**
+     * Текст у назві, у виконавці (заздалегідь знайдені ID) або в жанрі.
+     */
+    record TextContains(String lowerCaseText, BitSet artistIds, EnumSet<MusicGenre> genres) implements Node {
+        @Override
+        public boolean test(Track track) {
+            return artistIds.get(track.getArtistId()) || genres.contains(track.getGenre())
+                    || track.getTitle().toLowerCase().contains(lowerCaseText);
+        }
+    }
+
+    private TrackQuery(List<Node> conditions) {
+        this.conditions = List.copyOf(conditions);
+    }
+
+    /**
+     * Розбирає та компілює запит, наприклад {@code artist:queen genre:rock dur:3m..5m -live "exact phrase"}.
+     *
+     * @param text Текст запиту.
+     * @return Скомпільований запит; порожній запит відповідає всім трекам.
+     * @throws IllegalArgumentException якщо текст null або діапазон тривалості некоректний.
+     */
+    public static TrackQuery parse(String text) {
+        List<Node> conditions = new ArrayList<>();
+        for (SearchQuery.Clause clause : SearchQuery.parse(text, FIELDS).clauses()) {
+            Node node = compile(clause);
+            conditions.add(clause.negated() ? new Not(node) : node);
+        }
+        return new TrackQuery(conditions);
+    }
+
+    /**
+     * @return true, якщо запит не містить умов.
+     */
+    public boolean isEmpty() {
+        return conditions.isEmpty();
+    }
+
+    /**
+     * @param track Трек для перевірки.
+     * @return true, якщо трек задовольняє всі умови запиту.
+     */
+    public boolean matches(Track track) {
+        for (Node condition : conditions) {
+            if (!condition.test(track)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Вибирає треки, що відповідають запиту, повним переглядом списку.
+     * Для повторних запитів до одного списку використовуйте {@link TrackSearchIndex}.
+     *
+     * @return Треки у вихідному порядку.
+     */
+    public <T extends Track> List<T> filter(List<T> tracks) {
+        List<T> result = new ArrayList<>();
+        for (T track : tracks) {
+            if (matches(track)) {
+                result.add(track);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @return Умови верхнього рівня, які мають виконуватися всі.
+     */
+    List<Node> conditions() {
+        return conditions;
+    }
+
+    private static Node compile(SearchQuery.Clause clause) {
+        if (clause.field() == null) {
+            String text = clause.value();
+            if (clause.phrase()) {
+                return new AnyOf(List.of(new TitleContains(text), new ArtistIn(ArtistRegistry.findMatching(text))));
+            }
+            return new TextContains(text, ArtistRegistry.findMatching(text), genresMatching(text, false));
+        }
+        if (clause.field().equals("dur")) {
+            long[] range = SearchQuery.parseDurationRange(clause.value());
+            return new DurationIn(range[0], range[1]);
+        }
+        List<Node> alternatives = new ArrayList<>();
+        for (String alternative : clause.value().split("\\|")) {
+            String value = alternative.trim().toLowerCase();
+            if (value.isEmpty()) {
+                continue;
+            }
+            alternatives.add(switch (clause.field()) {
+                case "artist" -> new ArtistIn(ArtistRegistry.findMatching(value));
+                case "genre" -> new GenreIn(genresMatching(value, true));
+                default -> new TitleContains(value);
+            });
+        }
+        return alternatives.size() == 1 ? alternatives.get(0) : merge(clause.field(), alternatives);
+    }
+
+    // Альтернативи за виконавцем чи жанром об'єднуються в одну множину, щоб їх міг обслужити індекс.
+    private static Node merge(String field, List<Node> alternatives) {
+        if (field.equals("artist")) {
+            BitSet ids = new BitSet();
+            alternatives.forEach(node -> ids.or(((ArtistIn) node).artistIds()));
+            return new ArtistIn(ids);
+        }
+        if (field.equals("genre")) {
+            EnumSet<MusicGenre> genres = EnumSet.noneOf(MusicGenre.class);
+            alternatives.forEach(node -> genres.addAll(((GenreIn) node).genres()));
+            return new GenreIn(genres);
+        }
+        return new AnyOf(alternatives);
+    }
+
+    /**
+     * Жанри, назва яких містить текст; для поля {@code genre:} перевіряється і назва константи
+     * ({@code hip_hop}, {@code rnb}).
+     */
+    static EnumSet<MusicGenre> genresMatching(String lowerCaseText, boolean includeConstantNames) {
+        EnumSet<MusicGenre> genres = EnumSet.noneOf(MusicGenre.class);
+        for (MusicGenre genre : GENRES) {
+            if (genre.toString().toLowerCase().contains(lowerCaseText)
+                    || includeConstantNames && genre.name().toLowerCase(Locale.ROOT).contains(lowerCaseText)) {
+                genres.add(genre);
+            }
+        }
+        return genres;
+    }
+}
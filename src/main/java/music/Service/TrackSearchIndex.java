@@ -0,0 +1,184 @@
+package music.Service;
+
+import music.Collections.IntList;
+import music.Models.MusicGenre;
+import music.Models.Track;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * Індекс незмінного списку треків для виконання {@link TrackQuery} без повного перегляду.
+ *
+ * <p>Для списку будуються списки позицій за ID виконавця (щільні ID з {@link music.Models.ArtistRegistry}
+ * дають масив замість хеш-таблиці) і за жанром, а також позиції, відсортовані за тривалістю.
+ * Для кожної умови верхнього рівня за виконавцем, жанром чи тривалістю індекс оцінює кількість треків,
+ * що їй відповідають; найвибірковіша умова дає кандидатів, а решта умов перевіряється лише на них.
+ * Якщо жодна умова не обслуговується індексом, список переглядається повністю.
+ *
+ * @param <T> Тип треку.
+ */
+public final class TrackSearchIndex<T extends Track> {
+    private static final MusicGenre[] GENRES = MusicGenre.values();
+
+    private final List<T> tracks;
+    private final IntList[] byArtist;
+    private final IntList[] byGenre;
+    private final int[] byDuration;
+    private final long[] sortedSeconds;
+
+    /**
+     * @param tracks Треки; індекс працює зі знімком списку і не бачить подальших змін.
+     * @throws IllegalArgumentException якщо список null.
+     */
+    public TrackSearchIndex(List<T> tracks) {
+        if (tracks == null) {
+            throw new IllegalArgumentException("Список треків не може бути null");
+        }
+        this.tracks = List.copyOf(tracks);
+        int size = this.tracks.size();
+        int maxArtistId = -1;
+        for (T track : this.tracks) {
+            maxArtistId = Math.max(maxArtistId, track.getArtistId());
+        }
+        byArtist = new IntList[maxArtistId + 1];
+        byGenre = new IntList[GENRES.length];
+        long[] packed = new long[size];
+        for (int i = 0; i < size; i++) {
+            T track = this.tracks.get(i);
+            postings(byArtist, track.getArtistId()).add(i);
+            postings(byGenre, track.getGenre().ordinal()).add(i);
+            packed[i] = (track.getDuration().getSeconds() << Integer.SIZE) | i;
+        }
+        Arrays.sort(packed);
+        byDuration = new int[size];
+        sortedSeconds = new long[size];
+        for (int i = 0; i < size; i++) {
+            byDuration[i] = (int) packed[i];
+            sortedSeconds[i] = packed[i] >>> Integer.SIZE;
+        }
+    }
+
+    public int size() {
+        return tracks.size();
+    }
+
+    /**
+     * Виконує запит.
+     *
+     * @param query Скомпільований запит.
+     * @return Треки, що відповідають запиту, у порядку списку.
+     * @throws IllegalArgumentException якщо запит null.
+     */
+    public List<T> search(TrackQuery query) {
+        if (query == null) {
+            throw new IllegalArgumentException("Запит не може бути null");
+        }
+        if (query.isEmpty()) {
+            return tracks;
+        }
+        TrackQuery.Node driver = null;
+        long bestEstimate = tracks.size();
+        for (TrackQuery.Node condition : query.conditions()) {
+            long estimate = estimate(condition);
+            if (estimate >= 0 && estimate < bestEstimate) {
+                driver = condition;
+                bestEstimate = estimate;
+            }
+        }
+        if (driver == null) {
+            return query.filter(tracks);
+        }
+        List<T> result = new ArrayList<>((int) bestEstimate);
+        for (int position : candidates(driver)) {
+            T track = tracks.get(position);
+            if (query.matches(track)) {
+                result.add(track);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @return Кількість треків, що відповідають умові, або -1, якщо умова не обслуговується індексом.
+     */
+    long estimate(TrackQuery.Node condition) {
+        return switch (condition) {
+            case TrackQuery.ArtistIn artist -> {
+                long count = 0;
+                BitSet ids = artist.artistIds();
+                for (int id = ids.nextSetBit(0); id >= 0 && id < byArtist.length; id = ids.nextSetBit(id + 1)) {
+                    count += byArtist[id] == null ? 0 : byArtist[id].size();
+                }
+                yield count;
+            }
+            case TrackQuery.GenreIn genre -> {
+                long count = 0;
+                for (MusicGenre value : genre.genres()) {
+                    count += byGenre[value.ordinal()] == null ? 0 : byGenre[value.ordinal()].size();
+                }
+                yield count;
+            }
+            case TrackQuery.DurationIn duration -> durationUpperBound(duration.max()) - durationLowerBound(duration.min());
+            default -> -1;
+        };
+    }
+
+    // Позиції треків, що відповідають умові, за зростанням.
+    private int[] candidates(TrackQuery.Node condition) {
+        IntList positions = new IntList();
+        switch (condition) {
+            case TrackQuery.ArtistIn artist -> {
+                BitSet ids = artist.artistIds();
+                for (int id = ids.nextSetBit(0); id >= 0 && id < byArtist.length; id = ids.nextSetBit(id + 1)) {
+                    append(positions, byArtist[id]);
+                }
+            }
+            case TrackQuery.GenreIn genre -> genre.genres().forEach(value -> append(positions, byGenre[value.ordinal()]));
+            case TrackQuery.DurationIn duration -> {
+                for (int i = durationLowerBound(duration.min()), end = durationUpperBound(duration.max()); i < end; i++) {
+                    positions.add(byDuration[i]);
+                }
+            }
+            default -> throw new IllegalStateException("Умова не обслуговується індексом: " + condition);
+        }
+        positions.sort();
+        return positions.toArray();
+    }
+
+    private int durationLowerBound(long seconds) {
+        int low = 0;
+        int high = sortedSeconds.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (sortedSeconds[middle] < seconds) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private int durationUpperBound(long seconds) {
+        return seconds == Long.MAX_VALUE ? sortedSeconds.length : durationLowerBound(seconds + 1);
+    }
+
+    private static IntList postings(IntList[] lists, int key) {
+        if (lists[key] == null) {
+            lists[key] = new IntList();
+        }
+        return lists[key];
+    }
+
+    private static void append(IntList target, IntList source) {
+        if (source == null) {
+            return;
+        }
+        for (int i = 0; i < source.size(); i++) {
+            target.add(source.get(i));
+        }
+    }
+}
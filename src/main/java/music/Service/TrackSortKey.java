@@ -0,0 +1,45 @@
+package music.Service;
+
+/**
+ * Один рівень багатоключового сортування треків: поле та напрямок.
+ *
+ * @param field      Поле, за яким сортуються треки
+ * @param descending true для сортування за спаданням
+ */
+public record TrackSortKey(Field field, boolean descending) {
+
+    /**
+     * Поля треку, доступні для сортування.
+     */
+    public enum Field {
+        GENRE("Жанр"),
+        ARTIST("Виконавець"),
+        TITLE("Назва"),
+        DURATION("Тривалість");
+
+        private final String displayName;
+
+        Field(String displayName) {
+            this.displayName = displayName;
+        }
+
+        @Override
+        public String toString() {
+            return displayName;
+        }
+    }
+
+    public TrackSortKey {
+        if (field == null) {
+            throw new IllegalArgumentException("Поле сортування не може бути null");
+        }
+    }
+
+    public static TrackSortKey ascending(Field field) {
+        return new TrackSortKey(field, false);
+    }
+
+    public static TrackSortKey descending(Field field) {
+        return new TrackSortKey(field, true);
+    }
+}
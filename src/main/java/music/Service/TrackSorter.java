@@ -0,0 +1,212 @@
+package music.Service;
+
+import music.Collections.LongIntHashMap;
+import music.Models.ArtistRegistry;
+import music.Models.MusicGenre;
+import music.Models.TextCollation;
+import music.Models.Track;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Map;
+
+/**
+ * Багатоключове стабільне сортування треків на попередньо обчислених ключах.
+ *
+ * <p>Для кожного ключа атрибути треків один раз перетворюються на щільні ранги (рядки сортуються лише
+ * серед різних значень), після чого ранги всіх ключів і позиція треку пакуються в одне число long.
+ * Масив таких чисел сортується {@link Arrays#parallelSort(long[])} без компаратора та об'єктів на
+ * порівняння; великі масиви сортуються паралельно. Позиція в молодших бітах робить сортування стабільним.
+ * Якщо ранги всіх ключів не вміщаються в одне число, ключі групуються і сортуються кількома стабільними
+ * проходами від останньої групи до першої.
+ *
+ * <p>Назви та імена виконавців впорядковуються за {@link TextCollation}: різні значення порівнюються
+ * за кешованими ключами сортування, тож кожне порівняння — лише беззнакове порівняння масивів байтів.
+ */
+final class TrackSorter {
+    private static final MusicGenre[] GENRES = MusicGenre.values();
+    // Позиція кожного жанру (за ordinal) у порядку сортування за назвою, щоб не порівнювати рядки при сортуванні.
+    static final int[] GENRE_NAME_RANK = genreNameRanks();
+
+    private TrackSorter() {
+    }
+
+    /**
+     * Ранги треків за одним ключем та кількість різних рангів.
+     */
+    private record Ranks(int[] values, int distinct) {
+    }
+
+    static <T extends Track> void sort(List<T> tracks, List<TrackSortKey> keys) {
+        int size = tracks.size();
+        if (size < 2 || keys.isEmpty()) {
+            return;
+        }
+        Track[] elements = tracks.toArray(new Track[0]);
+        Ranks[] ranks = new Ranks[keys.size()];
+        for (int k = 0; k < ranks.length; k++) {
+            ranks[k] = ranks(elements, keys.get(k));
+        }
+
+        int indexBits = bitsFor(size);
+        int[] order = null;
+        int groupEnd = ranks.length;
+        // Групи ключів сортуються від останньої до першої: кожен прохід стабільний щодо попереднього порядку.
+        while (groupEnd > 0) {
+            int groupStart = groupEnd - 1;
+            int bits = bitsFor(ranks[groupStart].distinct());
+            while (groupStart > 0 && bits + bitsFor(ranks[groupStart - 1].distinct()) + indexBits <= Long.SIZE - 1) {
+                groupStart--;
+                bits += bitsFor(ranks[groupStart].distinct());
+            }
+            order = sortPass(ranks, groupStart, groupEnd, order, size, indexBits);
+            groupEnd = groupStart;
+        }
+
+        ListIterator<T> iterator = tracks.listIterator();
+        for (int position : order) {
+            iterator.next();
+            @SuppressWarnings("unchecked")
+            T track = (T) elements[position];
+            iterator.set(track);
+        }
+    }
+
+    /**
+     * Сортує поточний порядок за групою ключів [from, to).
+     *
+     * @param previous Порядок після попереднього проходу або null для вихідного порядку.
+     * @return Новий порядок як позиції вихідного списку.
+     */
+    private static int[] sortPass(Ranks[] ranks, int from, int to, int[] previous, int size, int indexBits) {
+        long[] packed = new long[size];
+        for (int slot = 0; slot < size; slot++) {
+            int element = previous == null ? slot : previous[slot];
+            long composite = 0;
+            for (int k = from; k < to; k++) {
+                composite = (composite << bitsFor(ranks[k].distinct())) | ranks[k].values()[element];
+            }
+            packed[slot] = (composite << indexBits) | slot;
+        }
+        Arrays.parallelSort(packed);
+        long slotMask = (1L << indexBits) - 1;
+        int[] order = new int[size];
+        for (int i = 0; i < size; i++) {
+            int slot = (int) (packed[i] & slotMask);
+            order[i] = previous == null ? slot : previous[slot];
+        }
+        return order;
+    }
+
+    private static Ranks ranks(Track[] elements, TrackSortKey key) {
+        Ranks ranks = switch (key.field()) {
+            case GENRE -> genreRanks(elements);
+            case DURATION -> durationRanks(elements);
+            case ARTIST -> artistRanks(elements);
+            case TITLE -> titleRanks(elements);
+        };
+        if (key.descending()) {
+            int[] values = ranks.values();
+            for (int i = 0; i < values.length; i++) {
+                values[i] = ranks.distinct() - 1 - values[i];
+            }
+        }
+        return ranks;
+    }
+
+    private static Ranks genreRanks(Track[] elements) {
+        int[] values = new int[elements.length];
+        for (int i = 0; i < elements.length; i++) {
+            values[i] = GENRE_NAME_RANK[elements[i].getGenre().ordinal()];
+        }
+        return new Ranks(values, GENRES.length);
+    }
+
+    private static Ranks durationRanks(Track[] elements) {
+        long[] seconds = new long[elements.length];
+        for (int i = 0; i < elements.length; i++) {
+            seconds[i] = elements[i].getDuration().getSeconds();
+        }
+        long[] distinct = seconds.clone();
+        Arrays.sort(distinct);
+        int distinctCount = unique(distinct);
+        int[] values = new int[elements.length];
+        for (int i = 0; i < elements.length; i++) {
+            values[i] = Arrays.binarySearch(distinct, 0, distinctCount, seconds[i]);
+        }
+        return new Ranks(values, distinctCount);
+    }
+
+    /**
+     * Виконавці ранжуються за ID з {@link ArtistRegistry}: ключі сортування імен порівнюються лише серед
+     * різних виконавців, а ранг треку береться з таблиці за ID.
+     */
+    private static Ranks artistRanks(Track[] elements) {
+        int[] ids = new int[elements.length];
+        Map<Integer, byte[]> keys = new HashMap<>();
+        for (int i = 0; i < elements.length; i++) {
+            ids[i] = elements[i].getArtistId();
+            keys.computeIfAbsent(ids[i], ArtistRegistry::sortKey);
+        }
+        Integer[] distinct = keys.keySet().toArray(new Integer[0]);
+        Arrays.sort(distinct, (first, second) -> TextCollation.compare(keys.get(first), keys.get(second)));
+        LongIntHashMap rankById = new LongIntHashMap(distinct.length);
+        for (int rank = 0; rank < distinct.length; rank++) {
+            rankById.put(distinct[rank], rank);
+        }
+        int[] values = new int[elements.length];
+        for (int i = 0; i < elements.length; i++) {
+            values[i] = rankById.get(ids[i], 0);
+        }
+        return new Ranks(values, distinct.length);
+    }
+
+    private static Ranks titleRanks(Track[] elements) {
+        // Ключ береться з першого треку з такою назвою; треки кешують свої ключі між сортуваннями.
+        Map<String, byte[]> keys = new HashMap<>();
+        for (Track element : elements) {
+            if (!keys.containsKey(element.getTitle())) {
+                keys.put(element.getTitle(), element.getTitleSortKey());
+            }
+        }
+        String[] distinct = keys.keySet().toArray(new String[0]);
+        Arrays.parallelSort(distinct, (first, second) -> TextCollation.compare(keys.get(first), keys.get(second)));
+        Map<String, Integer> rankByTitle = new HashMap<>(keys.size() * 2);
+        for (int rank = 0; rank < distinct.length; rank++) {
+            rankByTitle.put(distinct[rank], rank);
+        }
+        int[] values = new int[elements.length];
+        for (int i = 0; i < elements.length; i++) {
+            values[i] = rankByTitle.get(elements[i].getTitle());
+        }
+        return new Ranks(values, distinct.length);
+    }
+
+    private static int unique(long[] sorted) {
+        int count = 0;
+        for (int i = 0; i < sorted.length; i++) {
+            if (i == 0 || sorted[i] != sorted[count - 1]) {
+                sorted[count++] = sorted[i];
+            }
+        }
+        return count;
+    }
+
+    // Кількість бітів для значень від 0 до count - 1.
+    private static int bitsFor(int count) {
+        return count <= 1 ? 0 : Integer.SIZE - Integer.numberOfLeadingZeros(count - 1);
+    }
+
+    private static int[] genreNameRanks() {
+        MusicGenre[] byName = GENRES.clone();
+        Arrays.sort(byName, Comparator.comparing(MusicGenre::toString));
+        int[] ranks = new int[byName.length];
+        for (int i = 0; i < byName.length; i++) {
+            ranks[byName[i].ordinal()] = i;
+        }
+        return ranks;
+    }
+}
@@ -0,0 +1,114 @@
+package music.Storage;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.BufferedOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Утилітний клас для атомарного запису файлів.
+ * Дані спочатку записуються у тимчасовий файл у тій самій директорії, скидаються на диск (fsync),
+ * після чого тимчасовий файл атомарно перейменовується на цільовий. Збій посеред запису
+ * залишає попередню версію файлу неушкодженою.
+ */
+public final class AtomicFileWriter {
+    private static final Logger logger = LogManager.getLogger(AtomicFileWriter.class);
+    private static final String TEMP_SUFFIX = ".tmp";
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * Функція, що записує вміст файлу у наданий потік.
+     * Реалізація не повинна закривати потік — це робить {@link AtomicFileWriter}.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        void writeTo(OutputStream out) throws IOException;
+    }
+
+    private AtomicFileWriter() {
+    }
+
+    /**
+     * Атомарно записує файл.
+     *
+     * @param target Шлях до цільового файлу.
+     * @param writer Функція, що записує вміст.
+     * @throws IOException У разі помилки вводу-виводу; цільовий файл при цьому не змінюється.
+     */
+    public static void write(Path target, ContentWriter writer) throws IOException {
+        Path absoluteTarget = target.toAbsolutePath();
+        Path directory = absoluteTarget.getParent();
+
+        Path tempFile = Files.createTempFile(directory, absoluteTarget.getFileName().toString(), TEMP_SUFFIX);
+        boolean moved = false;
+        try {
+            try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.WRITE)) {
+                OutputStream out = new BufferedOutputStream(new NonClosingOutputStream(Channels.newOutputStream(channel)), BUFFER_SIZE);
+                writer.writeTo(out);
+                out.flush();
+                channel.force(true);
+            }
+            move(tempFile, absoluteTarget);
+            moved = true;
+            syncDirectory(directory);
+            logger.debug("Файл атомарно записано: {}", absoluteTarget);
+        } finally {
+            if (!moved) {
+                Files.deleteIfExists(tempFile);
+            }
+        }
+    }
+
+    /**
+     * Перейменовує тимчасовий файл на цільовий, за можливості атомарно.
+     */
+    private static void move(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            logger.warn("Файлова система не підтримує атомарне перейменування, виконується звичайна заміна: {}", target);
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Скидає на диск запис директорії, щоб перейменування пережило збій живлення.
+     * Не всі платформи дозволяють відкрити директорію як канал, тому помилки лише логуються.
+     */
+    private static void syncDirectory(Path directory) {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException | UnsupportedOperationException e) {
+            logger.debug("Не вдалося синхронізувати директорію {}: {}", directory, e.getMessage());
+        }
+    }
+
+    /**
+     * Обгортка, що ігнорує закриття, щоб серіалізатори не закрили канал до fsync.
+     */
+    private static final class NonClosingOutputStream extends FilterOutputStream {
+        NonClosingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+        }
+
+        @Override
+        public void close() throws IOException {
+            flush();
+        }
+    }
+}
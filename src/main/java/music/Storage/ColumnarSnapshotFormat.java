@@ -0,0 +1,58 @@
+package music.Storage;
+
+import music.Models.CompactTrack;
+
+/**
+ * Опис бінарного колонкового формату знімка бібліотеки (little-endian).
+ * <pre>
+ * Заголовок (24 байти): MAGIC, VERSION, кількість треків, кількість збірок, кількість секцій, резерв.
+ * Таблиця секцій: для кожної секції {@link Section} — зміщення (long) та довжина (long) у байтах.
+ * Секції вирівняні на 8 байт і йдуть у порядку оголошення {@link Section}.
+ * Словник рядків: кількість (int), зміщення (int × (кількість + 1)), байти UTF-8.
+ * </pre>
+ */
+final class ColumnarSnapshotFormat {
+    static final int MAGIC = 0x4C4F434D; // "MCOL" у little-endian
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 24;
+    static final int SECTION_ENTRY_SIZE = 16;
+    static final int ALIGNMENT = 8;
+    static final long NO_ID = CompactTrack.NO_ID;
+
+    /**
+     * Секції файлу у порядку їх розташування.
+     */
+    enum Section {
+        /** Тривалість треку в секундах, int на трек. */
+        DURATION,
+        /** Порядковий номер жанру, byte на трек. */
+        GENRE,
+        /** Ідентифікатор виконавця у словнику виконавців, int на трек. */
+        ARTIST_ID,
+        /** Порядковий номер збірки у знімку, int на трек. */
+        COMPILATION_ID,
+        /** Ідентифікатор назви у словнику назв, int на трек. */
+        TITLE_ID,
+        /** Ідентифікатор треку в базі даних або -1, long на трек. */
+        TRACK_DB_ID,
+        /** Ідентифікатор збірки в базі даних або -1, long на збірку. */
+        COMPILATION_DB_ID,
+        /** Словник імен виконавців. */
+        ARTIST_DICTIONARY,
+        /** Словник назв треків. */
+        TITLE_DICTIONARY,
+        /** Словник назв збірок, індекс збігається з порядковим номером збірки. */
+        COMPILATION_DICTIONARY
+    }
+
+    private ColumnarSnapshotFormat() {
+    }
+
+    static long align(long position) {
+        return (position + ALIGNMENT - 1) & -ALIGNMENT;
+    }
+
+    static long dataStart() {
+        return align(HEADER_SIZE + (long) Section.values().length * SECTION_ENTRY_SIZE);
+    }
+}
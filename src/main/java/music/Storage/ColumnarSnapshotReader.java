@@ -0,0 +1,263 @@
+package music.Storage;
+
+import music.Models.ArtistRegistry;
+import music.Models.CompactTrack;
+import music.Models.MusicGenre;
+import music.Storage.ColumnarSnapshotFormat.Section;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Читач колонкового знімка, створеного {@link ColumnarSnapshotWriter}.
+ * Кожна секція відображається у пам'ять (memory-mapped), тому колонки читаються напряму
+ * зі сторінкового кешу ОС без десеріалізації та створення об'єктів треків.
+ * Рядки декодуються зі словників лише на запит.
+ */
+public final class ColumnarSnapshotReader implements AutoCloseable {
+    private static final Logger logger = LogManager.getLogger(ColumnarSnapshotReader.class);
+    private static final MusicGenre[] GENRES = MusicGenre.values();
+
+    private final FileChannel channel;
+    private final int trackCount;
+    private final int compilationCount;
+    private final ByteBuffer[] sections;
+    private String[] artistCache;
+
+    private ColumnarSnapshotReader(FileChannel channel, int trackCount, int compilationCount, ByteBuffer[] sections) {
+        this.channel = channel;
+        this.trackCount = trackCount;
+        this.compilationCount = compilationCount;
+        this.sections = sections;
+    }
+
+    /**
+     * Відкриває файл знімка та відображає його секції у пам'ять.
+     *
+     * @param path Шлях до файлу.
+     * @return Читач знімка.
+     * @throws IOException Якщо файл недоступний або має невірний формат.
+     */
+    public static ColumnarSnapshotReader open(Path path) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            long fileSize = channel.size();
+            if (fileSize < ColumnarSnapshotFormat.dataStart()) {
+                throw new IOException("Файл занадто короткий для колонкового знімка: " + path);
+            }
+            ByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, ColumnarSnapshotFormat.dataStart())
+                    .order(ByteOrder.LITTLE_ENDIAN);
+            if (header.getInt() != ColumnarSnapshotFormat.MAGIC) {
+                throw new IOException("Невірний формат колонкового знімка: " + path);
+            }
+            int version = header.getInt();
+            if (version != ColumnarSnapshotFormat.VERSION) {
+                throw new IOException("Непідтримувана версія колонкового знімка: " + version);
+            }
+            int trackCount = header.getInt();
+            int compilationCount = header.getInt();
+            int sectionCount = header.getInt();
+            header.getInt();
+            if (sectionCount != Section.values().length || trackCount < 0 || compilationCount < 0) {
+                throw new IOException("Пошкоджений заголовок колонкового знімка: " + path);
+            }
+
+            ByteBuffer[] sections = new ByteBuffer[sectionCount];
+            for (int i = 0; i < sectionCount; i++) {
+                long offset = header.getLong();
+                long length = header.getLong();
+                if (offset < 0 || length < 0 || length > Integer.MAX_VALUE || offset + length > fileSize) {
+                    throw new IOException("Пошкоджена таблиця секцій колонкового знімка: " + path);
+                }
+                sections[i] = channel.map(FileChannel.MapMode.READ_ONLY, offset, length)
+                        .order(ByteOrder.LITTLE_ENDIAN);
+            }
+            logger.info("Відкрито колонковий знімок {}: {} треків, {} збірок", path, trackCount, compilationCount);
+            return new ColumnarSnapshotReader(channel, trackCount, compilationCount, sections);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    public int getTrackCount() {
+        return trackCount;
+    }
+
+    public int getCompilationCount() {
+        return compilationCount;
+    }
+
+    /**
+     * @return Колонка тривалостей у секундах (незалежний view).
+     */
+    public IntBuffer durationSeconds() {
+        return section(Section.DURATION).asIntBuffer();
+    }
+
+    /**
+     * @return Колонка порядкових номерів жанрів (незалежний view).
+     */
+    public ByteBuffer genreOrdinals() {
+        return section(Section.GENRE);
+    }
+
+    /**
+     * @return Колонка ідентифікаторів виконавців у словнику (незалежний view).
+     */
+    public IntBuffer artistIds() {
+        return section(Section.ARTIST_ID).asIntBuffer();
+    }
+
+    /**
+     * @return Колонка порядкових номерів збірок (незалежний view).
+     */
+    public IntBuffer compilationIds() {
+        return section(Section.COMPILATION_ID).asIntBuffer();
+    }
+
+    /**
+     * @return Колонка ідентифікаторів назв у словнику (незалежний view).
+     */
+    public IntBuffer titleIds() {
+        return section(Section.TITLE_ID).asIntBuffer();
+    }
+
+    /**
+     * @return Колонка ідентифікаторів треків у базі даних, -1 для треків без ID (незалежний view).
+     */
+    public LongBuffer trackDbIds() {
+        return section(Section.TRACK_DB_ID).asLongBuffer();
+    }
+
+    /**
+     * Повертає жанр треку за номером рядка.
+     */
+    public MusicGenre genre(int row) {
+        return GENRES[sections[Section.GENRE.ordinal()].get(row)];
+    }
+
+    public int getArtistCount() {
+        return dictionarySize(Section.ARTIST_DICTIONARY);
+    }
+
+    public String artist(int artistId) {
+        return dictionaryValue(Section.ARTIST_DICTIONARY, artistId);
+    }
+
+    public String title(int titleId) {
+        return dictionaryValue(Section.TITLE_DICTIONARY, titleId);
+    }
+
+    public String compilationTitle(int compilationIndex) {
+        return dictionaryValue(Section.COMPILATION_DICTIONARY, compilationIndex);
+    }
+
+    /**
+     * Повертає ідентифікатор збірки в базі даних або -1, якщо він не встановлений.
+     */
+    public long compilationDbId(int compilationIndex) {
+        return sections[Section.COMPILATION_DB_ID.ordinal()].getLong(compilationIndex * 8);
+    }
+
+    /**
+     * Створює компактний трек для рядка знімка. Рядки виконавців декодуються один раз
+     * і спільно використовуються всіма треками одного виконавця.
+     *
+     * @param row Номер рядка.
+     * @return Компактний незмінний трек.
+     */
+    public CompactTrack track(int row) {
+        if (artistCache == null) {
+            artistCache = new String[getArtistCount()];
+        }
+        int artistId = sections[Section.ARTIST_ID.ordinal()].getInt(row * 4);
+        String artist = artistCache[artistId];
+        if (artist == null) {
+            artist = ArtistRegistry.canonical(artist(artistId));
+            artistCache[artistId] = artist;
+        }
+        long trackId = sections[Section.TRACK_DB_ID.ordinal()].getLong(row * 8);
+        return CompactTrack.of(trackId,
+                title(sections[Section.TITLE_ID.ordinal()].getInt(row * 4)), artist, genre(row),
+                sections[Section.DURATION.ordinal()].getInt(row * 4));
+    }
+
+    /**
+     * Обчислює сумарну тривалість усіх треків одним послідовним проходом по колонці.
+     *
+     * @return Загальна тривалість у секундах.
+     */
+    public long totalDurationSeconds() {
+        IntBuffer durations = durationSeconds();
+        long total = 0;
+        for (int i = 0, n = durations.limit(); i < n; i++) {
+            total += durations.get(i);
+        }
+        return total;
+    }
+
+    /**
+     * Підраховує кількість треків кожного жанру.
+     *
+     * @return Масив лічильників, індексований порядковим номером {@link MusicGenre}.
+     */
+    public int[] genreHistogram() {
+        ByteBuffer genres = genreOrdinals();
+        int[] counts = new int[GENRES.length];
+        for (int i = 0, n = genres.limit(); i < n; i++) {
+            counts[genres.get(i)]++;
+        }
+        return counts;
+    }
+
+    /**
+     * Підраховує кількість треків кожного виконавця.
+     *
+     * @return Масив лічильників, індексований ідентифікатором виконавця.
+     */
+    public int[] artistTrackCounts() {
+        IntBuffer artists = artistIds();
+        int[] counts = new int[getArtistCount()];
+        for (int i = 0, n = artists.limit(); i < n; i++) {
+            counts[artists.get(i)]++;
+        }
+        return counts;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private ByteBuffer section(Section section) {
+        return sections[section.ordinal()].duplicate().order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    private int dictionarySize(Section section) {
+        return sections[section.ordinal()].getInt(0);
+    }
+
+    private String dictionaryValue(Section section, int index) {
+        ByteBuffer dictionary = sections[section.ordinal()];
+        int count = dictionary.getInt(0);
+        if (index < 0 || index >= count) {
+            throw new IndexOutOfBoundsException("Невірний індекс словника: " + index);
+        }
+        int bytesStart = 4 + 4 * (count + 1);
+        int start = dictionary.getInt(4 + 4 * index);
+        int end = dictionary.getInt(4 + 4 * (index + 1));
+        byte[] bytes = new byte[end - start];
+        dictionary.get(bytesStart + start, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,247 @@
+package music.Storage;
+
+import music.Models.MusicCompilation;
+import music.Models.MusicTrack;
+import music.Storage.ColumnarSnapshotFormat.Section;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Експортує бібліотеку збірок у колонковий формат для офлайн-аналітики.
+ * Кожен атрибут треку зберігається окремим щільним масивом примітивів, а рядки — словниками,
+ * тож сканування всієї бібліотеки через {@link ColumnarSnapshotReader} не створює об'єктів.
+ */
+public final class ColumnarSnapshotWriter {
+    private static final Logger logger = LogManager.getLogger(ColumnarSnapshotWriter.class);
+    private static final int CHUNK_SIZE = 64 * 1024;
+
+    private ColumnarSnapshotWriter() {
+    }
+
+    /**
+     * Записує знімок збірок у файл (атомарно).
+     *
+     * @param compilations Збірки для експорту, зазвичай знімок з {@link music.Manager.DiscManager#snapshot()}.
+     * @param target       Шлях до файлу.
+     * @throws IOException У разі помилки вводу-виводу.
+     */
+    public static void write(List<MusicCompilation> compilations, Path target) throws IOException {
+        if (compilations == null) {
+            throw new IllegalArgumentException("Список збірок не може бути null");
+        }
+
+        int trackCount = 0;
+        for (MusicCompilation compilation : compilations) {
+            trackCount += compilation.getTrackCount();
+        }
+
+        int[] durations = new int[trackCount];
+        byte[] genres = new byte[trackCount];
+        int[] artistIds = new int[trackCount];
+        int[] compilationIds = new int[trackCount];
+        int[] titleIds = new int[trackCount];
+        long[] trackDbIds = new long[trackCount];
+        long[] compilationDbIds = new long[compilations.size()];
+        StringDictionary artists = new StringDictionary();
+        StringDictionary titles = new StringDictionary();
+        StringDictionary compilationTitles = new StringDictionary();
+
+        int row = 0;
+        for (int c = 0; c < compilations.size(); c++) {
+            MusicCompilation compilation = compilations.get(c);
+            compilationDbIds[c] = compilation.getId() != null ? compilation.getId() : ColumnarSnapshotFormat.NO_ID;
+            compilationTitles.append(compilation.getTitle());
+            for (MusicTrack track : compilation.getTrackView()) {
+                durations[row] = (int) Math.min(Integer.MAX_VALUE, track.getDuration().getSeconds());
+                genres[row] = (byte) track.getGenre().ordinal();
+                artistIds[row] = artists.idOf(track.getArtist());
+                compilationIds[row] = c;
+                titleIds[row] = titles.idOf(track.getTitle());
+                trackDbIds[row] = track.getId() != null ? track.getId() : ColumnarSnapshotFormat.NO_ID;
+                row++;
+            }
+        }
+
+        byte[][] dictionaries = {artists.encode(), titles.encode(), compilationTitles.encode()};
+        long[] lengths = new long[Section.values().length];
+        lengths[Section.DURATION.ordinal()] = 4L * trackCount;
+        lengths[Section.GENRE.ordinal()] = trackCount;
+        lengths[Section.ARTIST_ID.ordinal()] = 4L * trackCount;
+        lengths[Section.COMPILATION_ID.ordinal()] = 4L * trackCount;
+        lengths[Section.TITLE_ID.ordinal()] = 4L * trackCount;
+        lengths[Section.TRACK_DB_ID.ordinal()] = 8L * trackCount;
+        lengths[Section.COMPILATION_DB_ID.ordinal()] = 8L * compilations.size();
+        lengths[Section.ARTIST_DICTIONARY.ordinal()] = dictionaries[0].length;
+        lengths[Section.TITLE_DICTIONARY.ordinal()] = dictionaries[1].length;
+        lengths[Section.COMPILATION_DICTIONARY.ordinal()] = dictionaries[2].length;
+
+        long[] offsets = new long[lengths.length];
+        long position = ColumnarSnapshotFormat.dataStart();
+        for (int i = 0; i < lengths.length; i++) {
+            offsets[i] = position;
+            position = ColumnarSnapshotFormat.align(position + lengths[i]);
+        }
+
+        int rows = trackCount;
+        AtomicFileWriter.write(target, out -> {
+            ColumnOutput column = new ColumnOutput(out);
+            column.putInt(ColumnarSnapshotFormat.MAGIC);
+            column.putInt(ColumnarSnapshotFormat.VERSION);
+            column.putInt(rows);
+            column.putInt(compilations.size());
+            column.putInt(lengths.length);
+            column.putInt(0);
+            for (int i = 0; i < lengths.length; i++) {
+                column.putLong(offsets[i]);
+                column.putLong(lengths[i]);
+            }
+            column.padTo(offsets[0]);
+
+            column.putInts(durations);
+            column.padTo(offsets[Section.GENRE.ordinal()]);
+            column.putBytes(genres);
+            column.padTo(offsets[Section.ARTIST_ID.ordinal()]);
+            column.putInts(artistIds);
+            column.padTo(offsets[Section.COMPILATION_ID.ordinal()]);
+            column.putInts(compilationIds);
+            column.padTo(offsets[Section.TITLE_ID.ordinal()]);
+            column.putInts(titleIds);
+            column.padTo(offsets[Section.TRACK_DB_ID.ordinal()]);
+            column.putLongs(trackDbIds);
+            column.padTo(offsets[Section.COMPILATION_DB_ID.ordinal()]);
+            column.putLongs(compilationDbIds);
+            column.padTo(offsets[Section.ARTIST_DICTIONARY.ordinal()]);
+            column.putBytes(dictionaries[0]);
+            column.padTo(offsets[Section.TITLE_DICTIONARY.ordinal()]);
+            column.putBytes(dictionaries[1]);
+            column.padTo(offsets[Section.COMPILATION_DICTIONARY.ordinal()]);
+            column.putBytes(dictionaries[2]);
+            column.flush();
+        });
+
+        logger.info("Експортовано колонковий знімок: {} треків, {} збірок, {} виконавців у {}",
+                trackCount, compilations.size(), artists.size(), target);
+    }
+
+    /**
+     * Словник рядків, що призначає кожному унікальному рядку щільний ідентифікатор.
+     */
+    static final class StringDictionary {
+        private final Map<String, Integer> ids = new HashMap<>();
+        private final List<String> values = new ArrayList<>();
+
+        int idOf(String value) {
+            Integer id = ids.get(value);
+            if (id == null) {
+                id = values.size();
+                ids.put(value, id);
+                values.add(value);
+            }
+            return id;
+        }
+
+        void append(String value) {
+            ids.putIfAbsent(value, values.size());
+            values.add(value);
+        }
+
+        int size() {
+            return values.size();
+        }
+
+        byte[] encode() {
+            byte[][] encoded = new byte[values.size()][];
+            int totalBytes = 0;
+            for (int i = 0; i < encoded.length; i++) {
+                encoded[i] = values.get(i).getBytes(StandardCharsets.UTF_8);
+                totalBytes += encoded[i].length;
+            }
+            ByteBuffer buffer = ByteBuffer.allocate(4 + 4 * (encoded.length + 1) + totalBytes)
+                    .order(ByteOrder.LITTLE_ENDIAN);
+            buffer.putInt(encoded.length);
+            int offset = 0;
+            for (byte[] bytes : encoded) {
+                buffer.putInt(offset);
+                offset += bytes.length;
+            }
+            buffer.putInt(offset);
+            for (byte[] bytes : encoded) {
+                buffer.put(bytes);
+            }
+            return buffer.array();
+        }
+    }
+
+    /**
+     * Буферизований запис примітивів у little-endian з відстеженням позиції для вирівнювання.
+     */
+    private static final class ColumnOutput {
+        private final OutputStream out;
+        private final ByteBuffer buffer = ByteBuffer.allocate(CHUNK_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        private long position;
+
+        ColumnOutput(OutputStream out) {
+            this.out = out;
+        }
+
+        void putInt(int value) throws IOException {
+            ensure(4);
+            buffer.putInt(value);
+            position += 4;
+        }
+
+        void putLong(long value) throws IOException {
+            ensure(8);
+            buffer.putLong(value);
+            position += 8;
+        }
+
+        void putInts(int[] values) throws IOException {
+            for (int value : values) {
+                putInt(value);
+            }
+        }
+
+        void putLongs(long[] values) throws IOException {
+            for (long value : values) {
+                putLong(value);
+            }
+        }
+
+        void putBytes(byte[] values) throws IOException {
+            flush();
+            out.write(values);
+            position += values.length;
+        }
+
+        void padTo(long offset) throws IOException {
+            while (position < offset) {
+                ensure(1);
+                buffer.put((byte) 0);
+                position++;
+            }
+        }
+
+        void flush() throws IOException {
+            out.write(buffer.array(), 0, buffer.position());
+            buffer.clear();
+        }
+
+        private void ensure(int bytes) throws IOException {
+            if (buffer.remaining() < bytes) {
+                flush();
+            }
+        }
+    }
+}
@@ -0,0 +1,330 @@
+package music.Storage;
+
+import music.Models.ArtistRegistry;
+import music.Models.CompactTrack;
+import music.Models.MusicCompilation;
+import music.Models.MusicGenre;
+import music.Models.Track;
+import music.Models.TrackCursor;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Колонкове сховище треків поза купою Java для архівних бібліотек з десятками мільйонів треків.
+ * Колонки (ID, тривалість, жанр, ID виконавця, ID збірки, посилання на назву) та байти назв у UTF-8
+ * розміщуються у сегментах {@link MemorySegment} з одного {@link Arena}, тому збирач сміття
+ * не сканує дані треків, а розмір купи не залежить від розміру каталогу.
+ *
+ * <p>Пам'ять виділяється блоками фіксованого розміру, тож додавання не копіює вже записані дані.
+ * Видалення позначає рядок як видалений (tombstone); курсори пропускають такі рядки.
+ * Запис виконується з одного потоку, читання курсорами — з будь-якого після запису.
+ * Сховище необхідно закрити через {@link #close()}, щоб звільнити пам'ять.
+ */
+public final class OffHeapTrackStore implements AutoCloseable {
+    private static final Logger logger = LogManager.getLogger(OffHeapTrackStore.class);
+    private static final MusicGenre[] GENRES = MusicGenre.values();
+
+    /** Значення колонки ID збірки для треків без збірки в базі даних. */
+    public static final long NO_COMPILATION = -1L;
+
+    static final int ROWS_PER_CHUNK_SHIFT = 16;
+    static final int ROWS_PER_CHUNK = 1 << ROWS_PER_CHUNK_SHIFT;
+    static final int STRING_CHUNK_SIZE = 1 << 20;
+
+    // Колонки всередині блоку: спершу 8-байтові, потім 4-байтові, потім 1-байтові, тож усі вирівняні.
+    private static final long ID_COLUMN = 0;
+    private static final long COMPILATION_COLUMN = ID_COLUMN + 8L * ROWS_PER_CHUNK;
+    private static final long TITLE_REF_COLUMN = COMPILATION_COLUMN + 8L * ROWS_PER_CHUNK;
+    private static final long DURATION_COLUMN = TITLE_REF_COLUMN + 8L * ROWS_PER_CHUNK;
+    private static final long ARTIST_COLUMN = DURATION_COLUMN + 4L * ROWS_PER_CHUNK;
+    private static final long TITLE_LENGTH_COLUMN = ARTIST_COLUMN + 4L * ROWS_PER_CHUNK;
+    private static final long GENRE_COLUMN = TITLE_LENGTH_COLUMN + 4L * ROWS_PER_CHUNK;
+    private static final long DELETED_COLUMN = GENRE_COLUMN + ROWS_PER_CHUNK;
+    static final long CHUNK_BYTES = DELETED_COLUMN + ROWS_PER_CHUNK;
+
+    private final Arena arena;
+    private final List<MemorySegment> chunks = new ArrayList<>();
+    private final List<MemorySegment> stringChunks = new ArrayList<>();
+    private long stringPosition = STRING_CHUNK_SIZE;
+    private volatile long size;
+    private long deletedCount;
+
+    /**
+     * Створює порожнє сховище зі спільною ареною, доступною з різних потоків.
+     */
+    public OffHeapTrackStore() {
+        this.arena = Arena.ofShared();
+        logger.info("Створено сховище треків поза купою");
+    }
+
+    /**
+     * Додає трек до сховища.
+     *
+     * @param track         Трек для додавання.
+     * @param compilationId ID збірки в базі даних або {@link #NO_COMPILATION}.
+     * @return Номер рядка нового треку.
+     * @throws IllegalArgumentException якщо тривалість трека не вміщується в int
+     */
+    public long append(Track track, long compilationId) {
+        long seconds = track.getDuration().getSeconds();
+        if (seconds <= 0 || seconds > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Тривалість має бути додатнім значенням");
+        }
+        Long id = track.getId();
+        return append(id != null ? id : CompactTrack.NO_ID, track.getTitle(), track.getArtistId(), track.getGenre(),
+                (int) seconds, compilationId);
+    }
+
+    /**
+     * Додає трек, заданий значеннями колонок.
+     *
+     * @param id              ID треку або {@link CompactTrack#NO_ID}.
+     * @param title           Назва треку.
+     * @param artistId        ID виконавця в {@link ArtistRegistry}.
+     * @param genre           Жанр треку.
+     * @param durationSeconds Тривалість у секундах.
+     * @param compilationId   ID збірки або {@link #NO_COMPILATION}.
+     * @return Номер рядка нового треку.
+     * @throws IllegalArgumentException якщо передані некоректні параметри
+     * @throws IllegalStateException якщо сховище закрите
+     */
+    public long append(long id, String title, int artistId, MusicGenre genre, int durationSeconds,
+                       long compilationId) {
+        if (title == null || title.trim().isEmpty()) {
+            throw new IllegalArgumentException("Назва треку не може бути порожньою");
+        }
+        if (genre == null) {
+            throw new IllegalArgumentException("Жанр не може бути null");
+        }
+        if (durationSeconds <= 0) {
+            throw new IllegalArgumentException("Тривалість має бути додатнім значенням");
+        }
+        if (artistId < 0 || artistId >= ArtistRegistry.size()) {
+            throw new IllegalArgumentException("Невідомий ID виконавця: " + artistId);
+        }
+
+        long row = size;
+        int offset = (int) (row & (ROWS_PER_CHUNK - 1));
+        if (offset == 0) {
+            chunks.add(arena.allocate(CHUNK_BYTES, 8));
+        }
+        MemorySegment chunk = chunks.get(chunks.size() - 1);
+        byte[] titleBytes = title.getBytes(StandardCharsets.UTF_8);
+        long titleRef = appendString(titleBytes);
+
+        chunk.setAtIndex(ValueLayout.JAVA_LONG, ID_COLUMN / 8 + offset, id);
+        chunk.setAtIndex(ValueLayout.JAVA_LONG, COMPILATION_COLUMN / 8 + offset, compilationId);
+        chunk.setAtIndex(ValueLayout.JAVA_LONG, TITLE_REF_COLUMN / 8 + offset, titleRef);
+        chunk.setAtIndex(ValueLayout.JAVA_INT, DURATION_COLUMN / 4 + offset, durationSeconds);
+        chunk.setAtIndex(ValueLayout.JAVA_INT, ARTIST_COLUMN / 4 + offset, artistId);
+        chunk.setAtIndex(ValueLayout.JAVA_INT, TITLE_LENGTH_COLUMN / 4 + offset, titleBytes.length);
+        chunk.set(ValueLayout.JAVA_BYTE, GENRE_COLUMN + offset, (byte) genre.ordinal());
+        chunk.set(ValueLayout.JAVA_BYTE, DELETED_COLUMN + offset, (byte) 0);
+        size = row + 1;
+        return row;
+    }
+
+    /**
+     * Додає всі треки збірки з її ID у базі даних.
+     *
+     * @param compilation Збірка.
+     * @return Номер першого доданого рядка.
+     */
+    public long appendAll(MusicCompilation compilation) {
+        long compilationId = compilation.getId() != null ? compilation.getId() : NO_COMPILATION;
+        long first = size;
+        compilation.forEachTrack(track -> append(track, compilationId));
+        return first;
+    }
+
+    /**
+     * Позначає трек як видалений. Пам'ять рядка не звільняється до закриття сховища.
+     *
+     * @param row Номер рядка.
+     * @return true, якщо трек не був видалений раніше.
+     * @throws IndexOutOfBoundsException якщо рядка не існує
+     */
+    public boolean delete(long row) {
+        MemorySegment chunk = chunkFor(row);
+        long offset = DELETED_COLUMN + (row & (ROWS_PER_CHUNK - 1));
+        if (chunk.get(ValueLayout.JAVA_BYTE, offset) != 0) {
+            return false;
+        }
+        chunk.set(ValueLayout.JAVA_BYTE, offset, (byte) 1);
+        deletedCount++;
+        return true;
+    }
+
+    /**
+     * @param row Номер рядка.
+     * @return true, якщо трек позначений як видалений.
+     */
+    public boolean isDeleted(long row) {
+        return chunkFor(row).get(ValueLayout.JAVA_BYTE, DELETED_COLUMN + (row & (ROWS_PER_CHUNK - 1))) != 0;
+    }
+
+    /**
+     * @return Кількість рядків разом з видаленими.
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * @return Кількість невидалених треків.
+     */
+    public long liveCount() {
+        return size - deletedCount;
+    }
+
+    /**
+     * @return Обсяг пам'яті поза купою, виділеної під колонки та назви, у байтах.
+     */
+    public long allocatedBytes() {
+        return chunks.size() * CHUNK_BYTES + (long) stringChunks.size() * STRING_CHUNK_SIZE;
+    }
+
+    /**
+     * @return Курсор по всіх невидалених треках у порядку додавання.
+     */
+    public Cursor cursor() {
+        return new Cursor(Long.MIN_VALUE);
+    }
+
+    /**
+     * @param compilationId ID збірки.
+     * @return Курсор по невидалених треках заданої збірки.
+     */
+    public Cursor cursor(long compilationId) {
+        return new Cursor(compilationId);
+    }
+
+    /**
+     * Звільняє всю пам'ять сховища. Після закриття сегменти та курсори стають недійсними.
+     */
+    @Override
+    public void close() {
+        arena.close();
+        logger.info("Сховище треків поза купою закрито, рядків: {}", size);
+    }
+
+    private MemorySegment chunkFor(long row) {
+        if (row < 0 || row >= size) {
+            throw new IndexOutOfBoundsException("Невірний номер рядка: " + row);
+        }
+        return chunks.get((int) (row >>> ROWS_PER_CHUNK_SHIFT));
+    }
+
+    /**
+     * Записує байти назви в арену рядків. Назва не розривається між блоками;
+     * довші за блок назви отримують окремий сегмент.
+     *
+     * @return Посилання: номер блоку в старших 32 бітах, зміщення — в молодших.
+     */
+    private long appendString(byte[] bytes) {
+        if (bytes.length > STRING_CHUNK_SIZE) {
+            MemorySegment segment = arena.allocate(bytes.length);
+            MemorySegment.copy(bytes, 0, segment, ValueLayout.JAVA_BYTE, 0, bytes.length);
+            stringChunks.add(segment);
+            stringPosition = STRING_CHUNK_SIZE;
+            return (long) (stringChunks.size() - 1) << 32;
+        }
+        if (stringPosition + bytes.length > STRING_CHUNK_SIZE) {
+            stringChunks.add(arena.allocate(STRING_CHUNK_SIZE));
+            stringPosition = 0;
+        }
+        MemorySegment chunk = stringChunks.get(stringChunks.size() - 1);
+        MemorySegment.copy(bytes, 0, chunk, ValueLayout.JAVA_BYTE, stringPosition, bytes.length);
+        long ref = ((long) (stringChunks.size() - 1) << 32) | stringPosition;
+        stringPosition += bytes.length;
+        return ref;
+    }
+
+    private String readString(long ref, int length) {
+        byte[] bytes = new byte[length];
+        MemorySegment.copy(stringChunks.get((int) (ref >>> 32)), ValueLayout.JAVA_BYTE, ref & 0xFFFFFFFFL,
+                bytes, 0, length);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Курсор по рядках сховища. Бачить треки, додані до його створення.
+     */
+    public final class Cursor implements TrackCursor {
+        private final long compilationFilter;
+        private final long limit;
+        private long row = -1;
+        private MemorySegment chunk;
+        private int offset;
+
+        private Cursor(long compilationFilter) {
+            this.compilationFilter = compilationFilter;
+            this.limit = size;
+        }
+
+        @Override
+        public boolean next() {
+            while (++row < limit) {
+                offset = (int) (row & (ROWS_PER_CHUNK - 1));
+                if (offset == 0 || chunk == null) {
+                    chunk = chunks.get((int) (row >>> ROWS_PER_CHUNK_SHIFT));
+                }
+                if (chunk.get(ValueLayout.JAVA_BYTE, DELETED_COLUMN + offset) != 0) {
+                    continue;
+                }
+                if (compilationFilter != Long.MIN_VALUE && getCompilationId() != compilationFilter) {
+                    continue;
+                }
+                return true;
+            }
+            return false;
+        }
+
+        /**
+         * @return Номер поточного рядка, придатний для {@link OffHeapTrackStore#delete(long)}.
+         */
+        public long getRow() {
+            return row;
+        }
+
+        @Override
+        public long getIdValue() {
+            return chunk.getAtIndex(ValueLayout.JAVA_LONG, ID_COLUMN / 8 + offset);
+        }
+
+        /**
+         * @return ID збірки або {@link OffHeapTrackStore#NO_COMPILATION}.
+         */
+        public long getCompilationId() {
+            return chunk.getAtIndex(ValueLayout.JAVA_LONG, COMPILATION_COLUMN / 8 + offset);
+        }
+
+        @Override
+        public int getDurationSeconds() {
+            return chunk.getAtIndex(ValueLayout.JAVA_INT, DURATION_COLUMN / 4 + offset);
+        }
+
+        @Override
+        public MusicGenre getGenre() {
+            return GENRES[chunk.get(ValueLayout.JAVA_BYTE, GENRE_COLUMN + offset)];
+        }
+
+        @Override
+        public int getArtistId() {
+            return chunk.getAtIndex(ValueLayout.JAVA_INT, ARTIST_COLUMN / 4 + offset);
+        }
+
+        @Override
+        public String getTitle() {
+            return readString(chunk.getAtIndex(ValueLayout.JAVA_LONG, TITLE_REF_COLUMN / 8 + offset),
+                    chunk.getAtIndex(ValueLayout.JAVA_INT, TITLE_LENGTH_COLUMN / 4 + offset));
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package music.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BloomFilterTest {
+
+    @Test
+    void mightContain_ShouldHaveNoFalseNegativesAndFewFalsePositives() {
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        SplittableRandom random = new SplittableRandom(3);
+        long[] added = new long[10_000];
+        for (int i = 0; i < added.length; i++) {
+            added[i] = random.nextLong();
+            filter.put(added[i]);
+        }
+
+        for (long hash : added) {
+            assertTrue(filter.mightContain(hash));
+        }
+        int falsePositives = 0;
+        for (int i = 0; i < 10_000; i++) {
+            if (filter.mightContain(random.nextLong())) {
+                falsePositives++;
+            }
+        }
+        assertTrue(falsePositives < 300, "хибних спрацювань: " + falsePositives);
+    }
+
+    @Test
+    void constructor_ShouldRejectInvalidParameters() {
+        assertThrows(IllegalArgumentException.class, () -> new BloomFilter(0, 0.01));
+        assertThrows(IllegalArgumentException.class, () -> new BloomFilter(10, 1.0));
+    }
+}
@@ -0,0 +1,50 @@
+package music.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FenwickTreeTest {
+
+    @Test
+    void rangeSum_ShouldMatchPlainSums() {
+        FenwickTree tree = new FenwickTree(10);
+        long[] values = new long[tree.capacity()];
+        for (int i = 0; i < 10; i++) {
+            tree.add(i, i * 3L - 4);
+            values[i] += i * 3L - 4;
+        }
+        tree.add(7, 100);
+        values[7] += 100;
+
+        assertEquals(16, tree.capacity());
+        for (int from = 0; from < values.length; from++) {
+            long expected = 0;
+            for (int to = from; to < values.length; to++) {
+                expected += values[to];
+                assertEquals(expected, tree.rangeSum(from, to));
+            }
+        }
+        assertEquals(0, tree.rangeSum(5, 4));
+        assertEquals(tree.total(), tree.prefixSum(Integer.MAX_VALUE));
+        assertEquals(0, tree.prefixSum(-1));
+    }
+
+    @Test
+    void ensureCapacity_ShouldKeepExistingSums() {
+        FenwickTree tree = new FenwickTree(4);
+        tree.add(0, 1);
+        tree.add(3, 5);
+
+        tree.ensureCapacity(40);
+        tree.add(33, 7);
+
+        assertEquals(64, tree.capacity());
+        assertEquals(6, tree.prefixSum(3));
+        assertEquals(6, tree.prefixSum(32));
+        assertEquals(13, tree.prefixSum(33));
+        assertEquals(13, tree.total());
+        assertEquals(12, tree.rangeSum(3, 63));
+        assertThrows(IndexOutOfBoundsException.class, () -> tree.add(64, 1));
+    }
+}
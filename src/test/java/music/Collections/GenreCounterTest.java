@@ -0,0 +1,31 @@
+package music.Collections;
+
+import music.Models.MusicGenre;
+import org.junit.jupiter.api.Test;
+
+import java.util.AbstractMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GenreCounterTest {
+
+    @Test
+    void toSortedEntries_ShouldOrderByCountDescending() {
+        GenreCounter counter = new GenreCounter();
+        counter.increment(MusicGenre.POP);
+        counter.add(MusicGenre.JAZZ, 3);
+        counter.increment(MusicGenre.ROCK);
+        counter.add(MusicGenre.ROCK, -1);
+
+        assertEquals(4, counter.total());
+        assertEquals(0, counter.get(MusicGenre.ROCK));
+        assertEquals(Map.of(MusicGenre.POP, 1L, MusicGenre.JAZZ, 3L), counter.toMap());
+        assertEquals(List.of(new AbstractMap.SimpleImmutableEntry<>(MusicGenre.JAZZ, 3L),
+                new AbstractMap.SimpleImmutableEntry<>(MusicGenre.POP, 1L)), counter.toSortedEntries());
+
+        counter.clear();
+        assertTrue(counter.toMap().isEmpty());
+    }
+}
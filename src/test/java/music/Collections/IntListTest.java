@@ -0,0 +1,37 @@
+package music.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IntListTest {
+
+    @Test
+    void add_ShouldGrowAndKeepOrder() {
+        IntList list = new IntList(0);
+        for (int i = 0; i < 100; i++) {
+            list.add(100 - i);
+        }
+
+        assertEquals(100, list.size());
+        assertEquals(100, list.get(0));
+        assertEquals(5050, list.sum());
+        assertEquals(100, list.max(-1));
+        list.sort();
+        assertEquals(1, list.get(0));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(100));
+    }
+
+    @Test
+    void clear_ShouldKeepCapacityAndResetSize() {
+        IntList list = new IntList();
+        list.add(5);
+        list.set(0, 7);
+
+        assertArrayEquals(new int[]{7}, list.toArray());
+        list.clear();
+        assertTrue(list.isEmpty());
+        assertEquals(-1, list.max(-1));
+        assertThrows(IllegalArgumentException.class, () -> new IntList(-1));
+    }
+}
@@ -0,0 +1,63 @@
+package music.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LongIntHashMapTest {
+
+    @Test
+    void putAndAddTo_ShouldUpdateValues() {
+        LongIntHashMap map = new LongIntHashMap();
+
+        assertEquals(0, map.put(5L, 10));
+        assertEquals(10, map.put(5L, 11));
+        assertEquals(3, map.addTo(-7L, 3));
+        assertEquals(14, map.addTo(5L, 3));
+
+        assertEquals(2, map.size());
+        assertEquals(14, map.get(5L, -1));
+        assertEquals(-1, map.get(6L, -1));
+        assertEquals(-7L, map.minKey());
+        assertEquals(5L, map.maxKey());
+    }
+
+    @Test
+    void randomOperations_ShouldMatchHashMap() {
+        Random random = new Random(11);
+        Map<Long, Integer> expected = new HashMap<>();
+        LongIntHashMap actual = new LongIntHashMap();
+
+        for (int i = 0; i < 20_000; i++) {
+            long key = random.nextInt(500) * 64L;
+            if (random.nextInt(3) == 0) {
+                assertEquals(expected.remove(key) != null, actual.remove(key));
+            } else {
+                expected.merge(key, 1, Integer::sum);
+                actual.addTo(key, 1);
+            }
+        }
+
+        assertEquals(expected.size(), actual.size());
+        Map<Long, Integer> copied = new HashMap<>();
+        actual.forEach(copied::put);
+        assertEquals(expected, copied);
+    }
+
+    @Test
+    void clear_ShouldEmptyMap() {
+        LongIntHashMap map = new LongIntHashMap(100);
+        map.put(1L, 1);
+
+        map.clear();
+
+        assertTrue(map.isEmpty());
+        assertFalse(map.containsKey(1L));
+        assertThrows(NoSuchElementException.class, map::minKey);
+    }
+}
@@ -0,0 +1,21 @@
+package music.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LongListTest {
+
+    @Test
+    void add_ShouldStoreValuesBeyondIntRange() {
+        LongList list = new LongList();
+        list.add(Long.MAX_VALUE / 2);
+        list.add(3_000_000_000L);
+
+        list.sort();
+
+        assertArrayEquals(new long[]{3_000_000_000L, Long.MAX_VALUE / 2}, list.toArray());
+        assertEquals(Long.MAX_VALUE / 2, list.max(0));
+        assertEquals(2, list.size());
+    }
+}
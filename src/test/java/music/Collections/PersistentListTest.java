@@ -0,0 +1,53 @@
+package music.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PersistentListTest {
+
+    @Test
+    void updates_ShouldLeavePreviousVersionsUnchanged() {
+        PersistentList<String> first = PersistentList.of(List.of("a", "b", "c"));
+
+        PersistentList<String> second = first.set(1, "B").insert(0, "start").remove(3);
+
+        assertEquals(List.of("a", "b", "c"), first.toList());
+        assertEquals(List.of("start", "a", "B"), second.toList());
+        assertEquals("B", second.get(2));
+        assertTrue(PersistentList.empty().isEmpty());
+        assertThrows(IndexOutOfBoundsException.class, () -> first.get(3));
+        assertThrows(IndexOutOfBoundsException.class, () -> first.insert(4, "x"));
+    }
+
+    @Test
+    void randomOperations_ShouldMatchArrayList() {
+        Random random = new Random(7);
+        List<Integer> expected = new ArrayList<>();
+        PersistentList<Integer> actual = PersistentList.empty();
+
+        for (int i = 0; i < 5000; i++) {
+            int operation = random.nextInt(3);
+            if (operation == 0 || expected.isEmpty()) {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, i);
+                actual = actual.insert(index, i);
+            } else if (operation == 1) {
+                int index = random.nextInt(expected.size());
+                expected.remove(index);
+                actual = actual.remove(index);
+            } else {
+                int index = random.nextInt(expected.size());
+                expected.set(index, -i);
+                actual = actual.set(index, -i);
+            }
+        }
+
+        assertEquals(expected, actual.toList());
+        assertEquals(expected.size(), actual.size());
+    }
+}
@@ -0,0 +1,55 @@
+package music.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class QuantileSketchTest {
+
+    @Test
+    void quantile_ShouldStayWithinRelativeAccuracy() {
+        QuantileSketch sketch = new QuantileSketch(0.01);
+        SplittableRandom random = new SplittableRandom(49);
+        long[] values = new long[20_000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = 1 + random.nextLong(3600);
+            sketch.add(values[i]);
+        }
+        Arrays.sort(values);
+
+        for (double quantile : new double[]{0.01, 0.5, 0.9, 0.99, 1}) {
+            long exact = values[(int) Math.ceil(quantile * values.length) - 1];
+            double estimate = sketch.quantile(quantile);
+            assertEquals(exact, estimate, exact * 0.01 + 1e-9, "квантиль " + quantile);
+        }
+    }
+
+    @Test
+    void merge_ShouldEqualSingleSketch() {
+        QuantileSketch whole = new QuantileSketch(0.01);
+        QuantileSketch left = new QuantileSketch(0.01);
+        QuantileSketch right = new QuantileSketch(0.01);
+        for (long value = 0; value < 1000; value++) {
+            whole.add(value);
+            (value % 3 == 0 ? left : right).add(value);
+        }
+        left.merge(right);
+
+        assertEquals(whole.count(), left.count());
+        for (double quantile = 0; quantile <= 1; quantile += 0.05) {
+            assertEquals(whole.quantile(quantile), left.quantile(quantile));
+        }
+        assertEquals(0, left.quantile(0));
+    }
+
+    @Test
+    void constructor_ShouldRejectInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new QuantileSketch(0));
+        assertThrows(IllegalArgumentException.class, () -> new QuantileSketch(0.01).add(-1));
+        assertThrows(IllegalArgumentException.class, () -> new QuantileSketch(0.01).merge(new QuantileSketch(0.02)));
+        assertEquals(0, new QuantileSketch(0.01).quantile(0.5));
+    }
+}
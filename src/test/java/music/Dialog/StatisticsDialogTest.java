@@ -383,7 +383,7 @@ class StatisticsDialogTest {
         MusicTrack trackShort = new MusicTrack("ShortName", "ArtistS", MusicGenre.JAZZ, Duration.ofSeconds(120));
         fewTracks.add(trackShort);
 
-        when(mockCompilation.getTracks()).thenReturn(fewTracks);
+        when(mockCompilation.getTrackView()).thenReturn(fewTracks);
 
         if (statisticsDialog != null) statisticsDialog.dispose();
         statisticsDialog = new StatisticsDialog(realParentFrame, mockCompilation);
@@ -392,34 +392,30 @@ class StatisticsDialogTest {
 
         panelFewTracks.paintComponent(g2dMock);
 
+        // 120 секунд потрапляють у кошик 4 з п'яти (по 30 секунд).
+        int bucketsFew = 5;
+        int bucketIndex = 4;
         int panelPadding = 80;
-        long maxSecsFew = panelFewTracks.getMaxValue();
-        assertEquals(120L, maxSecsFew);
+        assertEquals(1L, panelFewTracks.getMaxValue());
         int chartHeightFew = panelFewTracks.getHeight() - 2 * panelPadding;
-        int barHeightFew = (int) (chartHeightFew * trackShort.getDuration().getSeconds() / maxSecsFew);
         int chartWidthFew = panelFewTracks.getWidth() - 2 * panelPadding;
-        int barWidthFew = Math.max(10, chartWidthFew / (fewTracks.size() * 2));
-        int xFew = panelPadding + barWidthFew / 2;
+        int barWidthFew = Math.max(10, chartWidthFew / (bucketsFew * 2));
+        int xFew = panelPadding + barWidthFew / 2 + bucketIndex * barWidthFew * 2;
         Color expectedBarColor = new Color(70, 130, 180, 200);
 
-        verify(g2dMock).setColor(expectedBarColor);
-        verify(g2dMock).fillRect(eq(xFew), eq(panelFewTracks.getHeight() - panelPadding - barHeightFew), eq(barWidthFew), eq(barHeightFew));
-        verify(g2dMock).setColor(expectedBarColor.darker());
-        verify(g2dMock).drawRect(eq(xFew), eq(panelFewTracks.getHeight() - panelPadding - barHeightFew), eq(barWidthFew), eq(barHeightFew));
-
-        verify(g2dMock).setColor(new Color(70, 70, 70));
-
-        verify(g2dMock).rotate(eq(-Math.PI / 4), doubleThat(d -> Math.abs(d - (xFew + (double)barWidthFew / 2)) < 1e-9), doubleThat(d -> Math.abs(d - (panelFewTracks.getHeight() - panelPadding + 15)) < 1e-9) );
-        verify(g2dMock).drawString(eq("ShortNa..."), eq(xFew - 10), eq(panelFewTracks.getHeight() - panelPadding + 15));
-        verify(g2dMock).rotate(eq(Math.PI / 4), doubleThat(d -> Math.abs(d - (xFew + (double)barWidthFew / 2)) < 1e-9), doubleThat(d -> Math.abs(d - (panelFewTracks.getHeight() - panelPadding + 15)) < 1e-9));
+        verify(g2dMock, times(bucketsFew)).setColor(expectedBarColor);
+        verify(g2dMock).fillRect(eq(xFew), eq(panelFewTracks.getHeight() - panelPadding - chartHeightFew), eq(barWidthFew), eq(chartHeightFew));
+        verify(g2dMock).drawRect(eq(xFew), eq(panelFewTracks.getHeight() - panelPadding - chartHeightFew), eq(barWidthFew), eq(chartHeightFew));
+        verify(g2dMock).drawString(eq("2:00"), eq(xFew - 10), eq(panelFewTracks.getHeight() - panelPadding + 15));
+        verify(g2dMock, times(bucketsFew)).setColor(new Color(70, 70, 70));
 
         clearInvocations(g2dMock);
 
         List<MusicTrack> manyTracks = new ArrayList<>();
-        for (int i = 0; i < 20; i++) {
-            manyTracks.add(new MusicTrack("Track" + i, "ArtistM", MusicGenre.POP, Duration.ofSeconds(60 + i * 5)));
+        for (int i = 0; i < 40; i++) {
+            manyTracks.add(new MusicTrack("Track" + i, "ArtistM", MusicGenre.POP, Duration.ofSeconds(60 + i * 15)));
         }
-        when(mockCompilation.getTracks()).thenReturn(manyTracks);
+        when(mockCompilation.getTrackView()).thenReturn(manyTracks);
         if (statisticsDialog != null) statisticsDialog.dispose();
         statisticsDialog = new StatisticsDialog(realParentFrame, mockCompilation);
         StatisticsDialog.HistogramPanel panelManyTracks = getHistogramPanelFromDialog(statisticsDialog);
@@ -427,45 +423,22 @@ class StatisticsDialogTest {
 
         panelManyTracks.paintComponent(g2dMock);
 
-        int labelsDrawnCount = 0;
+        // Тривалості 60..645 секунд дають 22 кошики, тож підписується кожен п'ятий.
+        int bucketsMany = 22;
         int panelPaddingMany = 80;
         int chartWidthMany = panelManyTracks.getWidth() - 2 * panelPaddingMany;
-        int barWidthMany = Math.max(10, chartWidthMany / (manyTracks.size() * 2));
-
-        for (int i = 0; i < manyTracks.size(); i++) {
-            MusicTrack currentTrack = manyTracks.get(i);
+        int barWidthMany = Math.max(10, chartWidthMany / (bucketsMany * 2));
+        int labelsDrawnCount = 0;
+        for (int i = 0; i < bucketsMany; i += 5) {
+            labelsDrawnCount++;
             int currentX = panelPaddingMany + barWidthMany / 2 + (i * barWidthMany * 2);
-            if (i % 5 == 0) {
-                labelsDrawnCount++;
-                String title = currentTrack.getTitle().length() > 10 ? currentTrack.getTitle().substring(0, 7) + "..." : currentTrack.getTitle();
-                verify(g2dMock).drawString(eq(title), eq(currentX - 10), eq(panelManyTracks.getHeight() - panelPaddingMany + 15));
-            }
+            long from = i * 30L;
+            verify(g2dMock).drawString(eq(String.format("%d:%02d", from / 60, from % 60)), eq(currentX - 10),
+                    eq(panelManyTracks.getHeight() - panelPaddingMany + 15));
         }
         verify(g2dMock, times(labelsDrawnCount)).setColor(new Color(70, 70, 70));
         verify(g2dMock, times(labelsDrawnCount)).rotate(eq(-Math.PI / 4), anyDouble(), anyDouble());
         verify(g2dMock, times(labelsDrawnCount)).rotate(eq(Math.PI / 4), anyDouble(), anyDouble());
-
-        clearInvocations(g2dMock);
-
-        List<MusicTrack> truncationTracks = new ArrayList<>();
-        MusicTrack longTitleTrack = new MusicTrack("ThisIsAVeryLongTrackTitleIndeed", "ArtistL", MusicGenre.CLASSICAL, Duration.ofSeconds(180));
-        truncationTracks.add(longTitleTrack);
-
-        when(mockCompilation.getTracks()).thenReturn(truncationTracks);
-        if (statisticsDialog != null) statisticsDialog.dispose();
-        statisticsDialog = new StatisticsDialog(realParentFrame, mockCompilation);
-        StatisticsDialog.HistogramPanel panelTruncation = getHistogramPanelFromDialog(statisticsDialog);
-        panelTruncation.setSize(600, 400);
-
-        panelTruncation.paintComponent(g2dMock);
-
-        String expectedTruncatedTitle = "ThisIsA...";
-        int panelPaddingTrunc = 80;
-        int chartWidthTrunc = panelTruncation.getWidth() - 2 * panelPaddingTrunc;
-        int barWidthTrunc = Math.max(10, chartWidthTrunc / (truncationTracks.size() * 2));
-        int xTrunc = panelPaddingTrunc + barWidthTrunc / 2;
-
-        verify(g2dMock).drawString(eq(expectedTruncatedTitle), eq(xTrunc - 10), eq(panelTruncation.getHeight() - panelPaddingTrunc + 15));
     }
 
     @Test
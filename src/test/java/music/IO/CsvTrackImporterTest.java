@@ -0,0 +1,150 @@
+package music.IO;
+
+import music.Models.MusicGenre;
+import music.Models.MusicTrack;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CsvTrackImporterTest {
+
+    @TempDir
+    Path tempDir;
+
+    private ImportResult importString(CsvTrackImporter importer, String csv, List<List<MusicTrack>> batches)
+            throws IOException {
+        byte[] bytes = csv.getBytes(StandardCharsets.UTF_8);
+        return importer.importFrom(new ByteArrayInputStream(bytes), bytes.length, batches::add, null);
+    }
+
+    @Test
+    void importFrom_ShouldParseRowsWithoutHeader() throws IOException {
+        List<List<MusicTrack>> batches = new ArrayList<>();
+
+        ImportResult result = importString(new CsvTrackImporter(),
+                "Song A,Artist A,ROCK,3:30\nSong B,Artist B,Hip Hop,245\n", batches);
+
+        assertEquals(2, result.getImportedCount());
+        assertFalse(result.hasErrors());
+        MusicTrack first = batches.get(0).get(0);
+        assertEquals("Song A", first.getTitle());
+        assertEquals(MusicGenre.ROCK, first.getGenre());
+        assertEquals(Duration.ofSeconds(210), first.getDuration());
+        assertEquals(MusicGenre.HIP_HOP, batches.get(0).get(1).getGenre());
+    }
+
+    @Test
+    void importFrom_ShouldUseHeaderAndSemicolonDelimiter() throws IOException {
+        List<List<MusicTrack>> batches = new ArrayList<>();
+
+        ImportResult result = importString(new CsvTrackImporter(),
+                "тривалість;жанр;виконавець;назва\r\n1:02:03;Jazz;Artist;Long song\r\n", batches);
+
+        assertEquals(1, result.getImportedCount());
+        MusicTrack track = batches.get(0).get(0);
+        assertEquals("Long song", track.getTitle());
+        assertEquals("Artist", track.getArtist());
+        assertEquals(Duration.ofSeconds(3723), track.getDuration());
+    }
+
+    @Test
+    void importFrom_ShouldHandleQuotedFields() throws IOException {
+        List<List<MusicTrack>> batches = new ArrayList<>();
+
+        ImportResult result = importString(new CsvTrackImporter(),
+                "\"Hello, \"\"World\"\"\",\"Multi\nline\",POP,60\n", batches);
+
+        assertEquals(1, result.getImportedCount());
+        MusicTrack track = batches.get(0).get(0);
+        assertEquals("Hello, \"World\"", track.getTitle());
+        assertEquals("Multi\nline", track.getArtist());
+    }
+
+    @Test
+    void importFrom_ShouldCollectInvalidRowsAndContinue() throws IOException {
+        List<List<MusicTrack>> batches = new ArrayList<>();
+
+        ImportResult result = importString(new CsvTrackImporter(),
+                "Song A,Artist,ROCK,3:30\n"
+                        + "Song B,Artist,UNKNOWN,3:30\n"
+                        + ",Artist,ROCK,3:30\n"
+                        + "Song C,Artist,ROCK,abc\n"
+                        + "Song D,Artist\n"
+                        + "Song E,Artist,ROCK,1:00\n", batches);
+
+        assertEquals(2, result.getImportedCount());
+        assertEquals(4, result.getFailedCount());
+        List<Long> lines = result.getErrors().stream().map(ImportResult.ImportError::lineNumber).toList();
+        assertEquals(List.of(2L, 3L, 4L, 5L), lines);
+    }
+
+    @Test
+    void importFrom_ShouldDeliverTracksInBatches() throws IOException {
+        StringBuilder csv = new StringBuilder();
+        for (int i = 0; i < 25; i++) {
+            csv.append("Song ").append(i).append(",Artist,ROCK,60\n");
+        }
+        List<List<MusicTrack>> batches = new ArrayList<>();
+
+        ImportResult result = importString(new CsvTrackImporter(10), csv.toString(), batches);
+
+        assertEquals(25, result.getImportedCount());
+        assertEquals(List.of(10, 10, 5), batches.stream().map(List::size).toList());
+    }
+
+    @Test
+    void importFrom_ShouldRecordFailedBatchAndContinue() throws IOException {
+        StringBuilder csv = new StringBuilder();
+        for (int i = 0; i < 6; i++) {
+            csv.append("Song ").append(i).append(",Artist,ROCK,60\n");
+        }
+        byte[] bytes = csv.toString().getBytes(StandardCharsets.UTF_8);
+        int[] calls = {0};
+
+        ImportResult result = new CsvTrackImporter(2).importFrom(new ByteArrayInputStream(bytes), bytes.length,
+                batch -> {
+                    if (calls[0]++ == 1) {
+                        throw new IllegalStateException("db down");
+                    }
+                }, null);
+
+        assertEquals(4, result.getImportedCount());
+        assertEquals(2, result.getFailedCount());
+        assertEquals(3L, result.getErrors().get(0).lineNumber());
+    }
+
+    @Test
+    void importFile_ShouldReportFinalProgress() throws IOException {
+        Path file = tempDir.resolve("tracks.csv");
+        Files.writeString(file, "\uFEFFtitle,artist,genre,duration\nSong,Artist,ROCK,60\n");
+        long[] lastProgress = {-1, -1, -1};
+
+        ImportResult result = new CsvTrackImporter().importFile(file, batch -> { },
+                (bytesRead, totalBytes, imported) -> {
+                    lastProgress[0] = bytesRead;
+                    lastProgress[1] = totalBytes;
+                    lastProgress[2] = imported;
+                });
+
+        assertEquals(1, result.getImportedCount());
+        assertEquals(Files.size(file), lastProgress[0]);
+        assertEquals(Files.size(file), lastProgress[1]);
+        assertEquals(1, lastProgress[2]);
+    }
+
+    @Test
+    void parseDuration_ShouldRejectInvalidSeconds() {
+        assertThrows(IllegalArgumentException.class, () -> CsvTrackImporter.parseDuration("3:75"));
+        assertEquals(Duration.ofSeconds(90), CsvTrackImporter.parseDuration("1:30"));
+    }
+}
@@ -0,0 +1,143 @@
+package music.IO;
+
+import music.Models.MusicGenre;
+import music.Models.MusicTrack;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ItunesLibraryImporterTest {
+
+    private static final String LIBRARY = """
+            <?xml version="1.0" encoding="UTF-8"?>
+            <!DOCTYPE plist PUBLIC "-//Apple Computer//DTD PLIST 1.0//EN" "http://www.apple.com/DTDs/PropertyList-1.0.dtd">
+            <plist version="1.0">
+            <dict>
+                <key>Major Version</key><integer>1</integer>
+                <key>Application Version</key><string>12.0</string>
+                <key>Tracks</key>
+                <dict>
+                    <key>100</key>
+                    <dict>
+                        <key>Track ID</key><integer>100</integer>
+                        <key>Name</key><string>Song &amp; Dance</string>
+                        <key>Artist</key><string>Artist A</string>
+                        <key>Genre</key><string>Hip-Hop/Rap</string>
+                        <key>Total Time</key><integer>215499</integer>
+                        <key>Compilation</key><true/>
+                        <key>Artwork</key><dict><key>x</key><string>y</string></dict>
+                    </dict>
+                    <key>101</key>
+                    <dict>
+                        <key>Track ID</key><integer>101</integer>
+                        <key>Name</key><string>No Time</string>
+                        <key>Artist</key><string>Artist B</string>
+                    </dict>
+                    <key>102</key>
+                    <dict>
+                        <key>Track ID</key><integer>102</integer>
+                        <key>Name</key><string>Unknown Genre</string>
+                        <key>Album Artist</key><string>Album Artist C</string>
+                        <key>Genre</key><string>Polka</string>
+                        <key>Total Time</key><integer>60000</integer>
+                    </dict>
+                    <key>103</key>
+                    <dict>
+                        <key>Track ID</key><integer>103</integer>
+                        <key>Name</key><string>Episode</string>
+                        <key>Podcast</key><true/>
+                        <key>Total Time</key><integer>60000</integer>
+                    </dict>
+                </dict>
+                <key>Playlists</key>
+                <array>
+                    <dict>
+                        <key>Name</key><string>Library</string>
+                        <key>Master</key><true/>
+                        <key>Playlist Items</key>
+                        <array><dict><key>Track ID</key><integer>100</integer></dict></array>
+                    </dict>
+                    <dict>
+                        <key>Name</key><string>Favourites</string>
+                        <key>Playlist ID</key><integer>5</integer>
+                        <key>Playlist Items</key>
+                        <array>
+                            <dict><key>Track ID</key><integer>102</integer></dict>
+                            <dict><key>Track ID</key><integer>999</integer></dict>
+                            <dict><key>Track ID</key><integer>100</integer></dict>
+                        </array>
+                    </dict>
+                </array>
+            </dict>
+            </plist>
+            """;
+
+    private ImportResult importLibrary(List<MusicTrack> library, Map<String, List<MusicTrack>> playlists)
+            throws IOException {
+        byte[] bytes = LIBRARY.getBytes(StandardCharsets.UTF_8);
+        return new ItunesLibraryImporter(2, MusicGenre.POP).importFrom(new ByteArrayInputStream(bytes), bytes.length,
+                library != null ? library::addAll : null,
+                playlists != null ? name -> {
+                    List<MusicTrack> tracks = new ArrayList<>();
+                    playlists.put(name, tracks);
+                    return tracks::addAll;
+                } : null,
+                null);
+    }
+
+    @Test
+    void importFrom_ShouldImportLibraryTracks() throws IOException {
+        List<MusicTrack> library = new ArrayList<>();
+
+        ImportResult result = importLibrary(library, null);
+
+        assertEquals(2, result.getImportedCount());
+        assertEquals(1, result.getFailedCount());
+        MusicTrack first = library.get(0);
+        assertEquals("Song & Dance", first.getTitle());
+        assertEquals("Artist A", first.getArtist());
+        assertEquals(MusicGenre.HIP_HOP, first.getGenre());
+        assertEquals(Duration.ofSeconds(215), first.getDuration());
+        assertEquals("Album Artist C", library.get(1).getArtist());
+        assertEquals(MusicGenre.POP, library.get(1).getGenre());
+    }
+
+    @Test
+    void importFrom_ShouldImportUserPlaylistsWithOwnTrackCopies() throws IOException {
+        Map<String, List<MusicTrack>> playlists = new LinkedHashMap<>();
+
+        ImportResult result = importLibrary(null, playlists);
+
+        assertEquals(List.of("Favourites"), List.copyOf(playlists.keySet()));
+        List<MusicTrack> favourites = playlists.get("Favourites");
+        assertEquals(2, favourites.size());
+        assertEquals("Unknown Genre", favourites.get(0).getTitle());
+        assertEquals("Song & Dance", favourites.get(1).getTitle());
+        assertEquals(2, result.getImportedCount());
+    }
+
+    @Test
+    void importFrom_ShouldRejectNonPlistDocument() {
+        byte[] bytes = "<html></html>".getBytes(StandardCharsets.UTF_8);
+
+        assertThrows(IOException.class, () -> new ItunesLibraryImporter(MusicGenre.POP)
+                .importFrom(new ByteArrayInputStream(bytes), bytes.length, batch -> { }, null, null));
+    }
+
+    @Test
+    void mapGenre_ShouldUseAliasesAndCompoundNames() {
+        assertEquals(MusicGenre.ALTERNATIVE, ItunesLibraryImporter.mapGenre("Alternative & Punk", MusicGenre.POP));
+        assertEquals(MusicGenre.RNB, ItunesLibraryImporter.mapGenre("R&B/Soul", MusicGenre.POP));
+        assertEquals(MusicGenre.ELECTRONIC, ItunesLibraryImporter.mapGenre("Dance", MusicGenre.POP));
+        assertEquals(MusicGenre.JAZZ, ItunesLibraryImporter.mapGenre(null, MusicGenre.JAZZ));
+    }
+}
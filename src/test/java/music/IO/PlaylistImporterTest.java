@@ -0,0 +1,125 @@
+package music.IO;
+
+import music.Models.MusicCompilation;
+import music.Models.MusicGenre;
+import music.Models.MusicTrack;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PlaylistImporterTest {
+
+    @TempDir
+    Path tempDir;
+
+    private List<MusicTrack> importString(String playlist, PlaylistImporter.Format format, ImportResult[] result)
+            throws IOException {
+        byte[] bytes = playlist.getBytes(StandardCharsets.UTF_8);
+        List<MusicTrack> tracks = new ArrayList<>();
+        result[0] = new PlaylistImporter(2, MusicGenre.POP)
+                .importFrom(new ByteArrayInputStream(bytes), format, bytes.length, tracks::addAll, null);
+        return tracks;
+    }
+
+    @Test
+    void importFrom_ShouldParseExtendedM3u() throws IOException {
+        ImportResult[] result = new ImportResult[1];
+
+        List<MusicTrack> tracks = importString("#EXTM3U\n"
+                + "#EXTINF:215,Queen - Bohemian Rhapsody\n"
+                + "#EXTGENRE:Rock\n"
+                + "C:\\Music\\Queen\\bohemian.mp3\n"
+                + "#EXTINF:123 tvg-id=\"x\",Untitled\n"
+                + "/music/other.mp3\n"
+                + "#EXTINF:61.6,\n"
+                + "/music/Nice Song.flac\n", PlaylistImporter.Format.M3U, result);
+
+        assertEquals(3, result[0].getImportedCount());
+        assertEquals("Queen", tracks.get(0).getArtist());
+        assertEquals("Bohemian Rhapsody", tracks.get(0).getTitle());
+        assertEquals(MusicGenre.ROCK, tracks.get(0).getGenre());
+        assertEquals(Duration.ofSeconds(215), tracks.get(0).getDuration());
+        assertEquals(PlaylistImporter.UNKNOWN_ARTIST, tracks.get(1).getArtist());
+        assertEquals(MusicGenre.POP, tracks.get(1).getGenre());
+        assertEquals("Nice Song", tracks.get(2).getTitle());
+        assertEquals(Duration.ofSeconds(62), tracks.get(2).getDuration());
+    }
+
+    @Test
+    void importFrom_ShouldReportEntriesWithoutDuration() throws IOException {
+        ImportResult[] result = new ImportResult[1];
+
+        importString("plain.mp3\n#EXTINF:-1,Radio\nhttp://stream\n#EXTINF:10,A - B\nb.mp3\n",
+                PlaylistImporter.Format.M3U, result);
+
+        assertEquals(1, result[0].getImportedCount());
+        assertEquals(2, result[0].getFailedCount());
+        assertEquals(1L, result[0].getErrors().get(0).lineNumber());
+        assertEquals(2L, result[0].getErrors().get(1).lineNumber());
+    }
+
+    @Test
+    void importFrom_ShouldParsePls() throws IOException {
+        ImportResult[] result = new ImportResult[1];
+
+        List<MusicTrack> tracks = importString("[playlist]\n"
+                + "File1=/music/a.mp3\nTitle1=Artist A - Song A\nLength1=100\n"
+                + "File2=/music/b.mp3\nLength2=-1\n"
+                + "File3=/music/Song C.mp3\nLength3=50\n"
+                + "NumberOfEntries=3\nVersion=2\n", PlaylistImporter.Format.PLS, result);
+
+        assertEquals(2, result[0].getImportedCount());
+        assertEquals(1, result[0].getFailedCount());
+        assertEquals("Artist A", tracks.get(0).getArtist());
+        assertEquals("Song A", tracks.get(0).getTitle());
+        assertEquals("Song C", tracks.get(1).getTitle());
+    }
+
+    @Test
+    void importFrom_ShouldKeepPlsOrderWhenTitlesAreMissing() throws IOException {
+        ImportResult[] result = new ImportResult[1];
+
+        List<MusicTrack> tracks = importString("[playlist]\n"
+                + "File1=/music/First.mp3\nLength1=100\n"
+                + "File2=/music/b.mp3\nTitle2=Artist B - Second\nLength2=200\n"
+                + "File3=/music/Third.mp3\nLength3=300\n", PlaylistImporter.Format.PLS, result);
+
+        assertEquals(3, result[0].getImportedCount());
+        assertEquals(List.of("First", "Second", "Third"), tracks.stream().map(MusicTrack::getTitle).toList());
+    }
+
+    @Test
+    void exportFile_ShouldRoundTripThroughImport() throws IOException {
+        MusicCompilation compilation = new MusicCompilation("Mix");
+        compilation.addTrack(new MusicTrack("Song A", "Artist A", MusicGenre.JAZZ, Duration.ofSeconds(100)));
+        compilation.addTrack(new MusicTrack("Song B", "Artist B", MusicGenre.HIP_HOP, Duration.ofSeconds(200)));
+
+        for (String name : new String[]{"mix.m3u8", "mix.pls"}) {
+            Path file = tempDir.resolve(name);
+            PlaylistExporter.exportFile(compilation, file);
+
+            List<MusicTrack> tracks = new ArrayList<>();
+            ImportResult result = new PlaylistImporter(MusicGenre.POP).importFile(file, tracks::addAll, null);
+
+            assertEquals(2, result.getImportedCount(), name);
+            assertEquals("Song B", tracks.get(1).getTitle(), name);
+            assertEquals("Artist B", tracks.get(1).getArtist(), name);
+            assertEquals(Duration.ofSeconds(200), tracks.get(1).getDuration(), name);
+        }
+    }
+
+    @Test
+    void titleFromLocation_ShouldStripDirectoryAndExtension() {
+        assertEquals("song", PlaylistImporter.titleFromLocation("C:\\dir\\song.mp3"));
+        assertEquals("song", PlaylistImporter.titleFromLocation("/dir/song.ogg"));
+    }
+}
@@ -0,0 +1,91 @@
+package music.Manager;
+
+import music.Models.MusicCompilation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.FileInputStream;
+import java.io.ObjectInputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class AutosaveManagerTest {
+
+    @TempDir
+    Path tempDir;
+
+    private DiscManager discManager;
+    private Path target;
+
+    @BeforeEach
+    void setUp() {
+        discManager = mock(DiscManager.class);
+        target = tempDir.resolve("autosave.dat");
+        List<MusicCompilation> snapshot = new ArrayList<>();
+        snapshot.add(new MusicCompilation("Autosaved"));
+        when(discManager.snapshot(anyMap())).thenReturn(snapshot);
+    }
+
+    @Test
+    void constructor_ShouldThrowWhenDiscManagerIsNull() {
+        assertThrows(IllegalArgumentException.class, () -> new AutosaveManager(null, target, 0));
+    }
+
+    @Test
+    void tick_ShouldNotSaveWhenNotDirty() {
+        when(discManager.isDirty()).thenReturn(false);
+        AutosaveManager autosaveManager = new AutosaveManager(discManager, target, 0);
+
+        autosaveManager.tick();
+
+        verify(discManager, never()).snapshot(anyMap());
+        assertFalse(Files.exists(target));
+    }
+
+    @Test
+    void tick_ShouldWaitWhileChangesKeepComing() {
+        when(discManager.isDirty()).thenReturn(true);
+        when(discManager.getModificationStamp()).thenReturn(1L, 2L, 3L);
+        AutosaveManager autosaveManager = new AutosaveManager(discManager, target, 60_000);
+
+        autosaveManager.tick();
+        autosaveManager.tick();
+
+        verify(discManager, never()).snapshot(anyMap());
+    }
+
+    @Test
+    void tick_ShouldSaveSnapshotWhenDirtyAndQuiet() throws Exception {
+        when(discManager.isDirty()).thenReturn(true);
+        when(discManager.getModificationStamp()).thenReturn(5L);
+        AutosaveManager autosaveManager = new AutosaveManager(discManager, target, 0);
+
+        autosaveManager.tick();
+        autosaveManager.saveNow().get(5, TimeUnit.SECONDS);
+
+        assertTrue(Files.exists(target));
+        try (ObjectInputStream ois = new ObjectInputStream(new FileInputStream(target.toFile()))) {
+            List<?> restored = (List<?>) ois.readObject();
+            assertEquals(1, restored.size());
+            assertEquals("Autosaved", ((MusicCompilation) restored.get(0)).getTitle());
+        }
+    }
+
+    @Test
+    void setTarget_ShouldChangeTarget() {
+        AutosaveManager autosaveManager = new AutosaveManager(discManager, target, 0);
+        Path other = tempDir.resolve("other.dat");
+
+        autosaveManager.setTarget(other);
+
+        assertEquals(other, autosaveManager.getTarget());
+        assertThrows(IllegalArgumentException.class, () -> autosaveManager.setTarget(null));
+    }
+}
@@ -0,0 +1,105 @@
+package music.Manager;
+
+import music.Models.MusicCompilation;
+import music.Models.MusicGenre;
+import music.Models.MusicTrack;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompilationHistoryTest {
+    private MusicCompilation compilation;
+    private MusicTrack first;
+    private MusicTrack second;
+    private CompilationHistory history;
+
+    @BeforeEach
+    void setUp() {
+        compilation = new MusicCompilation("History");
+        first = new MusicTrack("First", "Artist", MusicGenre.ROCK, Duration.ofSeconds(100));
+        second = new MusicTrack("Second", "Artist", MusicGenre.POP, Duration.ofSeconds(200));
+        compilation.insertTracks(0, List.of(first, second));
+        history = new CompilationHistory(compilation);
+    }
+
+    @Test
+    void undo_ShouldRestoreOrderAfterReplaceAll() {
+        compilation.replaceAll(List.of(second, first));
+
+        CompilationHistory.Change change = history.undo();
+
+        assertTrue(change.structureChanged());
+        assertEquals(List.of(first, second), compilation.getTracks());
+        assertTrue(history.canRedo());
+        history.redo();
+        assertEquals(List.of(second, first), compilation.getTracks());
+    }
+
+    @Test
+    void undo_ShouldReportRemovedTracksWithoutStructureChange() {
+        MusicTrack third = new MusicTrack("Third", "Artist", MusicGenre.JAZZ, Duration.ofSeconds(300));
+        compilation.addTrack(third);
+
+        CompilationHistory.Change undone = history.undo();
+
+        assertFalse(undone.structureChanged());
+        assertEquals(List.of(third), undone.removedTracks());
+        assertEquals(List.of(first, second), compilation.getTracks());
+
+        CompilationHistory.Change redone = history.redo();
+
+        assertTrue(redone.structureChanged());
+        assertEquals(List.of(), redone.removedTracks());
+        assertEquals(List.of(first, second, third), compilation.getTracks());
+    }
+
+    @Test
+    void undo_ShouldRestoreTrackAttributesAndAggregates() {
+        Duration previousDuration = first.getDuration();
+        first.setTitle("Edited");
+        first.setDuration(Duration.ofSeconds(400));
+        compilation.trackUpdated(first, first.getGenre(), previousDuration);
+        assertEquals(600, compilation.getTotalSeconds());
+
+        CompilationHistory.Change change = history.undo();
+
+        assertFalse(change.structureChanged());
+        assertEquals(List.of(first), change.editedTracks());
+        assertEquals("First", first.getTitle());
+        assertEquals(300, compilation.getTotalSeconds());
+    }
+
+    @Test
+    void changesWithoutVisibleEffect_ShouldNotCreateSteps() {
+        first.setId(10L);
+        compilation.tracksUpdated(0, 1);
+        assertFalse(history.canUndo());
+
+        compilation.removeTrack(first);
+        compilation.addTrack(first);
+        history.undo();
+        history.undo();
+
+        assertEquals(List.of(first, second), compilation.getTracks());
+        assertFalse(history.canUndo());
+        assertThrows(IllegalStateException.class, history::undo);
+    }
+
+    @Test
+    void newChange_ShouldClearRedo() {
+        compilation.moveTrack(0, 1);
+        history.undo();
+
+        compilation.removeTrack(second);
+
+        assertFalse(history.canRedo());
+        history.close();
+        compilation.addTrack(second);
+        history.undo();
+        assertEquals(List.of(first, second), compilation.getTracks());
+    }
+}
@@ -13,7 +13,10 @@ import org.mockito.Mockito;
 import java.io.*;
 import java.sql.*;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -308,4 +311,134 @@ class DiscManagerTest {
         assertEquals(13, result.size());
         assertNotSame(discManager.getCompilations(), discManager.getCompilations());
     }
-}
\ No newline at end of file
+
+    @Test
+    void getCompilationView_ShouldBeSharedUntilStructureChanges() {
+        List<MusicCompilation> view = discManager.getCompilationView();
+        assertSame(view, discManager.getCompilationView());
+        assertThrows(UnsupportedOperationException.class, () -> view.add(compilation));
+
+        discManager.addCompilation(compilation);
+
+        List<MusicCompilation> updated = discManager.getCompilationView();
+        assertNotSame(view, updated);
+        assertEquals(view.size() + 1, updated.size());
+        assertTrue(updated.contains(compilation));
+    }
+
+    @Test
+    void getCompilationById_ShouldFindAndRemoveById() throws SQLException {
+        when(mockConnection.prepareStatement(anyString(), anyInt())).thenThrow(new SQLException("Database error"));
+        when(mockConnection.prepareStatement(anyString())).thenReturn(mockPreparedStatement);
+        MusicTrack track = new MusicTrack("Track", "Artist", MusicGenre.ROCK, Duration.ofSeconds(200));
+        track.setId(501L);
+        compilation.setId(77L);
+        compilation.addTrack(track);
+
+        discManager.addCompilation(compilation);
+
+        assertSame(compilation, discManager.getCompilationById(77L));
+        assertSame(track, discManager.findTrackById(501L));
+        assertTrue(discManager.removeCompilationById(77L));
+        assertNull(discManager.getCompilationById(77L));
+        assertNull(discManager.findTrackById(501L));
+        assertFalse(discManager.removeCompilationById(77L));
+    }
+
+    @Test
+    void findTrackById_ShouldFollowTrackListChanges() throws SQLException {
+        when(mockConnection.prepareStatement(anyString(), anyInt())).thenThrow(new SQLException("Database error"));
+        compilation.setId(78L);
+        discManager.addCompilation(compilation);
+        MusicTrack first = new MusicTrack("First", "Artist", MusicGenre.POP, Duration.ofSeconds(100));
+        first.setId(601L);
+        MusicTrack second = new MusicTrack("Second", "Artist", MusicGenre.POP, Duration.ofSeconds(100));
+
+        compilation.addTrack(first);
+        compilation.addTrack(second);
+        assertSame(first, discManager.findTrackById(601L));
+
+        second.setId(602L);
+        assertNull(discManager.findTrackById(602L));
+        compilation.tracksUpdated(1, 1);
+        assertSame(second, discManager.findTrackById(602L));
+
+        compilation.replaceAll(List.of(second));
+        assertNull(discManager.findTrackById(601L));
+
+        second.setId(603L);
+        assertNull(discManager.findTrackById(602L));
+    }
+
+    @Test
+    void isDirty_ShouldFlipAfterTrackEditAndReorder() {
+        compilation.addTrack(new MusicTrack("First", "Artist", MusicGenre.POP, Duration.ofSeconds(100)));
+        compilation.addTrack(new MusicTrack("Second", "Artist", MusicGenre.ROCK, Duration.ofSeconds(200)));
+        discManager.addCompilation(compilation);
+        discManager.markSaved(discManager.getModificationStamp());
+        assertFalse(discManager.isDirty());
+
+        MusicTrack edited = compilation.getTrack(0);
+        MusicGenre previousGenre = edited.getGenre();
+        Duration previousDuration = edited.getDuration();
+        edited.setTitle("Edited");
+        edited.setDuration(Duration.ofSeconds(150));
+        compilation.trackUpdated(edited, previousGenre, previousDuration);
+        assertTrue(discManager.isDirty());
+
+        discManager.markSaved(discManager.getModificationStamp());
+        compilation.moveTrack(0, 1);
+        assertTrue(discManager.isDirty());
+
+        discManager.markSaved(discManager.getModificationStamp());
+        compilation.replaceAll(List.of(compilation.getTrack(1), compilation.getTrack(0)));
+        assertTrue(discManager.isDirty());
+    }
+
+    @Test
+    void snapshot_ShouldReuseCopiesOfUnchangedCompilations() {
+        MusicCompilation other = new MusicCompilation("Other");
+        compilation.addTrack(new MusicTrack("First", "Artist", MusicGenre.POP, Duration.ofSeconds(100)));
+        other.addTrack(new MusicTrack("Second", "Artist", MusicGenre.ROCK, Duration.ofSeconds(200)));
+        discManager.addCompilation(compilation);
+        discManager.addCompilation(other);
+        Map<MusicCompilation, MusicCompilation> copies = new IdentityHashMap<>();
+        List<MusicCompilation> first = discManager.snapshot(copies);
+
+        other.addTrack(new MusicTrack("Third", "Artist", MusicGenre.ROCK, Duration.ofSeconds(300)));
+        List<MusicCompilation> second = discManager.snapshot(copies);
+
+        assertSame(first.get(0), second.get(0));
+        assertNotSame(first.get(1), second.get(1));
+        assertEquals(2, second.get(1).getTrackCount());
+        assertEquals(1, first.get(1).getTrackCount());
+        assertNotSame(compilation, second.get(0));
+    }
+
+    @Test
+    void snapshot_ShouldKeepDeserializedCompilationsDistinct() throws IOException, ClassNotFoundException {
+        List<MusicCompilation> library = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            MusicCompilation loaded = new MusicCompilation("C" + i);
+            loaded.addTrack(new MusicTrack("Track " + i, "Artist", MusicGenre.POP, Duration.ofSeconds(100 + i)));
+            library.add(loaded);
+        }
+        File file = File.createTempFile("library", ".dat");
+        file.deleteOnExit();
+        try (ObjectOutputStream oos = new ObjectOutputStream(new FileOutputStream(file))) {
+            oos.writeObject(library);
+        }
+        discManager.loadFromFile(file.getPath());
+
+        Map<MusicCompilation, MusicCompilation> copies = new IdentityHashMap<>();
+        discManager.snapshot(copies);
+        List<MusicCompilation> snapshot = discManager.snapshot(copies);
+
+        assertEquals(3, snapshot.size());
+        for (int i = 0; i < 3; i++) {
+            assertEquals("C" + i, snapshot.get(i).getTitle());
+            assertEquals("Track " + i, snapshot.get(i).getTracks().get(0).getTitle());
+            assertEquals(Duration.ofSeconds(100 + i), snapshot.get(i).getTotalDuration());
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package music.Models;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.time.Duration;
+import java.util.BitSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ArtistRegistryTest {
+
+    @Test
+    void idOf_ShouldReturnSameIdForEqualNames() {
+        int id = ArtistRegistry.idOf(new String("Registry Artist"));
+
+        assertEquals(id, ArtistRegistry.idOf(new String("Registry Artist")));
+        assertNotEquals(id, ArtistRegistry.idOf("Registry Artist 2"));
+        assertEquals("Registry Artist", ArtistRegistry.name(id));
+        assertTrue(id < ArtistRegistry.size());
+    }
+
+    @Test
+    void idOf_ShouldRejectNull() {
+        assertThrows(IllegalArgumentException.class, () -> ArtistRegistry.idOf(null));
+        assertThrows(IndexOutOfBoundsException.class, () -> ArtistRegistry.name(-1));
+    }
+
+    @Test
+    void musicTrack_ShouldShareArtistInstanceAndId() {
+        MusicTrack first = new MusicTrack("A", new String("Shared Artist"), MusicGenre.ROCK, Duration.ofMinutes(3));
+        MusicTrack second = new MusicTrack("B", new String("Shared Artist"), MusicGenre.POP, Duration.ofMinutes(4));
+
+        assertSame(first.getArtist(), second.getArtist());
+        assertEquals(first.getArtistId(), second.getArtistId());
+        assertEquals(first.getArtistId(), CompactTrack.of("C", "Shared Artist", MusicGenre.JAZZ, 10).getArtistId());
+
+        second.setArtist("Other Shared Artist");
+        assertEquals(ArtistRegistry.idOf("Other Shared Artist"), second.getArtistId());
+        assertEquals(first.getArtistId(), first.copy().getArtistId());
+    }
+
+    @Test
+    void musicTrack_ShouldRestoreArtistIdAfterDeserialization() throws IOException, ClassNotFoundException {
+        MusicTrack track = new MusicTrack("Song", "Serialized Artist", MusicGenre.JAZZ, Duration.ofMinutes(2));
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(track);
+        }
+
+        MusicTrack restored;
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            restored = (MusicTrack) in.readObject();
+        }
+
+        assertEquals(track.getArtistId(), restored.getArtistId());
+        assertSame(track.getArtist(), restored.getArtist());
+    }
+
+    @Test
+    void findMatching_ShouldMatchLowerCaseSubstrings() {
+        int beatles = ArtistRegistry.idOf("The Beatles Registry");
+        int stones = ArtistRegistry.idOf("Rolling Stones Registry");
+
+        BitSet matches = ArtistRegistry.findMatching("beatles reg");
+
+        assertTrue(matches.get(beatles));
+        assertFalse(matches.get(stones));
+    }
+}
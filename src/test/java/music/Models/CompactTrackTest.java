@@ -0,0 +1,90 @@
+package music.Models;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompactTrackTest {
+
+    @Test
+    void of_ShouldStoreAttributes() {
+        CompactTrack track = CompactTrack.of("Song", "Artist", MusicGenre.JAZZ, 245);
+
+        assertEquals("Song", track.getTitle());
+        assertEquals("Artist", track.getArtist());
+        assertEquals(MusicGenre.JAZZ, track.getGenre());
+        assertEquals(245, track.getDurationSeconds());
+        assertEquals(Duration.ofSeconds(245), track.getDuration());
+        assertFalse(track.hasId());
+        assertNull(track.getId());
+    }
+
+    @Test
+    void of_ShouldValidateLikeMusicTrack() {
+        assertThrows(IllegalArgumentException.class, () -> CompactTrack.of(" ", "Artist", MusicGenre.POP, 10));
+        assertThrows(IllegalArgumentException.class, () -> CompactTrack.of("Song", null, MusicGenre.POP, 10));
+        assertThrows(IllegalArgumentException.class, () -> CompactTrack.of("Song", "Artist", null, 10));
+        assertThrows(IllegalArgumentException.class, () -> CompactTrack.of("Song", "Artist", MusicGenre.POP, 0));
+    }
+
+    @Test
+    void with_ShouldReturnModifiedCopyAndKeepOriginal() {
+        CompactTrack original = CompactTrack.of("Song", "Artist", MusicGenre.POP, 100);
+
+        CompactTrack edited = original.withTitle("New").withGenre(MusicGenre.ROCK).withDurationSeconds(50).withId(3);
+
+        assertEquals("Song", original.getTitle());
+        assertEquals(MusicGenre.POP, original.getGenre());
+        assertEquals("New", edited.getTitle());
+        assertEquals(MusicGenre.ROCK, edited.getGenre());
+        assertEquals(50, edited.getDurationSeconds());
+        assertEquals(3L, edited.getId());
+    }
+
+    @Test
+    void of_ShouldShareArtistInstances() {
+        CompactTrack first = CompactTrack.of("A", new String("Shared Artist"), MusicGenre.POP, 10);
+        CompactTrack second = CompactTrack.of("B", new String("Shared Artist"), MusicGenre.POP, 10);
+
+        assertSame(first.getArtist(), second.getArtist());
+    }
+
+    @Test
+    void fromAndToMusicTrack_ShouldRoundTrip() {
+        MusicTrack track = new MusicTrack("Song", "Artist", MusicGenre.BLUES, Duration.ofSeconds(90));
+        track.setId(42L);
+
+        CompactTrack compact = CompactTrack.from(track);
+        MusicTrack restored = compact.toMusicTrack();
+
+        assertEquals(42L, compact.getIdValue());
+        assertEquals(track.getTitle(), restored.getTitle());
+        assertEquals(track.getGenre(), restored.getGenre());
+        assertEquals(track.getDuration(), restored.getDuration());
+        assertEquals(42L, restored.getId());
+    }
+
+    @Test
+    void serialization_ShouldPreserveValueAndCanonicalArtist() throws IOException, ClassNotFoundException {
+        CompactTrack track = CompactTrack.of("Song", "Serialized Artist", MusicGenre.SOUL, 120);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(track);
+        }
+
+        CompactTrack restored;
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            restored = (CompactTrack) in.readObject();
+        }
+
+        assertEquals(track, restored);
+        assertSame(track.getArtist(), restored.getArtist());
+    }
+}
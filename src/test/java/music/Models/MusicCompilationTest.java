@@ -5,7 +5,10 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -185,6 +188,264 @@ class MusicCompilationTest {
         assertEquals(expected, compilation.toString());
     }
 
+    @Test
+    void aggregates_ShouldFollowAddsAndEdits() {
+        MusicTrack short1 = new MusicTrack("A", "Artist", MusicGenre.POP, Duration.ofSeconds(90));
+        MusicTrack long1 = new MusicTrack("B", "Artist", MusicGenre.ROCK, Duration.ofSeconds(300));
+        compilation.addTrack(short1);
+        assertEquals(Duration.ofSeconds(90), compilation.getTotalDuration());
+
+        compilation.addTrack(long1);
+        assertEquals(2, compilation.getTrackCount());
+        assertEquals(390, compilation.getTotalSeconds());
+        assertEquals(Duration.ofSeconds(90), compilation.getShortestDuration());
+        assertEquals(Duration.ofSeconds(300), compilation.getLongestDuration());
+        assertEquals(1, compilation.getGenreCount(MusicGenre.ROCK));
+
+        long1.setGenre(MusicGenre.JAZZ);
+        long1.setDuration(Duration.ofSeconds(60));
+        compilation.trackUpdated(long1, MusicGenre.ROCK, Duration.ofSeconds(300));
+
+        assertEquals(150, compilation.getTotalSeconds());
+        assertEquals(Duration.ofSeconds(60), compilation.getShortestDuration());
+        assertEquals(Duration.ofSeconds(90), compilation.getLongestDuration());
+        assertEquals(0, compilation.getGenreCount(MusicGenre.ROCK));
+        assertEquals(Map.of(MusicGenre.POP, 1L, MusicGenre.JAZZ, 1L), compilation.getGenreCounts());
+    }
+
+    @Test
+    void aggregates_ShouldBeEmptyForNewCompilation() {
+        assertEquals(0, compilation.getTrackCount());
+        assertEquals(Duration.ZERO, compilation.getTotalDuration());
+        assertEquals(Duration.ZERO, compilation.getShortestDuration());
+        assertEquals(Duration.ZERO, compilation.getLongestDuration());
+        assertTrue(compilation.getGenreCounts().isEmpty());
+    }
+
+    @Test
+    void mutations_ShouldPublishIndexRanges() {
+        MusicTrack a = new MusicTrack("A", "Artist", MusicGenre.POP, Duration.ofSeconds(60));
+        MusicTrack b = new MusicTrack("B", "Artist", MusicGenre.ROCK, Duration.ofSeconds(120));
+        MusicTrack c = new MusicTrack("C", "Artist", MusicGenre.JAZZ, Duration.ofSeconds(180));
+        List<TrackListEvent> events = new ArrayList<>();
+        compilation.addTrackListListener(events::add);
+
+        compilation.insertTracks(0, List.of(a, c));
+        compilation.insertTrack(1, b);
+        compilation.moveTrack(2, 0);
+        compilation.replaceTrack(1, b.copy());
+        compilation.removeTrack(c);
+
+        assertEquals(List.of(
+                new TrackListEvent(compilation, TrackListEvent.Type.INSERTED, 0, 1),
+                new TrackListEvent(compilation, TrackListEvent.Type.INSERTED, 1, 1),
+                new TrackListEvent(compilation, TrackListEvent.Type.MOVED, 2, 0),
+                new TrackListEvent(compilation, TrackListEvent.Type.REPLACED, 1, 1, List.of(a)),
+                new TrackListEvent(compilation, TrackListEvent.Type.REMOVED, 0, 0, List.of(c))), events);
+        assertEquals(2, compilation.getTrackCount());
+        assertEquals(240, compilation.getTotalSeconds());
+        assertFalse(compilation.removeTrack(c));
+    }
+
+    @Test
+    void replaceAll_ShouldPublishOnlyChangedRange() {
+        MusicTrack a = new MusicTrack("A", "Artist", MusicGenre.POP, Duration.ofSeconds(60));
+        MusicTrack b = new MusicTrack("B", "Artist", MusicGenre.ROCK, Duration.ofSeconds(120));
+        MusicTrack c = new MusicTrack("C", "Artist", MusicGenre.JAZZ, Duration.ofSeconds(180));
+        MusicTrack d = new MusicTrack("D", "Artist", MusicGenre.JAZZ, Duration.ofSeconds(240));
+        compilation.insertTracks(0, List.of(a, b, c));
+        assertEquals(360, compilation.getTotalSeconds());
+        List<TrackListEvent> events = new ArrayList<>();
+        compilation.addTrackListListener(events::add);
+
+        compilation.replaceAll(List.of(a, d, d, c));
+
+        assertEquals(List.of(
+                new TrackListEvent(compilation, TrackListEvent.Type.REPLACED, 1, 1, List.of(b)),
+                new TrackListEvent(compilation, TrackListEvent.Type.INSERTED, 2, 2)), events);
+        assertEquals(List.of(a, d, d, c), compilation.getTracks());
+        assertEquals(720, compilation.getTotalSeconds());
+        assertEquals(3, compilation.getGenreCount(MusicGenre.JAZZ));
+
+        events.clear();
+        compilation.replaceAll(List.of(a, c));
+        assertEquals(List.of(new TrackListEvent(compilation, TrackListEvent.Type.REMOVED, 1, 2, List.of(d, d))), events);
+        assertEquals(Duration.ofSeconds(180), compilation.getLongestDuration());
+    }
+
+    @Test
+    void replaceAll_ShouldWorkWithoutListeners() {
+        MusicTrack a = new MusicTrack("A", "Artist", MusicGenre.POP, Duration.ofSeconds(60));
+        MusicTrack b = new MusicTrack("B", "Artist", MusicGenre.ROCK, Duration.ofSeconds(120));
+        MusicTrack c = new MusicTrack("C", "Artist", MusicGenre.JAZZ, Duration.ofSeconds(180));
+        compilation.insertTracks(0, List.of(a, b, c));
+
+        compilation.replaceAll(List.of(a, c, b));
+        assertEquals(List.of(a, c, b), compilation.getTracks());
+
+        compilation.replaceAll(List.of(b));
+        assertEquals(List.of(b), compilation.getTracks());
+        assertEquals(120, compilation.getTotalSeconds());
+
+        compilation.replaceAll(List.of(b, a, c));
+        assertEquals(List.of(b, a, c), compilation.getTracks());
+        assertEquals(360, compilation.getTotalSeconds());
+    }
+
+    @Test
+    void tracksUpdated_ShouldFireSnapshotOfUpdatedTracks() {
+        MusicTrack a = new MusicTrack("A", "Artist", MusicGenre.POP, Duration.ofSeconds(60));
+        MusicTrack b = new MusicTrack("B", "Artist", MusicGenre.ROCK, Duration.ofSeconds(120));
+        compilation.insertTracks(0, List.of(a, b));
+        List<TrackListEvent> events = new ArrayList<>();
+        compilation.addTrackListListener(events::add);
+
+        compilation.tracksUpdated(0, 1);
+        compilation.removeTrack(a);
+        compilation.trackUpdated(b, MusicGenre.ROCK, Duration.ofSeconds(120));
+
+        assertEquals(List.of(a, b), events.get(0).removedTracks());
+        assertSame(b, events.get(2).removedTracks().get(0));
+    }
+
+    @Test
+    void getTrackView_ShouldBeSharedUntilTracksChange() {
+        compilation.addTrack(track1);
+        List<MusicTrack> view = compilation.getTrackView();
+        assertSame(view, compilation.getTrackView());
+        compilation.setTitle("Renamed");
+        assertSame(view, compilation.getTrackView());
+        assertThrows(UnsupportedOperationException.class, view::clear);
+
+        compilation.addTrack(track2);
+
+        assertEquals(List.of(track1), view);
+        assertEquals(List.of(track1, track2), compilation.getTrackView());
+        List<MusicTrack> visited = new ArrayList<>();
+        compilation.forEachTrack(visited::add);
+        assertEquals(List.of(track1, track2), visited);
+        assertSame(track2, compilation.getTrack(1));
+    }
+
+    @Test
+    void containsDuplicateOf_ShouldIgnoreCaseAndWhitespaceAndFollowChanges() {
+        MusicTrack track = new MusicTrack("Stairway  to Heaven", "Led Zeppelin", MusicGenre.ROCK, Duration.ofSeconds(482));
+        compilation.addTrack(track);
+        MusicTrack candidate = new MusicTrack(" stairway to heaven ", "LED ZEPPELIN", MusicGenre.POP, Duration.ofSeconds(482));
+
+        assertTrue(compilation.containsDuplicateOf(candidate));
+        assertFalse(compilation.containsDuplicateOf(
+                new MusicTrack("Stairway to Heaven", "Led Zeppelin", MusicGenre.ROCK, Duration.ofSeconds(481))));
+
+        Duration previousDuration = track.getDuration();
+        track.setDuration(Duration.ofSeconds(481));
+        compilation.trackUpdated(track, track.getGenre(), previousDuration);
+        assertFalse(compilation.containsDuplicateOf(candidate));
+
+        compilation.addTrack(candidate);
+        compilation.removeTrack(track);
+        assertFalse(compilation.containsDuplicateOf(track.copy()));
+        assertTrue(compilation.containsDuplicateOf(candidate));
+        assertThrows(IllegalArgumentException.class, () -> compilation.containsDuplicateOf(null));
+    }
+
+    @Test
+    void withoutDuplicates_ShouldDropExistingAndRepeatedCandidates() {
+        MusicTrack existing = new MusicTrack("Song", "Artist", MusicGenre.POP, Duration.ofSeconds(200));
+        compilation.addTrack(existing);
+        MusicTrack fresh = new MusicTrack("New Song", "Artist", MusicGenre.POP, Duration.ofSeconds(200));
+        MusicTrack repeated = new MusicTrack("new song", "artist", MusicGenre.POP, Duration.ofSeconds(200));
+
+        List<MusicTrack> result = compilation.withoutDuplicates(List.of(existing.copy(), fresh, repeated));
+
+        assertEquals(List.of(fresh), result);
+    }
+
+    @Test
+    void getTracksInDurationRange_ShouldFollowChangesAndOrderByDuration() {
+        MusicTrack longTrack = new MusicTrack("Long", "Artist", MusicGenre.ROCK, Duration.ofSeconds(300));
+        MusicTrack shortTrack = new MusicTrack("Short", "Artist", MusicGenre.POP, Duration.ofSeconds(120));
+        MusicTrack middle = new MusicTrack("Middle", "Artist", MusicGenre.JAZZ, Duration.ofSeconds(200));
+        compilation.addTrack(longTrack);
+        compilation.addTrack(shortTrack);
+
+        assertEquals(2, compilation.countTracksInDurationRange(Duration.ofSeconds(120), Duration.ofSeconds(300)));
+        assertEquals(List.of(shortTrack, longTrack),
+                compilation.getTracksInDurationRange(Duration.ofSeconds(100), Duration.ofSeconds(400)));
+
+        compilation.addTrack(middle);
+        compilation.removeTrack(longTrack);
+        Duration previousDuration = shortTrack.getDuration();
+        shortTrack.setDuration(Duration.ofSeconds(250));
+        compilation.trackUpdated(shortTrack, shortTrack.getGenre(), previousDuration);
+
+        assertEquals(0, compilation.countTracksInDurationRange(Duration.ofSeconds(100), Duration.ofSeconds(199)));
+        assertEquals(2, compilation.countTracksInDurationRange(Duration.ofSeconds(200), Duration.ofSeconds(250)));
+        assertEquals(Duration.ofSeconds(450),
+                compilation.getTotalDurationInRange(Duration.ofSeconds(200), Duration.ofSeconds(250)));
+        assertEquals(List.of(middle, shortTrack),
+                compilation.getTracksInDurationRange(Duration.ofSeconds(200), Duration.ofMinutes(10)));
+        assertEquals(0, compilation.countTracksInDurationRange(Duration.ofSeconds(300), Duration.ofSeconds(200)));
+        assertThrows(IllegalArgumentException.class, () -> compilation.countTracksInDurationRange(null, Duration.ZERO));
+    }
+
+    @Test
+    void getTracksInDurationRangeInOrder_ShouldKeepCompilationOrder() {
+        MusicTrack longTrack = new MusicTrack("Long", "Artist", MusicGenre.ROCK, Duration.ofSeconds(300));
+        MusicTrack shortTrack = new MusicTrack("Short", "Artist", MusicGenre.POP, Duration.ofSeconds(120));
+        MusicTrack outside = new MusicTrack("Outside", "Artist", MusicGenre.POP, Duration.ofSeconds(600));
+        MusicTrack middle = new MusicTrack("Middle", "Artist", MusicGenre.JAZZ, Duration.ofSeconds(200));
+        compilation.insertTracks(0, List.of(longTrack, shortTrack, outside, middle));
+
+        assertEquals(List.of(longTrack, shortTrack, middle),
+                compilation.getTracksInDurationRangeInOrder(Duration.ofSeconds(100), Duration.ofSeconds(400)));
+
+        compilation.moveTrack(3, 0);
+
+        assertEquals(List.of(middle, longTrack, shortTrack),
+                compilation.getTracksInDurationRangeInOrder(Duration.ofSeconds(100), Duration.ofSeconds(400)));
+        assertEquals(List.of(), compilation.getTracksInDurationRangeInOrder(Duration.ofSeconds(400), Duration.ofSeconds(500)));
+    }
+
+    @Test
+    void countTracksInDurationRange_ShouldCountTracksBeyondIndexedRange() {
+        MusicTrack regular = new MusicTrack("Regular", "Artist", MusicGenre.ROCK, Duration.ofSeconds(180));
+        compilation.addTrack(regular);
+        assertEquals(1, compilation.countTracksInDurationRange(Duration.ZERO, Duration.ofDays(30)));
+
+        compilation.addTrack(new MusicTrack("Marathon", "Artist", MusicGenre.ROCK, Duration.ofDays(7)));
+
+        assertEquals(2, compilation.countTracksInDurationRange(Duration.ZERO, Duration.ofDays(30)));
+        assertEquals(1, compilation.countTracksInDurationRange(Duration.ofDays(1), Duration.ofDays(30)));
+        assertEquals(Duration.ofSeconds(180),
+                compilation.getTotalDurationInRange(Duration.ZERO, Duration.ofHours(1)));
+    }
+
+    @Test
+    void getMinHashSignature_ShouldMatchFreshSignatureAfterChanges() {
+        MusicCompilation live = new MusicCompilation("Live");
+        List<MusicTrack> tracks = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            tracks.add(new MusicTrack("Song " + i, "Signature Artist", MusicGenre.ROCK, Duration.ofSeconds(100 + i)));
+        }
+        live.insertTracks(0, tracks.subList(0, 15));
+        live.getMinHashSignature();
+
+        live.removeTrack(3);
+        live.addTrack(tracks.get(15));
+        live.replaceTrack(0, tracks.get(16));
+        live.replaceAll(List.of(tracks.get(16), tracks.get(17), tracks.get(5), tracks.get(6)));
+        MusicTrack edited = live.getTrack(2);
+        edited.setTitle("Renamed");
+        live.trackUpdated(edited, edited.getGenre(), edited.getDuration());
+
+        MusicCompilation fresh = new MusicCompilation("Fresh");
+        fresh.insertTracks(0, live.getTracks());
+        assertArrayEquals(fresh.getMinHashSignature(), live.getMinHashSignature());
+        assertFalse(Arrays.equals(fresh.getMinHashSignature(),
+                new MusicCompilation("Empty").getMinHashSignature()));
+    }
+
     @Test
     void getName_ShouldReturnNull() {
         assertNull(compilation.getName());
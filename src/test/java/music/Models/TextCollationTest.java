@@ -0,0 +1,55 @@
+package music.Models;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TextCollationTest {
+
+    @Test
+    void order_ShouldFollowUkrainianAlphabet() {
+        List<String> words = new ArrayList<>(List.of("яблуко", "Їжак", "іній", "ґанок", "гора", "Zebra", "apple", "єнот", "и"));
+
+        words.sort(TextCollation.ORDER);
+
+        assertEquals(List.of("apple", "Zebra", "гора", "ґанок", "єнот", "и", "іній", "Їжак", "яблуко"), words);
+    }
+
+    @Test
+    void compare_ShouldMatchOrderOfStrings() {
+        assertTrue(TextCollation.compare(TextCollation.sortKey("гава"), TextCollation.sortKey("ґава")) < 0);
+        assertTrue(TextCollation.compare(TextCollation.sortKey("гора"), TextCollation.sortKey("Гора")) < 0);
+        assertEquals(0, TextCollation.compare(TextCollation.sortKey("Пісня"), TextCollation.sortKey("Пісня")));
+        assertThrows(IllegalArgumentException.class, () -> TextCollation.sortKey(null));
+    }
+
+    @Test
+    void getTitleSortKey_ShouldBeCachedUntilTitleChanges() {
+        MusicTrack track = new MusicTrack("Ґанок", "Collation Artist", MusicGenre.POP, Duration.ofSeconds(60));
+        byte[] key = track.getTitleSortKey();
+
+        assertSame(key, track.getTitleSortKey());
+        track.setTitle("Арка");
+        assertArrayEquals(TextCollation.sortKey("Арка"), track.getTitleSortKey());
+    }
+
+    @Test
+    void byTitle_ShouldUseUpdatedTitleAfterRename() {
+        MusicCompilation first = new MusicCompilation("Ґрунт");
+        MusicCompilation second = new MusicCompilation("Гроза");
+        List<MusicCompilation> compilations = new ArrayList<>(List.of(first, second));
+
+        compilations.sort(MusicCompilation.BY_TITLE);
+        assertEquals(List.of(second, first), compilations);
+
+        second.setTitle("Яр");
+        compilations.sort(MusicCompilation.BY_TITLE);
+        assertEquals(List.of(first, second), compilations);
+        assertArrayEquals(TextCollation.sortKey("Collation Artist"),
+                ArtistRegistry.sortKey(ArtistRegistry.idOf("Collation Artist")));
+    }
+}
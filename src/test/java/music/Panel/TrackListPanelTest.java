@@ -112,6 +112,22 @@ class TrackListPanelTest {
         }
     }
 
+    @Test
+    void testFilterTracksByDurationKeepsCompilationOrder() {
+        MusicTrack longTrack = new MusicTrack("Long", "Artist 3", MusicGenre.JAZZ, Duration.ofMinutes(4));
+        MusicTrack shortTrack = new MusicTrack("Short", "Artist 4", MusicGenre.JAZZ, Duration.ofMinutes(2));
+        compilation.addTrack(longTrack);
+        compilation.addTrack(shortTrack);
+
+        try (MockedStatic<JOptionPane> mocked = Mockito.mockStatic(JOptionPane.class)) {
+            trackListPanel.filterTracksByDuration(Duration.ofMinutes(2), Duration.ofMinutes(4), headerPanel);
+
+            assertEquals(List.of(compilation.getTracks().get(0), longTrack, shortTrack),
+                    List.of(trackListPanel.getTrackListModel().toArray()));
+            verify(headerPanel).updateFilterInfo(3, 9L, 540L, 2L, 120L, 4L, 240L);
+        }
+    }
+
     @Test
     void testFilterTracksByDurationNoResults() {
         Duration min = Duration.ofMinutes(10);
@@ -176,19 +192,6 @@ class TrackListPanelTest {
         assertEquals(2, trackListPanel.getTrackListModel().size());
     }
 
-    @Test
-    void testCalculateFilteredTotalDuration() {
-        Duration duration = trackListPanel.calculateFilteredTotalDuration();
-        assertEquals(Duration.ofMinutes(8).getSeconds(), duration.getSeconds());
-    }
-
-    @Test
-    void testCalculateFilteredTotalDurationEmptyList() {
-        trackListPanel.getTrackListModel().clear();
-        Duration duration = trackListPanel.calculateFilteredTotalDuration();
-        assertEquals(Duration.ZERO, duration);
-    }
-
     @Test
     void testMouseDoubleClickOnTrack() {
         JList<MusicTrack> trackList = trackListPanel.getTrackList();
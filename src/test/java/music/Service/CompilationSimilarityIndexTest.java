@@ -0,0 +1,85 @@
+package music.Service;
+
+import music.Models.MusicCompilation;
+import music.Models.MusicGenre;
+import music.Models.MusicTrack;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompilationSimilarityIndexTest {
+
+    @Test
+    void findSimilar_ShouldReturnOverlappingCompilationsOnly() {
+        MusicCompilation query = compilation("Запит", 0, 20);
+        MusicCompilation close = compilation("Близька", 2, 22);
+        MusicCompilation partial = compilation("Часткова", 5, 25);
+        List<MusicCompilation> library = new ArrayList<>(List.of(query, close, partial));
+        for (int i = 0; i < 200; i++) {
+            library.add(compilation("Інша " + i, 1000 + i * 20, 1020 + i * 20));
+        }
+        CompilationSimilarityIndex index = new CompilationSimilarityIndex();
+        index.refresh(library);
+
+        List<CompilationMatch> matches = index.findSimilar(query, 0.2, 10);
+
+        assertEquals(List.of(close, partial), matches.stream().map(CompilationMatch::other).toList());
+        // Точний коефіцієнт Жаккара: 18/22 і 15/25.
+        assertEquals(18.0 / 22, matches.get(0).similarity(), 0.15);
+        assertEquals(15.0 / 25, matches.get(1).similarity(), 0.15);
+        assertEquals(1, index.findSimilar(query, 0.2, 1).size());
+    }
+
+    @Test
+    void findNearDuplicates_ShouldReturnEachPairOnce() {
+        List<MusicCompilation> library = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            library.add(compilation("Збірка " + i, i * 15, i * 15 + 15));
+        }
+        MusicCompilation copy = compilation("Копія", 150, 165);
+        library.add(copy);
+        library.add(new MusicCompilation("Порожня"));
+        CompilationSimilarityIndex index = new CompilationSimilarityIndex();
+        index.refresh(library);
+
+        List<CompilationMatch> matches = index.findNearDuplicates(0.8);
+
+        assertEquals(1, matches.size());
+        assertSame(library.get(10), matches.get(0).compilation());
+        assertSame(copy, matches.get(0).other());
+        assertEquals(1.0, matches.get(0).similarity());
+        assertEquals(301, index.size());
+    }
+
+    @Test
+    void refresh_ShouldReindexChangedAndDropRemovedCompilations() {
+        MusicCompilation first = compilation("Перша", 0, 10);
+        MusicCompilation second = compilation("Друга", 100, 110);
+        CompilationSimilarityIndex index = new CompilationSimilarityIndex();
+        index.refresh(List.of(first, second));
+        assertTrue(index.findSimilar(first, 0.5, 10).isEmpty());
+
+        second.replaceAll(compilation("Тимчасова", 0, 10).getTracks());
+        index.refresh(List.of(first, second));
+        assertEquals(List.of(second), index.findSimilar(first, 0.5, 10).stream().map(CompilationMatch::other).toList());
+
+        index.refresh(List.of(first));
+        assertTrue(index.findSimilar(first, 0.5, 10).isEmpty());
+        assertEquals(1, index.size());
+        assertThrows(IllegalArgumentException.class, () -> index.findSimilar(first, 1.5, 10));
+        assertThrows(IllegalArgumentException.class, () -> index.refresh(null));
+    }
+
+    private static MusicCompilation compilation(String title, int from, int to) {
+        MusicCompilation compilation = new MusicCompilation(title);
+        for (int i = from; i < to; i++) {
+            compilation.addTrack(new MusicTrack("Song " + i, "Similarity Artist", MusicGenre.POP,
+                    Duration.ofSeconds(120 + i % 60)));
+        }
+        return compilation;
+    }
+}
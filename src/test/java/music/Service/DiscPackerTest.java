@@ -0,0 +1,115 @@
+package music.Service;
+
+import music.Models.MusicCompilation;
+import music.Models.MusicGenre;
+import music.Models.MusicTrack;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DiscPackerTest {
+    private final MusicCompilationService compilationService = new MusicCompilationService();
+
+    @Test
+    void splitIntoDiscs_ShouldImproveOnFirstFitDecreasing() {
+        // First-fit decreasing кладе 4+4 на перший диск і потребує трьох дисків, оптимум — два.
+        MusicCompilation compilation = compilation("Альбом", "Disc Artist", 4, 4, 3, 3, 3, 3);
+
+        List<MusicCompilation> discs = compilationService.splitIntoDiscs(compilation,
+                DiscSplitOptions.of(Duration.ofSeconds(10), DiscSplitOptions.Mode.ANY_ORDER));
+
+        assertEquals(2, discs.size());
+        assertEquals("Альбом — Диск 1", discs.get(0).getTitle());
+        assertEquals("Альбом — Диск 2", discs.get(1).getTitle());
+        assertEquals("T0", discs.get(0).getTrack(0).getTitle());
+        for (MusicCompilation disc : discs) {
+            assertEquals(Duration.ofSeconds(10), disc.getTotalDuration());
+        }
+        assertEquals(6, compilation.getTrackCount());
+    }
+
+    @Test
+    void splitIntoDiscs_ShouldKeepOrderWhenRequested() {
+        MusicCompilation compilation = compilation("Альбом", "Disc Artist", 6, 5, 4, 5, 2);
+
+        List<MusicCompilation> discs = compilationService.splitIntoDiscs(compilation,
+                DiscSplitOptions.of(Duration.ofSeconds(10), DiscSplitOptions.Mode.PRESERVE_ORDER));
+
+        assertEquals(List.of(List.of("T0"), List.of("T1", "T2"), List.of("T3", "T4")), titles(discs));
+    }
+
+    @Test
+    void splitIntoDiscs_ShouldKeepArtistTracksTogether() {
+        MusicCompilation compilation = new MusicCompilation("Альбом");
+        compilation.addTrack(new MusicTrack("A1", "Group Artist A", MusicGenre.ROCK, Duration.ofSeconds(3)));
+        compilation.addTrack(new MusicTrack("B1", "Group Artist B", MusicGenre.ROCK, Duration.ofSeconds(6)));
+        compilation.addTrack(new MusicTrack("A2", "Group Artist A", MusicGenre.ROCK, Duration.ofSeconds(3)));
+        compilation.addTrack(new MusicTrack("C1", "Group Artist C", MusicGenre.ROCK, Duration.ofSeconds(4)));
+        compilation.addTrack(new MusicTrack("B2", "Group Artist B", MusicGenre.ROCK, Duration.ofSeconds(4)));
+
+        List<MusicCompilation> discs = compilationService.splitIntoDiscs(compilation,
+                DiscSplitOptions.of(Duration.ofSeconds(10), DiscSplitOptions.Mode.GROUP_BY_ARTIST));
+
+        assertEquals(List.of(List.of("A1", "A2", "C1"), List.of("B1", "B2")), titles(discs));
+    }
+
+    @Test
+    void splitIntoDiscs_ShouldFitEveryTrackOnLargeRandomCompilation() {
+        Random random = new Random(3);
+        int[] seconds = new int[300];
+        long total = 0;
+        for (int i = 0; i < seconds.length; i++) {
+            seconds[i] = 120 + random.nextInt(400);
+            total += seconds[i];
+        }
+        MusicCompilation compilation = compilation("Велика", "Disc Artist", seconds);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            List<MusicCompilation> discs = compilationService.splitIntoDiscs(compilation,
+                    new DiscSplitOptions(DiscSplitOptions.CD_80, DiscSplitOptions.Mode.ANY_ORDER, Duration.ofMillis(300)),
+                    pool);
+
+            int tracks = 0;
+            for (MusicCompilation disc : discs) {
+                assertTrue(disc.getTotalDuration().compareTo(DiscSplitOptions.CD_80) <= 0);
+                tracks += disc.getTrackCount();
+            }
+            assertEquals(seconds.length, tracks);
+            assertEquals((total + 4799) / 4800, discs.size());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void splitIntoDiscs_ShouldRejectTrackLongerThanDisc() {
+        MusicCompilation compilation = compilation("Альбом", "Disc Artist", 11);
+
+        assertThrows(IllegalArgumentException.class, () -> compilationService.splitIntoDiscs(compilation,
+                DiscSplitOptions.of(Duration.ofSeconds(10), DiscSplitOptions.Mode.ANY_ORDER)));
+        assertThrows(IllegalArgumentException.class, () -> DiscSplitOptions.of(Duration.ZERO,
+                DiscSplitOptions.Mode.ANY_ORDER));
+        assertTrue(compilationService.splitIntoDiscs(new MusicCompilation("Порожня"),
+                DiscSplitOptions.of(DiscSplitOptions.CD_74, DiscSplitOptions.Mode.ANY_ORDER)).isEmpty());
+    }
+
+    private static MusicCompilation compilation(String title, String artist, int... seconds) {
+        MusicCompilation compilation = new MusicCompilation(title);
+        List<MusicTrack> tracks = new ArrayList<>();
+        for (int i = 0; i < seconds.length; i++) {
+            tracks.add(new MusicTrack("T" + i, artist, MusicGenre.POP, Duration.ofSeconds(seconds[i])));
+        }
+        compilation.replaceAll(tracks);
+        return compilation;
+    }
+
+    private static List<List<String>> titles(List<MusicCompilation> discs) {
+        return discs.stream().map(disc -> disc.getTrackView().stream().map(MusicTrack::getTitle).toList()).toList();
+    }
+}
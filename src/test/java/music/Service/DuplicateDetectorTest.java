@@ -0,0 +1,94 @@
+package music.Service;
+
+import music.Models.MusicCompilation;
+import music.Models.MusicGenre;
+import music.Models.MusicTrack;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DuplicateDetectorTest {
+    private final MusicCompilationService compilationService = new MusicCompilationService();
+
+    @Test
+    void normalizeText_ShouldIgnoreCasePunctuationAndFeaturingSpelling() {
+        assertEquals("song feat b", DuplicateDetector.normalizeText("  SONG (ft. B) "));
+        assertEquals("song feat b", DuplicateDetector.normalizeText("Song [featuring B]"));
+        assertEquals("dont stop", DuplicateDetector.normalizeText("Don't   Stop!"));
+        assertEquals("", DuplicateDetector.normalizeText("..."));
+    }
+
+    @Test
+    void findDuplicateClusters_ShouldGroupNearDuplicatesAcrossCompilations() {
+        MusicTrack original = new MusicTrack("Bohemian Rhapsody", "Queen", MusicGenre.ROCK, Duration.ofSeconds(354));
+        MusicTrack typo = new MusicTrack("Bohemian Rapsody", "queen ", MusicGenre.ROCK, Duration.ofSeconds(355));
+        MusicTrack featured = new MusicTrack("Song", "Dup Artist feat. Guest", MusicGenre.POP, Duration.ofSeconds(200));
+        MusicTrack featuredInTitle = new MusicTrack("Song (ft. Guest)", "Dup Artist", MusicGenre.POP, Duration.ofSeconds(201));
+        MusicTrack tooLong = new MusicTrack("Bohemian Rhapsody", "Queen", MusicGenre.ROCK, Duration.ofSeconds(370));
+        MusicTrack otherArtist = new MusicTrack("Bohemian Rhapsody", "Panic", MusicGenre.ROCK, Duration.ofSeconds(354));
+        MusicCompilation first = new MusicCompilation("Перша");
+        first.addTrack(original);
+        first.addTrack(featured);
+        first.addTrack(tooLong);
+        MusicCompilation second = new MusicCompilation("Друга");
+        second.addTrack(otherArtist);
+        second.addTrack(featuredInTitle);
+        second.addTrack(typo);
+
+        List<DuplicateCluster> clusters = compilationService.findDuplicateClusters(List.of(first, second));
+
+        assertEquals(2, clusters.size());
+        assertEquals(List.of(original, typo), clusters.get(0).occurrences().stream()
+                .map(DuplicateCluster.Occurrence::track).toList());
+        assertSame(first, clusters.get(0).keeper().compilation());
+        assertEquals(1, clusters.get(0).duplicates().get(0).compilationIndex());
+        assertEquals(2, clusters.get(0).duplicates().get(0).trackIndex());
+        assertTrue(clusters.get(0).similarity() < 1.0);
+        assertEquals(List.of(featured, featuredInTitle), clusters.get(1).occurrences().stream()
+                .map(DuplicateCluster.Occurrence::track).toList());
+    }
+
+    @Test
+    void findDuplicateClusters_ShouldChainMatchesIntoOneClusterInParallel() {
+        List<MusicCompilation> compilations = new ArrayList<>();
+        for (int c = 0; c < 20; c++) {
+            MusicCompilation compilation = new MusicCompilation("Збірка " + c);
+            for (int t = 0; t < 500; t++) {
+                compilation.addTrack(new MusicTrack("Unique Title " + c + "-" + t, "Chain Artist " + (t % 50),
+                        MusicGenre.JAZZ, Duration.ofSeconds(60 + t)));
+            }
+            compilation.addTrack(new MusicTrack("Repeated Song", "Chain Artist", MusicGenre.JAZZ,
+                    Duration.ofSeconds(1000 + c)));
+            compilations.add(compilation);
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            List<DuplicateCluster> clusters = compilationService.findDuplicateClusters(compilations,
+                    Duration.ofSeconds(1), 1.0, pool);
+
+            assertEquals(1, clusters.size());
+            assertEquals(20, clusters.get(0).occurrences().size());
+            assertEquals(1.0, clusters.get(0).similarity());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void findDuplicateClusters_ShouldRejectInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> compilationService.findDuplicateClusters(null));
+        assertThrows(IllegalArgumentException.class, () -> compilationService.findDuplicateClusters(List.of(),
+                Duration.ofSeconds(-1), 0.8, ForkJoinPool.commonPool()));
+        assertThrows(IllegalArgumentException.class, () -> compilationService.findDuplicateClusters(List.of(),
+                Duration.ZERO, 0, ForkJoinPool.commonPool()));
+        assertThrows(IllegalArgumentException.class, () -> compilationService.findDuplicateClusters(List.of(),
+                Duration.ZERO, 0.8, null));
+        assertTrue(compilationService.findDuplicateClusters(List.of()).isEmpty());
+    }
+}
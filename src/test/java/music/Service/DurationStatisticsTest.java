@@ -0,0 +1,108 @@
+package music.Service;
+
+import music.Models.MusicCompilation;
+import music.Models.MusicGenre;
+import music.Models.MusicTrack;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DurationStatisticsTest {
+    private final MusicCompilationService compilationService = new MusicCompilationService();
+
+    @Test
+    void collectDurationStatistics_ShouldComputeMomentsAndPercentiles() {
+        List<MusicTrack> tracks = new ArrayList<>();
+        for (int seconds : new int[]{100, 200, 300, 400}) {
+            tracks.add(new MusicTrack("T" + seconds, "Stats Artist", MusicGenre.ROCK, Duration.ofSeconds(seconds)));
+        }
+
+        DurationStatistics statistics = compilationService.collectDurationStatistics(tracks);
+
+        assertEquals(4, statistics.getCount());
+        assertEquals(Duration.ofSeconds(1000), statistics.getTotal());
+        assertEquals(Duration.ofSeconds(100), statistics.getMin());
+        assertEquals(Duration.ofSeconds(400), statistics.getMax());
+        assertEquals(Duration.ofSeconds(250), statistics.getMean());
+        assertEquals(12_500, statistics.getVariance(), 1e-6);
+        assertEquals(200, statistics.getMedian().getSeconds(), 1);
+        assertEquals(Duration.ofSeconds(400), statistics.getPercentile(99));
+        assertEquals(Duration.ofSeconds(100), statistics.getPercentile(0));
+    }
+
+    @Test
+    void collectLibraryDurationStatistics_ShouldMatchSinglePass() {
+        Random random = new Random(49);
+        List<MusicCompilation> compilations = new ArrayList<>();
+        List<MusicTrack> allTracks = new ArrayList<>();
+        for (int c = 0; c < 40; c++) {
+            MusicCompilation compilation = new MusicCompilation("Збірка " + c);
+            for (int t = random.nextInt(30); t > 0; t--) {
+                MusicTrack track = new MusicTrack("T", "Stats Artist", MusicGenre.POP,
+                        Duration.ofSeconds(30 + random.nextInt(900)));
+                compilation.addTrack(track);
+                allTracks.add(track);
+            }
+            compilations.add(compilation);
+        }
+        DurationStatistics expected = compilationService.collectDurationStatistics(allTracks);
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            DurationStatistics library = compilationService.collectLibraryDurationStatistics(compilations, pool);
+
+            assertEquals(expected.getCount(), library.getCount());
+            assertEquals(expected.getTotal(), library.getTotal());
+            assertEquals(expected.getMin(), library.getMin());
+            assertEquals(expected.getMax(), library.getMax());
+            assertEquals(expected.getVariance(), library.getVariance(), 1e-6 * expected.getVariance());
+            for (int percent : new int[]{50, 90, 99}) {
+                assertEquals(expected.getPercentile(percent), library.getPercentile(percent));
+            }
+            assertEquals(expected.getHistogramBucketCount(), library.getHistogramBucketCount());
+            for (int bucket = 0; bucket < expected.getHistogramBucketCount(); bucket++) {
+                assertEquals(expected.getHistogramCount(bucket), library.getHistogramCount(bucket));
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void getHistogramCount_ShouldCountTracksPerBucket() {
+        List<MusicTrack> tracks = new ArrayList<>();
+        for (int seconds : new int[]{1, 29, 30, 95, 95}) {
+            tracks.add(new MusicTrack("T" + seconds, "Stats Artist", MusicGenre.JAZZ, Duration.ofSeconds(seconds)));
+        }
+
+        DurationStatistics statistics = compilationService.collectDurationStatistics(tracks);
+
+        assertEquals(4, statistics.getHistogramBucketCount());
+        assertEquals(2, statistics.getHistogramCount(0));
+        assertEquals(1, statistics.getHistogramCount(1));
+        assertEquals(0, statistics.getHistogramCount(2));
+        assertEquals(2, statistics.getHistogramCount(3));
+        assertEquals(0, statistics.getHistogramCount(100));
+        assertEquals(0, compilationService.collectDurationStatistics(List.of()).getHistogramBucketCount());
+        assertThrows(IllegalArgumentException.class, () -> statistics.getHistogramCount(-1));
+    }
+
+    @Test
+    void getPercentile_ShouldHandleEmptyAndRejectInvalidArguments() {
+        DurationStatistics empty = compilationService.collectDurationStatistics(List.of());
+
+        assertEquals(Duration.ZERO, empty.getMedian());
+        assertEquals(Duration.ZERO, empty.getMin());
+        assertEquals(0, empty.getVariance());
+        assertThrows(IllegalArgumentException.class, () -> empty.getPercentile(101));
+        assertThrows(IllegalArgumentException.class, () -> compilationService.collectDurationStatistics(null));
+        assertThrows(IllegalArgumentException.class,
+                () -> compilationService.collectLibraryDurationStatistics(List.of(), null));
+    }
+}
@@ -0,0 +1,91 @@
+package music.Service;
+
+import music.Models.MusicCompilation;
+import music.Models.MusicGenre;
+import music.Models.MusicTrack;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LibraryStatisticsTest {
+    private final MusicCompilationService compilationService = new MusicCompilationService();
+
+    @Test
+    void calculateLibraryStatistics_ShouldAggregateAllCompilations() {
+        MusicCompilation rock = new MusicCompilation("Рок");
+        rock.setId(1L);
+        rock.addTrack(new MusicTrack("A", "Lib Artist 1", MusicGenre.ROCK, Duration.ofSeconds(100)));
+        rock.addTrack(new MusicTrack("B", "Lib Artist 1", MusicGenre.ROCK, Duration.ofSeconds(200)));
+        rock.addTrack(new MusicTrack("C", "Lib Artist 2", MusicGenre.POP, Duration.ofSeconds(300)));
+        MusicCompilation jazz = new MusicCompilation("Джаз");
+        jazz.addTrack(new MusicTrack("D", "Lib Artist 3", MusicGenre.JAZZ, Duration.ofSeconds(400)));
+        MusicCompilation empty = new MusicCompilation("Порожня");
+
+        LibraryStatistics statistics = compilationService.calculateLibraryStatistics(List.of(rock, jazz, empty), 2);
+
+        assertEquals(4, statistics.getTrackCount());
+        assertEquals(Duration.ofSeconds(1000), statistics.getTotalDuration());
+        assertEquals(Map.of(MusicGenre.ROCK, 2L, MusicGenre.POP, 1L, MusicGenre.JAZZ, 1L), statistics.getGenreCounts());
+        assertEquals(List.of(new AbstractMap.SimpleImmutableEntry<>("Lib Artist 1", 2L),
+                new AbstractMap.SimpleImmutableEntry<>("Lib Artist 2", 1L)), statistics.getTopArtists());
+        assertEquals(Duration.ofSeconds(200), statistics.getMedianDuration());
+        assertEquals(Duration.ofSeconds(100), statistics.getDurationPercentile(0));
+        assertEquals(Duration.ofSeconds(400), statistics.getDurationPercentile(100));
+        assertEquals(List.of(
+                new LibraryStatistics.CompilationSummary("Рок", 1L, 3, Duration.ofSeconds(600), MusicGenre.ROCK),
+                new LibraryStatistics.CompilationSummary("Джаз", null, 1, Duration.ofSeconds(400), MusicGenre.JAZZ),
+                new LibraryStatistics.CompilationSummary("Порожня", null, 0, Duration.ZERO, null)),
+                statistics.getCompilationSummaries());
+    }
+
+    @Test
+    void calculateLibraryStatistics_ShouldMatchSequentialResultWhenSplit() {
+        List<MusicCompilation> compilations = new ArrayList<>();
+        long expectedSeconds = 0;
+        int trackCount = 0;
+        for (int c = 0; c < 40; c++) {
+            MusicCompilation compilation = new MusicCompilation("Збірка " + c);
+            List<MusicTrack> tracks = new ArrayList<>();
+            for (int t = 0; t < LibraryAggregationTask.LEAF_TRACKS / 8; t++) {
+                int seconds = (c * 31 + t) % 600 + 1;
+                tracks.add(new MusicTrack("T" + t, "Split Artist " + (t % 7), MusicGenre.values()[t % 3],
+                        Duration.ofSeconds(seconds)));
+                expectedSeconds += seconds;
+            }
+            compilation.replaceAll(tracks);
+            trackCount += tracks.size();
+            compilations.add(compilation);
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            LibraryStatistics statistics = compilationService.calculateLibraryStatistics(compilations, 3, pool);
+
+            assertEquals(trackCount, statistics.getTrackCount());
+            assertEquals(Duration.ofSeconds(expectedSeconds), statistics.getTotalDuration());
+            assertEquals(40, statistics.getCompilationSummaries().size());
+            assertEquals("Збірка 39", statistics.getCompilationSummaries().get(39).title());
+            assertEquals(3, statistics.getTopArtists().size());
+            assertEquals("Split Artist 0", statistics.getTopArtists().get(0).getKey());
+            assertEquals(Duration.ofSeconds(600), statistics.getDurationPercentile(100));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void calculateLibraryStatistics_ShouldRejectInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> compilationService.calculateLibraryStatistics(null, 5));
+        assertThrows(IllegalArgumentException.class, () -> compilationService.calculateLibraryStatistics(List.of(), -1));
+        LibraryStatistics statistics = compilationService.calculateLibraryStatistics(List.of(), 5);
+        assertEquals(Duration.ZERO, statistics.getMedianDuration());
+        assertThrows(IllegalArgumentException.class, () -> statistics.getDurationPercentile(101));
+    }
+}
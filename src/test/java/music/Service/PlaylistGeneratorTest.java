@@ -0,0 +1,82 @@
+package music.Service;
+
+import music.Models.MusicCompilation;
+import music.Models.MusicGenre;
+import music.Models.MusicTrack;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PlaylistGeneratorTest {
+    private final MusicCompilationService compilationService = new MusicCompilationService();
+
+    @Test
+    void generatePlaylist_ShouldHitTargetUsingAllowedTracksOnly() {
+        List<MusicTrack> library = List.of(
+                new MusicTrack("A", "Playlist Artist", MusicGenre.ROCK, Duration.ofSeconds(100)),
+                new MusicTrack("B", "Playlist Artist", MusicGenre.POP, Duration.ofSeconds(200)),
+                new MusicTrack("C", "Playlist Artist", MusicGenre.ROCK, Duration.ofSeconds(250)),
+                new MusicTrack("D", "Other Artist", MusicGenre.ROCK, Duration.ofSeconds(50)),
+                new MusicTrack("E", "Playlist Artist", MusicGenre.ROCK, Duration.ofSeconds(50)));
+        PlaylistCriteria criteria = PlaylistCriteria.of(Duration.ofSeconds(400), Duration.ZERO)
+                .withGenres(Set.of(MusicGenre.ROCK))
+                .withArtists(Set.of("playlist artist "));
+
+        MusicCompilation playlist = compilationService.generatePlaylist("Шоу", library, criteria, new Random(1));
+
+        assertEquals("Шоу", playlist.getTitle());
+        assertEquals(Duration.ofSeconds(400), playlist.getTotalDuration());
+        assertEquals(List.of("A", "C", "E"), playlist.getTrackView().stream().map(MusicTrack::getTitle).toList());
+        assertNull(playlist.getTrack(0).getId());
+        assertNotSame(library.get(0), playlist.getTrack(0));
+    }
+
+    @Test
+    void generatePlaylist_ShouldReturnNullWhenTargetIsUnreachable() {
+        List<MusicTrack> library = List.of(
+                new MusicTrack("A", "Playlist Artist", MusicGenre.JAZZ, Duration.ofSeconds(100)),
+                new MusicTrack("B", "Playlist Artist", MusicGenre.JAZZ, Duration.ofSeconds(100)));
+
+        assertNull(compilationService.generatePlaylist("Шоу", library,
+                PlaylistCriteria.of(Duration.ofSeconds(150), Duration.ofSeconds(40)), new Random(1)));
+        MusicCompilation withinTolerance = compilationService.generatePlaylist("Шоу", library,
+                PlaylistCriteria.of(Duration.ofSeconds(160), Duration.ofSeconds(45)), new Random(1));
+        assertEquals(Duration.ofSeconds(200), withinTolerance.getTotalDuration());
+    }
+
+    @Test
+    void generatePlaylist_ShouldSolveLargeLibraryWithinTolerance() {
+        Random random = new Random(7);
+        List<MusicTrack> library = new ArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            library.add(new MusicTrack("T" + i, "Big Artist " + (i % 100), MusicGenre.values()[i % 3],
+                    Duration.ofSeconds(120 + random.nextInt(300))));
+        }
+        PlaylistCriteria criteria = PlaylistCriteria.of(Duration.ofMinutes(60), Duration.ofSeconds(5));
+
+        MusicCompilation first = compilationService.generatePlaylist("Година", library, criteria, new Random(1));
+        MusicCompilation second = compilationService.generatePlaylist("Година", library, criteria, new Random(2));
+
+        assertEquals(Duration.ofMinutes(60), first.getTotalDuration());
+        assertEquals(Duration.ofMinutes(60), second.getTotalDuration());
+        assertNotEquals(first.getTrackView().stream().map(MusicTrack::getTitle).toList(),
+                second.getTrackView().stream().map(MusicTrack::getTitle).toList());
+    }
+
+    @Test
+    void playlistCriteria_ShouldRejectInvalidValues() {
+        assertThrows(IllegalArgumentException.class, () -> PlaylistCriteria.of(Duration.ZERO, Duration.ZERO));
+        assertThrows(IllegalArgumentException.class, () -> PlaylistCriteria.of(Duration.ofHours(25), Duration.ZERO));
+        assertThrows(IllegalArgumentException.class, () -> PlaylistCriteria.of(Duration.ofSeconds(60), Duration.ofSeconds(60)));
+        assertThrows(IllegalArgumentException.class, () -> PlaylistCriteria.of(Duration.ofSeconds(60), Duration.ZERO)
+                .withArtists(Set.of(" ")));
+        assertThrows(IllegalArgumentException.class, () -> compilationService.generatePlaylist(" ", List.of(),
+                PlaylistCriteria.of(Duration.ofSeconds(60), Duration.ZERO), new Random()));
+    }
+}
@@ -0,0 +1,105 @@
+package music.Service;
+
+import music.Models.MusicCompilation;
+import music.Models.MusicGenre;
+import music.Models.MusicTrack;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TrackQueryTest {
+    private final List<MusicTrack> tracks = List.of(
+            new MusicTrack("Bohemian Rhapsody", "Query Queen", MusicGenre.ROCK, Duration.ofSeconds(354)),
+            new MusicTrack("Bohemian Rhapsody (Live)", "Query Queen", MusicGenre.ROCK, Duration.ofSeconds(362)),
+            new MusicTrack("Under Pressure", "Query Queen", MusicGenre.ROCK, Duration.ofSeconds(248)),
+            new MusicTrack("So What", "Query Davis", MusicGenre.JAZZ, Duration.ofSeconds(562)),
+            new MusicTrack("Pressure Drop", "Query Toots", MusicGenre.REGGAE, Duration.ofSeconds(225)));
+
+    @Test
+    void parse_ShouldCombineFieldsNegationAndRange() {
+        TrackQuery query = TrackQuery.parse("artist:\"query queen\" genre:rock dur:5m..6m -live");
+
+        assertEquals(List.of("Bohemian Rhapsody"), titles(query.filter(tracks)));
+    }
+
+    @Test
+    void parse_ShouldMatchPhraseAndFreeText() {
+        assertEquals(List.of("Under Pressure"), titles(TrackQuery.parse("\"under pressure\"").filter(tracks)));
+        assertEquals(List.of("Under Pressure", "Pressure Drop"), titles(TrackQuery.parse("pressure").filter(tracks)));
+        assertEquals(List.of("So What"), titles(TrackQuery.parse("JAZZ").filter(tracks)));
+        assertEquals(List.of("So What", "Pressure Drop"), titles(TrackQuery.parse("genre:jazz|reggae").filter(tracks)));
+    }
+
+    @Test
+    void parse_ShouldTreatSingleDurationAsItsUnit() {
+        assertArrayEquals(new long[]{180, 239}, SearchQuery.parseDurationRange("3m"));
+        assertArrayEquals(new long[]{210, 210}, SearchQuery.parseDurationRange("3:30"));
+        assertArrayEquals(new long[]{211, Long.MAX_VALUE}, SearchQuery.parseDurationRange(">3m30s"));
+        assertArrayEquals(new long[]{0, 300}, SearchQuery.parseDurationRange("..5m"));
+        assertEquals(List.of("So What"), titles(TrackQuery.parse("dur:9m").filter(tracks)));
+    }
+
+    @Test
+    void parse_ShouldRejectInvalidRange() {
+        assertThrows(IllegalArgumentException.class, () -> TrackQuery.parse("dur:abc"));
+        assertThrows(IllegalArgumentException.class, () -> TrackQuery.parse(null));
+    }
+
+    @Test
+    void parse_ShouldKeepUnknownFieldsAsText() {
+        assertTrue(TrackQuery.parse("").isEmpty());
+        MusicTrack track = new MusicTrack("Time: 3:30", "Query Clock", MusicGenre.POP, Duration.ofSeconds(60));
+        assertTrue(TrackQuery.parse("time:").matches(track));
+    }
+
+    @Test
+    void search_ShouldMatchFullScan() {
+        Random random = new Random(48);
+        MusicGenre[] genres = MusicGenre.values();
+        List<MusicTrack> library = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            library.add(new MusicTrack("Song " + i, "Index Artist " + random.nextInt(20),
+                    genres[random.nextInt(genres.length)], Duration.ofSeconds(60 + random.nextInt(600))));
+        }
+        TrackSearchIndex<MusicTrack> index = new TrackSearchIndex<>(library);
+        for (String text : List.of("artist:\"index artist 7\"", "genre:rock dur:3m..5m", "dur:>8m -genre:pop",
+                "song 1 artist:\"index artist 1\"|\"index artist 2\"", "-dur:2m..9m", "song")) {
+            TrackQuery query = TrackQuery.parse(text);
+            assertEquals(query.filter(library), index.search(query), text);
+        }
+    }
+
+    @Test
+    void estimate_ShouldPreferMostSelectiveCondition() {
+        TrackSearchIndex<MusicTrack> index = new TrackSearchIndex<>(tracks);
+        List<TrackQuery.Node> conditions = TrackQuery.parse("genre:rock artist:\"query davis\" pressure").conditions();
+
+        assertEquals(3, index.estimate(conditions.get(0)));
+        assertEquals(1, index.estimate(conditions.get(1)));
+        assertEquals(-1, index.estimate(conditions.get(2)));
+    }
+
+    @Test
+    void compilationQuery_ShouldFilterByAggregates() {
+        MusicCompilation rock = new MusicCompilation("Rock Hits");
+        tracks.subList(0, 3).forEach(track -> rock.addTrack(new MusicTrack(track.getTitle(), track.getArtist(),
+                track.getGenre(), track.getDuration())));
+        MusicCompilation jazz = new MusicCompilation("Jazz Night");
+        jazz.addTrack(new MusicTrack("So What", "Query Davis", MusicGenre.JAZZ, Duration.ofSeconds(562)));
+
+        assertTrue(CompilationQuery.parse("genre:rock tracks:3").matches(rock));
+        assertFalse(CompilationQuery.parse("genre:rock").matches(jazz));
+        assertTrue(CompilationQuery.parse("artist:davis dur:<10m").matches(jazz));
+        assertFalse(CompilationQuery.parse("-night").matches(jazz));
+        assertTrue(CompilationQuery.parse("\"rock hits\" tracks:2..").matches(rock));
+    }
+
+    private static List<String> titles(List<MusicTrack> tracks) {
+        return tracks.stream().map(MusicTrack::getTitle).toList();
+    }
+}
@@ -0,0 +1,71 @@
+package music.Service;
+
+import music.Models.MusicGenre;
+import music.Models.MusicTrack;
+import music.Models.TextCollation;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TrackSorterTest {
+    private final MusicCompilationService compilationService = new MusicCompilationService();
+
+    @Test
+    void sort_ShouldApplyKeysInOrderAndKeepTiesStable() {
+        MusicTrack a = new MusicTrack("b", "Sort Artist B", MusicGenre.ROCK, Duration.ofSeconds(100));
+        MusicTrack b = new MusicTrack("a", "Sort Artist A", MusicGenre.ROCK, Duration.ofSeconds(300));
+        MusicTrack c = new MusicTrack("C", "sort artist b", MusicGenre.POP, Duration.ofSeconds(300));
+        MusicTrack d = new MusicTrack("a", "Sort Artist A", MusicGenre.JAZZ, Duration.ofSeconds(300));
+        List<MusicTrack> tracks = new ArrayList<>(List.of(a, b, c, d));
+
+        compilationService.sort(tracks, List.of(TrackSortKey.descending(TrackSortKey.Field.DURATION),
+                TrackSortKey.ascending(TrackSortKey.Field.TITLE)));
+        assertEquals(List.of(b, d, c, a), tracks);
+
+        // Імена, що відрізняються лише регістром, впорядковуються за колацією: нижній регістр першим.
+        compilationService.sort(tracks, List.of(TrackSortKey.ascending(TrackSortKey.Field.ARTIST)));
+        assertEquals(List.of(b, d, c, a), tracks);
+
+        compilationService.sort(tracks, List.of(TrackSortKey.ascending(TrackSortKey.Field.GENRE)));
+        assertEquals(List.of(d, c, b, a), tracks);
+    }
+
+    @Test
+    void sort_ShouldMatchComparatorWhenKeysNeedSeveralPasses() {
+        Random random = new Random(42);
+        List<MusicTrack> tracks = new ArrayList<>();
+        for (int i = 0; i < 3000; i++) {
+            tracks.add(new MusicTrack("Title " + random.nextInt(1500), "Pass Artist " + random.nextInt(40),
+                    MusicGenre.values()[random.nextInt(MusicGenre.values().length)],
+                    Duration.ofSeconds(1 + random.nextInt(900))));
+        }
+        List<TrackSortKey> keys = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            keys.add(TrackSortKey.ascending(TrackSortKey.Field.ARTIST));
+            keys.add(TrackSortKey.descending(TrackSortKey.Field.DURATION));
+            keys.add(TrackSortKey.ascending(TrackSortKey.Field.TITLE));
+        }
+        List<MusicTrack> expected = new ArrayList<>(tracks);
+        expected.sort(Comparator.comparing(MusicTrack::getArtist, TextCollation.ORDER)
+                .thenComparing(MusicTrack::getDuration, Comparator.reverseOrder())
+                .thenComparing(MusicTrack::getTitle, TextCollation.ORDER));
+
+        compilationService.sort(tracks, keys);
+
+        assertEquals(expected, tracks);
+    }
+
+    @Test
+    void sort_ShouldRejectNullKeys() {
+        List<MusicTrack> tracks = new ArrayList<>();
+        assertThrows(IllegalArgumentException.class, () -> compilationService.sort(tracks, null));
+        assertThrows(IllegalArgumentException.class, () -> compilationService.sort(null, List.of()));
+        assertThrows(IllegalArgumentException.class, () -> new TrackSortKey(null, false));
+    }
+}
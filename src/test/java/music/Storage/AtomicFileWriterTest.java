@@ -0,0 +1,72 @@
+package music.Storage;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AtomicFileWriterTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void write_ShouldCreateFileWithContent() throws IOException {
+        Path target = tempDir.resolve("library.dat");
+
+        AtomicFileWriter.write(target, out -> out.write("hello".getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals("hello", Files.readString(target));
+    }
+
+    @Test
+    void write_ShouldReplaceExistingFile() throws IOException {
+        Path target = tempDir.resolve("library.dat");
+        Files.writeString(target, "old");
+
+        AtomicFileWriter.write(target, out -> out.write("new".getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals("new", Files.readString(target));
+    }
+
+    @Test
+    void write_ShouldKeepOldFileAndRemoveTempFileWhenWriterFails() throws IOException {
+        Path target = tempDir.resolve("library.dat");
+        Files.writeString(target, "old");
+
+        assertThrows(IOException.class, () -> AtomicFileWriter.write(target, out -> {
+            out.write("partial".getBytes(StandardCharsets.UTF_8));
+            throw new IOException("Збій запису");
+        }));
+
+        assertEquals("old", Files.readString(target));
+        try (Stream<Path> files = Files.list(tempDir)) {
+            assertEquals(1, files.count());
+        }
+    }
+
+    @Test
+    void write_ShouldTolerateWriterClosingStream() throws IOException {
+        Path target = tempDir.resolve("library.dat");
+
+        AtomicFileWriter.write(target, out -> {
+            out.write(42);
+            out.close();
+        });
+
+        assertArrayEquals(new byte[]{42}, Files.readAllBytes(target));
+    }
+
+    @Test
+    void write_ShouldThrowWhenDirectoryDoesNotExist() {
+        Path target = tempDir.resolve("missing").resolve("library.dat");
+
+        assertThrows(IOException.class, () -> AtomicFileWriter.write(target, out -> out.write(1)));
+    }
+}
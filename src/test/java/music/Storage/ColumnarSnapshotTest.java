@@ -0,0 +1,142 @@
+package music.Storage;
+
+import music.Models.CompactTrack;
+import music.Models.MusicCompilation;
+import music.Models.MusicGenre;
+import music.Models.MusicTrack;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.IntBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ColumnarSnapshotTest {
+
+    @TempDir
+    Path tempDir;
+
+    private List<MusicCompilation> createLibrary() {
+        MusicCompilation rock = new MusicCompilation("Рок");
+        rock.setId(7L);
+        MusicTrack first = new MusicTrack("Bohemian Rhapsody", "Queen", MusicGenre.ROCK, Duration.ofSeconds(354));
+        first.setId(11L);
+        rock.addTrack(first);
+        rock.addTrack(new MusicTrack("Don't Stop Me Now", "Queen", MusicGenre.ROCK, Duration.ofSeconds(209)));
+
+        MusicCompilation mixed = new MusicCompilation("Мікс");
+        mixed.addTrack(new MusicTrack("Стефанія", "Kalush", MusicGenre.FOLK, Duration.ofSeconds(172)));
+        return List.of(rock, mixed);
+    }
+
+    @Test
+    void writeAndRead_ShouldRoundTripColumns() throws IOException {
+        Path file = tempDir.resolve("library.mcol");
+        ColumnarSnapshotWriter.write(createLibrary(), file);
+
+        try (ColumnarSnapshotReader reader = ColumnarSnapshotReader.open(file)) {
+            assertEquals(3, reader.getTrackCount());
+            assertEquals(2, reader.getCompilationCount());
+
+            IntBuffer durations = reader.durationSeconds();
+            assertEquals(354, durations.get(0));
+            assertEquals(209, durations.get(1));
+            assertEquals(172, durations.get(2));
+
+            assertEquals(MusicGenre.ROCK, reader.genre(0));
+            assertEquals(MusicGenre.FOLK, reader.genre(2));
+
+            IntBuffer artists = reader.artistIds();
+            assertEquals(artists.get(0), artists.get(1));
+            assertEquals(2, reader.getArtistCount());
+            assertEquals("Queen", reader.artist(artists.get(0)));
+            assertEquals("Kalush", reader.artist(artists.get(2)));
+
+            assertEquals("Стефанія", reader.title(reader.titleIds().get(2)));
+            assertEquals(1, reader.compilationIds().get(2));
+            assertEquals("Мікс", reader.compilationTitle(1));
+            assertEquals(7L, reader.compilationDbId(0));
+            assertEquals(-1L, reader.compilationDbId(1));
+            assertEquals(11L, reader.trackDbIds().get(0));
+            assertEquals(-1L, reader.trackDbIds().get(1));
+        }
+    }
+
+    @Test
+    void reader_ShouldMaterializeCompactTracks() throws IOException {
+        Path file = tempDir.resolve("library.mcol");
+        ColumnarSnapshotWriter.write(createLibrary(), file);
+
+        try (ColumnarSnapshotReader reader = ColumnarSnapshotReader.open(file)) {
+            CompactTrack first = reader.track(0);
+            CompactTrack second = reader.track(1);
+
+            assertEquals("Bohemian Rhapsody", first.getTitle());
+            assertEquals(354, first.getDurationSeconds());
+            assertEquals(11L, first.getId());
+            assertFalse(second.hasId());
+            assertSame(first.getArtist(), second.getArtist());
+            assertEquals(MusicGenre.FOLK, reader.track(2).getGenre());
+        }
+    }
+
+    @Test
+    void reader_ShouldKeepTrackIdZero() throws IOException {
+        Path file = tempDir.resolve("library.mcol");
+        MusicCompilation compilation = new MusicCompilation("Нуль");
+        MusicTrack track = new MusicTrack("Zero", "Queen", MusicGenre.ROCK, Duration.ofSeconds(100));
+        track.setId(0L);
+        compilation.addTrack(track);
+        ColumnarSnapshotWriter.write(List.of(compilation), file);
+
+        try (ColumnarSnapshotReader reader = ColumnarSnapshotReader.open(file)) {
+            assertTrue(reader.track(0).hasId());
+            assertEquals(0L, reader.track(0).getId());
+        }
+    }
+
+    @Test
+    void reader_ShouldComputeAggregatesFromColumns() throws IOException {
+        Path file = tempDir.resolve("library.mcol");
+        ColumnarSnapshotWriter.write(createLibrary(), file);
+
+        try (ColumnarSnapshotReader reader = ColumnarSnapshotReader.open(file)) {
+            assertEquals(354 + 209 + 172, reader.totalDurationSeconds());
+            int[] genres = reader.genreHistogram();
+            assertEquals(2, genres[MusicGenre.ROCK.ordinal()]);
+            assertEquals(1, genres[MusicGenre.FOLK.ordinal()]);
+            assertArrayEquals(new int[]{2, 1}, reader.artistTrackCounts());
+        }
+    }
+
+    @Test
+    void writeAndRead_ShouldHandleEmptyLibrary() throws IOException {
+        Path file = tempDir.resolve("empty.mcol");
+        ColumnarSnapshotWriter.write(List.of(), file);
+
+        try (ColumnarSnapshotReader reader = ColumnarSnapshotReader.open(file)) {
+            assertEquals(0, reader.getTrackCount());
+            assertEquals(0, reader.totalDurationSeconds());
+            assertEquals(0, reader.getArtistCount());
+        }
+    }
+
+    @Test
+    void open_ShouldRejectForeignFile() throws IOException {
+        Path file = tempDir.resolve("foreign.dat");
+        Files.write(file, new byte[256]);
+
+        assertThrows(IOException.class, () -> ColumnarSnapshotReader.open(file));
+    }
+
+    @Test
+    void write_ShouldThrowWhenCompilationsNull() {
+        assertThrows(IllegalArgumentException.class,
+                () -> ColumnarSnapshotWriter.write(null, tempDir.resolve("x.mcol")));
+    }
+}
@@ -0,0 +1,105 @@
+package music.Storage;
+
+import music.Models.ArtistRegistry;
+import music.Models.CompactTrack;
+import music.Models.MusicCompilation;
+import music.Models.MusicGenre;
+import music.Models.MusicTrack;
+import music.Service.MusicCompilationService;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OffHeapTrackStoreTest {
+    private final MusicCompilationService compilationService = new MusicCompilationService();
+
+    @Test
+    void appendAll_ShouldStoreColumnsAndDecodeTitles() {
+        MusicCompilation compilation = new MusicCompilation("Архів");
+        compilation.setId(5L);
+        MusicTrack track = new MusicTrack("Пісня про рушник", "Дмитро Гнатюк", MusicGenre.FOLK, Duration.ofSeconds(201));
+        track.setId(42L);
+        compilation.addTrack(track);
+        compilation.addTrack(new MusicTrack("Second", "Artist", MusicGenre.ROCK, Duration.ofSeconds(60)));
+
+        try (OffHeapTrackStore store = new OffHeapTrackStore()) {
+            store.appendAll(compilation);
+
+            OffHeapTrackStore.Cursor cursor = store.cursor();
+            assertTrue(cursor.next());
+            assertEquals(42L, cursor.getIdValue());
+            assertEquals(5L, cursor.getCompilationId());
+            assertEquals("Пісня про рушник", cursor.getTitle());
+            assertEquals(ArtistRegistry.idOf("Дмитро Гнатюк"), cursor.getArtistId());
+            assertEquals(MusicGenre.FOLK, cursor.getGenre());
+            assertEquals(CompactTrack.of(42L, "Пісня про рушник", "Дмитро Гнатюк", MusicGenre.FOLK, 201),
+                    cursor.toTrack());
+            assertTrue(cursor.next());
+            assertEquals(CompactTrack.NO_ID, cursor.getIdValue());
+            assertFalse(cursor.next());
+        }
+    }
+
+    @Test
+    void delete_ShouldHideTombstonedRowsFromCursors() {
+        int artistId = ArtistRegistry.idOf("Store Artist");
+        try (OffHeapTrackStore store = new OffHeapTrackStore()) {
+            store.append(1, "A", artistId, MusicGenre.POP, 100, 1);
+            long deleted = store.append(2, "B", artistId, MusicGenre.ROCK, 200, 1);
+            store.append(3, "C", artistId, MusicGenre.ROCK, 300, 2);
+
+            assertTrue(store.delete(deleted));
+            assertFalse(store.delete(deleted));
+
+            assertEquals(3, store.size());
+            assertEquals(2, store.liveCount());
+            assertEquals(Duration.ofSeconds(400), compilationService.calculateCursorTotalDuration(store.cursor()));
+            assertEquals(Duration.ofSeconds(100), compilationService.calculateCursorTotalDuration(store.cursor(1)));
+            assertEquals(Map.of(MusicGenre.POP, 1L, MusicGenre.ROCK, 1L), compilationService.countCursorByGenre(store.cursor()));
+            assertThrows(IndexOutOfBoundsException.class, () -> store.delete(3));
+        }
+    }
+
+    @Test
+    void append_ShouldSpanSeveralChunks() {
+        int artistId = ArtistRegistry.idOf("Chunk Artist");
+        int rows = OffHeapTrackStore.ROWS_PER_CHUNK + 10;
+        try (OffHeapTrackStore store = new OffHeapTrackStore()) {
+            for (int i = 0; i < rows; i++) {
+                store.append(i + 1, "Track " + i, artistId, MusicGenre.JAZZ, i % 600 + 1, 1);
+            }
+
+            List<CompactTrack> longest = compilationService.filterCursorByDurationRange(store.cursor(),
+                    Duration.ofSeconds(600), Duration.ofSeconds(600));
+
+            assertEquals(rows, store.size());
+            assertEquals(2 * OffHeapTrackStore.CHUNK_BYTES, store.allocatedBytes() - OffHeapTrackStore.STRING_CHUNK_SIZE);
+            assertEquals(rows / 600, longest.size());
+            assertEquals("Track 599", longest.get(0).getTitle());
+            assertEquals("Track " + (rows - 1), lastTitle(store));
+        }
+    }
+
+    @Test
+    void append_ShouldRejectUnknownArtist() {
+        try (OffHeapTrackStore store = new OffHeapTrackStore()) {
+            assertThrows(IllegalArgumentException.class,
+                    () -> store.append(1, "A", Integer.MAX_VALUE, MusicGenre.POP, 10, 1));
+            assertThrows(IllegalArgumentException.class,
+                    () -> store.append(1, " ", ArtistRegistry.idOf("Store Artist"), MusicGenre.POP, 10, 1));
+        }
+    }
+
+    private static String lastTitle(OffHeapTrackStore store) {
+        OffHeapTrackStore.Cursor cursor = store.cursor();
+        String title = null;
+        while (cursor.next()) {
+            title = cursor.getTitle();
+        }
+        return title;
+    }
+}